@@ -0,0 +1,163 @@
+package com.trm.roadmate_backend.graph;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도시 규모 보행 그래프에서의 점대점 다익스트라 벤치마크
+ * - 서울 크기(약 30km × 30km) 격자형 교차로 + 교차로 사이마다 차수 2 보도 노드를 넣은 합성 그래프
+ * - 노드 추가 순서는 무작위 (DB findAll() 페이지 순서처럼 공간과 무관한 순서를 재현)
+ * - spatialOrder / contractChains / storage 조합별로 같은 질의 집합의 평균 탐색 시간을 비교
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RoutingGraphBenchmark {
+
+    private static final double BASE_LAT = 37.42;
+    private static final double BASE_LON = 126.76;
+    private static final int QUERY_COUNT = 64;
+
+    @Param({"400"})
+    public int gridSize;          // 한 변의 교차로 수 (400 → 교차로 16만 개)
+
+    @Param({"2"})
+    public int sidewalkNodes;     // 교차로 사이 차수 2 노드 수
+
+    @Param({"false", "true"})
+    public boolean spatialOrder;
+
+    @Param({"false", "true"})
+    public boolean contractChains;
+
+    @Param({"HEAP", "OFF_HEAP"})
+    public GraphStorage storage;
+
+    private RoutingGraph graph;
+    private int[] sources;
+    private int[] targets;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void buildGraph() {
+        Random random = new Random(20240601L);
+        double step = 0.3 / gridSize; // 약 30km / gridSize
+
+        // 1) 노드 좌표 생성 (교차로 + 보도 노드) 후 추가 순서를 섞음
+        List<double[]> nodes = new ArrayList<>();
+        List<int[]> links = new ArrayList<>();
+        int[][] intersection = new int[gridSize][gridSize];
+        for (int r = 0; r < gridSize; r++) {
+            for (int c = 0; c < gridSize; c++) {
+                intersection[r][c] = nodes.size();
+                nodes.add(new double[]{
+                        BASE_LAT + r * step + jitter(random, step),
+                        BASE_LON + c * step + jitter(random, step)});
+            }
+        }
+        for (int r = 0; r < gridSize; r++) {
+            for (int c = 0; c < gridSize; c++) {
+                if (c + 1 < gridSize && random.nextInt(10) > 0) {
+                    addStreet(nodes, links, intersection[r][c], intersection[r][c + 1]);
+                }
+                if (r + 1 < gridSize && random.nextInt(10) > 0) {
+                    addStreet(nodes, links, intersection[r][c], intersection[r + 1][c]);
+                }
+            }
+        }
+
+        List<Integer> insertion = new ArrayList<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) insertion.add(i);
+        Collections.shuffle(insertion, random);
+
+        RoutingGraphBuilder builder = new RoutingGraphBuilder(nodes.size(), links.size());
+        for (int i : insertion) {
+            builder.addNode("N" + i, nodes.get(i)[0], nodes.get(i)[1], false);
+        }
+        for (int l = 0; l < links.size(); l++) {
+            int start = links.get(l)[0];
+            int end = links.get(l)[1];
+            double length = distanceMeters(nodes.get(start), nodes.get(end));
+            builder.addLink("L" + l, builder.indexOf("N" + start), builder.indexOf("N" + end),
+                    length, null, null, 0);
+        }
+        graph = builder.build(contractChains, spatialOrder, storage);
+
+        // 2) 질의: 같은 연결 요소에 속한 교차로 쌍 (모든 조합에서 동일한 노드 ID 쌍)
+        sources = new int[QUERY_COUNT];
+        targets = new int[QUERY_COUNT];
+        Random queries = new Random(7L);
+        for (int q = 0; q < QUERY_COUNT; ) {
+            int s = graph.indexOf("N" + intersection[queries.nextInt(gridSize)][queries.nextInt(gridSize)]);
+            int t = graph.indexOf("N" + intersection[queries.nextInt(gridSize)][queries.nextInt(gridSize)]);
+            if (s == t || !graph.isConnected(s, t) || graph.isContracted(s) || graph.isContracted(t)) continue;
+            sources[q] = s;
+            targets[q] = t;
+            q++;
+        }
+    }
+
+    @Benchmark
+    public double shortestPath() {
+        int q = next;
+        next = (next + 1) % QUERY_COUNT;
+
+        SearchSpace space = graph.acquireSearchSpace();
+        try {
+            space.init(sources[q]);
+            int node;
+            while ((node = space.settleNext(Double.POSITIVE_INFINITY)) >= 0) {
+                if (node == targets[q]) {
+                    return space.distance(node);
+                }
+            }
+            return -1.0;
+        } finally {
+            graph.releaseSearchSpace(space);
+        }
+    }
+
+    // ==================== 그래프 생성 보조 ====================
+
+    // 교차로 a-b 사이를 보도 노드로 나눠 링크 체인 생성
+    private void addStreet(List<double[]> nodes, List<int[]> links, int a, int b) {
+        int previous = a;
+        for (int i = 1; i <= sidewalkNodes; i++) {
+            double ratio = (double) i / (sidewalkNodes + 1);
+            double[] from = nodes.get(a);
+            double[] to = nodes.get(b);
+            nodes.add(new double[]{
+                    from[0] + (to[0] - from[0]) * ratio,
+                    from[1] + (to[1] - from[1]) * ratio});
+            int current = nodes.size() - 1;
+            links.add(new int[]{previous, current});
+            previous = current;
+        }
+        links.add(new int[]{previous, b});
+    }
+
+    private static double jitter(Random random, double step) {
+        return (random.nextDouble() - 0.5) * step * 0.4;
+    }
+
+    private static double distanceMeters(double[] a, double[] b) {
+        double dLat = (a[0] - b[0]) * 111_320.0;
+        double dLon = (a[1] - b[1]) * 111_320.0 * Math.cos(Math.toRadians(a[0]));
+        return Math.sqrt(dLat * dLat + dLon * dLon);
+    }
+}
@@ -0,0 +1,159 @@
+package com.trm.roadmate_backend.util;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * WKT 좌표 파싱 벤치마크 (보행 네트워크 데이터 가져오기 / 그래프 로딩)
+ * - regex*: 기존 WalkingNetworkService 파서 (호출마다 Pattern.compile + split)
+ * - scanner*: WktScanner
+ * - jts*: JTS WKTReader (그래프 로딩에서 쓰던 방식)
+ * - 서울 보행 링크와 비슷한 소수점 10자리 좌표, 링크당 vertices개 좌표
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WktParseBenchmark {
+
+    private static final int SAMPLE_COUNT = 1024;
+
+    @Param({"2", "8", "32"})
+    public int vertices;
+
+    private String[] points;
+    private String[] lines;
+    private WKTReader wktReader;
+    private WktScanner.Coordinates shape;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void createSamples() {
+        Random random = new Random(20240601L);
+        points = new String[SAMPLE_COUNT];
+        lines = new String[SAMPLE_COUNT];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            double lon = 126.76 + random.nextDouble() * 0.42;
+            double lat = 37.42 + random.nextDouble() * 0.28;
+            points[i] = String.format(Locale.ROOT, "POINT(%.10f %.10f)", lon, lat);
+
+            StringBuilder line = new StringBuilder("LINESTRING(");
+            for (int v = 0; v < vertices; v++) {
+                if (v > 0) line.append(", ");
+                line.append(String.format(Locale.ROOT, "%.10f %.10f", lon + v * 1e-5, lat + v * 1e-5));
+            }
+            lines[i] = line.append(')').toString();
+        }
+        wktReader = new WKTReader();
+        shape = new WktScanner.Coordinates(64);
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (SAMPLE_COUNT - 1);
+        return next;
+    }
+
+    // ==================== POINT ====================
+
+    @Benchmark
+    public double[] regexPoint() {
+        return regexParsePoint(points[nextIndex()]);
+    }
+
+    @Benchmark
+    public double[] scannerPoint() {
+        return WktScanner.point(points[nextIndex()]);
+    }
+
+    @Benchmark
+    public Coordinate jtsPoint() throws ParseException {
+        return wktReader.read(points[nextIndex()]).getCoordinate();
+    }
+
+    // ==================== LINESTRING 양 끝 좌표 (가상 노드 생성) ====================
+
+    @Benchmark
+    public void regexLineEnds(Blackhole blackhole) {
+        String wkt = lines[nextIndex()];
+        blackhole.consume(regexParseLineStart(wkt));
+        blackhole.consume(regexParseLineEnd(wkt));
+    }
+
+    @Benchmark
+    public void scannerLineEnds(Blackhole blackhole) {
+        String wkt = lines[nextIndex()];
+        blackhole.consume(WktScanner.firstVertex(wkt));
+        blackhole.consume(WktScanner.lastVertex(wkt));
+    }
+
+    // ==================== LINESTRING 전체 좌표 (형상 저장소) ====================
+
+    @Benchmark
+    public int scannerLineString() {
+        WktScanner.readLineString(lines[nextIndex()], shape);
+        return shape.size();
+    }
+
+    @Benchmark
+    public Coordinate[] jtsLineString() throws ParseException {
+        return wktReader.read(lines[nextIndex()]).getCoordinates();
+    }
+
+    // --- 기존 WalkingNetworkService 파서 ---
+
+    private static double[] regexParsePoint(String wkt) {
+        Pattern pattern = Pattern.compile("POINT\\s*\\(([-+]?[0-9]*\\.?[0-9]+)\\s+([-+]?[0-9]*\\.?[0-9]+)\\)");
+        Matcher matcher = pattern.matcher(wkt);
+        if (matcher.find()) {
+            return new double[]{
+                    Double.parseDouble(matcher.group(1)),
+                    Double.parseDouble(matcher.group(2))
+            };
+        }
+        throw new RuntimeException("Invalid POINT format: " + wkt);
+    }
+
+    private static double[] regexParseLineStart(String wkt) {
+        Pattern pattern = Pattern.compile("LINESTRING\\s*\\((.*)\\)");
+        Matcher matcher = pattern.matcher(wkt);
+        if (!matcher.find()) throw new RuntimeException("Invalid LINESTRING format: " + wkt);
+
+        String[] coords = matcher.group(1).trim().split(",");
+        String[] first = coords[0].trim().split("\\s+");
+        return new double[]{
+                Double.parseDouble(first[0]),
+                Double.parseDouble(first[1])
+        };
+    }
+
+    private static double[] regexParseLineEnd(String wkt) {
+        Pattern pattern = Pattern.compile("LINESTRING\\s*\\((.*)\\)");
+        Matcher matcher = pattern.matcher(wkt);
+        if (!matcher.find()) throw new RuntimeException("Invalid LINESTRING format: " + wkt);
+
+        String[] coords = matcher.group(1).trim().split(",");
+        String[] last = coords[coords.length - 1].trim().split("\\s+");
+        return new double[]{
+                Double.parseDouble(last[0]),
+                Double.parseDouble(last[1])
+        };
+    }
+}
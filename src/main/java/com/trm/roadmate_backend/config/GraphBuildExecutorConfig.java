@@ -0,0 +1,35 @@
+package com.trm.roadmate_backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 그래프 부가 데이터(경계 노드 오버레이 표, 허브 레이블) 백그라운드 생성 실행기 설정
+ * - 스레드 하나로 순서대로 실행 → 무거운 계산이 동시에 돌며 경로 탐색과 CPU/메모리를 다투지 않음
+ * - 종료 시 진행 중인 계산은 인터럽트 (결과는 다음 시작 때 다시 계산)
+ */
+@Configuration
+public class GraphBuildExecutorConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService graphBuildExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+
+        return new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "graph-build-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package com.trm.roadmate_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 보행 네트워크 가져오기 작업 실행기 설정
+ * - 동시에 실행하는 작업 수만 제한하고 나머지는 대기 (작업 수가 적으므로 큐는 제한 없음)
+ * - 종료 시 실행 중인 작업은 인터럽트 → 마지막으로 커밋된 페이지부터 다음 시작 때 재개
+ * - 시 전체 가져오기의 시군구 작업은 별도 실행기에서 city-parallelism개씩 실행 (상위 작업이 가져오기 스레드를 잡고 기다리므로)
+ */
+@Configuration
+public class ImportExecutorConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService importExecutor(@Value("${seoul.api.import.max-concurrent-jobs:2}") int maxConcurrentJobs) {
+        int threads = Math.max(maxConcurrentJobs, 1);
+        AtomicInteger sequence = new AtomicInteger();
+
+        return new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "network-import-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService cityImportExecutor(@Value("${seoul.api.import.city-parallelism:4}") int cityParallelism) {
+        int threads = Math.max(cityParallelism, 1);
+        AtomicInteger sequence = new AtomicInteger();
+
+        return new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "district-import-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.trm.roadmate_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 보행 네트워크 가져오기용 HTTP 클라이언트 설정
+ * - 모든 가져오기 작업이 하나의 클라이언트를 공유 → 같은 호스트로의 HTTP/1.1 연결을 keep-alive로 재사용
+ *   (유휴 연결 유지 시간은 JVM 옵션 -Djdk.httpclient.keepalive.timeout=초)
+ * - 동시 연결 수는 fetch-concurrency × 동시 작업 수 이내 (ApiImportSource에서 제한)
+ */
+@Configuration
+public class ImportHttpClientConfig {
+
+    @Bean
+    public HttpClient importHttpClient(@Value("${seoul.api.http.connect-timeout:5s}") Duration connectTimeout) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.trm.roadmate_backend.config;
+
+import com.trm.roadmate_backend.service.RoutingAdmissionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 경로 탐색 API 앞단에서 RoutingAdmissionService로 실행 권한을 얻고, 응답이 끝나면 반납
+ * - 배치 API도 요청 하나로 권한을 얻고, 배치 안의 탐색은 routingExecutor의 고정 스레드/큐 안에서만 실행
+ * - 스트리밍(비동기) 응답은 응답이 끝날 때 afterCompletion이 호출되므로 스트리밍 동안 권한을 유지
+ */
+@Component
+@RequiredArgsConstructor
+public class RoutingAdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = RoutingAdmissionInterceptor.class.getName() + ".permit";
+
+    private final RoutingAdmissionService routingAdmissionService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        routingAdmissionService.acquire();
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            routingAdmissionService.release();
+        }
+    }
+}
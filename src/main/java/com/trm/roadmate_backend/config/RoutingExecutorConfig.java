@@ -0,0 +1,42 @@
+package com.trm.roadmate_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 경로 탐색 전용 CPU 실행기 설정
+ * - 스레드 수는 CPU 코어 수로 고정 (경로 탐색은 CPU 바운드 작업)
+ * - 큐가 가득 차면 RejectedExecutionException으로 거절 (PathBatchService가 503으로 변환)
+ *   → 호출 스레드(Tomcat)에서 직접 실행하면 승인 제어 밖에서 탐색이 돌게 되므로 사용하지 않음
+ */
+@Configuration
+public class RoutingExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService routingExecutor(
+            @Value("${routing.executor.pool-size:0}") int poolSize,
+            @Value("${routing.executor.queue-capacity:1000}") int queueCapacity) {
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+
+        return new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "routing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
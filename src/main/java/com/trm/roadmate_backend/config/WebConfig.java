@@ -1,13 +1,18 @@
 package com.trm.roadmate_backend.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer; /**
- * CORS 설정 (Expo 앱 연동용)
+ * CORS 설정 (Expo 앱 연동용) + 경로 탐색 API 승인 제어
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final RoutingAdmissionInterceptor routingAdmissionInterceptor;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
@@ -16,4 +21,10 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .maxAge(3600);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(routingAdmissionInterceptor)
+                .addPathPatterns("/api/path/**", "/api/walk/estimate", "/api/walk/loop", "/api/routes/{routeId}/reroute");
+    }
 }
@@ -41,9 +41,15 @@ public class LoopPathController {
      */
     @PostMapping("/loop")
     @Operation(summary = "루프 산책 경로 생성",
-            description = "사용자가 지정한 목표 거리와 형태로 루프 경로를 생성합니다")
+            description = "사용자가 지정한 목표 거리와 형태로 루프 경로를 생성합니다. "
+                    + "format=polyline 또는 format=columnar로 압축된 좌표를 받을 수 있습니다 (precision: 5 또는 6). "
+                    + "detail=full이면 도로 형상 좌표 전체를, simplify(미터)를 지정하면 허용 오차 내로 단순화한 좌표를 반환합니다")
     public ResponseEntity<LoopPathResponse> generateLoop(
-            @RequestBody LoopPathRequest request
+            @RequestBody LoopPathRequest request,
+            @RequestParam(value = "format", defaultValue = "json") String format,
+            @RequestParam(value = "precision", defaultValue = "5") int precision,
+            @RequestParam(value = "detail", defaultValue = "node") String detail,
+            @RequestParam(value = "simplify", defaultValue = "0") double simplify
     ) {
         log.info("Loop path requested: start({}, {}), via({}, {}), target={}km, tolerance={}%",
                 request.getStartLat(), request.getStartLng(),
@@ -63,7 +69,10 @@ public class LoopPathController {
             request.setTolerancePercent(15); // 기본값
         }
 
-        LoopPathResponse response = loopPathService.generateLoopPath(request);
+        PathFormat pathFormat = PathFormat.from(format);
+        LoopPathResponse response = loopPathService.generateLoopPath(
+                request, pathFormat, PathFormat.validatePrecision(precision),
+                PathDetail.from(detail), PathDetail.validateTolerance(simplify));
 
         return ResponseEntity.ok(response);
     }
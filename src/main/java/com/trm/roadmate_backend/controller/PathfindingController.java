@@ -1,7 +1,20 @@
 package com.trm.roadmate_backend.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trm.roadmate_backend.dto.AlternativePathResult;
+import com.trm.roadmate_backend.dto.CompactPathResult;
+import com.trm.roadmate_backend.dto.MeetingObjective;
+import com.trm.roadmate_backend.dto.MeetingPointRequest;
+import com.trm.roadmate_backend.dto.MeetingPointResult;
+import com.trm.roadmate_backend.dto.PathBatchItem;
+import com.trm.roadmate_backend.dto.PathBatchResult;
+import com.trm.roadmate_backend.dto.PathDetail;
+import com.trm.roadmate_backend.dto.PathFormat;
 import com.trm.roadmate_backend.dto.PathRequest;
 import com.trm.roadmate_backend.dto.PathResult;
+import com.trm.roadmate_backend.exception.InvalidRequestException;
+import com.trm.roadmate_backend.graph.SearchLimits;
+import com.trm.roadmate_backend.service.PathBatchService;
 import com.trm.roadmate_backend.service.PathfindingService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,6 +22,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -16,6 +30,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
 
 @RestController
 @RequestMapping("/api/path")
@@ -24,29 +46,35 @@ import org.springframework.web.bind.annotation.RestController;
 public class PathfindingController {
 
     private final PathfindingService pathfindingService;
+    private final PathBatchService pathBatchService;
+    private final ObjectMapper objectMapper;
 
     // =============================
     // 1. GET 방식: 쿼리 파라미터 기반
     // =============================
     @Operation(
             summary = "최단 경로 조회 (GET)",
-            description = "쿼리 파라미터(startLat, startLon, endLat, endLon)를 통해 최단 경로를 계산합니다."
+            description = "쿼리 파라미터(startLat, startLon, endLat, endLon)를 통해 최단 경로를 계산합니다. "
+                    + "format=polyline(Encoded Polyline) 또는 format=columnar(위도/경도 배열)로 압축된 좌표를 받을 수 있으며, "
+                    + "precision(5 또는 6)으로 좌표 자리수를 지정합니다. "
+                    + "detail=full이면 교차로 좌표 대신 도로 형상(링크 WKT) 좌표 전체를 반환하고, "
+                    + "simplify(미터, 0~100)를 지정하면 Douglas-Peucker 알고리즘으로 허용 오차 내에서 좌표를 줄입니다."
     )
     @GetMapping("/shortest")
-    public ResponseEntity<PathResult> getShortestPath(
+    public ResponseEntity<?> getShortestPath(
             @RequestParam("startLat") double startLat,
             @RequestParam("startLon") double startLon,
             @RequestParam("endLat") double endLat,
-            @RequestParam("endLon") double endLon) {
-
-        log.info("Pathfinding Request (GET) received: Start({}, {}) -> End({}, {})",
-                startLat, startLon, endLat, endLon);
+            @RequestParam("endLon") double endLon,
+            @RequestParam(value = "format", defaultValue = "json") String format,
+            @RequestParam(value = "precision", defaultValue = "5") int precision,
+            @RequestParam(value = "detail", defaultValue = "node") String detail,
+            @RequestParam(value = "simplify", defaultValue = "0") double simplify) {
 
-        PathResult result = pathfindingService.findShortestPathByCoords(
-                startLat, startLon, endLat, endLon
-        );
+        log.info("Pathfinding Request (GET) received: Start({}, {}) -> End({}, {}), format={}",
+                startLat, startLon, endLat, endLon, format);
 
-        return processPathResult(result);
+        return findShortestPath(startLat, startLon, endLat, endLon, format, precision, detail, simplify);
     }
 
     // =============================
@@ -54,27 +82,180 @@ public class PathfindingController {
     // =============================
     @Operation(
             summary = "최단 경로 조회 (POST)",
-            description = "JSON Body(PathRequest)를 통해 최단 경로를 계산합니다."
+            description = "JSON Body(PathRequest)를 통해 최단 경로를 계산합니다. format, precision, detail, simplify 쿼리 파라미터는 GET과 동일합니다."
     )
     @PostMapping("/shortest")
-    public ResponseEntity<PathResult> postShortestPath(@RequestBody PathRequest request) {
+    public ResponseEntity<?> postShortestPath(
+            @RequestBody PathRequest request,
+            @RequestParam(value = "format", defaultValue = "json") String format,
+            @RequestParam(value = "precision", defaultValue = "5") int precision,
+            @RequestParam(value = "detail", defaultValue = "node") String detail,
+            @RequestParam(value = "simplify", defaultValue = "0") double simplify) {
 
-        log.info("Pathfinding Request (POST) received: Start({}, {}) -> End({}, {})",
-                request.getStartLat(), request.getStartLon(), request.getEndLat(), request.getEndLon());
+        log.info("Pathfinding Request (POST) received: Start({}, {}) -> End({}, {}), format={}",
+                request.getStartLat(), request.getStartLon(), request.getEndLat(), request.getEndLon(), format);
 
-        PathResult result = pathfindingService.findShortestPathByCoords(
+        return findShortestPath(
                 request.getStartLat(),
                 request.getStartLon(),
                 request.getEndLat(),
-                request.getEndLon()
+                request.getEndLon(),
+                format,
+                precision,
+                detail,
+                simplify
         );
+    }
+
+    // =============================
+    // 3. 대안 경로 조회 (최대 k개)
+    // =============================
+    @Operation(
+            summary = "대안 경로 조회 (GET)",
+            description = "최단 경로와 함께 충분히 짧고 서로 겹치지 않는 대안 경로를 최대 k개(최대 5개)까지 반환합니다. "
+                    + "각 경로에는 총 거리와 최단 경로와의 겹침 비율(overlapRatio)이 포함됩니다."
+    )
+    @GetMapping("/alternatives")
+    public ResponseEntity<AlternativePathResult> getAlternativePaths(
+            @RequestParam("startLat") double startLat,
+            @RequestParam("startLon") double startLon,
+            @RequestParam("endLat") double endLat,
+            @RequestParam("endLon") double endLon,
+            @RequestParam(value = "k", defaultValue = "3") int k) {
+
+        log.info("Alternative Pathfinding Request received: Start({}, {}) -> End({}, {}), k={}",
+                startLat, startLon, endLat, endLon, k);
+
+        AlternativePathResult result = pathfindingService.findAlternativePathsByCoords(
+                startLat, startLon, endLat, endLon, k
+        );
+
+        if (result.getRoutes().isEmpty()) {
+            log.warn("Alternative Pathfinding Failed: No path found or invalid node coordinates.");
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    // =============================
+    // 4. 배치 경로 조회 (병렬 실행)
+    // =============================
+    @Operation(
+            summary = "배치 최단 경로 조회 (POST)",
+            description = "PathRequest 목록을 한 번에 받아 병렬로 계산합니다. 동일한 좌표/노드 쌍은 한 번만 계산됩니다. "
+                    + "stream=false(기본)이면 요청 순서대로 JSON 배열을, "
+                    + "stream=true이면 완료되는 순서대로 {index, result} 형태의 NDJSON을 반환합니다. "
+                    + "요청마다 status(OK, NOT_FOUND, ABORTED, ERROR)가 붙으며, 일부가 실패해도 나머지 결과는 그대로 반환합니다."
+    )
+    @PostMapping("/batch")
+    public ResponseEntity<?> postBatchPaths(
+            @RequestBody List<PathRequest> requests,
+            @RequestParam(value = "stream", defaultValue = "false") boolean stream) {
+
+        log.info("Batch Pathfinding Request received: size={}, stream={}", requests.size(), stream);
+
+        if (requests.isEmpty() || requests.size() > pathBatchService.getMaxBatchSize()) {
+            throw new InvalidRequestException("요청 개수는 1 ~ " + pathBatchService.getMaxBatchSize() + "개여야 합니다.");
+        }
+
+        SearchLimits limits = pathfindingService.newSearchLimits();
+        List<CompletableFuture<PathBatchResult>> futures = pathBatchService.submitBatch(requests, limits);
+
+        if (!stream) {
+            List<PathBatchResult> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<PathBatchResult> future : futures) {
+                results.add(future.join());
+            }
+            return ResponseEntity.ok(results);
+        }
 
-        return processPathResult(result);
+        StreamingResponseBody body = out -> {
+            // 완료 순서대로 인덱스를 받아 한 줄씩 기록
+            BlockingQueue<Integer> completed = new LinkedBlockingQueue<>();
+            for (int i = 0; i < futures.size(); i++) {
+                int index = i;
+                futures.get(i).whenComplete((result, ex) -> completed.add(index));
+            }
+
+            try {
+                for (int written = 0; written < futures.size(); written++) {
+                    int index = completed.take();
+                    PathBatchItem item = new PathBatchItem(index, futures.get(index).join());
+                    out.write(objectMapper.writeValueAsBytes(item));
+                    out.write('\n');
+                    out.flush();
+                }
+            } catch (InterruptedException e) {
+                limits.cancel();
+                Thread.currentThread().interrupt();
+                throw new IOException("Batch streaming interrupted", e);
+            } catch (IOException e) {
+                // 클라이언트 연결이 끊기면 남은 탐색을 중단
+                limits.cancel();
+                throw e;
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     // =============================
-    // 3. 공통 결과 처리
+    // 5. 모임 장소 조회 (다중 출발점 동시 탐색)
     // =============================
+    @Operation(
+            summary = "모임 장소 조회 (POST)",
+            description = "참가자 위치 목록(2 ~ 10명)에서 동시에 탐색해 모두가 모이기 좋은 교차로와 참가자별 경로를 반환합니다. "
+                    + "objective=max(기본)이면 가장 멀리 걷는 사람의 거리를, objective=sum이면 전체 거리 합을 최소화합니다. "
+                    + "detail 파라미터는 /shortest와 동일합니다."
+    )
+    @PostMapping("/meeting-point")
+    public ResponseEntity<MeetingPointResult> postMeetingPoint(
+            @RequestBody MeetingPointRequest request,
+            @RequestParam(value = "objective", defaultValue = "max") String objective,
+            @RequestParam(value = "detail", defaultValue = "node") String detail) {
+
+        int participants = request.getParticipants() == null ? 0 : request.getParticipants().size();
+        log.info("Meeting Point Request received: participants={}, objective={}", participants, objective);
+
+        MeetingPointResult result = pathfindingService.findMeetingPoint(
+                request.getParticipants(), MeetingObjective.from(objective), PathDetail.from(detail));
+        if (!result.isFound()) {
+            log.warn("Meeting Point Failed: participants are not connected or no nearby walking network.");
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    // =============================
+    // 6. 공통 결과 처리
+    // =============================
+    private ResponseEntity<?> findShortestPath(
+            double startLat, double startLon, double endLat, double endLon,
+            String format, int precision, String detail, double simplify) {
+
+        PathFormat pathFormat = PathFormat.from(format);
+        PathDetail pathDetail = PathDetail.from(detail);
+        double tolerance = PathDetail.validateTolerance(simplify);
+
+        if (pathFormat == PathFormat.JSON) {
+            PathResult result = pathfindingService.findShortestPathByCoords(
+                    startLat, startLon, endLat, endLon, pathDetail, tolerance);
+            return processPathResult(result);
+        }
+
+        CompactPathResult result = pathfindingService.findCompactPathByCoords(
+                startLat, startLon, endLat, endLon, pathFormat, PathFormat.validatePrecision(precision),
+                pathDetail, tolerance
+        );
+        if (result.getPointCount() > 0) {
+            log.info("Pathfinding Success: Distance = {}m, Path Length = {}, Format = {}",
+                    result.getTotalDistance(), result.getPointCount(), result.getFormat());
+        } else {
+            log.warn("Pathfinding Failed: No path found or invalid node coordinates.");
+        }
+        return ResponseEntity.ok(result);
+    }
+
     private ResponseEntity<PathResult> processPathResult(PathResult result) {
         if (result.getTotalDistance() > 0 && !result.getPath().isEmpty()) {
             log.info("Pathfinding Success: Distance = {}m, Path Length = {}",
@@ -3,6 +3,12 @@ package com.trm.roadmate_backend.controller;
 import com.trm.roadmate_backend.dto.WalkRouteStartRequest;
 import com.trm.roadmate_backend.dto.WalkRouteCompleteRequest;
 import com.trm.roadmate_backend.dto.SetCourseRequest;
+import com.trm.roadmate_backend.dto.RerouteRequest;
+import com.trm.roadmate_backend.dto.PathDetail;
+import com.trm.roadmate_backend.dto.PathFormat;
+import com.trm.roadmate_backend.service.PathfindingService;
+import com.trm.roadmate_backend.service.PathfindingService.Route;
+import com.trm.roadmate_backend.service.RerouteService;
 import com.trm.roadmate_backend.service.WalkRouteService;
 import com.trm.roadmate_backend.entity.WalkRoute;
 import com.trm.roadmate_backend.dto.common.ApiResponse;
@@ -23,6 +29,8 @@ import java.util.List;
 public class WalkRouteController {
 
     private final WalkRouteService walkRouteService;
+    private final RerouteService rerouteService;
+    private final PathfindingService pathfindingService;
 
     // 1. POST /routes/start : 산책 시작
     @Operation(
@@ -127,7 +135,36 @@ public class WalkRouteController {
         return ResponseEntity.ok(ApiResponse.success("저장된 코스 목록 조회가 완료되었습니다.", courses));
     }
 
-    // 8. DELETE /routes/{routeId} : 산책 기록 삭제 (Soft Delete)
+    // 8. POST /routes/{routeId}/reroute : 진행 중인 산책 경로 재탐색
+    @Operation(
+            summary = "산책 경로 재탐색",
+            description = "현재 위치에서 산책 시작 시 지정한 목적지까지의 경로를 다시 계산합니다. "
+                    + "산책마다 목적지 기준 최단 경로 트리를 한 번 만들어 두고 재사용하므로, 경로를 벗어날 때마다 호출해도 됩니다. "
+                    + "format, precision, detail 파라미터는 /api/path/shortest와 동일합니다."
+    )
+    @PostMapping("/{routeId}/reroute")
+    public ResponseEntity<ApiResponse<Object>> reroute(
+            @PathVariable Long routeId,
+            @RequestBody RerouteRequest request,
+            @RequestParam(value = "format", defaultValue = "json") String format,
+            @RequestParam(value = "precision", defaultValue = "5") int precision,
+            @RequestParam(value = "detail", defaultValue = "node") String detail,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        PathFormat pathFormat = PathFormat.from(format);
+        PathDetail pathDetail = PathDetail.from(detail);
+        int validPrecision = PathFormat.validatePrecision(precision);
+
+        Route route = rerouteService.reroute(routeId, userDetails.getUserId(),
+                request.getCurrentLat(), request.getCurrentLng(), pathDetail);
+        Object result = pathFormat == PathFormat.JSON
+                ? pathfindingService.toPathResult(route)
+                : pathfindingService.toCompactPathResult(route, pathFormat, validPrecision);
+        String message = route.isFound() ? "경로 재탐색이 완료되었습니다." : "현재 위치에서 목적지까지의 경로를 찾지 못했습니다.";
+        return ResponseEntity.ok(ApiResponse.success(message, result));
+    }
+
+    // 9. DELETE /routes/{routeId} : 산책 기록 삭제 (Soft Delete)
     @Operation(
             summary = "산책 기록 삭제 (Soft Delete)",
             description = "실제로 삭제하지 않고 isDeleted=true 로 설정하여 기록을 숨깁니다."
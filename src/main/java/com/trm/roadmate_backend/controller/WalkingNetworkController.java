@@ -1,8 +1,13 @@
 package com.trm.roadmate_backend.controller;
 
+import com.trm.roadmate_backend.dto.ImportHttpStats;
+import com.trm.roadmate_backend.dto.ImportJobStatus;
+import com.trm.roadmate_backend.dto.common.ApiResponse;
+import com.trm.roadmate_backend.entity.ImportLog;
 import com.trm.roadmate_backend.service.WalkingNetworkService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,16 +20,63 @@ public class WalkingNetworkController {
 
     @Operation(
             summary = "구별 도보 네트워크 데이터 가져오기",
-            description = "지정한 행정구(districtName)의 도보 네트워크 데이터를 API로부터 가져와 저장합니다."
+            description = "지정한 행정구(districtName)의 도보 네트워크 데이터를 가져오는 작업을 등록합니다. " +
+                    "source=API(기본)는 서울시 Open API, source=FILE은 덤프 파일({행정구}.json|ndjson|csv)에서 읽습니다. " +
+                    "작업은 백그라운드에서 페이지 단위로 커밋되며, 반환된 jobId로 진행 상황을 조회합니다."
     )
     @PostMapping("/import/{districtName}")
-    public ResponseEntity<String> importDistrict(@PathVariable String districtName) {
-        try {
-            String result = walkingNetworkService.importDistrictData(districtName);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("Failed: " + e.getMessage());
-        }
+    public ResponseEntity<ApiResponse<ImportJobStatus>> importDistrict(
+            @PathVariable String districtName,
+            @RequestParam(defaultValue = "API") String source) {
+        ImportLog job = walkingNetworkService.submitImport(districtName, source);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("가져오기 작업이 등록되었습니다.", ImportJobStatus.from(job)));
+    }
+
+    @Operation(
+            summary = "서울시 전체 도보 네트워크 데이터 가져오기",
+            description = "설정된 모든 행정구를 여러 개씩 동시에 가져오는 작업을 등록합니다. " +
+                    "행정구 사이 경계 노드는 한 번만 조회하며, 그래프는 모든 행정구가 끝난 뒤 한 번만 다시 만듭니다. " +
+                    "source는 행정구별 가져오기와 같습니다."
+    )
+    @PostMapping("/import-all")
+    public ResponseEntity<ApiResponse<ImportJobStatus>> importCity(@RequestParam(defaultValue = "API") String source) {
+        ImportLog job = walkingNetworkService.submitCityImport(source);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("시 전체 가져오기 작업이 등록되었습니다.",
+                        ImportJobStatus.from(job, walkingNetworkService.getChildJobs(job.getId()))));
+    }
+
+    @Operation(
+            summary = "가져오기 작업 상태 조회",
+            description = "가져오기 작업의 상태와 진행 상황(커밋된 페이지, 저장한 행 수, 처리 속도)을 조회합니다. " +
+                    "시 전체 작업은 행정구별 상태와 합계를 함께 반환합니다."
+    )
+    @GetMapping("/import/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<ImportJobStatus>> getImportJob(@PathVariable Long jobId) {
+        ImportLog job = walkingNetworkService.getImportJob(jobId);
+        return ResponseEntity.ok(ApiResponse.success("가져오기 작업 상태 조회 성공",
+                ImportJobStatus.from(job, walkingNetworkService.getChildJobs(jobId))));
+    }
+
+    @Operation(
+            summary = "실패한 가져오기 작업 재개",
+            description = "실패한 작업을 마지막으로 커밋된 페이지 다음부터 다시 실행합니다."
+    )
+    @PostMapping("/import/jobs/{jobId}/resume")
+    public ResponseEntity<ApiResponse<ImportJobStatus>> resumeImportJob(@PathVariable Long jobId) {
+        ImportLog job = walkingNetworkService.resumeImport(jobId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("가져오기 작업을 다시 시작합니다.", ImportJobStatus.from(job)));
+    }
+
+    @Operation(
+            summary = "가져오기 HTTP 요청 통계 조회",
+            description = "서버 시작 이후 서울시 Open API로 보낸 요청 수, 재시도/실패 수, 받은 바이트, 평균/최대 소요 시간을 조회합니다."
+    )
+    @GetMapping("/import/http-stats")
+    public ResponseEntity<ApiResponse<ImportHttpStats>> getHttpStats() {
+        return ResponseEntity.ok(ApiResponse.success("가져오기 HTTP 통계 조회 성공", walkingNetworkService.getHttpStats()));
     }
 
     @Operation(
@@ -0,0 +1,18 @@
+package com.trm.roadmate_backend.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 대안 경로 탐색 결과 DTO (첫 번째 경로가 최단 경로)
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class AlternativePathResult {
+    private final double shortestDistance;     // 최단 경로 거리 (미터)
+    private final List<PathAlternative> routes; // 최단 경로 + 대안 경로 목록
+}
@@ -0,0 +1,24 @@
+package com.trm.roadmate_backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 압축 형식(polyline / columnar) 최단 경로 결과 DTO
+ * - 사용하지 않는 형식의 필드는 응답에서 생략
+ */
+@Getter
+@Builder
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CompactPathResult {
+    private final double totalDistance; // 총 거리 (미터)
+    private final String format;        // polyline 또는 columnar
+    private final int precision;        // 좌표 소수점 자리수 (5 또는 6)
+    private final int pointCount;       // 좌표 개수
+    private final String encodedPath;   // Encoded Polyline (format=polyline)
+    private final double[] latitudes;   // 위도 배열 (format=columnar)
+    private final double[] longitudes;  // 경도 배열 (format=columnar)
+}
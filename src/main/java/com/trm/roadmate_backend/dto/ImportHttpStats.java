@@ -0,0 +1,14 @@
+package com.trm.roadmate_backend.dto;
+
+import lombok.*;
+
+// 가져오기 HTTP 요청 누적 통계 (서버 시작 이후)
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class ImportHttpStats {
+    private Long requests;                // 보낸 요청 수 (재시도 포함)
+    private Long retries;                 // 재시도 수
+    private Long failures;                // 재시도 후에도 실패한 요청 수
+    private Long bytesReceived;           // 받은 응답 본문 바이트 (압축된 그대로)
+    private Double averageLatencyMillis;  // 요청당 평균 소요 시간 (본문까지)
+    private Double maxLatencyMillis;      // 가장 오래 걸린 요청
+}
@@ -0,0 +1,66 @@
+package com.trm.roadmate_backend.dto;
+
+import com.trm.roadmate_backend.entity.ImportLog;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 보행 네트워크 가져오기 작업 상태 (ImportLog 기준)
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class ImportJobStatus {
+    private Long jobId;                   // 작업 ID (ImportLog ID)
+    private String districtName;          // 시군구 명
+    private String source;                // 입력 (API, FILE)
+    private String status;                // QUEUED, RUNNING, SUCCESS, FAILED
+    private Integer completedPages;       // 커밋된 페이지 수
+    private Integer totalPages;           // 전체 페이지 수
+    private Integer processedRows;        // 저장한 행 수
+    private Integer totalRows;            // 전체 행 수
+    private Double rowsPerSecond;         // 처리 속도
+    private Integer totalNodes;           // 추가된 노드 수
+    private Integer totalLinks;           // 추가된 링크 수
+    private Integer virtualNodes;         // 생성된 가상 노드 수
+    private Integer updatedNodes;         // 내용이 바뀌어 갱신한 노드 수
+    private Integer updatedLinks;         // 내용이 바뀌어 갱신한 링크 수
+    private Integer deletedNodes;         // 원본에서 사라져 삭제한 노드 수
+    private Integer deletedLinks;         // 원본에서 사라져 삭제한 링크 수
+    private LocalDateTime startedAt;      // 시작 시간
+    private LocalDateTime updatedAt;      // 마지막 진행 기록 시간
+    private LocalDateTime completedAt;    // 완료 시간
+    private String errorMessage;          // 실패 사유
+    private List<ImportJobStatus> districts; // 시 전체 작업의 시군구별 상태 (시군구 작업이면 null)
+
+    public static ImportJobStatus from(ImportLog log, List<ImportLog> children) {
+        ImportJobStatus status = from(log);
+        if (!children.isEmpty()) {
+            status.setDistricts(children.stream().map(ImportJobStatus::from).toList());
+        }
+        return status;
+    }
+
+    public static ImportJobStatus from(ImportLog log) {
+        return ImportJobStatus.builder()
+                .jobId(log.getId())
+                .districtName(log.getSggNm())
+                .source(log.getSource() == null ? "API" : log.getSource())
+                .status(log.getStatus())
+                .completedPages(log.getCompletedPages())
+                .totalPages(log.getTotalPages())
+                .processedRows(log.getProcessedRows())
+                .totalRows(log.getTotalRows())
+                .rowsPerSecond(log.getRowsPerSecond())
+                .totalNodes(log.getTotalNodes())
+                .totalLinks(log.getTotalLinks())
+                .virtualNodes(log.getVirtualNodes())
+                .updatedNodes(log.getUpdatedNodes())
+                .updatedLinks(log.getUpdatedLinks())
+                .deletedNodes(log.getDeletedNodes())
+                .deletedLinks(log.getDeletedLinks())
+                .startedAt(log.getStartedAt())
+                .updatedAt(log.getUpdatedAt())
+                .completedAt(log.getCompletedAt())
+                .errorMessage(log.getErrorMessage())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.trm.roadmate_backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
@@ -15,6 +16,18 @@ public class LoopPathResponse {
     private SegmentInfo segment4;          // B → P1 구간
     private String message;                // 안내 메시지
 
+    // --- 압축 좌표 형식 (format=polyline / columnar 요청 시에만 포함, 이때 path는 null) ---
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String format;                 // polyline 또는 columnar
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer precision;             // 좌표 소수점 자리수 (5 또는 6)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String encodedPath;            // Encoded Polyline (format=polyline)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private double[] latitudes;            // 위도 배열 (format=columnar)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private double[] longitudes;           // 경도 배열 (format=columnar)
+
     @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
     public static class SegmentInfo {
         private String from;               // 시작점
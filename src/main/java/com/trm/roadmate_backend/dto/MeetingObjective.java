@@ -0,0 +1,25 @@
+package com.trm.roadmate_backend.dto;
+
+import com.trm.roadmate_backend.exception.InvalidRequestException;
+
+/**
+ * 모임 장소 선정 기준
+ */
+public enum MeetingObjective {
+    MAX,  // 가장 멀리 걷는 사람의 거리를 최소화 (기본값, 공평한 장소)
+    SUM;  // 모두가 걷는 거리의 합을 최소화
+
+    /**
+     * 요청 파라미터 값을 MeetingObjective로 변환 (대소문자 무시, 비어 있으면 MAX)
+     */
+    public static MeetingObjective from(String value) {
+        if (value == null || value.isBlank()) {
+            return MAX;
+        }
+        try {
+            return MeetingObjective.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("지원하지 않는 모임 장소 기준입니다: " + value + " (max, sum)");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.trm.roadmate_backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 모임 장소 탐색 요청 DTO (참가자 현재 위치 목록)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingPointRequest {
+    private List<Location> participants;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Location {
+        private double lat;
+        private double lon;
+    }
+}
@@ -0,0 +1,33 @@
+package com.trm.roadmate_backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 모임 장소 탐색 결과 DTO
+ * - 장소를 찾지 못하면 found=false, 나머지 필드는 비어 있음
+ */
+@Getter
+@Builder
+@ToString
+public class MeetingPointResult {
+    private final boolean found;
+    private final String objective;             // max 또는 sum
+    private final double latitude;              // 모임 장소 (교차로 노드) 좌표
+    private final double longitude;
+    private final double maxDistance;           // 가장 멀리 걷는 참가자의 거리 (미터)
+    private final double totalDistance;         // 참가자 거리 합 (미터)
+    private final List<ParticipantRoute> routes; // 참가자별 경로 (요청 순서)
+
+    @Getter
+    @Builder
+    @ToString
+    public static class ParticipantRoute {
+        private final int index;             // 요청 목록에서의 순서
+        private final double distance;       // 모임 장소까지 거리 (미터)
+        private final List<PathNode> path;   // 참가자 위치 → 모임 장소 좌표
+    }
+}
@@ -0,0 +1,19 @@
+package com.trm.roadmate_backend.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 대안 경로 하나의 탐색 결과 DTO
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class PathAlternative {
+    private final double totalDistance; // 총 거리 (미터)
+    private final double overlapRatio;  // 최단 경로와 겹치는 거리 비율 (0.0 ~ 1.0)
+    private final List<PathNode> path;  // 순서대로 정렬된 PathNode 목록
+}
@@ -0,0 +1,16 @@
+package com.trm.roadmate_backend.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 배치 경로 탐색 결과 한 건 (NDJSON 스트리밍 응답의 한 줄)
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class PathBatchItem {
+    private final int index;              // 요청 목록에서의 위치 (0부터 시작)
+    private final PathBatchResult result; // 해당 요청의 경로 탐색 결과 (상태 포함)
+}
@@ -0,0 +1,44 @@
+package com.trm.roadmate_backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 배치 경로 탐색 결과 한 건 (PathResult + 처리 상태)
+ * - 한 요청이 실패해도 배치 전체는 200으로 응답하고, 실패 여부는 요청별 status로 구분
+ * - 실패한 요청은 거리 0, 빈 경로이고 error에 사유를 담음 (성공이면 error 생략)
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PathBatchResult {
+
+    public enum Status {
+        OK,         // 경로를 찾음
+        NOT_FOUND,  // 좌표 근처에 노드가 없거나 두 노드가 연결되어 있지 않음
+        ABORTED,    // 탐색 한도(마감 시간 / 확정 노드 수) 초과 또는 취소
+        ERROR       // 그 밖의 오류
+    }
+
+    private final Status status;
+    private final double totalDistance; // 총 거리 (미터)
+    private final List<PathNode> path;  // 순서대로 정렬된 PathNode 목록
+    private final String error;         // 실패 사유 (OK이면 null)
+
+    public static PathBatchResult of(PathResult result) {
+        if (result.getPath().isEmpty()) {
+            return failed(Status.NOT_FOUND, "두 지점을 잇는 경로가 없습니다");
+        }
+        return new PathBatchResult(Status.OK, result.getTotalDistance(), result.getPath(), null);
+    }
+
+    public static PathBatchResult failed(Status status, String error) {
+        return new PathBatchResult(status, 0.0, Collections.emptyList(), error);
+    }
+}
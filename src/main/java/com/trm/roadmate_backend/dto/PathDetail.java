@@ -0,0 +1,39 @@
+package com.trm.roadmate_backend.dto;
+
+import com.trm.roadmate_backend.exception.InvalidRequestException;
+
+/**
+ * 경로 좌표 상세 수준
+ */
+public enum PathDetail {
+    NODE,  // 노드 좌표만 (기본값, 교차로 사이를 직선으로 연결)
+    FULL;  // 링크 형상(WKT) 좌표 전체
+
+    /** 단순화 허용 오차 상한 (미터) */
+    public static final double MAX_SIMPLIFY_TOLERANCE = 100.0;
+
+    /**
+     * 요청 파라미터 값을 PathDetail로 변환 (대소문자 무시, 비어 있으면 NODE)
+     */
+    public static PathDetail from(String value) {
+        if (value == null || value.isBlank()) {
+            return NODE;
+        }
+        try {
+            return PathDetail.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("지원하지 않는 경로 상세 수준입니다: " + value + " (node, full)");
+        }
+    }
+
+    /**
+     * 단순화 허용 오차 검증 (0이면 단순화하지 않음)
+     */
+    public static double validateTolerance(double toleranceMeters) {
+        if (toleranceMeters < 0 || toleranceMeters > MAX_SIMPLIFY_TOLERANCE) {
+            throw new InvalidRequestException(
+                    "simplify는 0 ~ " + (int) MAX_SIMPLIFY_TOLERANCE + "m 범위여야 합니다: " + toleranceMeters);
+        }
+        return toleranceMeters;
+    }
+}
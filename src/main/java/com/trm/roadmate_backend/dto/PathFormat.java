@@ -0,0 +1,36 @@
+package com.trm.roadmate_backend.dto;
+
+import com.trm.roadmate_backend.exception.InvalidRequestException;
+
+/**
+ * 경로 좌표 응답 형식
+ */
+public enum PathFormat {
+    JSON,      // PathNode 객체 목록 (기본값)
+    POLYLINE,  // Google Encoded Polyline 문자열
+    COLUMNAR;  // 위도 배열 + 경도 배열
+
+    /**
+     * 요청 파라미터 값을 PathFormat으로 변환 (대소문자 무시, 비어 있으면 JSON)
+     */
+    public static PathFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return JSON;
+        }
+        try {
+            return PathFormat.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("지원하지 않는 경로 형식입니다: " + value + " (json, polyline, columnar)");
+        }
+    }
+
+    /**
+     * 좌표 정밀도 검증 (Encoded Polyline 관례상 5 또는 6자리만 허용)
+     */
+    public static int validatePrecision(int precision) {
+        if (precision != 5 && precision != 6) {
+            throw new InvalidRequestException("precision은 5 또는 6이어야 합니다: " + precision);
+        }
+        return precision;
+    }
+}
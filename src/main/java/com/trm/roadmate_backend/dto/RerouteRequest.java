@@ -0,0 +1,15 @@
+package com.trm.roadmate_backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RerouteRequest {
+    private double currentLat; // 현재 위치 위도
+    private double currentLng; // 현재 위치 경도
+}
@@ -13,4 +13,6 @@ public class WalkRouteStartRequest {
     private Float expectedDistance;
     private Integer expectedDuration;
     private String pathData; // 예정 경로 좌표 (JSON String)
+    private Double destinationLat; // 목적지 위도 (선택, 경로 재탐색에 사용)
+    private Double destinationLng; // 목적지 경도 (선택, 경로 재탐색에 사용)
 }
\ No newline at end of file
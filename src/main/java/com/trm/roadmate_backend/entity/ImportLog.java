@@ -13,18 +13,51 @@ public class ImportLog {
     private Long id;
 
     @Column(nullable = false, length = 50)
-    private String sggNm; // 시군구 명
+    private String sggNm; // 시군구 명 (시 전체 작업은 CITY)
+
+    private Long parentJobId; // 시 전체 작업에 속한 시군구 작업이면 상위 작업 ID
+
+    @Column(length = 10)
+    private String source; // 입력 (API, FILE / 이전 기록은 null = API)
 
     private Integer totalNodes = 0; // 총 노드 수
     private Integer totalLinks = 0; // 총 링크 수
     private Integer virtualNodes = 0; // 생성된 가상 노드 수
+    private Integer updatedNodes = 0; // 내용이 바뀌어 갱신한 노드 수
+    private Integer updatedLinks = 0; // 내용이 바뀌어 갱신한 링크 수
+    private Integer deletedNodes = 0; // 원본에서 사라져 삭제한 노드 수
+    private Integer deletedLinks = 0; // 원본에서 사라져 삭제한 링크 수
 
     @Column(length = 20)
-    private String status; // 상태 (RUNNING, SUCCESS, FAILED)
+    private String status; // 상태 (QUEUED, RUNNING, SUCCESS, FAILED)
+
+    // --- 여러 인스턴스에서의 중복 실행 방지 ---
+    @Column(unique = true, length = 50)
+    private String activeKey; // 진행 중(QUEUED, RUNNING)이면 sggNm, 끝나면 null → 같은 지역의 진행 중인 작업은 유니크 키로 하나만
+
+    @Column(length = 64)
+    private String owner; // 작업을 실행 중인 서버 인스턴스 (재시작 시 claim으로 한 인스턴스만 재개, 끝나면 null)
+
+    // --- 진행 상황 (페이지마다 저장 트랜잭션과 함께 커밋) ---
+    private Integer totalRows; // API 전체 행 수
+    private Integer totalPages; // 전체 페이지 수
+    private Integer completedPages; // 커밋된 페이지 수 (재시작 시 다음 페이지부터 재개)
+    private Integer processedRows; // 저장한 행 수
+    private Double rowsPerSecond; // 처리 속도 (이번 실행 기준)
+    private LocalDateTime updatedAt; // 마지막 진행 기록 시간
 
     private LocalDateTime startedAt; // 시작 시간
     private LocalDateTime completedAt; // 완료 시간
 
     @Column(columnDefinition = "TEXT")
     private String errorMessage; // 에러 메시지
+
+    // 저장 직전에 상태로부터 activeKey/owner 갱신 (상태를 바꾸는 모든 저장에 적용)
+    @PrePersist
+    @PreUpdate
+    public void syncActiveKey() {
+        boolean active = "QUEUED".equals(status) || "RUNNING".equals(status);
+        activeKey = active ? sggNm : null;
+        if (!active) owner = null;
+    }
 }
\ No newline at end of file
@@ -5,7 +5,11 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "link")
+@Table(name = "link", indexes = {
+        @Index(name = "idx_link_sgg_cd", columnList = "sgg_cd"), // 지역 그래프 로딩 (sgg_cd IN + 기본 키 키셋 페이징)
+        @Index(name = "idx_link_start_node_id", columnList = "start_node_id"), // 보행 링크 조회, 참조 없는 노드 삭제 (NOT EXISTS)
+        @Index(name = "idx_link_end_node_id", columnList = "end_node_id")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Link {
     @Id
@@ -65,6 +69,8 @@ public class Link {
     @Column(length = 1)
     private String bldg; // 빌딩
 
+    private Long contentHash; // 원본 LINK 행 내용 해시 (재가져오기 변경 감지)
+
     @Column(updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now(); // 생성 시간
 }
\ No newline at end of file
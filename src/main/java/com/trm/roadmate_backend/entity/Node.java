@@ -5,7 +5,9 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "node")
+@Table(name = "node", indexes = {
+        @Index(name = "idx_node_sgg_cd", columnList = "sgg_cd") // 지역 그래프 로딩 (sgg_cd IN + 기본 키 키셋 페이징)
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Node {
     @Id
@@ -39,6 +41,8 @@ public class Node {
     @Column(nullable = false)
     private Boolean isVirtual = false; // 가상 노드 여부
 
+    private Long contentHash; // 원본 NODE 행 내용 해시 (재가져오기 변경 감지, 가상 노드는 null)
+
     @Column(updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now(); // 생성 시간
 }
\ No newline at end of file
@@ -69,6 +69,13 @@ public class WalkRoute {
     @Column(name = "path_data", columnDefinition = "JSON", nullable = false)
     private String pathData; // JSON String으로 저장
 
+    // 목적지 (경로 재탐색용, 지정하지 않은 산책은 null)
+    @Column(name = "destination_lat")
+    private Double destinationLat;
+
+    @Column(name = "destination_lng")
+    private Double destinationLng;
+
     // --- 비즈니스 메서드 ---
 
     public void complete(Float distance, Integer duration) {
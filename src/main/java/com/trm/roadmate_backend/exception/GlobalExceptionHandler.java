@@ -1,6 +1,7 @@
 package com.trm.roadmate_backend.exception;
 
 import com.trm.roadmate_backend.dto.common.ApiResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -18,6 +19,14 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.failure(ex.getMessage()));
     }
 
+    // 1-1. [400 Bad Request] InvalidRequestException 처리 (지원하지 않는 요청 파라미터 값 등)
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidRequestException(InvalidRequestException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.failure(ex.getMessage()));
+    }
+
     // 2. [409 Conflict] IllegalStateException 처리 (이메일 중복 등)
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ApiResponse<Void>> handleIllegalStateException(IllegalStateException ex) {
@@ -35,6 +44,23 @@ public class GlobalExceptionHandler {
         );
     }
 
+    // 3-1. [503 Service Unavailable] 경로 탐색 동시 실행 한도 초과 (잠시 후 재시도)
+    @ExceptionHandler(RoutingOverloadedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRoutingOverloadedException(RoutingOverloadedException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error("ROUTE_503_BUSY", ex.getMessage()));
+    }
+
+    // 3-2. [503 Service Unavailable] 탐색 한도(마감 시간 / 탐색 범위) 초과 또는 취소
+    @ExceptionHandler(RoutingAbortedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRoutingAbortedException(RoutingAbortedException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error("ROUTE_503_" + ex.getReason().name(), ex.getMessage()));
+    }
+
     // ⭐️ 4. [500 Internal Server Error] 기타 잡히지 않은 모든 예외 처리
     // 이 핸들러는 위의 명시적인 핸들러들에서 처리되지 않은 모든 RuntimeException 및 Exception을 포괄합니다.
     @ExceptionHandler(Exception.class)
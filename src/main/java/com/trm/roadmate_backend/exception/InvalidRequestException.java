@@ -0,0 +1,8 @@
+package com.trm.roadmate_backend.exception;
+
+// 지원하지 않는 요청 파라미터 값 등 잘못된 요청 (400 응답)
+public class InvalidRequestException extends IllegalArgumentException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
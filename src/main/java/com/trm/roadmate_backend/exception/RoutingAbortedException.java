@@ -0,0 +1,22 @@
+package com.trm.roadmate_backend.exception;
+
+// 탐색 한도(마감 시간 / 확정 노드 수) 초과 또는 취소로 경로 탐색이 중단되었을 때 발생
+public class RoutingAbortedException extends RuntimeException {
+
+    public enum Reason {
+        DEADLINE,   // 마감 시간 초과
+        BUDGET,     // 확정 노드 수 한도 초과
+        CANCELLED   // 호출 측 취소 또는 스레드 인터럽트
+    }
+
+    private final Reason reason;
+
+    public RoutingAbortedException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,8 @@
+package com.trm.roadmate_backend.exception;
+
+// 경로 탐색 동시 실행 한도가 가득 차서 요청을 받을 수 없을 때 발생 (503 응답)
+public class RoutingOverloadedException extends RuntimeException {
+    public RoutingOverloadedException(String message) {
+        super(message);
+    }
+}
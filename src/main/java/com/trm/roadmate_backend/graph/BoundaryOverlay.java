@@ -0,0 +1,309 @@
+package com.trm.roadmate_backend.graph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 지역(시군구) 경계 노드 오버레이
+ * - 지역마다 경계 노드 k개 사이의 지역 내부 최단 거리 k × k 표(clique)를 보관
+ * - 오버레이 노드 = 모든 지역의 경계 노드 (한 경계 노드는 보통 두 지역에 동시에 속함)
+ * - 지역이 다른 두 지점 사이 경로는 반드시 경계 노드를 지나므로,
+ *   출발 지역 내부 탐색 + 오버레이 탐색 + 도착 지역 내부 탐색으로 전체 그래프 없이 최단 거리를 구할 수 있음
+ * - 크기는 지역별 경계 노드 수의 제곱에 비례 (도시 전체 노드 수와 무관)
+ */
+public class BoundaryOverlay {
+
+    public static final BoundaryOverlay EMPTY = new Builder().build();
+
+    // --- 지역별 표 ---
+    private final String[] regions;
+    private final Map<String, Integer> regionIndex;
+    private final int[][] regionMembers;     // 지역 → 오버레이 노드 (표의 행/열 순서)
+    private final float[][] distances;       // 지역 → k × k 거리 (도달 불가면 무한대)
+
+    // --- 오버레이 노드 ---
+    private final IdDictionary nodeIds;
+    private final int[] membershipOffsets;   // 오버레이 노드 v의 소속은 [membershipOffsets[v], membershipOffsets[v + 1])
+    private final int[] membershipRegion;
+    private final int[] membershipLocal;     // 지역 표 안에서의 행 번호
+
+    private BoundaryOverlay(String[] regions, Map<String, Integer> regionIndex, int[][] regionMembers,
+                            float[][] distances, IdDictionary nodeIds,
+                            int[] membershipOffsets, int[] membershipRegion, int[] membershipLocal) {
+        this.regions = regions;
+        this.regionIndex = regionIndex;
+        this.regionMembers = regionMembers;
+        this.distances = distances;
+        this.nodeIds = nodeIds;
+        this.membershipOffsets = membershipOffsets;
+        this.membershipRegion = membershipRegion;
+        this.membershipLocal = membershipLocal;
+    }
+
+    public boolean isEmpty() {
+        return regions.length == 0;
+    }
+
+    public int regionCount() {
+        return regions.length;
+    }
+
+    public int nodeCount() {
+        return nodeIds.size();
+    }
+
+    /** 표가 있는 지역인지 여부 */
+    public boolean covers(String region) {
+        return regionIndex.containsKey(region);
+    }
+
+    /** 지역의 경계 노드 ID 목록 (표의 행 순서) */
+    public String[] boundaryNodeIds(String region) {
+        Integer r = regionIndex.get(region);
+        if (r == null) return new String[0];
+        int[] members = regionMembers[r];
+        String[] ids = new String[members.length];
+        for (int i = 0; i < members.length; i++) {
+            ids[i] = nodeIds.get(members[i]);
+        }
+        return ids;
+    }
+
+    /** 오버레이가 차지하는 대략적인 메모리 (바이트) */
+    public long memoryBytes() {
+        long bytes = nodeIds.memoryBytes() + (long) membershipRegion.length * Integer.BYTES * 2;
+        for (int r = 0; r < regions.length; r++) {
+            bytes += (long) regionMembers[r].length * Integer.BYTES + (long) distances[r].length * Float.BYTES;
+        }
+        return bytes;
+    }
+
+    // ==================== 오버레이 탐색 ====================
+
+    /** 오버레이 탐색 결과: 출발 지역 경계 노드 → ... → 도착 지역 경계 노드 */
+    public static class Path {
+        private final double distance;       // 출발점 → 도착점 전체 거리 (양 끝 지역 내부 구간 포함)
+        private final String[] nodeIds;      // 지나는 경계 노드
+        private final String[] hopRegions;   // hopRegions[i] = nodeIds[i] → nodeIds[i + 1] 구간이 속한 지역
+
+        Path(double distance, String[] nodeIds, String[] hopRegions) {
+            this.distance = distance;
+            this.nodeIds = nodeIds;
+            this.hopRegions = hopRegions;
+        }
+
+        public double getDistance() {
+            return distance;
+        }
+
+        public String[] getNodeIds() {
+            return nodeIds;
+        }
+
+        public String[] getHopRegions() {
+            return hopRegions;
+        }
+    }
+
+    /**
+     * 출발 지역 경계 노드까지의 거리와 도착 지역 경계 노드로부터의 거리를 받아 오버레이에서 최단 경로를 찾습니다.
+     * @param sourceCosts 출발점 → 출발 지역 경계 노드 거리 (boundaryNodeIds(sourceRegion) 순서, 도달 불가면 무한대)
+     * @param targetCosts 도착 지역 경계 노드 → 도착점 거리 (boundaryNodeIds(targetRegion) 순서)
+     * @return 경로가 없으면 null
+     */
+    public Path search(String sourceRegion, double[] sourceCosts, String targetRegion, double[] targetCosts,
+                       SearchLimits limits) {
+        Integer source = regionIndex.get(sourceRegion);
+        Integer target = regionIndex.get(targetRegion);
+        if (source == null || target == null) return null;
+
+        int n = nodeIds.size();
+        double[] distance = new double[n];
+        int[] predNode = new int[n];
+        int[] predRegion = new int[n];
+        boolean[] settled = new boolean[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+
+        // 도착 지역 경계 노드 → 도착점 거리 (오버레이 노드 기준)
+        double[] exitCost = new double[n];
+        Arrays.fill(exitCost, Double.POSITIVE_INFINITY);
+        int[] targetMembers = regionMembers[target];
+        for (int i = 0; i < targetMembers.length; i++) {
+            exitCost[targetMembers[i]] = targetCosts[i];
+        }
+
+        Heap heap = new Heap();
+        int[] sourceMembers = regionMembers[source];
+        for (int i = 0; i < sourceMembers.length; i++) {
+            if (sourceCosts[i] < distance[sourceMembers[i]]) {
+                distance[sourceMembers[i]] = sourceCosts[i];
+                predNode[sourceMembers[i]] = -1;
+                heap.push(sourceMembers[i], sourceCosts[i]);
+            }
+        }
+
+        double best = Double.POSITIVE_INFINITY;
+        int bestExit = -1;
+        while (!heap.isEmpty()) {
+            double key = heap.peekKey();
+            int v = heap.pop();
+            if (key >= best) break;
+            if (settled[v] || key > distance[v]) continue;
+            settled[v] = true;
+            limits.check();
+
+            if (key + exitCost[v] < best) {
+                best = key + exitCost[v];
+                bestExit = v;
+            }
+
+            for (int m = membershipOffsets[v]; m < membershipOffsets[v + 1]; m++) {
+                int r = membershipRegion[m];
+                int[] members = regionMembers[r];
+                float[] table = distances[r];
+                int row = membershipLocal[m] * members.length;
+                for (int j = 0; j < members.length; j++) {
+                    double next = key + table[row + j];
+                    if (next < distance[members[j]]) {
+                        distance[members[j]] = next;
+                        predNode[members[j]] = v;
+                        predRegion[members[j]] = r;
+                        heap.push(members[j], next);
+                    }
+                }
+            }
+        }
+
+        if (bestExit < 0) return null;
+
+        int length = 1;
+        for (int v = bestExit; predNode[v] >= 0; v = predNode[v]) length++;
+        String[] ids = new String[length];
+        String[] hops = new String[length - 1];
+        int v = bestExit;
+        for (int i = length - 1; i >= 0; i--) {
+            ids[i] = nodeIds.get(v);
+            if (i > 0) {
+                hops[i - 1] = regions[predRegion[v]];
+                v = predNode[v];
+            }
+        }
+        return new Path(best, ids, hops);
+    }
+
+    // (거리, 노드) 최소 힙 (지연 삭제)
+    private static final class Heap {
+        private double[] keys = new double[64];
+        private int[] nodes = new int[64];
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        double peekKey() {
+            return keys[0];
+        }
+
+        void push(int node, double key) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (keys[parent] <= key) break;
+                keys[i] = keys[parent];
+                nodes[i] = nodes[parent];
+                i = parent;
+            }
+            keys[i] = key;
+            nodes[i] = node;
+        }
+
+        int pop() {
+            int top = nodes[0];
+            size--;
+            double key = keys[size];
+            int node = nodes[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && keys[child + 1] < keys[child]) child++;
+                if (key <= keys[child]) break;
+                keys[i] = keys[child];
+                nodes[i] = nodes[child];
+                i = child;
+            }
+            keys[i] = key;
+            nodes[i] = node;
+            return top;
+        }
+    }
+
+    // ==================== 생성기 ====================
+
+    public static class Builder {
+
+        private final Map<String, String[]> regionNodeIds = new HashMap<>();
+        private final Map<String, float[]> regionDistances = new HashMap<>();
+
+        /**
+         * 지역 표를 추가합니다.
+         * @param boundaryNodeIds 경계 노드 ID (표의 행/열 순서)
+         * @param distances k × k 거리 (행 우선, 도달 불가면 Float.POSITIVE_INFINITY)
+         */
+        public Builder addRegion(String region, String[] boundaryNodeIds, float[] distances) {
+            if (distances.length != boundaryNodeIds.length * boundaryNodeIds.length) {
+                throw new IllegalArgumentException("Overlay table size mismatch for region " + region);
+            }
+            regionNodeIds.put(region, boundaryNodeIds);
+            regionDistances.put(region, distances);
+            return this;
+        }
+
+        public BoundaryOverlay build() {
+            String[] regions = regionNodeIds.keySet().stream().sorted().toArray(String[]::new);
+            Map<String, Integer> regionIndex = new HashMap<>();
+            IdDictionary.Builder ids = new IdDictionary.Builder(regions.length * 64);
+            int[][] members = new int[regions.length][];
+            float[][] distances = new float[regions.length][];
+            int memberships = 0;
+
+            for (int r = 0; r < regions.length; r++) {
+                regionIndex.put(regions[r], r);
+                String[] nodeIds = regionNodeIds.get(regions[r]);
+                members[r] = new int[nodeIds.length];
+                for (int i = 0; i < nodeIds.length; i++) {
+                    members[r][i] = ids.add(nodeIds[i]);
+                }
+                distances[r] = regionDistances.get(regions[r]);
+                memberships += nodeIds.length;
+            }
+
+            // 오버레이 노드별 소속 지역 (counting sort)
+            int n = ids.size();
+            int[] offsets = new int[n + 1];
+            for (int[] regionMembers : members) {
+                for (int v : regionMembers) offsets[v + 1]++;
+            }
+            for (int v = 0; v < n; v++) offsets[v + 1] += offsets[v];
+            int[] cursor = Arrays.copyOf(offsets, n);
+            int[] membershipRegion = new int[memberships];
+            int[] membershipLocal = new int[memberships];
+            for (int r = 0; r < regions.length; r++) {
+                for (int i = 0; i < members[r].length; i++) {
+                    int slot = cursor[members[r][i]]++;
+                    membershipRegion[slot] = r;
+                    membershipLocal[slot] = i;
+                }
+            }
+
+            return new BoundaryOverlay(regions, regionIndex, members, distances, ids.build(),
+                    offsets, membershipRegion, membershipLocal);
+        }
+    }
+}
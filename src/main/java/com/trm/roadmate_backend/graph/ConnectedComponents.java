@@ -0,0 +1,124 @@
+package com.trm.roadmate_backend.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * 노드별 연결 요소(connected component) 번호
+ * - 그래프 빌드 시 링크 목록으로 병렬 union-find를 한 번 수행 (CAS 기반, 잠금 없음)
+ * - 루트는 항상 더 작은 인덱스 쪽으로 연결하므로 동시에 합쳐도 순환이 생기지 않음
+ * - 서로 다른 요소에 속한 두 노드 사이에는 경로가 없으므로 탐색 없이 O(1)로 판별 가능
+ */
+public class ConnectedComponents {
+
+    private final int[] componentOf;     // 노드 → 요소 번호 (0..count-1)
+    private final int[] componentSizes;  // 요소 번호 → 노드 수
+    private final int largest;           // 가장 큰 요소 번호 (노드가 없으면 -1)
+
+    private ConnectedComponents(int[] componentOf, int[] componentSizes, int largest) {
+        this.componentOf = componentOf;
+        this.componentSizes = componentSizes;
+        this.largest = largest;
+    }
+
+    /**
+     * 링크 양 끝 노드 배열로 연결 요소를 계산합니다.
+     * @param linkStart 링크 시작 노드 인덱스 (앞에서 linkCount개만 사용)
+     * @param linkEnd 링크 끝 노드 인덱스
+     */
+    public static ConnectedComponents compute(int nodeCount, int[] linkStart, int[] linkEnd, int linkCount) {
+        AtomicIntegerArray parent = new AtomicIntegerArray(nodeCount);
+        for (int i = 0; i < nodeCount; i++) {
+            parent.set(i, i);
+        }
+
+        // 1) 링크 단위 병렬 union
+        IntStream.range(0, linkCount).parallel()
+                .forEach(l -> union(parent, linkStart[l], linkEnd[l]));
+
+        // 2) 노드별 루트 확정 (병렬) → 3) 루트를 0부터 시작하는 요소 번호로 재배정
+        int[] roots = new int[nodeCount];
+        IntStream.range(0, nodeCount).parallel()
+                .forEach(i -> roots[i] = find(parent, i));
+
+        int[] idOfRoot = new int[nodeCount];
+        int[] sizes = new int[Math.max(nodeCount, 1)];
+        int count = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            if (roots[i] == i) {
+                idOfRoot[i] = count++;
+            }
+        }
+        int[] componentOf = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            int component = idOfRoot[roots[i]];
+            componentOf[i] = component;
+            sizes[component]++;
+        }
+
+        int largest = -1;
+        for (int c = 0; c < count; c++) {
+            if (largest < 0 || sizes[c] > sizes[largest]) {
+                largest = c;
+            }
+        }
+        return new ConnectedComponents(componentOf, Arrays.copyOf(sizes, count), largest);
+    }
+
+    public static ConnectedComponents empty() {
+        return new ConnectedComponents(new int[0], new int[0], -1);
+    }
+
+    public int componentOf(int node) {
+        return componentOf[node];
+    }
+
+    public boolean isConnected(int a, int b) {
+        return componentOf[a] == componentOf[b];
+    }
+
+    public int count() {
+        return componentSizes.length;
+    }
+
+    public int size(int component) {
+        return componentSizes[component];
+    }
+
+    /** 가장 큰 요소 번호 (노드가 없으면 -1) */
+    public int largest() {
+        return largest;
+    }
+
+    public boolean isInLargest(int node) {
+        return componentOf[node] == largest;
+    }
+
+    // ==================== union-find (잠금 없는 병렬 버전) ====================
+
+    private static int find(AtomicIntegerArray parent, int x) {
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) return x;
+            int grandParent = parent.get(p);
+            if (grandParent != p) {
+                parent.compareAndSet(x, p, grandParent); // 경로 절반 압축 (실패해도 무방)
+            }
+            x = grandParent;
+        }
+    }
+
+    private static void union(AtomicIntegerArray parent, int a, int b) {
+        while (true) {
+            int rootA = find(parent, a);
+            int rootB = find(parent, b);
+            if (rootA == rootB) return;
+
+            // 큰 인덱스 루트를 작은 인덱스 루트 아래로 연결 (다른 스레드가 먼저 바꿨으면 재시도)
+            int high = Math.max(rootA, rootB);
+            int low = Math.min(rootA, rootB);
+            if (parent.compareAndSet(high, high, low)) return;
+        }
+    }
+}
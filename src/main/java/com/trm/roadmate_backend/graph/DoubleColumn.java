@@ -0,0 +1,74 @@
+package com.trm.roadmate_backend.graph;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 읽기 전용 double 배열 (힙 배열 또는 direct ByteBuffer)
+ * - 생성 후 값이 바뀌지 않으므로 여러 스레드가 잠금 없이 동시에 읽어도 안전
+ */
+abstract class DoubleColumn {
+
+    abstract double get(int index);
+
+    abstract int length();
+
+    /** 힙 밖에 할당한 바이트 수 (힙 배열이면 0) */
+    abstract long offHeapBytes();
+
+    static DoubleColumn of(double[] values, GraphStorage storage) {
+        return storage == GraphStorage.OFF_HEAP ? new Direct(values) : new Heap(values);
+    }
+
+    private static final class Heap extends DoubleColumn {
+        private final double[] values;
+
+        Heap(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        double get(int index) {
+            return values[index];
+        }
+
+        @Override
+        int length() {
+            return values.length;
+        }
+
+        @Override
+        long offHeapBytes() {
+            return 0;
+        }
+    }
+
+    private static final class Direct extends DoubleColumn {
+        private final ByteBuffer buffer;
+        private final int length;
+
+        Direct(double[] values) {
+            if (values.length > Integer.MAX_VALUE / Double.BYTES) {
+                throw new IllegalStateException("Off-heap column too large: " + values.length);
+            }
+            this.length = values.length;
+            this.buffer = ByteBuffer.allocateDirect(values.length * Double.BYTES).order(ByteOrder.nativeOrder());
+            buffer.asDoubleBuffer().put(values);
+        }
+
+        @Override
+        double get(int index) {
+            return buffer.getDouble(index << 3);
+        }
+
+        @Override
+        int length() {
+            return length;
+        }
+
+        @Override
+        long offHeapBytes() {
+            return buffer.capacity();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.trm.roadmate_backend.graph;
+
+/**
+ * 그래프 기본 배열(CSR 간선, 좌표) 저장 방식
+ * - HEAP: 자바 힙의 원시 배열 (기본값)
+ * - OFF_HEAP: direct ByteBuffer (힙 밖 메모리, -XX:MaxDirectMemorySize 한도 안에서 할당)
+ *   → 여러 도시를 한 인스턴스에 올려도 힙 크기와 GC 대상이 그래프 크기에 따라 커지지 않음
+ *
+ * OFF_HEAP의 한계:
+ * - 힙 밖으로 옮기는 것은 노드 좌표와 CSR 간선 배열(시작 위치, 도착 노드, 가중치, 세그먼트 참조)뿐
+ *   (노드/링크 ID 사전, 체인/세그먼트 정보, 링크 형상, 연결 요소는 그대로 힙에 있음)
+ * - direct 메모리는 명시적으로 해제하지 않음: 교체된 스냅샷이나 메모리 예산으로 해제한 지역 그래프를
+ *   탐색 중인 요청이 아직 읽고 있을 수 있으므로, 그래프 객체가 GC로 회수될 때 함께 해제됨
+ *   → 힙에 여유가 있어 GC가 드물면 해제된 그래프의 direct 메모리가 한동안 남아 있음
+ *   (MaxDirectMemorySize에 닿으면 JVM이 System.gc()로 회수를 시도하므로 -XX:+DisableExplicitGC와 함께 쓰지 말 것)
+ */
+public enum GraphStorage {
+    HEAP,
+    OFF_HEAP;
+
+    /**
+     * 설정 값을 GraphStorage로 변환 (대소문자, '-' / '_' 구분 없음, 비어 있으면 HEAP)
+     */
+    public static GraphStorage from(String value) {
+        if (value == null || value.isBlank()) {
+            return HEAP;
+        }
+        try {
+            return GraphStorage.valueOf(value.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 그래프 저장 방식입니다: " + value + " (heap, off-heap)");
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.trm.roadmate_backend.graph;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * 허브 레이블 거리 오라클 (경로 없이 최단 거리만 필요한 조회용)
+ * - 노드마다 (허브 순위, 허브까지 거리) 목록을 허브 순위 오름차순으로 보관 (CSR: int[] 허브 + float[] 거리)
+ * - d(s, t) = min over 공통 허브 h of (d(s, h) + d(h, t)) → 정렬된 두 목록의 병합 한 번으로 계산
+ * - 생성: 표본 최단 경로 트리에서 많이 지나는 노드부터 허브로 삼아 가지치기 다익스트라 (pruned landmark labeling)
+ * - 탐색 그래프(축약 후)의 노드에만 레이블을 두고, 축약된 체인 내부 노드는 체인 양 끝 노드의 레이블로 계산
+ * - 도로는 양방향이므로 레이블 한 벌로 양쪽 방향 모두 조회
+ */
+public class HubLabels {
+
+    public static final HubLabels EMPTY = new HubLabels(RoutingGraph.EMPTY, new int[1], new int[0], new float[0]);
+
+    private static final int ORDER_SAMPLES = 32;  // 허브 순서를 정할 표본 최단 경로 트리 수
+    private static final long ORDER_SEED = 42L;   // 같은 그래프면 같은 레이블이 나오도록 고정
+
+    private final RoutingGraph graph;
+    private final int[] offsets;     // 노드 v의 레이블은 [offsets[v], offsets[v + 1])
+    private final int[] hubs;        // 허브 순위 (노드별 오름차순)
+    private final float[] distances; // 허브까지 거리 (미터)
+
+    private HubLabels(RoutingGraph graph, int[] offsets, int[] hubs, float[] distances) {
+        this.graph = graph;
+        this.offsets = offsets;
+        this.hubs = hubs;
+        this.distances = distances;
+    }
+
+    public boolean isEmpty() {
+        return hubs.length == 0;
+    }
+
+    /** 레이블을 만든 그래프 스냅샷 */
+    public RoutingGraph graph() {
+        return graph;
+    }
+
+    public long labelCount() {
+        return hubs.length;
+    }
+
+    /** 노드당 평균 레이블 크기 (탐색 그래프 노드 기준) */
+    public double averageLabelSize() {
+        int labeled = 0;
+        for (int v = 0; v + 1 < offsets.length; v++) {
+            if (offsets[v + 1] > offsets[v]) labeled++;
+        }
+        return labeled == 0 ? 0.0 : (double) hubs.length / labeled;
+    }
+
+    /** 레이블이 차지하는 대략적인 메모리 (바이트) */
+    public long memoryBytes() {
+        return (long) offsets.length * Integer.BYTES + (long) hubs.length * (Integer.BYTES + Float.BYTES);
+    }
+
+    // ==================== 거리 조회 ====================
+
+    /**
+     * 두 노드 사이 최단 거리 (미터)
+     * @return 경로가 없으면 무한대
+     */
+    public double distance(int source, int target) {
+        if (source == target) return 0.0;
+        if (!graph.isConnected(source, target)) return Double.POSITIVE_INFINITY;
+
+        int sourceSegment = graph.chainSegment(source);
+        int targetSegment = graph.chainSegment(target);
+
+        // 같은 체인 위의 두 점은 체인을 그대로 따라가는 거리도 후보
+        double best = (sourceSegment >= 0 && sourceSegment == targetSegment)
+                ? Math.abs(graph.chainOffset(source) - graph.chainOffset(target))
+                : Double.POSITIVE_INFINITY;
+
+        if (sourceSegment < 0) {
+            return Math.min(best, toEndpoint(source, 0.0, target, targetSegment));
+        }
+        double offset = graph.chainOffset(source);
+        best = Math.min(best, toEndpoint(graph.segmentStart(sourceSegment), offset, target, targetSegment));
+        best = Math.min(best, toEndpoint(graph.segmentEnd(sourceSegment),
+                graph.segmentWeight(sourceSegment) - offset, target, targetSegment));
+        return best;
+    }
+
+    // 탐색 그래프 노드 s(초기 거리 base) → target (축약된 노드면 체인 양 끝을 거쳐서)
+    private double toEndpoint(int s, double base, int target, int targetSegment) {
+        if (targetSegment < 0) {
+            return base + query(s, target);
+        }
+        double offset = graph.chainOffset(target);
+        return Math.min(
+                base + query(s, graph.segmentStart(targetSegment)) + offset,
+                base + query(s, graph.segmentEnd(targetSegment)) + graph.segmentWeight(targetSegment) - offset);
+    }
+
+    // 탐색 그래프 노드 사이 레이블 교집합
+    private double query(int a, int b) {
+        if (a == b) return 0.0;
+        double best = Double.POSITIVE_INFINITY;
+        int i = offsets[a], iEnd = offsets[a + 1];
+        int j = offsets[b], jEnd = offsets[b + 1];
+        while (i < iEnd && j < jEnd) {
+            int hubA = hubs[i];
+            int hubB = hubs[j];
+            if (hubA == hubB) {
+                double d = (double) distances[i] + distances[j];
+                if (d < best) best = d;
+                i++;
+                j++;
+            } else if (hubA < hubB) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return best;
+    }
+
+    // ==================== 생성 ====================
+
+    /**
+     * 그래프의 허브 레이블을 계산합니다.
+     * @param maxLabels 전체 레이블 수 상한 (넘으면 중단하고 null 반환, 0 이하이면 제한 없음)
+     */
+    public static HubLabels compute(RoutingGraph graph, long maxLabels) {
+        int n = graph.nodeCount();
+        if (n == 0) return EMPTY;
+
+        int[] order = hubOrder(graph);
+
+        // 노드별 레이블 (허브 순위 순서로 추가되므로 자동으로 정렬됨)
+        int[][] labelHubs = new int[n][];
+        float[][] labelDistances = new float[n][];
+        int[] labelSizes = new int[n];
+        long total = 0;
+
+        double[] hubDistance = new double[order.length]; // 현재 허브의 레이블 (허브 순위 → 거리)
+        Arrays.fill(hubDistance, Double.POSITIVE_INFINITY);
+
+        PrunedSearch search = new PrunedSearch(n);
+        for (int rank = 0; rank < order.length; rank++) {
+            int root = order[rank];
+            for (int k = 0; k < labelSizes[root]; k++) {
+                hubDistance[labelHubs[root][k]] = labelDistances[root][k];
+            }
+
+            search.start(root);
+            int v;
+            while ((v = search.next()) >= 0) {
+                double d = search.distance(v);
+                // 이미 추가된 허브로 d 이하 거리가 나오면 v 아래쪽은 더 볼 필요 없음
+                if (coveredDistance(hubDistance, labelHubs[v], labelDistances[v], labelSizes[v]) <= d) {
+                    continue;
+                }
+                int size = labelSizes[v];
+                if (labelHubs[v] == null) {
+                    labelHubs[v] = new int[4];
+                    labelDistances[v] = new float[4];
+                } else if (size == labelHubs[v].length) {
+                    labelHubs[v] = Arrays.copyOf(labelHubs[v], size * 2);
+                    labelDistances[v] = Arrays.copyOf(labelDistances[v], size * 2);
+                }
+                labelHubs[v][size] = rank;
+                labelDistances[v][size] = (float) d;
+                labelSizes[v] = size + 1;
+                if (maxLabels > 0 && ++total > maxLabels) {
+                    return null;
+                }
+                search.relax(graph, v);
+            }
+
+            for (int k = 0; k < labelSizes[root]; k++) {
+                hubDistance[labelHubs[root][k]] = Double.POSITIVE_INFINITY;
+            }
+        }
+
+        // CSR로 압축
+        int[] offsets = new int[n + 1];
+        for (int v = 0; v < n; v++) offsets[v + 1] = offsets[v] + labelSizes[v];
+        int[] hubs = new int[offsets[n]];
+        float[] distances = new float[offsets[n]];
+        for (int v = 0; v < n; v++) {
+            if (labelSizes[v] == 0) continue;
+            System.arraycopy(labelHubs[v], 0, hubs, offsets[v], labelSizes[v]);
+            System.arraycopy(labelDistances[v], 0, distances, offsets[v], labelSizes[v]);
+        }
+        return new HubLabels(graph, offsets, hubs, distances);
+    }
+
+    private static double coveredDistance(double[] hubDistance, int[] labelHubs, float[] labelDistances, int size) {
+        double best = Double.POSITIVE_INFINITY;
+        for (int k = 0; k < size; k++) {
+            double d = hubDistance[labelHubs[k]] + labelDistances[k];
+            if (d < best) best = d;
+        }
+        return best;
+    }
+
+    /**
+     * 허브 순서: 표본 노드들의 최단 경로 트리에서 하위 트리가 큰(많은 경로가 지나는) 노드 우선
+     * (차수 순서보다 도로망에서 레이블이 훨씬 작아짐)
+     * @return order[rank] = 노드 (탐색 그래프 노드만, 축약된 노드 제외)
+     */
+    private static int[] hubOrder(RoutingGraph graph) {
+        int n = graph.nodeCount();
+        int[] candidates = IntStream.range(0, n).filter(v -> !graph.isContracted(v)).toArray();
+        int count = candidates.length;
+
+        long[] score = new long[n];
+        int[] subtree = new int[n];
+        Random random = new Random(ORDER_SEED);
+        SearchSpace space = graph.acquireSearchSpace();
+        try {
+            for (int sample = 0; sample < Math.min(ORDER_SAMPLES, count); sample++) {
+                space.init(candidates[random.nextInt(count)]);
+                while (space.settleNext(Double.POSITIVE_INFINITY) >= 0) {
+                    // 확정 순서만 기록
+                }
+                int settled = space.settledCount();
+                for (int i = 0; i < settled; i++) subtree[space.settledNode(i)] = 1;
+                // 확정 역순으로 하위 트리 크기를 선행 노드에 누적
+                for (int i = settled - 1; i >= 0; i--) {
+                    int v = space.settledNode(i);
+                    score[v] += subtree[v];
+                    int pred = space.predecessor(v);
+                    if (pred >= 0) subtree[pred] += subtree[v];
+                }
+            }
+        } finally {
+            graph.releaseSearchSpace(space);
+        }
+
+        // 점수 내림차순, 같으면 차수 내림차순
+        Integer[] sorted = new Integer[count];
+        for (int i = 0; i < count; i++) sorted[i] = i;
+        Arrays.sort(sorted, (a, b) -> {
+            long sa = score[candidates[a]], sb = score[candidates[b]];
+            if (sa != sb) return Long.compare(sb, sa);
+            int da = graph.degree(candidates[a]), db = graph.degree(candidates[b]);
+            if (da != db) return Integer.compare(db, da);
+            return Integer.compare(candidates[a], candidates[b]);
+        });
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) order[i] = candidates[sorted[i]];
+        return order;
+    }
+
+    // 가지치기 다익스트라 (확정한 노드의 간선 완화를 호출자가 결정)
+    private static final class PrunedSearch {
+        private final double[] distance;
+        private final int[] reachedStamp;
+        private final int[] settledStamp;
+        private int stamp;
+
+        private double[] heapKeys = new double[256];
+        private int[] heapNodes = new int[256];
+        private int heapSize;
+
+        PrunedSearch(int n) {
+            this.distance = new double[n];
+            this.reachedStamp = new int[n];
+            this.settledStamp = new int[n];
+        }
+
+        void start(int root) {
+            stamp++;
+            heapSize = 0;
+            reach(root, 0.0);
+        }
+
+        double distance(int node) {
+            return reachedStamp[node] == stamp ? distance[node] : Double.POSITIVE_INFINITY;
+        }
+
+        int next() {
+            while (heapSize > 0) {
+                double key = heapKeys[0];
+                int node = heapNodes[0];
+                pop();
+                if (settledStamp[node] == stamp || key > distance[node]) continue;
+                settledStamp[node] = stamp;
+                return node;
+            }
+            return -1;
+        }
+
+        void relax(RoutingGraph graph, int node) {
+            double base = distance[node];
+            for (int e = graph.firstEdge(node), end = graph.endEdge(node); e < end; e++) {
+                int target = graph.edgeTarget(e);
+                double d = base + graph.edgeWeight(e);
+                if (d < distance(target)) reach(target, d);
+            }
+        }
+
+        private void reach(int node, double d) {
+            reachedStamp[node] = stamp;
+            distance[node] = d;
+            if (heapSize == heapKeys.length) {
+                heapKeys = Arrays.copyOf(heapKeys, heapSize * 2);
+                heapNodes = Arrays.copyOf(heapNodes, heapSize * 2);
+            }
+            int i = heapSize++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heapKeys[parent] <= d) break;
+                heapKeys[i] = heapKeys[parent];
+                heapNodes[i] = heapNodes[parent];
+                i = parent;
+            }
+            heapKeys[i] = d;
+            heapNodes[i] = node;
+        }
+
+        private void pop() {
+            heapSize--;
+            if (heapSize == 0) return;
+            double key = heapKeys[heapSize];
+            int node = heapNodes[heapSize];
+            int i = 0;
+            int half = heapSize >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child]) child++;
+                if (key <= heapKeys[child]) break;
+                heapKeys[i] = heapKeys[child];
+                heapNodes[i] = heapNodes[child];
+                i = child;
+            }
+            heapKeys[i] = key;
+            heapNodes[i] = node;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.trm.roadmate_backend.graph;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 문자열 ID ↔ 정수 ID 사전 (읽기 전용)
+ * - 모든 ID를 UTF-8 바이트 배열 하나에 이어 붙여 보관 (ID마다 String 객체를 두지 않음)
+ * - ID → 정수 조회는 오픈 어드레싱 해시 테이블 (int[] 하나, 박싱 없음)
+ * - 정수 → 문자열은 API 응답을 만들 때만 get()으로 생성
+ */
+public final class IdDictionary {
+
+    public static final IdDictionary EMPTY = new Builder(0).build();
+
+    private final byte[] data;
+    private final int[] offsets;  // ID i의 바이트는 [offsets[i], offsets[i + 1])
+    private final int[] table;    // 해시 슬롯 → ID + 1 (0이면 빈 슬롯)
+    private final int size;
+
+    private IdDictionary(byte[] data, int[] offsets, int[] table, int size) {
+        this.data = data;
+        this.offsets = offsets;
+        this.table = table;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** 정수 ID의 문자열 (API 경계에서만 사용) */
+    public String get(int id) {
+        return new String(data, offsets[id], offsets[id + 1] - offsets[id], StandardCharsets.UTF_8);
+    }
+
+    /** 문자열 ID의 정수 ID (없으면 -1) */
+    public int indexOf(String key) {
+        return lookup(data, offsets, table, key);
+    }
+
+    /** 사전이 차지하는 대략적인 메모리 (바이트) */
+    public long memoryBytes() {
+        return (long) data.length + (long) offsets.length * Integer.BYTES + (long) table.length * Integer.BYTES;
+    }
+
+    // ==================== 조회 공통 ====================
+
+    private static int lookup(byte[] data, int[] offsets, int[] table, String key) {
+        if (key == null || table.length == 0) return -1;
+        int mask = table.length - 1;
+        for (int slot = mix(key.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == 0) return -1;
+            if (matches(data, offsets[entry - 1], offsets[entry], key)) return entry - 1;
+        }
+    }
+
+    // 저장된 바이트와 문자열 비교 (ASCII는 할당 없이 바로 비교)
+    private static boolean matches(byte[] data, int from, int to, String key) {
+        int length = key.length();
+        if (to - from < length) return false;
+        for (int i = 0; i < length; i++) {
+            char c = key.charAt(i);
+            if (c >= 0x80) {
+                byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+                return Arrays.equals(data, from, to, bytes, 0, bytes.length);
+            }
+            if (data[from + i] != c) return false;
+        }
+        return to - from == length;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    // ==================== 생성기 ====================
+
+    /**
+     * 사전 생성기
+     * - add(): 이미 있으면 기존 정수 ID 반환 (노드처럼 중복을 합쳐야 하는 경우)
+     * - append(): 항상 새 정수 ID 부여 (링크처럼 위치가 곧 인덱스인 경우, 조회는 처음 추가된 ID)
+     */
+    public static final class Builder {
+
+        private byte[] data;
+        private int[] offsets;
+        private int[] hashes;
+        private int[] table;
+        private int size;
+
+        public Builder(int expected) {
+            int capacity = Math.max(expected, 16);
+            this.data = new byte[capacity * 12];
+            this.offsets = new int[capacity + 1];
+            this.hashes = new int[capacity];
+            this.table = new int[tableSize(capacity)];
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int indexOf(String key) {
+            return lookup(data, offsets, table, key);
+        }
+
+        public String get(int id) {
+            return new String(data, offsets[id], offsets[id + 1] - offsets[id], StandardCharsets.UTF_8);
+        }
+
+        public int add(String key) {
+            int existing = indexOf(key);
+            return existing >= 0 ? existing : append(key);
+        }
+
+        public int append(String key) {
+            byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+            return appendBytes(bytes, 0, bytes.length, key.hashCode(), indexOf(key) < 0);
+        }
+
+        /**
+         * order 순서로 다시 매긴 새 생성기를 반환합니다.
+         * @param order order[newId] = oldId
+         */
+        public Builder permute(int[] order) {
+            Builder permuted = new Builder(size);
+            for (int newId = 0; newId < size; newId++) {
+                int old = order[newId];
+                permuted.appendBytes(data, offsets[old], offsets[old + 1] - offsets[old], hashes[old], true);
+            }
+            return permuted;
+        }
+
+        public IdDictionary build() {
+            // 최종 크기에 맞춰 테이블을 다시 만들어 여유 공간을 줄임
+            int[] compactTable = new int[tableSize(size)];
+            for (int id = 0; id < size; id++) {
+                if (lookupSlot(table, hashes[id], id) >= 0) {
+                    insert(compactTable, hashes[id], id);
+                }
+            }
+            return new IdDictionary(Arrays.copyOf(data, offsets[size]), Arrays.copyOf(offsets, size + 1),
+                    compactTable, size);
+        }
+
+        private int appendBytes(byte[] source, int from, int length, int hash, boolean indexed) {
+            if (size == hashes.length) {
+                hashes = Arrays.copyOf(hashes, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2 + 1);
+            }
+            int start = offsets[size];
+            if (start + length > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, start + length));
+            }
+            System.arraycopy(source, from, data, start, length);
+            offsets[size + 1] = start + length;
+            hashes[size] = hash;
+
+            if (indexed) {
+                if ((size + 1) * 2 > table.length) {
+                    rehash(table.length * 2);
+                }
+                insert(table, hash, size);
+            }
+            return size++;
+        }
+
+        private void rehash(int capacity) {
+            int[] old = table;
+            table = new int[capacity];
+            for (int entry : old) {
+                if (entry != 0) insert(table, hashes[entry - 1], entry - 1);
+            }
+        }
+
+        // 테이블에 id가 들어 있으면 슬롯 번호, 아니면 -1 (append()로 중복 추가된 ID 제외용)
+        private static int lookupSlot(int[] table, int hash, int id) {
+            int mask = table.length - 1;
+            for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+                if (table[slot] == 0) return -1;
+                if (table[slot] == id + 1) return slot;
+            }
+        }
+
+        private static void insert(int[] table, int hash, int id) {
+            int mask = table.length - 1;
+            int slot = mix(hash) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = id + 1;
+        }
+
+        // 적재율 50% 이하가 되는 2의 거듭제곱
+        private static int tableSize(int count) {
+            return Integer.highestOneBit(Math.max(count, 8) * 2 - 1) << 1;
+        }
+    }
+}
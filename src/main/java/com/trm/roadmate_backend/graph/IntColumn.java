@@ -0,0 +1,74 @@
+package com.trm.roadmate_backend.graph;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 읽기 전용 int 배열 (힙 배열 또는 direct ByteBuffer)
+ * - 생성 후 값이 바뀌지 않으므로 여러 스레드가 잠금 없이 동시에 읽어도 안전
+ */
+abstract class IntColumn {
+
+    abstract int get(int index);
+
+    abstract int length();
+
+    /** 힙 밖에 할당한 바이트 수 (힙 배열이면 0) */
+    abstract long offHeapBytes();
+
+    static IntColumn of(int[] values, GraphStorage storage) {
+        return storage == GraphStorage.OFF_HEAP ? new Direct(values) : new Heap(values);
+    }
+
+    private static final class Heap extends IntColumn {
+        private final int[] values;
+
+        Heap(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        int get(int index) {
+            return values[index];
+        }
+
+        @Override
+        int length() {
+            return values.length;
+        }
+
+        @Override
+        long offHeapBytes() {
+            return 0;
+        }
+    }
+
+    private static final class Direct extends IntColumn {
+        private final ByteBuffer buffer;
+        private final int length;
+
+        Direct(int[] values) {
+            if (values.length > Integer.MAX_VALUE / Integer.BYTES) {
+                throw new IllegalStateException("Off-heap column too large: " + values.length);
+            }
+            this.length = values.length;
+            this.buffer = ByteBuffer.allocateDirect(values.length * Integer.BYTES).order(ByteOrder.nativeOrder());
+            buffer.asIntBuffer().put(values);
+        }
+
+        @Override
+        int get(int index) {
+            return buffer.getInt(index << 2);
+        }
+
+        @Override
+        int length() {
+            return length;
+        }
+
+        @Override
+        long offHeapBytes() {
+            return buffer.capacity();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.trm.roadmate_backend.graph;
+
+import java.util.Arrays;
+
+/**
+ * 링크 형상(WKT LINESTRING) 좌표를 하나의 배열에 모아 보관하는 저장소
+ * - 그래프 로딩 시 한 번만 파싱하여 채우고, 이후에는 읽기 전용
+ * - 링크 i의 좌표는 [offsets[i], offsets[i + 1]) 범위에 저장 (항상 시작 노드 → 끝 노드 방향)
+ * - 경로 조립 시 방향에 맞춰 구간을 잘라 RouteCoordinates로 일괄 복사
+ */
+public class LinkGeometryStore {
+
+    private final int[] offsets;
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    private LinkGeometryStore(int[] offsets, double[] latitudes, double[] longitudes) {
+        this.offsets = offsets;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+    }
+
+    public int linkCount() {
+        return offsets.length - 1;
+    }
+
+    public int pointCount(int link) {
+        return offsets[link + 1] - offsets[link];
+    }
+
+    /** 저장된 전체 좌표 수 */
+    public int totalPoints() {
+        return offsets[offsets.length - 1];
+    }
+
+    /**
+     * 링크 형상을 out에 이어 붙입니다.
+     * @param reversed true면 끝 노드 → 시작 노드 방향으로 복사
+     * @param skipFirst true면 첫 좌표 생략 (이전 링크의 끝점과 같은 경우)
+     */
+    public void appendTo(RouteCoordinates out, int link, boolean reversed, boolean skipFirst) {
+        int from = offsets[link];
+        int to = offsets[link + 1];
+        if (reversed) {
+            out.appendReversed(latitudes, longitudes, from, to - (skipFirst ? 1 : 0));
+        } else {
+            out.appendRange(latitudes, longitudes, from + (skipFirst ? 1 : 0), to);
+        }
+    }
+
+    // ==================== Builder ====================
+
+    public static class Builder {
+        private int[] offsets;
+        private double[] latitudes;
+        private double[] longitudes;
+        private int linkCount;
+        private int pointCount;
+
+        public Builder(int expectedLinks) {
+            this.offsets = new int[Math.max(expectedLinks, 1) + 1];
+            this.latitudes = new double[Math.max(expectedLinks, 1) * 4];
+            this.longitudes = new double[Math.max(expectedLinks, 1) * 4];
+        }
+
+        /**
+         * 링크 형상을 추가하고 링크 형상 인덱스를 반환합니다.
+         * @param reverse true면 좌표 순서를 뒤집어 저장 (WKT 방향이 시작/끝 노드와 반대인 경우)
+         */
+        public int add(double[] lats, double[] lons, int count, boolean reverse) {
+            ensurePointCapacity(pointCount + count);
+            for (int i = 0; i < count; i++) {
+                int src = reverse ? count - 1 - i : i;
+                latitudes[pointCount + i] = lats[src];
+                longitudes[pointCount + i] = lons[src];
+            }
+            pointCount += count;
+            return closeLink();
+        }
+
+        /** 형상 정보가 없는 링크는 두 끝점 좌표만 저장 */
+        public int addStraight(double startLat, double startLon, double endLat, double endLon) {
+            ensurePointCapacity(pointCount + 2);
+            latitudes[pointCount] = startLat;
+            longitudes[pointCount] = startLon;
+            latitudes[pointCount + 1] = endLat;
+            longitudes[pointCount + 1] = endLon;
+            pointCount += 2;
+            return closeLink();
+        }
+
+        public LinkGeometryStore build() {
+            return new LinkGeometryStore(
+                    Arrays.copyOf(offsets, linkCount + 1),
+                    Arrays.copyOf(latitudes, pointCount),
+                    Arrays.copyOf(longitudes, pointCount)
+            );
+        }
+
+        private int closeLink() {
+            if (linkCount + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            linkCount++;
+            offsets[linkCount] = pointCount;
+            return linkCount - 1;
+        }
+
+        private void ensurePointCapacity(int required) {
+            if (required <= latitudes.length) return;
+            int newCapacity = Math.max(required, latitudes.length * 2);
+            latitudes = Arrays.copyOf(latitudes, newCapacity);
+            longitudes = Arrays.copyOf(longitudes, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.trm.roadmate_backend.graph;
+
+import com.trm.roadmate_backend.dto.MeetingObjective;
+
+import java.util.Arrays;
+
+/**
+ * 다중 출발점 동시 다익스트라 (모임 장소 탐색)
+ * - 참가자마다 탐색 공간(거리 배열) 하나씩, 항상 힙 최솟값이 가장 작은 탐색을 한 단계씩 진행 → 모든 탐색의 반경이 함께 커짐
+ * - 모든 탐색이 확정한 노드가 후보 (MAX: 거리 최댓값, SUM: 거리 합)
+ * - 아직 후보가 아닌 노드의 하한이 현재 최선 이상이 되면 즉시 종료 (참가자 수만큼의 전체 탐색 없이 최적 보장)
+ *   - MAX: 확정하지 않은 탐색 i에 대해 d_i(v) ≥ 힙 최솟값 r 이므로 하한 = r
+ *   - SUM: 일부만 확정한 노드는 (확정된 거리 합) + (남은 탐색 수 × r), 아무도 확정하지 않은 노드는 참가자 수 × r
+ */
+public final class MultiSourceSearch {
+
+    private MultiSourceSearch() {
+    }
+
+    /**
+     * 출발점을 넣어 둔 탐색 공간들로 모임 노드를 찾습니다. (탐색 공간에는 각 참가자의 최단 경로 트리가 남음)
+     * @param spaces 참가자별 탐색 공간 (reset + addSource까지 마친 상태)
+     * @return 모임 노드, 모든 참가자가 닿는 노드가 없으면 -1
+     */
+    public static int findMeetingNode(SearchSpace[] spaces, MeetingObjective objective, SearchLimits limits) {
+        int k = spaces.length;
+        boolean sum = objective == MeetingObjective.SUM;
+
+        // SUM: 확정한 탐색 수(1 ~ k-1)별 (확정 거리 합, 노드) 최소 힙 (지연 삭제: 꺼낼 때 확정 수가 바뀌었으면 버림)
+        NodeHeap[] partial = new NodeHeap[sum ? k : 0];
+        for (int c = 1; c < partial.length; c++) partial[c] = new NodeHeap();
+
+        double best = Double.POSITIVE_INFINITY;
+        int bestNode = -1;
+
+        while (true) {
+            // 힙 최솟값이 가장 작은 탐색
+            int next = -1;
+            double radius = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < k; i++) {
+                double key = spaces[i].minKey();
+                if (key < radius) {
+                    radius = key;
+                    next = i;
+                }
+            }
+            if (next < 0) break; // 모든 탐색 종료
+
+            double lowerBound = sum ? Math.min(k * radius, partialBound(spaces, partial, radius)) : radius;
+            if (best <= lowerBound) break;
+
+            int node = spaces[next].settleNext(Double.POSITIVE_INFINITY);
+            if (node < 0) continue;
+            limits.check();
+
+            int settledBy = 0;
+            double total = 0.0;
+            double max = 0.0;
+            for (SearchSpace space : spaces) {
+                if (space.isSettled(node)) {
+                    settledBy++;
+                    double d = space.distance(node);
+                    total += d;
+                    max = Math.max(max, d);
+                }
+            }
+            if (settledBy == k) {
+                double value = sum ? total : max;
+                if (value < best) {
+                    best = value;
+                    bestNode = node;
+                }
+            } else if (sum) {
+                partial[settledBy].push(node, total);
+            }
+        }
+        return bestNode;
+    }
+
+    // 일부 탐색만 확정한 노드들의 SUM 하한
+    private static double partialBound(SearchSpace[] spaces, NodeHeap[] partial, double radius) {
+        int k = spaces.length;
+        double bound = Double.POSITIVE_INFINITY;
+        for (int c = 1; c < k; c++) {
+            NodeHeap heap = partial[c];
+            while (!heap.isEmpty() && settledCount(spaces, heap.peekNode()) != c) {
+                heap.pop();
+            }
+            if (!heap.isEmpty()) {
+                bound = Math.min(bound, heap.peekKey() + (k - c) * radius);
+            }
+        }
+        return bound;
+    }
+
+    private static int settledCount(SearchSpace[] spaces, int node) {
+        int count = 0;
+        for (SearchSpace space : spaces) {
+            if (space.isSettled(node)) count++;
+        }
+        return count;
+    }
+
+    // (키, 노드) 최소 힙
+    private static final class NodeHeap {
+        private double[] keys = new double[64];
+        private int[] nodes = new int[64];
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        double peekKey() {
+            return keys[0];
+        }
+
+        int peekNode() {
+            return nodes[0];
+        }
+
+        void push(int node, double key) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (keys[parent] <= key) break;
+                keys[i] = keys[parent];
+                nodes[i] = nodes[parent];
+                i = parent;
+            }
+            keys[i] = key;
+            nodes[i] = node;
+        }
+
+        void pop() {
+            size--;
+            double key = keys[size];
+            int node = nodes[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && keys[child + 1] < keys[child]) child++;
+                if (key <= keys[child]) break;
+                keys[i] = keys[child];
+                nodes[i] = nodes[child];
+                i = child;
+            }
+            keys[i] = key;
+            nodes[i] = node;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.trm.roadmate_backend.graph;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 보행 네트워크 가져오기 한 번으로 바뀐 노드/링크 요약 (그래프 갱신 범위 결정용)
+ * - 추가/갱신/삭제 행 수 + 바뀐 행이 속한 지역(시군구 코드)
+ * - 바뀐 행이 없으면 그래프를 다시 만들 필요 없음, 지역 그래프 모드는 바뀐 지역만 다시 불러오면 됨
+ * - 가져오기 작업 하나는 한 스레드에서 기록하고, merge()로 여러 작업을 합침
+ */
+public class NetworkChangeSet {
+
+    private int insertedNodes;
+    private int updatedNodes;
+    private int deletedNodes;
+    private int insertedLinks;
+    private int updatedLinks;
+    private int deletedLinks;
+    private final Set<String> regions = new HashSet<>();
+
+    public void nodesInserted(int count, String region) {
+        insertedNodes += count;
+        addRegion(region);
+    }
+
+    public void nodesUpdated(int count, String region) {
+        updatedNodes += count;
+        addRegion(region);
+    }
+
+    public void nodesDeleted(int count, Collection<String> regions) {
+        deletedNodes += count;
+        if (count > 0) regions.forEach(this::addRegion);
+    }
+
+    public void linksInserted(int count, String region) {
+        insertedLinks += count;
+        addRegion(region);
+    }
+
+    public void linksUpdated(int count, String region) {
+        updatedLinks += count;
+        addRegion(region);
+    }
+
+    public void linksDeleted(int count, Collection<String> regions) {
+        deletedLinks += count;
+        if (count > 0) regions.forEach(this::addRegion);
+    }
+
+    private void addRegion(String region) {
+        if (region != null) regions.add(region);
+    }
+
+    /** other의 변경 내용을 더함 (시 전체 가져오기에서 시군구 작업 합산) */
+    public synchronized void merge(NetworkChangeSet other) {
+        insertedNodes += other.insertedNodes;
+        updatedNodes += other.updatedNodes;
+        deletedNodes += other.deletedNodes;
+        insertedLinks += other.insertedLinks;
+        updatedLinks += other.updatedLinks;
+        deletedLinks += other.deletedLinks;
+        regions.addAll(other.regions);
+    }
+
+    public boolean isEmpty() {
+        return insertedNodes + updatedNodes + deletedNodes + insertedLinks + updatedLinks + deletedLinks == 0;
+    }
+
+    /** 바뀐 행이 속한 지역 (시군구 코드) */
+    public Set<String> regions() {
+        return Collections.unmodifiableSet(regions);
+    }
+
+    public int insertedNodes() {
+        return insertedNodes;
+    }
+
+    public int updatedNodes() {
+        return updatedNodes;
+    }
+
+    public int deletedNodes() {
+        return deletedNodes;
+    }
+
+    public int insertedLinks() {
+        return insertedLinks;
+    }
+
+    public int updatedLinks() {
+        return updatedLinks;
+    }
+
+    public int deletedLinks() {
+        return deletedLinks;
+    }
+
+    @Override
+    public String toString() {
+        return "nodes +" + insertedNodes + " ~" + updatedNodes + " -" + deletedNodes
+                + ", links +" + insertedLinks + " ~" + updatedLinks + " -" + deletedLinks
+                + ", regions " + regions;
+    }
+}
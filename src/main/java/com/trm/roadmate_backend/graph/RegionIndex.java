@@ -0,0 +1,182 @@
+package com.trm.roadmate_backend.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 좌표 → 지역(시군구 코드) 색인
+ * - 위경도를 CELL_DEGREES(약 1km) 격자로 나누고, 칸마다 노드가 가장 많은 지역을 기록
+ * - 지역 그래프를 불러오기 전에 요청 좌표가 어느 지역에 속하는지 결정하는 데 사용 (DB 집계 결과로 생성, 수 KB 수준)
+ * - 노드 ID → 지역도 보관 (IdDictionary + 지역 번호 short 배열, 노드당 20바이트 안팎)
+ *   → 탐색 요청마다 노드 지역을 DB나 불러온 지역 그래프에서 찾지 않음
+ * - 지역별 경계 노드도 함께 보관 → 색인과 경계 노드를 하나의 불변 스냅샷으로 교체 (둘이 서로 다른 시점의 데이터가 되지 않음)
+ */
+public class RegionIndex {
+
+    public static final double CELL_DEGREES = 0.01;
+    private static final int MAX_SEARCH_RING = 3; // 빈 칸이면 주변 몇 칸까지 찾아볼지
+
+    public static final RegionIndex EMPTY = new Builder().build();
+
+    private final Map<Long, String> cellRegions;
+    private final Map<String, Long> regionNodeCounts;
+    private final Map<String, Set<String>> boundaryNodes;
+
+    // --- 노드 → 지역: nodeRegions[노드 정수 ID] = regionNames의 위치 ---
+    private final IdDictionary nodeIds;
+    private final short[] nodeRegions;
+    private final String[] regionNames;
+
+    private RegionIndex(Map<Long, String> cellRegions, Map<String, Long> regionNodeCounts,
+                        Map<String, Set<String>> boundaryNodes,
+                        IdDictionary nodeIds, short[] nodeRegions, String[] regionNames) {
+        this.cellRegions = cellRegions;
+        this.regionNodeCounts = regionNodeCounts;
+        this.boundaryNodes = boundaryNodes;
+        this.nodeIds = nodeIds;
+        this.nodeRegions = nodeRegions;
+        this.regionNames = regionNames;
+    }
+
+    /** 노드가 속한 지역 (노드 자신의 sgg_cd, 색인에 없는 노드면 null) */
+    public String regionOf(String nodeId) {
+        int node = nodeIds.indexOf(nodeId);
+        return node >= 0 ? regionNames[nodeRegions[node]] : null;
+    }
+
+    /** 색인에 지역이 기록된 노드 수 */
+    public int indexedNodeCount() {
+        return nodeIds.size();
+    }
+
+    /** 노드 → 지역 색인이 차지하는 대략적인 메모리 (바이트) */
+    public long nodeIndexMemoryBytes() {
+        return nodeIds.memoryBytes() + (long) nodeRegions.length * Short.BYTES;
+    }
+
+    /** 좌표가 속한 지역 (주변에 노드가 없으면 null) */
+    public String regionAt(double latitude, double longitude) {
+        int latCell = cellOf(latitude);
+        int lonCell = cellOf(longitude);
+        for (int ring = 0; ring <= MAX_SEARCH_RING; ring++) {
+            for (int dLat = -ring; dLat <= ring; dLat++) {
+                for (int dLon = -ring; dLon <= ring; dLon++) {
+                    if (Math.max(Math.abs(dLat), Math.abs(dLon)) != ring) continue; // 고리 테두리만
+                    String region = cellRegions.get(key(latCell + dLat, lonCell + dLon));
+                    if (region != null) return region;
+                }
+            }
+        }
+        return null;
+    }
+
+    public Set<String> regions() {
+        return regionNodeCounts.keySet();
+    }
+
+    public long nodeCount(String region) {
+        return regionNodeCounts.getOrDefault(region, 0L);
+    }
+
+    public int cellCount() {
+        return cellRegions.size();
+    }
+
+    /** 지역 그래프에 함께 실리는 경계 노드 ID (그 지역 노드 중 다른 지역 링크와 닿는 노드 + 지역 링크가 닿는 다른 지역 노드) */
+    public Set<String> boundaryNodeIds(String region) {
+        return boundaryNodes.getOrDefault(region, Collections.emptySet());
+    }
+
+    /** 경계 노드가 있는 지역 */
+    public Set<String> boundaryRegions() {
+        return boundaryNodes.keySet();
+    }
+
+    public int boundaryNodeCount() {
+        return boundaryNodes.values().stream().mapToInt(Set::size).sum();
+    }
+
+    public static int cellOf(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long key(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    // ==================== 생성기 ====================
+
+    public static class Builder {
+
+        private final Map<Long, String> cellRegions = new HashMap<>();
+        private final Map<Long, Long> cellCounts = new HashMap<>();
+        private final Map<String, Long> regionNodeCounts = new HashMap<>();
+        private final Map<String, Set<String>> boundaryNodes = new HashMap<>();
+        private final IdDictionary.Builder nodeIds;
+        private short[] nodeRegions;
+        private final List<String> regionNames = new ArrayList<>();
+        private final Map<String, Short> regionNumbers = new HashMap<>();
+
+        public Builder() {
+            this(0);
+        }
+
+        /** @param expectedNodes addNode()로 추가할 노드 수 (미리 공간 확보) */
+        public Builder(int expectedNodes) {
+            this.nodeIds = new IdDictionary.Builder(expectedNodes);
+            this.nodeRegions = new short[Math.max(expectedNodes, 16)];
+        }
+
+        /** 격자 칸 하나의 지역별 노드 수를 추가합니다. (같은 칸에서 노드가 더 많은 지역이 그 칸을 차지) */
+        public Builder add(String region, int latCell, int lonCell, long nodeCount) {
+            long key = key(latCell, lonCell);
+            if (nodeCount > cellCounts.getOrDefault(key, 0L)) {
+                cellCounts.put(key, nodeCount);
+                cellRegions.put(key, region);
+            }
+            regionNodeCounts.merge(region, nodeCount, Long::sum);
+            return this;
+        }
+
+        /** 노드 지역과 링크 지역이 다른 링크 끝 노드 → 두 지역 그래프 모두에 포함됨 */
+        public Builder addBoundaryNode(String nodeId, String nodeRegion, String linkRegion) {
+            boundaryNodes.computeIfAbsent(nodeRegion, k -> new HashSet<>()).add(nodeId);
+            boundaryNodes.computeIfAbsent(linkRegion, k -> new HashSet<>()).add(nodeId);
+            return this;
+        }
+
+        /** 노드 하나의 지역을 기록합니다. (같은 노드를 다시 추가하면 나중 지역으로 덮어씀) */
+        public Builder addNode(String nodeId, String region) {
+            Short number = regionNumbers.get(region);
+            if (number == null) {
+                if (regionNames.size() > Short.MAX_VALUE) {
+                    throw new IllegalStateException("Too many regions: " + regionNames.size());
+                }
+                number = (short) regionNames.size();
+                regionNumbers.put(region, number);
+                regionNames.add(region);
+            }
+            int node = nodeIds.add(nodeId);
+            if (node == nodeRegions.length) {
+                nodeRegions = Arrays.copyOf(nodeRegions, node * 2);
+            }
+            nodeRegions[node] = number;
+            return this;
+        }
+
+        public RegionIndex build() {
+            Map<String, Set<String>> boundaries = new HashMap<>();
+            boundaryNodes.forEach((region, ids) -> boundaries.put(region, Set.copyOf(ids)));
+            return new RegionIndex(Collections.unmodifiableMap(new HashMap<>(cellRegions)),
+                    Collections.unmodifiableMap(new HashMap<>(regionNodeCounts)),
+                    Collections.unmodifiableMap(boundaries),
+                    nodeIds.build(), Arrays.copyOf(nodeRegions, nodeIds.size()), regionNames.toArray(new String[0]));
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.trm.roadmate_backend.graph;
+
+import java.util.Arrays;
+
+/**
+ * 목적지 기준 역방향 최단 경로 트리 (산책 중 경로 재탐색용)
+ * - 목적지에서 반경 안의 노드까지 한 번 탐색한 결과(거리 + 선행 노드/간선)를 확정 노드만큼만 떼어 보관
+ * - 도로는 양방향이므로 "목적지 → 노드" 트리의 선행 포인터를 거꾸로 따라가면 "노드 → 목적지" 최단 경로
+ * - 현재 위치 스냅도 트리 안의 노드(+ 축약된 체인 내부 노드)만 격자 색인으로 찾음 → 재탐색 없이 마이크로초 단위 응답
+ */
+public class RerouteTree implements ShortestPathTree {
+
+    private static final double SNAP_CELL_DEGREES = 0.001; // 스냅 격자 칸 크기 (약 100m)
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    private final RoutingGraph graph;
+    private final int destination;
+    private final double radius;
+
+    // --- 트리 (노드 번호 오름차순, 조회는 이진 탐색) ---
+    private final int[] nodes;
+    private final double[] distances;
+    private final int[] predNodes;
+    private final int[] predEdges;
+
+    // --- 스냅 격자 (칸 키 오름차순 CSR) ---
+    private final long[] cellKeys;
+    private final int[] cellOffsets;
+    private final int[] cellNodes;
+
+    private RerouteTree(RoutingGraph graph, int destination, double radius, int[] nodes, double[] distances,
+                        int[] predNodes, int[] predEdges, long[] cellKeys, int[] cellOffsets, int[] cellNodes) {
+        this.graph = graph;
+        this.destination = destination;
+        this.radius = radius;
+        this.nodes = nodes;
+        this.distances = distances;
+        this.predNodes = predNodes;
+        this.predEdges = predEdges;
+        this.cellKeys = cellKeys;
+        this.cellOffsets = cellOffsets;
+        this.cellNodes = cellNodes;
+    }
+
+    /**
+     * 목적지에서 시작해 radius까지 확정한 탐색 공간을 트리로 떼어냅니다.
+     * (탐색 공간은 반납해도 되며, 트리는 확정된 노드만 보관)
+     */
+    public static RerouteTree capture(SearchSpace space, int destination, double radius) {
+        RoutingGraph graph = space.graph();
+        int count = space.settledCount();
+        int[] nodes = new int[count];
+        for (int i = 0; i < count; i++) nodes[i] = space.settledNode(i);
+        Arrays.sort(nodes);
+
+        double[] distances = new double[count];
+        int[] predNodes = new int[count];
+        int[] predEdges = new int[count];
+        for (int i = 0; i < count; i++) {
+            distances[i] = space.distance(nodes[i]);
+            predNodes[i] = space.predecessor(nodes[i]);
+            predEdges[i] = space.predecessorEdge(nodes[i]);
+        }
+
+        // 스냅 후보: 트리 노드 + 트리 노드에 닿은 체인의 내부 노드
+        int[] candidates = Arrays.copyOf(nodes, Math.max(count * 2, 16));
+        int candidateCount = count;
+        boolean[] seenSegment = new boolean[graph.segmentCount()];
+        for (int node : nodes) {
+            for (int e = graph.firstEdge(node), end = graph.endEdge(node); e < end; e++) {
+                int segment = graph.edgeSegmentRef(e) >>> 1;
+                if (seenSegment[segment]) continue;
+                seenSegment[segment] = true;
+                for (int i = 0; i + 1 < graph.segmentLength(segment); i++) {
+                    if (candidateCount == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                    }
+                    candidates[candidateCount++] = graph.linkRefTarget(graph.segmentLinkRef(segment, i));
+                }
+            }
+        }
+
+        // 칸 키 순으로 정렬한 뒤 CSR로 묶음
+        long[] keyed = new long[candidateCount];
+        for (int i = 0; i < candidateCount; i++) {
+            int node = candidates[i];
+            keyed[i] = cellKey(graph.latitude(node), graph.longitude(node));
+        }
+        Integer[] order = new Integer[candidateCount];
+        for (int i = 0; i < candidateCount; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Long.compare(keyed[a], keyed[b]));
+
+        long[] cellKeys = new long[candidateCount];
+        int[] cellOffsets = new int[candidateCount + 1];
+        int[] cellNodes = new int[candidateCount];
+        int cells = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            long key = keyed[order[i]];
+            if (cells == 0 || cellKeys[cells - 1] != key) {
+                cellKeys[cells] = key;
+                cellOffsets[cells] = i;
+                cells++;
+            }
+            cellNodes[i] = candidates[order[i]];
+        }
+        cellOffsets[cells] = candidateCount;
+
+        return new RerouteTree(graph, destination, radius, nodes, distances, predNodes, predEdges,
+                Arrays.copyOf(cellKeys, cells), Arrays.copyOf(cellOffsets, cells + 1), cellNodes);
+    }
+
+    public RoutingGraph graph() {
+        return graph;
+    }
+
+    /** 목적지 노드 */
+    public int destination() {
+        return destination;
+    }
+
+    /** 트리를 만든 탐색 반경 (미터) */
+    public double radius() {
+        return radius;
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    /** 트리가 차지하는 대략적인 메모리 (바이트) */
+    public long memoryBytes() {
+        return (long) nodes.length * (Integer.BYTES * 3 + Double.BYTES)
+                + (long) cellKeys.length * (Long.BYTES + Integer.BYTES) + (long) cellNodes.length * Integer.BYTES;
+    }
+
+    // ==================== 트리 조회 ====================
+
+    @Override
+    public double distance(int node) {
+        int i = Arrays.binarySearch(nodes, node);
+        return i >= 0 ? distances[i] : Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public int predecessor(int node) {
+        int i = Arrays.binarySearch(nodes, node);
+        return i >= 0 ? predNodes[i] : -1;
+    }
+
+    @Override
+    public int predecessorEdge(int node) {
+        int i = Arrays.binarySearch(nodes, node);
+        return i >= 0 ? predEdges[i] : -1;
+    }
+
+    // ==================== 스냅 ====================
+
+    /**
+     * 좌표에서 maxDistance(미터) 안의 가장 가까운 트리 노드 (축약된 체인 내부 노드 포함)
+     * @return 없으면 -1 (트리 밖으로 벗어남)
+     */
+    public int snap(double latitude, double longitude, double maxDistance) {
+        int latCell = cellOf(latitude);
+        int lonCell = cellOf(longitude);
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        int rings = (int) Math.ceil(maxDistance / (SNAP_CELL_DEGREES * METERS_PER_DEGREE * Math.max(cosLat, 0.1)));
+
+        int nearest = -1;
+        double best = maxDistance * maxDistance;
+        for (int dLat = -rings; dLat <= rings; dLat++) {
+            for (int dLon = -rings; dLon <= rings; dLon++) {
+                int cell = Arrays.binarySearch(cellKeys, key(latCell + dLat, lonCell + dLon));
+                if (cell < 0) continue;
+                for (int i = cellOffsets[cell]; i < cellOffsets[cell + 1]; i++) {
+                    int node = cellNodes[i];
+                    double dy = (graph.latitude(node) - latitude) * METERS_PER_DEGREE;
+                    double dx = (graph.longitude(node) - longitude) * METERS_PER_DEGREE * cosLat;
+                    double squared = dx * dx + dy * dy;
+                    if (squared <= best) {
+                        best = squared;
+                        nearest = node;
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    private static int cellOf(double degrees) {
+        return (int) Math.floor(degrees / SNAP_CELL_DEGREES);
+    }
+
+    private static long cellKey(double latitude, double longitude) {
+        return key(cellOf(latitude), cellOf(longitude));
+    }
+
+    private static long key(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,151 @@
+package com.trm.roadmate_backend.graph;
+
+import com.trm.roadmate_backend.dto.PathNode;
+import com.trm.roadmate_backend.util.PolylineEncoder;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.simplify.DouglasPeuckerLineSimplifier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 경로 좌표를 위도/경도 배열로 보관하는 버퍼
+ * - PathNode 객체를 만들지 않고 그래프 좌표 배열 / 링크 형상 저장소에서 바로 채움
+ * - JSON(PathNode 목록), Encoded Polyline, 컬럼형 배열로 변환 가능
+ */
+public class RouteCoordinates {
+
+    private static final double METERS_PER_DEGREE = 111_320.0; // 위도 1도당 거리 (근사값)
+
+    private double[] latitudes;
+    private double[] longitudes;
+    private int size;
+
+    public RouteCoordinates(int capacity) {
+        this.latitudes = new double[Math.max(capacity, 2)];
+        this.longitudes = new double[Math.max(capacity, 2)];
+    }
+
+    public static RouteCoordinates empty() {
+        return new RouteCoordinates(0);
+    }
+
+    public void add(double latitude, double longitude) {
+        ensureCapacity(size + 1);
+        latitudes[size] = latitude;
+        longitudes[size] = longitude;
+        size++;
+    }
+
+    /**
+     * 다른 경로의 좌표를 이어 붙입니다.
+     * @param skipFirst true면 첫 좌표 생략 (이전 구간의 끝점과 같은 경우)
+     */
+    public void append(RouteCoordinates other, boolean skipFirst) {
+        int from = skipFirst ? 1 : 0;
+        int count = other.size - from;
+        if (count <= 0) return;
+
+        ensureCapacity(size + count);
+        System.arraycopy(other.latitudes, from, latitudes, size, count);
+        System.arraycopy(other.longitudes, from, longitudes, size, count);
+        size += count;
+    }
+
+    /** 원본 배열의 [from, to) 구간을 순서대로 일괄 복사 */
+    public void appendRange(double[] srcLatitudes, double[] srcLongitudes, int from, int to) {
+        int count = to - from;
+        if (count <= 0) return;
+
+        ensureCapacity(size + count);
+        System.arraycopy(srcLatitudes, from, latitudes, size, count);
+        System.arraycopy(srcLongitudes, from, longitudes, size, count);
+        size += count;
+    }
+
+    /** 원본 배열의 [from, to) 구간을 역순으로 복사 (to - 1 → from) */
+    public void appendReversed(double[] srcLatitudes, double[] srcLongitudes, int from, int to) {
+        int count = to - from;
+        if (count <= 0) return;
+
+        ensureCapacity(size + count);
+        for (int i = to - 1; i >= from; i--) {
+            latitudes[size] = srcLatitudes[i];
+            longitudes[size] = srcLongitudes[i];
+            size++;
+        }
+    }
+
+    /**
+     * Douglas-Peucker 알고리즘으로 좌표를 단순화한 새 RouteCoordinates를 반환합니다. (JTS 사용)
+     * 경도는 평균 위도의 cos 값으로 보정하여 허용 오차를 미터 단위로 근사합니다.
+     * @param toleranceMeters 허용 오차 (미터). 0 이하이면 그대로 반환
+     */
+    public RouteCoordinates simplify(double toleranceMeters) {
+        if (toleranceMeters <= 0 || size < 3) return this;
+
+        double meanLat = 0.0;
+        for (int i = 0; i < size; i++) {
+            meanLat += latitudes[i];
+        }
+        double lonScale = Math.cos(Math.toRadians(meanLat / size));
+
+        Coordinate[] points = new Coordinate[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = new Coordinate(longitudes[i] * lonScale, latitudes[i]);
+        }
+
+        Coordinate[] simplified = DouglasPeuckerLineSimplifier.simplify(points, toleranceMeters / METERS_PER_DEGREE);
+
+        RouteCoordinates result = new RouteCoordinates(simplified.length);
+        for (Coordinate c : simplified) {
+            result.add(c.y, c.x / lonScale);
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public List<PathNode> toPathNodes() {
+        List<PathNode> pathNodes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            pathNodes.add(new PathNode(latitudes[i], longitudes[i]));
+        }
+        return pathNodes;
+    }
+
+    public String toPolyline(int precision) {
+        return PolylineEncoder.encode(latitudes, longitudes, size, precision);
+    }
+
+    public double[] roundedLatitudes(int precision) {
+        return round(latitudes, precision);
+    }
+
+    public double[] roundedLongitudes(int precision) {
+        return round(longitudes, precision);
+    }
+
+    private double[] round(double[] values, int precision) {
+        double factor = Math.pow(10, precision);
+        double[] rounded = new double[size];
+        for (int i = 0; i < size; i++) {
+            rounded[i] = Math.round(values[i] * factor) / factor;
+        }
+        return rounded;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= latitudes.length) return;
+        int newCapacity = Math.max(required, latitudes.length * 2);
+        latitudes = Arrays.copyOf(latitudes, newCapacity);
+        longitudes = Arrays.copyOf(longitudes, newCapacity);
+    }
+}
@@ -0,0 +1,321 @@
+package com.trm.roadmate_backend.graph;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 경로 탐색용 인메모리 그래프 (읽기 전용 스냅샷)
+ * - 노드: 밀집 인덱스 0..nodeCount-1, 좌표는 위도/경도 배열
+ * - 노드/링크 ID 문자열은 IdDictionary에만 보관하고, 탐색은 정수 인덱스로만 수행 (문자열은 응답 생성 시에만 만듦)
+ * - 간선: CSR(Compressed Sparse Row) 형식. 노드 u의 간선은 [firstEdge[u], firstEdge[u + 1])
+ * - 간선은 세그먼트(연속된 링크 묶음)를 가리킴 (edgeSegmentRef = 세그먼트 인덱스 << 1 | 역방향 비트)
+ *   → 축약하지 않은 그래프에서는 세그먼트 = 링크 1개
+ *   → 차수 2 체인을 축약한 그래프에서는 체인 전체가 세그먼트 1개이고, 체인 내부 노드는 간선이 없음
+ * - 노드별 연결 요소 번호를 함께 보관하여 도달 불가능한 탐색을 미리 차단
+ * - CSR 간선과 좌표 배열은 힙 배열 또는 힙 밖 메모리(direct ByteBuffer)에 둘 수 있음 (GraphStorage)
+ * - 재로딩 시 새 스냅샷을 만들어 통째로 교체하므로 탐색 중에는 잠금이 필요 없음
+ */
+public class RoutingGraph {
+
+    public static final RoutingGraph EMPTY = new RoutingGraph(
+            IdDictionary.EMPTY, new double[0], new double[0], new boolean[0],
+            new int[]{0}, new int[0], new double[0], new int[0],
+            IdDictionary.EMPTY, new int[0], new int[0], new double[0],
+            new int[]{0}, new int[0], new double[0],
+            new int[0], new int[0], new double[0],
+            new LinkGeometryStore.Builder(0).build(), ConnectedComponents.empty(), GraphStorage.HEAP);
+
+    // --- 노드 ---
+    private final IdDictionary nodeIds;
+    private final DoubleColumn latitudes;
+    private final DoubleColumn longitudes;
+    private final boolean[] virtualNodes;
+
+    // --- 간선 (CSR, 탐색 대상) ---
+    private final IntColumn firstEdge;
+    private final IntColumn edgeTarget;
+    private final DoubleColumn edgeWeight;
+    private final IntColumn edgeSegmentRef;
+    private final GraphStorage storage;
+
+    // --- 링크 (원본) ---
+    private final IdDictionary linkIds;
+    private final int[] linkStart;
+    private final int[] linkEnd;
+    private final double[] linkLength;
+
+    // --- 세그먼트: 세그먼트 g의 링크 참조는 [segmentOffsets[g], segmentOffsets[g + 1]) (시작 → 끝 방향) ---
+    private final int[] segmentOffsets;
+    private final int[] segmentLinkRefs;
+    private final double[] segmentWeight;
+
+    // --- 체인 내부 노드 (축약된 노드) ---
+    private final int[] chainSegment;   // 속한 세그먼트 (탐색 그래프에 남은 노드는 -1)
+    private final int[] chainIndex;     // 세그먼트 시작 노드로부터 몇 번째 링크 뒤에 있는지
+    private final double[] chainOffset; // 세그먼트 시작 노드로부터의 거리 (미터)
+
+    private final LinkGeometryStore geometry;
+
+    // --- 연결 요소 ---
+    private final ConnectedComponents components;
+
+    // 탐색 작업 공간 재사용 풀 (스냅샷마다 별도)
+    // 동시에 탐색하는 스레드 수만큼만 보관하고, 부하가 몰렸을 때 더 만든 작업 공간은 반납 시 버림
+    static final int MAX_POOLED_SEARCH_SPACES = Runtime.getRuntime().availableProcessors() * 2;
+    private final ConcurrentLinkedDeque<SearchSpace> searchSpaces = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger pooledSearchSpaces = new AtomicInteger(); // ConcurrentLinkedDeque.size()는 O(n)
+
+    RoutingGraph(IdDictionary nodeIds,
+                 double[] latitudes, double[] longitudes, boolean[] virtualNodes,
+                 int[] firstEdge, int[] edgeTarget, double[] edgeWeight, int[] edgeSegmentRef,
+                 IdDictionary linkIds, int[] linkStart, int[] linkEnd, double[] linkLength,
+                 int[] segmentOffsets, int[] segmentLinkRefs, double[] segmentWeight,
+                 int[] chainSegment, int[] chainIndex, double[] chainOffset,
+                 LinkGeometryStore geometry, ConnectedComponents components, GraphStorage storage) {
+        this.nodeIds = nodeIds;
+        this.latitudes = DoubleColumn.of(latitudes, storage);
+        this.longitudes = DoubleColumn.of(longitudes, storage);
+        this.virtualNodes = virtualNodes;
+        this.firstEdge = IntColumn.of(firstEdge, storage);
+        this.edgeTarget = IntColumn.of(edgeTarget, storage);
+        this.edgeWeight = DoubleColumn.of(edgeWeight, storage);
+        this.edgeSegmentRef = IntColumn.of(edgeSegmentRef, storage);
+        this.storage = storage;
+        this.linkIds = linkIds;
+        this.linkStart = linkStart;
+        this.linkEnd = linkEnd;
+        this.linkLength = linkLength;
+        this.segmentOffsets = segmentOffsets;
+        this.segmentLinkRefs = segmentLinkRefs;
+        this.segmentWeight = segmentWeight;
+        this.chainSegment = chainSegment;
+        this.chainIndex = chainIndex;
+        this.chainOffset = chainOffset;
+        this.geometry = geometry;
+        this.components = components;
+    }
+
+    // ==================== 노드 ====================
+
+    public int nodeCount() {
+        return nodeIds.size();
+    }
+
+    /** 노드 ID의 밀집 인덱스 (없으면 -1) */
+    public int indexOf(String nodeId) {
+        return nodeIds.indexOf(nodeId);
+    }
+
+    public String nodeId(int node) {
+        return nodeIds.get(node);
+    }
+
+    public double latitude(int node) {
+        return latitudes.get(node);
+    }
+
+    public double longitude(int node) {
+        return longitudes.get(node);
+    }
+
+    public boolean isVirtual(int node) {
+        return virtualNodes[node];
+    }
+
+    // ==================== 간선 ====================
+
+    public int edgeCount() {
+        return edgeTarget.length();
+    }
+
+    public int firstEdge(int node) {
+        return firstEdge.get(node);
+    }
+
+    /** 노드의 마지막 간선 다음 인덱스 (exclusive) */
+    public int endEdge(int node) {
+        return firstEdge.get(node + 1);
+    }
+
+    public int degree(int node) {
+        return firstEdge.get(node + 1) - firstEdge.get(node);
+    }
+
+    public int edgeTarget(int edge) {
+        return edgeTarget.get(edge);
+    }
+
+    public double edgeWeight(int edge) {
+        return edgeWeight.get(edge);
+    }
+
+    /** 세그먼트 참조 (세그먼트 인덱스 << 1 | 역방향 비트). 반대 방향으로 지나가면 ^ 1 */
+    public int edgeSegmentRef(int edge) {
+        return edgeSegmentRef.get(edge);
+    }
+
+    /** 간선이 세그먼트의 끝 노드 → 시작 노드 방향인지 여부 */
+    public boolean isEdgeReversed(int edge) {
+        return (edgeSegmentRef.get(edge) & 1) != 0;
+    }
+
+    // ==================== 링크 ====================
+
+    public int linkCount() {
+        return linkIds.size();
+    }
+
+    public String linkId(int link) {
+        return linkIds.get(link);
+    }
+
+    public int linkStart(int link) {
+        return linkStart[link];
+    }
+
+    public int linkEnd(int link) {
+        return linkEnd[link];
+    }
+
+    public double linkLength(int link) {
+        return linkLength[link];
+    }
+
+    /** 링크 참조(링크 인덱스 << 1 | 역방향 비트)를 따라 도착하는 노드 */
+    public int linkRefTarget(int linkRef) {
+        int link = linkRef >>> 1;
+        return (linkRef & 1) != 0 ? linkStart[link] : linkEnd[link];
+    }
+
+    /** 링크 ID의 인덱스 (없으면 -1) */
+    public int linkIndexOf(String linkId) {
+        return linkIds.indexOf(linkId);
+    }
+
+    /** 노드/링크 ID 사전이 차지하는 대략적인 메모리 (바이트) */
+    public long idDictionaryBytes() {
+        return nodeIds.memoryBytes() + linkIds.memoryBytes();
+    }
+
+    public LinkGeometryStore geometry() {
+        return geometry;
+    }
+
+    // ==================== 세그먼트 (축약된 체인) ====================
+
+    public int segmentCount() {
+        return segmentWeight.length;
+    }
+
+    /** 세그먼트를 이루는 링크 수 */
+    public int segmentLength(int segment) {
+        return segmentOffsets[segment + 1] - segmentOffsets[segment];
+    }
+
+    /** 세그먼트의 i번째 링크 참조 (세그먼트 시작 → 끝 방향 기준) */
+    public int segmentLinkRef(int segment, int i) {
+        return segmentLinkRefs[segmentOffsets[segment] + i];
+    }
+
+    public double segmentWeight(int segment) {
+        return segmentWeight[segment];
+    }
+
+    public int segmentStart(int segment) {
+        int first = segmentLinkRefs[segmentOffsets[segment]];
+        return linkRefTarget(first ^ 1);
+    }
+
+    public int segmentEnd(int segment) {
+        return linkRefTarget(segmentLinkRefs[segmentOffsets[segment + 1] - 1]);
+    }
+
+    /** 체인 내부로 축약되어 간선이 없는 노드인지 여부 */
+    public boolean isContracted(int node) {
+        return chainSegment[node] >= 0;
+    }
+
+    /** 축약된 노드가 속한 세그먼트 (탐색 그래프에 남은 노드는 -1) */
+    public int chainSegment(int node) {
+        return chainSegment[node];
+    }
+
+    /** 축약된 노드의 세그먼트 내 위치 (시작 노드로부터 지나온 링크 수) */
+    public int chainIndex(int node) {
+        return chainIndex[node];
+    }
+
+    /** 축약된 노드의 세그먼트 시작 노드로부터의 거리 (미터) */
+    public double chainOffset(int node) {
+        return chainOffset[node];
+    }
+
+    // ==================== 연결 요소 ====================
+
+    public ConnectedComponents components() {
+        return components;
+    }
+
+    /** 두 노드가 같은 연결 요소에 속하는지 (다르면 경로가 없음) */
+    public boolean isConnected(int a, int b) {
+        return components.isConnected(a, b);
+    }
+
+    // ==================== 저장 방식 ====================
+
+    public GraphStorage storage() {
+        return storage;
+    }
+
+    /**
+     * 스냅샷이 차지하는 대략적인 메모리 (바이트, 힙 + 힙 밖 합계)
+     * 지역 그래프 캐시의 메모리 예산 계산에 사용
+     */
+    public long memoryBytes() {
+        long n = nodeCount();
+        long edges = edgeCount();
+        long links = linkCount();
+        long segments = segmentCount();
+        return n * (Double.BYTES * 3 + Integer.BYTES * 4 + 1)          // 좌표, 체인 정보, 연결 요소, CSR 시작 위치, 가상 여부
+                + edges * (Integer.BYTES * 2 + Double.BYTES)           // CSR 간선
+                + links * (Integer.BYTES * 4 + Double.BYTES)           // 링크 양 끝, 길이, 세그먼트 참조, 형상 오프셋
+                + segments * (Integer.BYTES + Double.BYTES)            // 세그먼트 오프셋, 가중치
+                + (long) geometry.totalPoints() * Double.BYTES * 2     // 링크 형상 좌표
+                + idDictionaryBytes();
+    }
+
+    /** 힙 밖에 할당한 바이트 수 (HEAP이면 0) */
+    public long offHeapBytes() {
+        return latitudes.offHeapBytes() + longitudes.offHeapBytes()
+                + firstEdge.offHeapBytes() + edgeTarget.offHeapBytes()
+                + edgeWeight.offHeapBytes() + edgeSegmentRef.offHeapBytes();
+    }
+
+    // ==================== 탐색 작업 공간 ====================
+
+    /** 재사용 가능한 탐색 작업 공간을 빌려옵니다. 사용 후 반드시 releaseSearchSpace()로 반납 */
+    public SearchSpace acquireSearchSpace() {
+        SearchSpace space = searchSpaces.pollFirst();
+        if (space == null) {
+            return new SearchSpace(this);
+        }
+        pooledSearchSpaces.decrementAndGet();
+        return space;
+    }
+
+    public void releaseSearchSpace(SearchSpace space) {
+        if (space.graph() != this) {
+            return;
+        }
+        if (pooledSearchSpaces.incrementAndGet() > MAX_POOLED_SEARCH_SPACES) {
+            pooledSearchSpaces.decrementAndGet(); // 풀이 가득 찼으면 버림 (GC가 회수)
+            return;
+        }
+        searchSpaces.offerFirst(space);
+    }
+
+    /** 풀에 보관 중인 탐색 작업 공간 수 */
+    int pooledSearchSpaceCount() {
+        return pooledSearchSpaces.get();
+    }
+}
@@ -0,0 +1,307 @@
+package com.trm.roadmate_backend.graph;
+
+import java.util.Arrays;
+
+/**
+ * RoutingGraph 생성기
+ * - 노드를 먼저 모두 추가한 뒤 링크를 추가하고 build()로 CSR 그래프를 생성
+ * - 세그먼트(링크 묶음) 하나는 양방향 간선 두 개가 되며, 두 간선은 같은 세그먼트를 공유
+ * - 차수 2 노드가 이어진 체인을 세그먼트 하나로 축약할 수 있음 (경로 복원용 링크 순서는 그대로 보관)
+ * - 노드를 힐베르트 곡선 순서로 재배치하여 공간적으로 가까운 노드를 메모리에서도 가깝게 둘 수 있음
+ * - 노드/링크 ID 문자열은 IdDictionary에 모아 두고, 그래프 내부에서는 정수 인덱스만 사용
+ */
+public class RoutingGraphBuilder {
+
+    // --- 노드 ---
+    private IdDictionary.Builder nodeIds;
+    private double[] latitudes;
+    private double[] longitudes;
+    private boolean[] virtualNodes;
+    private boolean[] pinnedNodes;      // 체인 축약에서 제외할 노드 (지역 경계 노드 등)
+    private int nodeCount;
+
+    // --- 링크 ---
+    private final IdDictionary.Builder linkIds;
+    private int[] linkStart;
+    private int[] linkEnd;
+    private double[] linkLength;
+    private int linkCount;
+    private final LinkGeometryStore.Builder geometry;
+
+    public RoutingGraphBuilder(int expectedNodes, int expectedLinks) {
+        int nodes = Math.max(expectedNodes, 16);
+        int links = Math.max(expectedLinks, 16);
+        this.nodeIds = new IdDictionary.Builder(nodes);
+        this.latitudes = new double[nodes];
+        this.longitudes = new double[nodes];
+        this.virtualNodes = new boolean[nodes];
+        this.pinnedNodes = new boolean[nodes];
+        this.linkIds = new IdDictionary.Builder(links);
+        this.linkStart = new int[links];
+        this.linkEnd = new int[links];
+        this.linkLength = new double[links];
+        this.geometry = new LinkGeometryStore.Builder(links);
+    }
+
+    /** 노드를 추가하고 밀집 인덱스를 반환합니다. (이미 있으면 기존 인덱스) */
+    public int addNode(String nodeId, double latitude, double longitude, boolean virtual) {
+        int existing = nodeIds.indexOf(nodeId);
+        if (existing >= 0) return existing;
+
+        if (nodeCount == latitudes.length) {
+            int capacity = nodeCount * 2;
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            virtualNodes = Arrays.copyOf(virtualNodes, capacity);
+            pinnedNodes = Arrays.copyOf(pinnedNodes, capacity);
+        }
+        nodeIds.append(nodeId);
+        latitudes[nodeCount] = latitude;
+        longitudes[nodeCount] = longitude;
+        virtualNodes[nodeCount] = virtual;
+        return nodeCount++;
+    }
+
+    public int indexOf(String nodeId) {
+        return nodeIds.indexOf(nodeId);
+    }
+
+    /** 체인 축약 대상에서 제외하여 항상 탐색 그래프에 남길 노드로 지정 (지역 경계 노드처럼 외부에서 직접 찾아갈 노드) */
+    public void pinNode(int node) {
+        pinnedNodes[node] = true;
+    }
+
+    /**
+     * 링크를 추가합니다.
+     * @param lats 링크 형상 위도 (없으면 null → 두 노드를 직선으로 연결)
+     * @param lons 링크 형상 경도
+     * @param pointCount 형상 좌표 개수
+     */
+    public void addLink(String linkId, int startNode, int endNode, double length,
+                        double[] lats, double[] lons, int pointCount) {
+        if (linkCount == linkStart.length) {
+            int capacity = linkCount * 2;
+            linkStart = Arrays.copyOf(linkStart, capacity);
+            linkEnd = Arrays.copyOf(linkEnd, capacity);
+            linkLength = Arrays.copyOf(linkLength, capacity);
+        }
+        linkIds.append(linkId);
+        linkStart[linkCount] = startNode;
+        linkEnd[linkCount] = endNode;
+        linkLength[linkCount] = length;
+        linkCount++;
+
+        if (lats == null || pointCount < 2) {
+            geometry.addStraight(latitudes[startNode], longitudes[startNode], latitudes[endNode], longitudes[endNode]);
+        } else {
+            // WKT 방향이 시작/끝 노드와 반대로 저장된 데이터도 있으므로 첫 좌표 기준으로 방향 보정
+            boolean reverse = squaredDistance(lats[0], lons[0], latitudes[endNode], longitudes[endNode])
+                    < squaredDistance(lats[0], lons[0], latitudes[startNode], longitudes[startNode]);
+            geometry.add(lats, lons, pointCount, reverse);
+        }
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public int linkCount() {
+        return linkCount;
+    }
+
+    public RoutingGraph build() {
+        return build(false, false, GraphStorage.HEAP);
+    }
+
+    public RoutingGraph build(boolean contractChains, boolean spatialOrder) {
+        return build(contractChains, spatialOrder, GraphStorage.HEAP);
+    }
+
+    /**
+     * CSR 그래프를 생성합니다.
+     * @param contractChains true면 차수 2 노드 체인을 세그먼트 하나로 축약 (가상 노드와 분기점은 항상 유지)
+     * @param spatialOrder true면 노드 인덱스를 힐베르트 곡선 순서로 다시 매김 (build 이후 indexOf 값도 바뀜)
+     * @param storage CSR 간선/좌표 배열 저장 방식
+     */
+    public RoutingGraph build(boolean contractChains, boolean spatialOrder, GraphStorage storage) {
+        if (spatialOrder) {
+            renumberNodes(HilbertCurve.sortOrder(latitudes, longitudes, nodeCount));
+        }
+        int n = nodeCount;
+
+        // 1) 링크 기준 전체 인접 목록 (양방향) → 노드 차수, 체인 추적에 사용
+        int[] linkRefs = new int[linkCount * 2];
+        int[] firstLink = adjacency(linkRefs);
+
+        // 2) 축약 대상: 차수 2, 가상/고정 노드 아님, 자기 자신으로 돌아오는 링크 없음
+        boolean[] contractible = new boolean[n];
+        if (contractChains) {
+            for (int v = 0; v < n; v++) {
+                if (firstLink[v + 1] - firstLink[v] != 2 || virtualNodes[v] || pinnedNodes[v]) continue;
+                int a = linkRefs[firstLink[v]];
+                int b = linkRefs[firstLink[v] + 1];
+                contractible[v] = (a >>> 1) != (b >>> 1)
+                        && refTarget(a) != v && refTarget(b) != v;
+            }
+        }
+
+        // 3) 남는 노드에서 출발해 축약 대상 노드를 따라가며 세그먼트 생성
+        int[] segmentOffsets = new int[linkCount + 1];
+        int[] segmentLinkRefs = new int[linkCount];
+        double[] segmentWeight = new double[linkCount];
+        int[] chainSegment = new int[n];
+        int[] chainIndex = new int[n];
+        double[] chainOffset = new double[n];
+        Arrays.fill(chainSegment, -1);
+        boolean[] linkUsed = new boolean[linkCount];
+        int segmentCount = 0;
+        int refCount = 0;
+
+        for (int u = 0; u < n; u++) {
+            if (contractible[u]) continue;
+            for (int i = firstLink[u]; i < firstLink[u + 1]; i++) {
+                int ref = linkRefs[i];
+                if (linkUsed[ref >>> 1]) continue;
+
+                double weight = 0.0;
+                int previousLink = -1;
+                int current = u;
+                while (true) {
+                    linkUsed[ref >>> 1] = true;
+                    segmentLinkRefs[refCount++] = ref;
+                    weight += linkLength[ref >>> 1];
+                    previousLink = ref >>> 1;
+                    current = refTarget(ref);
+                    if (!contractible[current]) break;
+
+                    chainSegment[current] = segmentCount;
+                    chainIndex[current] = refCount - segmentOffsets[segmentCount];
+                    chainOffset[current] = weight;
+
+                    // 체인 내부 노드: 들어온 링크가 아닌 나머지 링크로 진행
+                    int first = linkRefs[firstLink[current]];
+                    ref = (first >>> 1) != previousLink ? first : linkRefs[firstLink[current] + 1];
+                }
+                segmentWeight[segmentCount] = weight;
+                segmentOffsets[++segmentCount] = refCount;
+            }
+        }
+
+        // 4) 남는 노드가 하나도 없는 고립된 고리(ring)는 축약하지 않고 링크 단위 세그먼트로 유지
+        for (int l = 0; l < linkCount; l++) {
+            if (linkUsed[l]) continue;
+            contractible[linkStart[l]] = false;
+            contractible[linkEnd[l]] = false;
+            segmentLinkRefs[refCount++] = l << 1;
+            segmentWeight[segmentCount] = linkLength[l];
+            segmentOffsets[++segmentCount] = refCount;
+        }
+
+        // 5) 세그먼트 단위 CSR 간선 배치 (정방향: 시작→끝, 역방향: 끝→시작)
+        int[] segmentStart = new int[segmentCount];
+        int[] segmentEnd = new int[segmentCount];
+        int[] firstEdge = new int[n + 1];
+        for (int g = 0; g < segmentCount; g++) {
+            segmentStart[g] = refTarget(segmentLinkRefs[segmentOffsets[g]] ^ 1);
+            segmentEnd[g] = refTarget(segmentLinkRefs[segmentOffsets[g + 1] - 1]);
+            firstEdge[segmentStart[g] + 1]++;
+            firstEdge[segmentEnd[g] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            firstEdge[i + 1] += firstEdge[i];
+        }
+
+        int m = segmentCount * 2;
+        int[] cursor = Arrays.copyOf(firstEdge, n);
+        int[] edgeTarget = new int[m];
+        double[] edgeWeight = new double[m];
+        int[] edgeSegmentRef = new int[m];
+        for (int g = 0; g < segmentCount; g++) {
+            int forward = cursor[segmentStart[g]]++;
+            edgeTarget[forward] = segmentEnd[g];
+            edgeWeight[forward] = segmentWeight[g];
+            edgeSegmentRef[forward] = g << 1;
+
+            int backward = cursor[segmentEnd[g]]++;
+            edgeTarget[backward] = segmentStart[g];
+            edgeWeight[backward] = segmentWeight[g];
+            edgeSegmentRef[backward] = (g << 1) | 1;
+        }
+
+        return new RoutingGraph(
+                nodeIds.build(),
+                Arrays.copyOf(latitudes, n), Arrays.copyOf(longitudes, n), Arrays.copyOf(virtualNodes, n),
+                firstEdge, edgeTarget, edgeWeight, edgeSegmentRef,
+                linkIds.build(), Arrays.copyOf(linkStart, linkCount),
+                Arrays.copyOf(linkEnd, linkCount), Arrays.copyOf(linkLength, linkCount),
+                Arrays.copyOf(segmentOffsets, segmentCount + 1), segmentLinkRefs,
+                Arrays.copyOf(segmentWeight, segmentCount),
+                chainSegment, chainIndex, chainOffset,
+                geometry.build(),
+                ConnectedComponents.compute(n, linkStart, linkEnd, linkCount),
+                storage
+        );
+    }
+
+    /**
+     * 노드 인덱스를 order 순서로 다시 매기고, 노드 배열과 링크 양 끝 인덱스를 함께 치환합니다.
+     * 간선 CSR 배열은 이후 새 인덱스 기준으로 만들어지므로 자동으로 같은 순서를 따름
+     * @param order order[newIndex] = oldIndex
+     */
+    private void renumberNodes(int[] order) {
+        int[] newIndexOf = new int[nodeCount];
+        double[] newLatitudes = new double[nodeCount];
+        double[] newLongitudes = new double[nodeCount];
+        boolean[] newVirtual = new boolean[nodeCount];
+        boolean[] newPinned = new boolean[nodeCount];
+
+        for (int i = 0; i < nodeCount; i++) {
+            int old = order[i];
+            newIndexOf[old] = i;
+            newLatitudes[i] = latitudes[old];
+            newLongitudes[i] = longitudes[old];
+            newVirtual[i] = virtualNodes[old];
+            newPinned[i] = pinnedNodes[old];
+        }
+        for (int l = 0; l < linkCount; l++) {
+            linkStart[l] = newIndexOf[linkStart[l]];
+            linkEnd[l] = newIndexOf[linkEnd[l]];
+        }
+
+        nodeIds = nodeIds.permute(order);
+        latitudes = newLatitudes;
+        longitudes = newLongitudes;
+        virtualNodes = newVirtual;
+        pinnedNodes = newPinned;
+    }
+
+    // 노드별 인접 링크 참조 (counting sort). 반환값은 노드별 시작 오프셋
+    private int[] adjacency(int[] linkRefs) {
+        int[] firstLink = new int[nodeCount + 1];
+        for (int l = 0; l < linkCount; l++) {
+            firstLink[linkStart[l] + 1]++;
+            firstLink[linkEnd[l] + 1]++;
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            firstLink[i + 1] += firstLink[i];
+        }
+        int[] cursor = Arrays.copyOf(firstLink, nodeCount);
+        for (int l = 0; l < linkCount; l++) {
+            linkRefs[cursor[linkStart[l]]++] = l << 1;
+            linkRefs[cursor[linkEnd[l]]++] = (l << 1) | 1;
+        }
+        return firstLink;
+    }
+
+    // 링크 참조를 따라 도착하는 노드
+    private int refTarget(int linkRef) {
+        int link = linkRef >>> 1;
+        return (linkRef & 1) != 0 ? linkStart[link] : linkEnd[link];
+    }
+
+    private static double squaredDistance(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = lat1 - lat2;
+        double dLon = lon1 - lon2;
+        return dLat * dLat + dLon * dLon;
+    }
+}
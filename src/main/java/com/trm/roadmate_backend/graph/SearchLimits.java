@@ -0,0 +1,84 @@
+package com.trm.roadmate_backend.graph;
+
+import com.trm.roadmate_backend.exception.RoutingAbortedException;
+import com.trm.roadmate_backend.exception.RoutingAbortedException.Reason;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 경로 탐색 한도 (마감 시간 + 확정 노드 수 + 협조적 취소)
+ * - 탐색 루프에서 노드를 확정할 때마다 check()를 호출
+ * - 마감 시간과 확정 노드 수는 이 한도를 공유하는 모든 탐색의 합계 기준 (루프 4개 구간, 대안 경로, 오버레이 구간 등)
+ * - 확정 노드 수는 매번, 시간/취소 여부는 CHECK_INTERVAL 마다 확인 (System.nanoTime 호출 비용 절감)
+ * - 한 요청을 처리하는 스레드에서만 사용 (스레드마다 fork()로 따로 만듦)
+ * - fork()로 만든 한도는 취소 플래그를 공유하므로 배치 전체를 한 번에 취소할 수 있음
+ */
+public class SearchLimits {
+
+    public static final SearchLimits UNLIMITED = new SearchLimits(0L, 0, new AtomicBoolean());
+
+    private static final int CHECK_INTERVAL_MASK = 0xFF; // 256 노드마다 시간/취소 확인
+
+    private final long timeoutNanos;     // 0이면 마감 시간 없음
+    private final long deadlineNanos;
+    private final int maxSettled;        // 0이면 확정 노드 수 제한 없음
+    private final AtomicBoolean cancelled;
+    private int settledCount;            // 이 한도로 지금까지 확정한 노드 수 (모든 탐색 합계)
+
+    private SearchLimits(long timeoutNanos, int maxSettled, AtomicBoolean cancelled) {
+        this.timeoutNanos = timeoutNanos;
+        this.deadlineNanos = System.nanoTime() + timeoutNanos;
+        this.maxSettled = maxSettled;
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * @param timeoutMillis 지금부터의 탐색 허용 시간 (0 이하이면 제한 없음)
+     * @param maxSettled 이 한도를 공유하는 탐색들이 합쳐서 확정할 수 있는 최대 노드 수 (0 이하이면 제한 없음)
+     */
+    public static SearchLimits of(long timeoutMillis, int maxSettled) {
+        return new SearchLimits(
+                Math.max(0L, TimeUnit.MILLISECONDS.toNanos(timeoutMillis)), Math.max(0, maxSettled), new AtomicBoolean());
+    }
+
+    /** 같은 한도로 마감 시간과 확정 노드 수를 새로 시작하는 한도 (취소 플래그는 공유) */
+    public SearchLimits fork() {
+        return new SearchLimits(timeoutNanos, maxSettled, cancelled);
+    }
+
+    public void cancel() {
+        if (this == UNLIMITED) return; // 공유 인스턴스는 취소하지 않음
+        cancelled.set(true);
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    /** 이 한도로 지금까지 확정한 노드 수 */
+    public int settledCount() {
+        return settledCount;
+    }
+
+    /**
+     * 노드 하나를 확정했음을 기록하고, 한도를 넘었으면 RoutingAbortedException을 던집니다.
+     */
+    public void check() {
+        int settledCount = ++this.settledCount;
+        if (maxSettled > 0 && settledCount > maxSettled) {
+            throw new RoutingAbortedException(Reason.BUDGET,
+                    "탐색 범위가 너무 넓습니다 (확정 노드 " + maxSettled + "개 초과)");
+        }
+        if ((settledCount & CHECK_INTERVAL_MASK) != 0) {
+            return;
+        }
+        if (cancelled.get() || Thread.currentThread().isInterrupted()) {
+            throw new RoutingAbortedException(Reason.CANCELLED, "경로 탐색이 취소되었습니다");
+        }
+        if (timeoutNanos > 0 && System.nanoTime() - deadlineNanos > 0) {
+            throw new RoutingAbortedException(Reason.DEADLINE,
+                    "경로 탐색 시간이 초과되었습니다 (" + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms)");
+        }
+    }
+}
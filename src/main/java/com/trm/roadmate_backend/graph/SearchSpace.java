@@ -0,0 +1,192 @@
+package com.trm.roadmate_backend.graph;
+
+import java.util.Arrays;
+
+/**
+ * 다익스트라 탐색 작업 공간 (재사용 가능)
+ * - 거리/선행 노드/선행 간선 배열을 그래프 크기로 한 번만 할당하고, 세대(stamp) 번호로 초기화를 대신함
+ *   → 탐색마다 O(노드 수) 초기화 비용 없이 방문한 노드만큼만 비용이 듦
+ * - 우선순위 큐는 (거리, 노드) 원시 배열 기반 이진 힙 (지연 삭제 방식)
+ * - 한 번에 한 스레드만 사용해야 하며, RoutingGraph.acquireSearchSpace()로 빌려 씀
+ */
+public class SearchSpace implements ShortestPathTree {
+
+    private final RoutingGraph graph;
+
+    private final double[] distance;
+    private final int[] predNode;
+    private final int[] predEdge;
+    private final int[] reachedStamp;  // == stamp 이면 distance/pred 값이 이번 탐색에서 유효
+    private final int[] settledStamp;  // == stamp 이면 이번 탐색에서 확정된 노드
+    private int stamp;
+
+    // 최소 힙 (지연 삭제: 더 짧은 거리로 갱신되면 새 항목을 넣고, 낡은 항목은 꺼낼 때 무시)
+    private double[] heapKeys = new double[256];
+    private int[] heapNodes = new int[256];
+    private int heapSize;
+
+    // 확정 순서대로 기록한 노드 목록
+    private int[] settledNodes = new int[256];
+    private int settledCount;
+
+    SearchSpace(RoutingGraph graph) {
+        int n = graph.nodeCount();
+        this.graph = graph;
+        this.distance = new double[n];
+        this.predNode = new int[n];
+        this.predEdge = new int[n];
+        this.reachedStamp = new int[n];
+        this.settledStamp = new int[n];
+    }
+
+    public RoutingGraph graph() {
+        return graph;
+    }
+
+    /** 새 탐색을 시작합니다. (이전 탐색 결과는 모두 무효화) */
+    public void reset() {
+        stamp++;
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(reachedStamp, 0);
+            Arrays.fill(settledStamp, 0);
+            stamp = 1;
+        }
+        heapSize = 0;
+        settledCount = 0;
+    }
+
+    /** 단일 출발 노드로 새 탐색을 시작합니다. */
+    public void init(int source) {
+        reset();
+        addSource(source, 0.0);
+    }
+
+    /** 출발 노드를 추가합니다. (초기 거리가 0이 아닌 가상 출발점, 다중 출발 탐색에 사용) */
+    public void addSource(int node, double initialDistance) {
+        if (initialDistance < distance(node)) {
+            reach(node, initialDistance, -1, -1);
+        }
+    }
+
+    /**
+     * 다음 노드를 확정하고 인접 간선을 완화(relax)합니다.
+     * @param maxDistance 이 거리를 넘는 노드는 확정하지 않음
+     * @return 확정된 노드, 더 이상 없으면 -1
+     */
+    public int settleNext(double maxDistance) {
+        while (heapSize > 0) {
+            double key = heapKeys[0];
+            int node = heapNodes[0];
+            if (key > maxDistance) {
+                return -1;
+            }
+            pop();
+            if (settledStamp[node] == stamp || key > distance[node]) {
+                continue; // 이미 확정되었거나 낡은 항목
+            }
+
+            settledStamp[node] = stamp;
+            if (settledCount == settledNodes.length) {
+                settledNodes = Arrays.copyOf(settledNodes, settledCount * 2);
+            }
+            settledNodes[settledCount++] = node;
+
+            for (int e = graph.firstEdge(node), end = graph.endEdge(node); e < end; e++) {
+                int next = graph.edgeTarget(e);
+                double newDistance = key + graph.edgeWeight(e);
+                if (newDistance < distance(next)) {
+                    reach(next, newDistance, node, e);
+                }
+            }
+            return node;
+        }
+        return -1;
+    }
+
+    /** 힙에 남은 가장 작은 거리 (없으면 무한대) — 낡은 항목이 포함될 수 있는 하한값 */
+    public double minKey() {
+        return heapSize > 0 ? heapKeys[0] : Double.POSITIVE_INFINITY;
+    }
+
+    // ==================== 결과 조회 ====================
+
+    /** 이번 탐색에서의 (임시 또는 확정) 거리, 도달하지 못했으면 무한대 */
+    @Override
+    public double distance(int node) {
+        return reachedStamp[node] == stamp ? distance[node] : Double.POSITIVE_INFINITY;
+    }
+
+    public boolean isSettled(int node) {
+        return settledStamp[node] == stamp;
+    }
+
+    /** 최단 경로 트리에서의 선행 노드 (출발 노드이거나 도달하지 못했으면 -1) */
+    @Override
+    public int predecessor(int node) {
+        return reachedStamp[node] == stamp ? predNode[node] : -1;
+    }
+
+    /** 선행 노드에서 이 노드로 들어온 간선 (출발 노드이거나 도달하지 못했으면 -1) */
+    @Override
+    public int predecessorEdge(int node) {
+        return reachedStamp[node] == stamp ? predEdge[node] : -1;
+    }
+
+    public int settledCount() {
+        return settledCount;
+    }
+
+    /** i번째로 확정된 노드 */
+    public int settledNode(int i) {
+        return settledNodes[i];
+    }
+
+    // ==================== 내부 처리 ====================
+
+    private void reach(int node, double dist, int pred, int edge) {
+        reachedStamp[node] = stamp;
+        distance[node] = dist;
+        predNode[node] = pred;
+        predEdge[node] = edge;
+        push(node, dist);
+    }
+
+    private void push(int node, double key) {
+        if (heapSize == heapKeys.length) {
+            heapKeys = Arrays.copyOf(heapKeys, heapSize * 2);
+            heapNodes = Arrays.copyOf(heapNodes, heapSize * 2);
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heapKeys[parent] <= key) break;
+            heapKeys[i] = heapKeys[parent];
+            heapNodes[i] = heapNodes[parent];
+            i = parent;
+        }
+        heapKeys[i] = key;
+        heapNodes[i] = node;
+    }
+
+    private void pop() {
+        heapSize--;
+        if (heapSize == 0) return;
+
+        double key = heapKeys[heapSize];
+        int node = heapNodes[heapSize];
+        int i = 0;
+        int half = heapSize >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child]) {
+                child++;
+            }
+            if (key <= heapKeys[child]) break;
+            heapKeys[i] = heapKeys[child];
+            heapNodes[i] = heapNodes[child];
+            i = child;
+        }
+        heapKeys[i] = key;
+        heapNodes[i] = node;
+    }
+}
@@ -0,0 +1,17 @@
+package com.trm.roadmate_backend.graph;
+
+/**
+ * 최단 경로 트리 조회 (경로 복원용)
+ * - 탐색 중인 SearchSpace와, 탐색 결과를 따로 떼어 보관하는 RerouteTree가 같은 방식으로 경로를 복원하도록 함
+ */
+public interface ShortestPathTree {
+
+    /** 루트(탐색 출발점)로부터의 거리, 트리에 없으면 무한대 */
+    double distance(int node);
+
+    /** 트리에서의 선행 노드 (루트이거나 트리에 없으면 -1) */
+    int predecessor(int node);
+
+    /** 선행 노드에서 이 노드로 들어온 간선 (루트이거나 트리에 없으면 -1) */
+    int predecessorEdge(int node);
+}
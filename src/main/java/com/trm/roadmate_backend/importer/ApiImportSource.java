@@ -0,0 +1,50 @@
+package com.trm.roadmate_backend.importer;
+
+import com.trm.roadmate_backend.dto.ApiResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 서울시 Open API 입력
+ * - 페이지 가져오기(가상 스레드, 동시 fetchConcurrency개)와 저장을 겹쳐서 진행 (PagePipeline.run)
+ */
+@Component
+public class ApiImportSource implements ImportSource {
+
+    private final WalkingNetworkApiClient apiClient;
+    private final int fetchConcurrency;
+    private final int prefetchPages;
+
+    public ApiImportSource(WalkingNetworkApiClient apiClient,
+                           @Value("${seoul.api.import.fetch-concurrency:4}") int fetchConcurrency,
+                           @Value("${seoul.api.import.prefetch-pages:8}") int prefetchPages) {
+        this.apiClient = apiClient;
+        this.fetchConcurrency = fetchConcurrency;
+        this.prefetchPages = prefetchPages;
+    }
+
+    @Override
+    public String name() {
+        return "API";
+    }
+
+    @Override
+    public int totalCount(String districtName) {
+        return apiClient.fetchTotalCount(districtName);
+    }
+
+    @Override
+    public void readPages(String districtName, int totalCount, int pageSize, int firstPage,
+                          PagePipeline.PageHandler<List<ApiResponse.Row>> handler) throws Exception {
+        int pageCount = (totalCount + pageSize - 1) / pageSize;
+        PagePipeline.run(Math.max(pageCount - firstPage, 0), fetchConcurrency, prefetchPages,
+                page -> {
+                    int start = (firstPage + page) * pageSize + 1;
+                    int end = Math.min((firstPage + page + 1) * pageSize, totalCount);
+                    return apiClient.fetchRows(districtName, start, end);
+                },
+                handler);
+    }
+}
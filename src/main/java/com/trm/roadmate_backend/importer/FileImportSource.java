@@ -0,0 +1,164 @@
+package com.trm.roadmate_backend.importer;
+
+import com.trm.roadmate_backend.dto.ApiResponse;
+import com.trm.roadmate_backend.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 덤프 파일 입력 (Open API 없이 DB 재구성 / CI)
+ * - {dir}/{시군구}.json | .ndjson | .csv 중 먼저 있는 파일 (json은 API 응답 형식 그대로)
+ * - 파일을 앞에서부터 한 번만 읽으면서 페이지를 만들고, 저장과 겹쳐서 진행 (PagePipeline.stream)
+ * - 전체 행 수: ndjson/csv는 파일을 메모리 매핑해 줄 수만 셈, json은 행을 파싱해서 셈
+ */
+@Component
+public class FileImportSource implements ImportSource {
+
+    private static final List<String> EXTENSIONS = List.of("json", "ndjson", "csv");
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    private final Path directory;
+    private final int prefetchPages;
+
+    public FileImportSource(@Value("${seoul.api.import.file.dir:./data/walking-network}") String directory,
+                            @Value("${seoul.api.import.prefetch-pages:8}") int prefetchPages) {
+        this.directory = Path.of(directory);
+        this.prefetchPages = prefetchPages;
+    }
+
+    @Override
+    public String name() {
+        return "FILE";
+    }
+
+    @Override
+    public void checkAvailable(String districtName) {
+        findFile(districtName);
+    }
+
+    @Override
+    public int totalCount(String districtName) throws IOException {
+        Path file = findFile(districtName);
+        return switch (extension(file)) {
+            case "ndjson" -> (int) countLines(file, false);
+            case "csv" -> (int) Math.max(countLines(file, true) - 1, 0); // 헤더 제외
+            default -> readRows(file, row -> { });
+        };
+    }
+
+    @Override
+    public void readPages(String districtName, int totalCount, int pageSize, int firstPage,
+                          PagePipeline.PageHandler<List<ApiResponse.Row>> handler) throws Exception {
+        Path file = findFile(districtName);
+        long skipRows = (long) firstPage * pageSize; // 재개: 커밋된 페이지의 행은 읽고 버림
+        if (totalCount <= skipRows) return; // 빈 파일이거나 이미 모두 커밋됨
+
+        PagePipeline.<List<ApiResponse.Row>>stream(prefetchPages, emit -> {
+            PageCollector pages = new PageCollector(pageSize, skipRows, emit);
+            readRows(file, pages);
+            pages.flush();
+        }, handler);
+    }
+
+    // 행을 pageSize개씩 모아 넘김 (앞쪽 skipRows행은 버림)
+    private static final class PageCollector implements Consumer<ApiResponse.Row> {
+        private final int pageSize;
+        private final long skipRows;
+        private final Consumer<List<ApiResponse.Row>> emit;
+        private List<ApiResponse.Row> page;
+        private long index;
+
+        private PageCollector(int pageSize, long skipRows, Consumer<List<ApiResponse.Row>> emit) {
+            this.pageSize = pageSize;
+            this.skipRows = skipRows;
+            this.emit = emit;
+            this.page = new ArrayList<>(pageSize);
+        }
+
+        @Override
+        public void accept(ApiResponse.Row row) {
+            if (index++ < skipRows) return;
+            page.add(row);
+            if (page.size() == pageSize) flush();
+        }
+
+        private void flush() {
+            if (page.isEmpty()) return;
+            emit.accept(page);
+            page = new ArrayList<>(pageSize);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException 지역 덤프 파일이 없을 경우
+     */
+    private Path findFile(String districtName) {
+        for (String extension : EXTENSIONS) {
+            Path file = directory.resolve(districtName + "." + extension);
+            if (Files.isRegularFile(file)) return file;
+        }
+        throw new InvalidRequestException("가져오기 파일이 없습니다: " + directory.resolve(districtName) + ".{json,ndjson,csv}");
+    }
+
+    private static String extension(Path file) {
+        String name = file.getFileName().toString();
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    private static int readRows(Path file, Consumer<ApiResponse.Row> sink) throws IOException {
+        try (Reader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8), READ_BUFFER_SIZE)) {
+            return switch (extension(file)) {
+                case "ndjson" -> WalkingNetworkJsonReader.readRows(reader, sink);
+                case "csv" -> WalkingNetworkCsvReader.read(reader, sink);
+                default -> WalkingNetworkJsonReader.read(reader, sink);
+            };
+        }
+    }
+
+    /**
+     * 내용이 있는 줄 수 (파일을 구간별로 메모리 매핑해서 바이트만 훑음)
+     * @param csvQuotes 따옴표 안의 줄바꿈은 줄로 세지 않음
+     */
+    static long countLines(Path file, boolean csvQuotes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long lines = 0;
+            boolean quoted = false;
+            boolean content = false; // 현재 줄에 공백 아닌 바이트가 있는지
+            for (long offset = 0; offset < size; offset += Integer.MAX_VALUE) {
+                MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                        Math.min(Integer.MAX_VALUE, size - offset));
+                while (chunk.hasRemaining()) {
+                    byte b = chunk.get();
+                    if (csvQuotes && b == '"') {
+                        quoted = !quoted;
+                        content = true;
+                    } else if (b == '\n') {
+                        if (!quoted && content) {
+                            lines++;
+                            content = false;
+                        }
+                    } else if (b != ' ' && b != '\t' && b != '\r') {
+                        content = true;
+                    }
+                }
+            }
+            return content ? lines + 1 : lines;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.trm.roadmate_backend.importer;
+
+import com.trm.roadmate_backend.dto.ApiResponse;
+
+import java.util.List;
+
+/**
+ * 보행 네트워크 가져오기 입력 (Open API / 덤프 파일)
+ * - 어느 입력이든 같은 페이지 단위 저장(페이지별 트랜잭션, 일괄 upsert)으로 이어짐
+ */
+public interface ImportSource {
+
+    /** ImportLog.source에 기록하는 이름 (API, FILE) */
+    String name();
+
+    /**
+     * 작업 등록 전에 지역 데이터를 읽을 수 있는지 확인합니다.
+     * @throws IllegalArgumentException 읽을 수 없는 지역 (예: 덤프 파일 없음)
+     */
+    default void checkAvailable(String districtName) {
+    }
+
+    /** 지역의 전체 행 수 */
+    int totalCount(String districtName) throws Exception;
+
+    /**
+     * firstPage 페이지부터 pageSize 행씩 끊어 페이지 순서대로 handler에 넘깁니다.
+     * - handler는 호출 스레드에서 실행되고, page는 firstPage 기준 0부터
+     * - handler에서 예외가 나면 남은 읽기를 중단하고 그 예외를 그대로 던짐
+     */
+    void readPages(String districtName, int totalCount, int pageSize, int firstPage,
+                   PagePipeline.PageHandler<List<ApiResponse.Row>> handler) throws Exception;
+}
@@ -0,0 +1,144 @@
+package com.trm.roadmate_backend.importer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 페이지 단위 가져오기 파이프라인 (가져오기+파싱 → 저장)
+ * - 가져오기/파싱은 가상 스레드에서 최대 concurrency개까지 동시에, 저장은 호출 스레드(트랜잭션)에서 페이지 순서대로
+ * - 두 단계 사이는 prefetch 크기의 큐 → 저장이 밀리면 가져오기도 멈춤 (메모리에 쌓이는 페이지 수 제한)
+ * - 페이지 순서를 그대로 지키므로 "페이지마다 NODE 저장 후 LINK 저장" 순서가 순차 처리와 같음
+ * - 파일처럼 앞에서부터 한 번에 읽는 입력은 stream: 읽기 스레드 하나가 페이지를 만들고 저장은 같은 방식
+ */
+public final class PagePipeline {
+
+    private PagePipeline() {
+    }
+
+    /** 페이지 하나 가져오기 (가상 스레드에서 호출) */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+        T fetch(int page) throws Exception;
+    }
+
+    /** 가져온 페이지 처리 (호출 스레드에서 페이지 순서대로 호출) */
+    @FunctionalInterface
+    public interface PageHandler<T> {
+        void handle(int page, T value) throws Exception;
+    }
+
+    /** 페이지를 순서대로 만들어 emit에 넘김 (가상 스레드 하나에서 호출) */
+    @FunctionalInterface
+    public interface PageProducer<T> {
+        /**
+         * emit은 큐가 차면 대기하고, 처리 쪽이 실패해 취소되면 CancellationException을 던짐
+         */
+        void produce(Consumer<T> emit) throws Exception;
+    }
+
+    /**
+     * 0 ~ pageCount-1 페이지를 가져와 순서대로 처리합니다.
+     * 가져오기나 처리에서 예외가 나면 남은 가져오기를 취소하고 그 예외를 그대로 던집니다.
+     */
+    public static <T> void run(int pageCount, int concurrency, int prefetch,
+                               PageFetcher<T> fetcher, PageHandler<T> handler) throws Exception {
+        if (pageCount <= 0) return;
+
+        Semaphore fetchPermits = new Semaphore(Math.max(concurrency, 1));
+        BlockingQueue<Future<T>> queue = new ArrayBlockingQueue<>(Math.max(prefetch, 1));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // 생산자: 페이지 순서대로 가져오기 작업을 큐에 넣음 (큐가 차면 대기 = 백프레셔)
+            Future<?> producer = executor.submit(() -> {
+                for (int page = 0; page < pageCount; page++) {
+                    int current = page;
+                    queue.put(executor.submit(() -> {
+                        fetchPermits.acquire();
+                        try {
+                            return fetcher.fetch(current);
+                        } finally {
+                            fetchPermits.release();
+                        }
+                    }));
+                }
+                return null;
+            });
+
+            try {
+                for (int page = 0; page < pageCount; page++) {
+                    handler.handle(page, await(queue.take()));
+                }
+            } finally {
+                // 정상 종료면 이미 모두 끝난 상태, 실패면 남은 가져오기 중단
+                producer.cancel(true);
+                for (Future<T> pending : queue) {
+                    pending.cancel(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * producer가 만드는 페이지를 순서대로 처리합니다. (읽기와 저장을 겹쳐서 진행, 쌓이는 페이지는 최대 prefetch개)
+     * 읽기나 처리에서 예외가 나면 다른 쪽을 중단하고 그 예외를 그대로 던집니다.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void stream(int prefetch, PageProducer<T> producer, PageHandler<T> handler) throws Exception {
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(Math.max(prefetch, 1));
+        Object end = new Object();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> reader = executor.submit(() -> {
+                producer.produce(value -> {
+                    try {
+                        queue.put(value);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new CancellationException("page producer cancelled");
+                    }
+                });
+                queue.put(end);
+                return null;
+            });
+
+            try {
+                int page = 0;
+                while (true) {
+                    Object value = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (value == null) {
+                        // 읽기가 실패로 끝났으면 end가 들어오지 않음 → 그 예외를 던짐
+                        if (reader.isDone() && queue.isEmpty()) {
+                            await(reader);
+                            throw new IllegalStateException("page producer finished without end marker");
+                        }
+                        continue;
+                    }
+                    if (value == end) break;
+                    handler.handle(page++, (T) value);
+                }
+            } finally {
+                // 정상 종료면 이미 끝난 상태, 실패면 읽기 중단
+                reader.cancel(true);
+            }
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
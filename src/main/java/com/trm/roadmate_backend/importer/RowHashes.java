@@ -0,0 +1,77 @@
+package com.trm.roadmate_backend.importer;
+
+import com.trm.roadmate_backend.dto.ApiResponse;
+
+/**
+ * TbTraficWlkNet 행 내용 해시 (64비트, 재가져오기 변경 감지용)
+ * - DB에 저장하는 필드만 대상 → 해시가 같으면 다시 쓸 필요 없음
+ * - FNV-1a로 필드를 차례로 섞은 뒤 마지막에 한 번 더 섞음 (필드 구분자 / null 표시 포함)
+ */
+public final class RowHashes {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char NULL_MARKER = '\u0000';
+
+    private RowHashes() {
+    }
+
+    /** NODE 행 (좌표 WKT, 유형, 행정구역) */
+    public static long node(ApiResponse.Row row) {
+        long hash = OFFSET_BASIS;
+        hash = mix(hash, row.getNodeWkt());
+        hash = mix(hash, row.getNodeTypeCd());
+        hash = mix(hash, row.getSggCd());
+        hash = mix(hash, row.getSggNm());
+        hash = mix(hash, row.getEmdCd());
+        hash = mix(hash, row.getEmdNm());
+        return finish(hash);
+    }
+
+    /** LINK 행 (양 끝 노드, 길이, 형상 WKT, 유형, 행정구역, 속성) */
+    public static long link(ApiResponse.Row row) {
+        long hash = OFFSET_BASIS;
+        hash = mix(hash, row.getBgngLnkgId());
+        hash = mix(hash, row.getEndLnkgId());
+        hash = mix(hash, row.getLnkgLen() == null ? null : Double.toString(row.getLnkgLen()));
+        hash = mix(hash, row.getLnkgTypeCd());
+        hash = mix(hash, row.getLnkgWkt());
+        hash = mix(hash, row.getSggCd());
+        hash = mix(hash, row.getSggNm());
+        hash = mix(hash, row.getEmdCd());
+        hash = mix(hash, row.getEmdNm());
+        hash = mix(hash, row.getExpnCarRd());
+        hash = mix(hash, row.getSbwyNtw());
+        hash = mix(hash, row.getBrg());
+        hash = mix(hash, row.getTnl());
+        hash = mix(hash, row.getOvrp());
+        hash = mix(hash, row.getCrswk());
+        hash = mix(hash, row.getPark());
+        hash = mix(hash, row.getBldg());
+        return finish(hash);
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            hash = (hash ^ NULL_MARKER) * PRIME;
+        } else {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                hash = (hash ^ (c & 0xFF)) * PRIME;
+                hash = (hash ^ (c >>> 8)) * PRIME;
+            }
+        }
+        return (hash ^ FIELD_SEPARATOR) * PRIME;
+    }
+
+    // 하위 비트까지 고르게 (MurmurHash3 fmix64)
+    private static long finish(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
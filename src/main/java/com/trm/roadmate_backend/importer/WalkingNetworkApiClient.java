@@ -0,0 +1,321 @@
+package com.trm.roadmate_backend.importer;
+
+import com.trm.roadmate_backend.dto.ApiResponse;
+import com.trm.roadmate_backend.dto.ImportHttpStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 서울시 보행 네트워크(TbTraficWlkNet) Open API 클라이언트
+ * - 여러 가상 스레드에서 동시에 호출해도 안전 (공유 HttpClient의 HTTP/1.1 keep-alive 연결 재사용)
+ * - 응답 본문은 스트림에서 바로 행 단위로 파싱 (WalkingNetworkJsonReader), gzip 응답은 풀어서 읽음
+ * - 연결/응답 대기 시간 제한, 일시적 오류(연결 실패, 시간 초과, 429/5xx)는 지터를 준 지수 백오프로 재시도
+ * - 요청 수, 재시도, 실패, 받은 바이트, 지연 시간을 누적 (stats())
+ */
+@Slf4j
+@Component
+public class WalkingNetworkApiClient {
+
+    private static final Set<Integer> RETRYABLE_STATUS = Set.of(429, 500, 502, 503, 504);
+
+    // 본문 읽기 마감 시간이 지나면 응답 스트림을 닫아 멈춘 read()를 깨움 (모든 요청이 데몬 스레드 하나를 공유)
+    private static final ScheduledThreadPoolExecutor BODY_DEADLINES = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "import-body-deadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        BODY_DEADLINES.setRemoveOnCancelPolicy(true); // 제때 끝난 요청의 마감 작업은 바로 큐에서 제거
+    }
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String apiKey;
+    private final Duration readTimeout;
+    private final int maxAttempts;
+    private final long retryBaseDelayMillis;
+    private final long retryMaxDelayMillis;
+
+    // --- 누적 통계 ---
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param readTimeout 응답 헤더까지, 그리고 본문을 끝까지 받기까지 각각 허용하는 시간
+     * @param maxAttempts 요청 한 번의 최대 시도 횟수 (1이면 재시도 없음)
+     */
+    public WalkingNetworkApiClient(@Qualifier("importHttpClient") HttpClient httpClient,
+                                   @Value("${seoul.api.base-url}") String baseUrl,
+                                   @Value("${seoul.api.key}") String apiKey,
+                                   @Value("${seoul.api.http.read-timeout:30s}") Duration readTimeout,
+                                   @Value("${seoul.api.http.max-attempts:4}") int maxAttempts,
+                                   @Value("${seoul.api.http.retry-base-delay:200ms}") Duration retryBaseDelay,
+                                   @Value("${seoul.api.http.retry-max-delay:5s}") Duration retryMaxDelay) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.apiKey = apiKey;
+        this.readTimeout = readTimeout;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.retryBaseDelayMillis = Math.max(retryBaseDelay.toMillis(), 1);
+        this.retryMaxDelayMillis = Math.max(retryMaxDelay.toMillis(), this.retryBaseDelayMillis);
+    }
+
+    /** 지역의 전체 행 수 */
+    public int fetchTotalCount(String districtName) {
+        return fetch(districtName, 1, 1, row -> { });
+    }
+
+    /** start ~ end 번째 행 (1부터, 양 끝 포함) */
+    public List<ApiResponse.Row> fetchRows(String districtName, int start, int end) {
+        URI uri = uri(districtName, start, end);
+        List<ApiResponse.Row> rows = new ArrayList<>(Math.max(end - start + 1, 0));
+        // 재시도할 때는 앞선 시도에서 받은 행을 버리고 처음부터
+        withRetry(uri, () -> {
+            rows.clear();
+            return send(uri, rows::add);
+        });
+        return rows;
+    }
+
+    /**
+     * start ~ end 번째 행을 파싱되는 대로 sink에 넘깁니다.
+     * 이미 sink에 행을 넘긴 뒤 실패하면 중복을 막기 위해 재시도하지 않습니다 (백오프 대기 없이 바로 실패).
+     * @return 지역의 전체 행 수
+     */
+    public int fetch(String districtName, int start, int end, Consumer<ApiResponse.Row> sink) {
+        URI uri = uri(districtName, start, end);
+        boolean[] delivered = {false};
+        return withRetry(uri, () -> {
+            try {
+                return send(uri, row -> {
+                    delivered[0] = true;
+                    sink.accept(row);
+                });
+            } catch (IOException e) {
+                if (delivered[0]) throw new NonRetryableException(e);
+                throw e;
+            }
+        });
+    }
+
+    /** 누적 요청 통계 */
+    public ImportHttpStats stats() {
+        long count = requests.sum();
+        return ImportHttpStats.builder()
+                .requests(count)
+                .retries(retries.sum())
+                .failures(failures.sum())
+                .bytesReceived(bytesReceived.sum())
+                .averageLatencyMillis(count == 0 ? 0.0 : Math.round(totalLatencyNanos.sum() / 1e5 / count) / 10.0)
+                .maxLatencyMillis(Math.round(maxLatencyNanos.get() / 1e5) / 10.0)
+                .build();
+    }
+
+    private URI uri(String districtName, int start, int end) {
+        String district = URLEncoder.encode(districtName, StandardCharsets.UTF_8).replace("+", "%20");
+        return URI.create(String.format("%s/%s/json/TbTraficWlkNet/%d/%d/%s", baseUrl, apiKey, start, end, district));
+    }
+
+    // ==================== 요청 + 재시도 ====================
+
+    @FunctionalInterface
+    private interface Attempt {
+        int run() throws IOException, InterruptedException, RetryableStatusException;
+    }
+
+    // 일시적 오류면 min(최대 대기, 기본 대기 × 2^시도) 안에서 무작위로 기다린 뒤 다시 시도 (full jitter)
+    private int withRetry(URI uri, Attempt call) {
+        int attempt = 0;
+        while (true) {
+            attempt++;
+            try {
+                return call.run();
+            } catch (NonRetryableException e) {
+                failures.increment();
+                throw rethrow(e.getCause() == null ? e : e.getCause(), path(uri));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while fetching " + path(uri), e);
+            } catch (IOException | RetryableStatusException e) {
+                if (attempt >= maxAttempts) {
+                    failures.increment();
+                    throw rethrow(e, path(uri));
+                }
+                retries.increment();
+                long ceiling = Math.min(retryMaxDelayMillis, retryBaseDelayMillis << Math.min(attempt - 1, 20));
+                long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+                log.warn("Retrying {} in {} ms (attempt {}/{}): {}", path(uri), delay, attempt + 1, maxAttempts, e.toString());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while fetching " + path(uri), interrupted);
+                }
+            } catch (RuntimeException e) {
+                failures.increment();
+                throw e;
+            }
+        }
+    }
+
+    private int send(URI uri, Consumer<ApiResponse.Row> sink)
+            throws IOException, InterruptedException, RetryableStatusException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(readTimeout)
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+
+        long startNanos = System.nanoTime();
+        requests.increment();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        CountingInputStream body = new CountingInputStream(response.body());
+        body.startDeadline(readTimeout);
+        try (body) {
+            int status = response.statusCode();
+            if (RETRYABLE_STATUS.contains(status)) {
+                throw new RetryableStatusException(status);
+            }
+            if (status / 100 != 2) {
+                throw new NonRetryableException(new IllegalStateException("HTTP " + status));
+            }
+
+            boolean gzip = response.headers().firstValue("Content-Encoding")
+                    .filter(encoding -> encoding.equalsIgnoreCase("gzip"))
+                    .isPresent();
+            InputStream decoded = gzip ? new GZIPInputStream(body, 1 << 16) : body;
+            try (Reader reader = new InputStreamReader(decoded, StandardCharsets.UTF_8)) {
+                return WalkingNetworkJsonReader.read(reader, sink);
+            } catch (IllegalStateException e) {
+                throw new NonRetryableException(e); // 인증 실패, 데이터 없음 등 (다시 요청해도 같음)
+            }
+        } finally {
+            long latency = System.nanoTime() - startNanos;
+            totalLatencyNanos.add(latency);
+            maxLatencyNanos.accumulate(latency);
+            bytesReceived.add(body.count);
+            if (log.isDebugEnabled()) {
+                log.debug("GET {} -> {} ({} bytes, {} ms)", path(uri), response.statusCode(), body.count, latency / 1_000_000);
+            }
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable e, String path) {
+        if (e instanceof IllegalStateException) {
+            return new IllegalStateException(e.getMessage() + ": " + path, e);
+        }
+        return new IllegalStateException("Failed to fetch " + path + ": " + e, e);
+    }
+
+    // 로그/예외 메시지용 경로 (API 키 제외)
+    private String path(URI uri) {
+        return uri.getRawPath().replace("/" + apiKey + "/", "/***/");
+    }
+
+    private static final class RetryableStatusException extends Exception {
+        private RetryableStatusException(int status) {
+            super("HTTP " + status);
+        }
+    }
+
+    private static final class NonRetryableException extends RuntimeException {
+        private NonRetryableException(Throwable cause) {
+            super(cause == null ? null : cause.getMessage(), cause);
+        }
+    }
+
+    // 받은 바이트 수 (압축된 그대로) + 본문 읽기 마감 시간
+    // - 마감 시간이 지나면 다른 스레드에서 스트림을 닫음 → 서버가 본문 중간에 멈춰도 read()가 깨어남
+    // - 닫혀서 난 오류/끝(-1)은 HttpTimeoutException으로 바꿔 재시도 대상으로 남김 (잘린 본문을 파싱하지 않음)
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+        private volatile boolean timedOut;
+        private ScheduledFuture<?> deadline;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        private void startDeadline(Duration timeout) {
+            deadline = BODY_DEADLINES.schedule(() -> {
+                timedOut = true;
+                try {
+                    in.close();
+                } catch (IOException ignored) {
+                    // 닫는 중 오류는 무시 (읽던 쪽은 timedOut으로 시간 초과를 알게 됨)
+                }
+            }, timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        private HttpTimeoutException timeout() {
+            return new HttpTimeoutException("response body not received within read timeout");
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b;
+            try {
+                b = super.read();
+            } catch (IOException e) {
+                if (timedOut) throw timeout();
+                throw e;
+            }
+            if (timedOut) throw timeout();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n;
+            try {
+                n = super.read(buffer, offset, length);
+            } catch (IOException e) {
+                if (timedOut) throw timeout();
+                throw e;
+            }
+            if (timedOut) throw timeout();
+            if (n > 0) count += n;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (deadline != null) deadline.cancel(false);
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.trm.roadmate_backend.importer;
+
+import com.google.gson.annotations.SerializedName;
+import com.trm.roadmate_backend.dto.ApiResponse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * TbTraficWlkNet CSV 덤프 스트리밍 파서
+ * - 첫 줄은 API 필드명 헤더 (NODE_TYPE, NODE_WKT, LNKG_ID, ...), 순서 무관, 모르는 컬럼은 무시
+ * - RFC 4180 따옴표 규칙 (WKT처럼 쉼표가 들어간 값은 "..." 로 감싸고, 값 안의 " 는 "")
+ * - 빈 값은 null (API 응답에서 필드가 없는 것과 같음)
+ */
+public final class WalkingNetworkCsvReader {
+
+    // API 필드명(@SerializedName) → Row 필드
+    private static final Map<String, Field> COLUMNS = new HashMap<>();
+
+    static {
+        for (Field field : ApiResponse.Row.class.getDeclaredFields()) {
+            SerializedName name = field.getAnnotation(SerializedName.class);
+            if (name == null || Modifier.isStatic(field.getModifiers())) continue;
+            field.setAccessible(true);
+            COLUMNS.put(name.value(), field);
+        }
+    }
+
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int pos;
+    private int limit;
+    private final StringBuilder value = new StringBuilder();
+
+    private WalkingNetworkCsvReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * 헤더 다음 줄부터 행을 순서대로 sink에 넘깁니다.
+     * @return 읽은 행 수
+     * @throws IllegalStateException 헤더에 NODE_TYPE 컬럼이 없거나 따옴표가 닫히지 않은 경우
+     */
+    public static int read(Reader in, Consumer<ApiResponse.Row> sink) throws IOException {
+        WalkingNetworkCsvReader csv = new WalkingNetworkCsvReader(in);
+        List<String> header = csv.nextRecord();
+        if (header == null) return 0;
+
+        if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+            header.set(0, header.get(0).substring(1)); // UTF-8 BOM
+        }
+        Field[] fields = new Field[header.size()];
+        boolean hasNodeType = false;
+        for (int i = 0; i < fields.length; i++) {
+            String name = header.get(i).trim().toUpperCase(Locale.ROOT);
+            fields[i] = COLUMNS.get(name);
+            hasNodeType |= "NODE_TYPE".equals(name);
+        }
+        if (!hasNodeType) {
+            throw new IllegalStateException("Invalid CSV header: " + header);
+        }
+
+        int count = 0;
+        List<String> record;
+        while ((record = csv.nextRecord()) != null) {
+            if (record.size() == 1 && record.get(0).isEmpty()) continue; // 빈 줄
+            ApiResponse.Row row = new ApiResponse.Row();
+            for (int i = 0; i < Math.min(fields.length, record.size()); i++) {
+                if (fields[i] != null && !record.get(i).isEmpty()) {
+                    set(row, fields[i], record.get(i));
+                }
+            }
+            sink.accept(row);
+            count++;
+        }
+        return count;
+    }
+
+    private static void set(ApiResponse.Row row, Field field, String text) {
+        try {
+            Class<?> type = field.getType();
+            if (type == Double.class || type == double.class) {
+                field.set(row, Double.valueOf(text.trim()));
+            } else if (type == Integer.class || type == int.class) {
+                field.set(row, Integer.valueOf(text.trim()));
+            } else {
+                field.set(row, text);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Invalid CSV value for " + field.getName() + ": " + text, e);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // --- 레코드 단위 토크나이저 (입력 끝이면 null) ---
+
+    private List<String> nextRecord() throws IOException {
+        int c = next();
+        if (c == -1) return null;
+
+        List<String> record = new ArrayList<>();
+        value.setLength(0);
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalStateException("Unterminated quoted CSV value");
+                }
+                if (c == '"') {
+                    c = next();
+                    if (c != '"') {
+                        quoted = false; // 닫는 따옴표 → 방금 읽은 문자는 따옴표 밖에서 다시 처리
+                        continue;
+                    }
+                }
+                value.append((char) c);
+            } else if (c == '"' && value.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                record.add(value.toString());
+                return record;
+            } else if (c != '\r') {
+                value.append((char) c);
+            }
+            c = next();
+        }
+    }
+
+    private int next() throws IOException {
+        if (pos == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            pos = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[pos++];
+    }
+}
@@ -0,0 +1,81 @@
+package com.trm.roadmate_backend.importer;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.trm.roadmate_backend.dto.ApiResponse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * TbTraficWlkNet 응답 스트리밍 파서
+ * - 응답 본문을 String/전체 객체로 만들지 않고 JsonReader로 읽으면서 행을 하나씩 넘김
+ * - 페이지 크기와 상관없이 파싱 중 추가 메모리는 행 하나 분량
+ * - 덤프 파일: API 응답 형식 JSON(read) / 한 줄에 행 하나인 NDJSON(readRows)
+ */
+public final class WalkingNetworkJsonReader {
+
+    private static final TypeAdapter<ApiResponse.Row> ROW_ADAPTER = new Gson().getAdapter(ApiResponse.Row.class);
+
+    private WalkingNetworkJsonReader() {
+    }
+
+    /**
+     * {"TbTraficWlkNet": {"list_total_count": N, "row": [...]}} 형식을 읽어 행을 순서대로 sink에 넘깁니다.
+     * @return list_total_count (없으면 0)
+     * @throws IllegalStateException TbTraficWlkNet 항목이 없는 응답 (인증 실패, 데이터 없음 등)
+     */
+    public static int read(Reader in, Consumer<ApiResponse.Row> sink) throws IOException {
+        JsonReader reader = new JsonReader(in);
+        int totalCount = 0;
+        boolean found = false;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!"TbTraficWlkNet".equals(reader.nextName())) {
+                reader.skipValue(); // RESULT 등
+                continue;
+            }
+            found = true;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "list_total_count" -> totalCount = reader.nextInt();
+                    case "row" -> {
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            sink.accept(ROW_ADAPTER.read(reader));
+                        }
+                        reader.endArray();
+                    }
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+        reader.endObject();
+
+        if (!found) {
+            throw new IllegalStateException("Invalid API response");
+        }
+        return totalCount;
+    }
+
+    /**
+     * 행 객체가 연달아 있는 입력(NDJSON: 한 줄에 행 하나)을 읽어 순서대로 sink에 넘깁니다.
+     * @return 읽은 행 수
+     */
+    public static int readRows(Reader in, Consumer<ApiResponse.Row> sink) throws IOException {
+        JsonReader reader = new JsonReader(in);
+        reader.setLenient(true); // 최상위 값 여러 개 허용
+        int count = 0;
+        while (reader.peek() != JsonToken.END_DOCUMENT) {
+            sink.accept(ROW_ADAPTER.read(reader));
+            count++;
+        }
+        return count;
+    }
+}
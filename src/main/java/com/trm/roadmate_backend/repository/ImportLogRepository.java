@@ -2,8 +2,43 @@ package com.trm.roadmate_backend.repository;
 
 import com.trm.roadmate_backend.entity.ImportLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ImportLogRepository extends JpaRepository<ImportLog, Long> {
+
+    // 상태별 가져오기 작업 (재시작 시 중단된 작업 재개, 진행 중인 작업이 있으면 시 전체 가져오기 거절)
+    List<ImportLog> findByStatusIn(Collection<String> statuses);
+
+    boolean existsByStatusIn(Collection<String> statuses);
+
+    // 시 전체 작업에 속한 시군구 작업
+    List<ImportLog> findByParentJobIdOrderByIdAsc(Long parentJobId);
+
+    // 중단된 작업 점유: 주인이 없거나, 주인이 자신이거나, 주인이 staleBefore 이후로 진행을 기록하지 않은 작업만 (1이면 점유 성공)
+    // → 여러 인스턴스가 동시에 재시작해도 UPDATE 한 문장으로 한 곳만 가져감
+    @Modifying
+    @Query("UPDATE ImportLog j SET j.owner = :owner, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status IN :statuses " +
+            "AND (j.owner IS NULL OR j.owner = :owner OR j.updatedAt < :staleBefore)")
+    int claim(Long id, String owner, Collection<String> statuses, LocalDateTime now, LocalDateTime staleBefore);
+
+    // 실패한 작업 다시 실행: FAILED인 경우만 QUEUED로 (0이면 다른 요청이 먼저 바꿈, 같은 지역 진행 중이면 activeKey 유니크 키 위반)
+    // (일괄 UPDATE는 @PreUpdate가 호출되지 않으므로 activeKey/owner를 직접 설정)
+    @Modifying
+    @Query("UPDATE ImportLog j SET j.status = 'QUEUED', j.activeKey = j.sggNm, j.owner = :owner, " +
+            "j.errorMessage = NULL, j.completedAt = NULL, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status = 'FAILED'")
+    int requeueFailed(Long id, String owner, LocalDateTime now);
+
+    // 서버 종료로 중단할 때 점유 해제 (다음에 시작하는 인스턴스가 바로 재개)
+    @Modifying
+    @Query("UPDATE ImportLog j SET j.owner = NULL WHERE j.id = :id AND j.owner = :owner")
+    int releaseClaim(Long id, String owner);
 }
\ No newline at end of file
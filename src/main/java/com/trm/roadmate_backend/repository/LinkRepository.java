@@ -1,15 +1,31 @@
 package com.trm.roadmate_backend.repository;
 
 import com.trm.roadmate_backend.entity.Link;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface LinkRepository extends JpaRepository<Link, Long> {
     boolean existsByLinkId(String linkId);
 
+    // --- 데이터 가져오기: 페이지 단위 저장 상태 조회 → [link_id, content_hash] ---
+    @Query("SELECT l.linkId, l.contentHash FROM Link l WHERE l.linkId IN :linkIds")
+    List<Object[]> findContentHashesByLinkIdIn(Collection<String> linkIds);
+
+    // --- 데이터 가져오기: 시군구의 링크 (원본에서 사라진 링크 찾기) → [link_id, sgg_cd, start_node_id, end_node_id] ---
+    @Query("SELECT l.linkId, l.sggCd, l.startNodeId, l.endNodeId FROM Link l WHERE l.sggNm = :sggNm")
+    List<Object[]> findImportKeysBySggNm(String sggNm);
+
+    // --- 그래프 로딩: 기본 키 순서 키셋 페이징 (OFFSET 없이 마지막으로 읽은 id 다음부터) ---
+    List<Link> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // --- 지역(시군구) 단위 그래프 로딩 (sgg_cd 색인 + 기본 키 키셋 페이징) ---
+    List<Link> findBySggCdInAndIdGreaterThanOrderByIdAsc(Collection<String> sggCds, Long id, Limit limit);
+
     // 보행자 가능한 링크만 (type_cd 첫글자가 1)
     @Query("SELECT l FROM Link l WHERE l.startNodeId = :nodeId AND l.typeCd LIKE '1%'")
     List<Link> findWalkableLinks(String nodeId);
@@ -0,0 +1,179 @@
+package com.trm.roadmate_backend.repository;
+
+import com.trm.roadmate_backend.entity.Link;
+import com.trm.roadmate_backend.entity.Node;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 보행 네트워크 데이터 가져오기용 노드/링크 일괄 저장
+ * - Node/Link는 IDENTITY 키라서 Hibernate가 JDBC 배치를 끄고 saveAll()도 행마다 INSERT를 보냄
+ * - JdbcTemplate.batchUpdate + rewriteBatchedStatements로 여러 행을 INSERT 한 문장으로 묶어 보냄
+ * - 고유 키(node_id, link_id) 기준 ON DUPLICATE KEY UPDATE → 이미 있는 행도 같은 문장에서 처리
+ * - 원본에서 사라진 행 삭제도 ID 묶음 단위 DELETE ... IN (...)
+ * - 행은 고유 키 순서로 정렬해 보냄 → 병렬 시군구 작업이 경계/가상 노드를 함께 갱신해도 같은 순서로 락을 잡음
+ *   (배치 사이의 교착 상태는 호출 쪽에서 트랜잭션을 다시 실행)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NetworkBulkWriter {
+
+    private static final int BATCH_SIZE = 1000; // batchUpdate 한 번에 보내는 행 수
+
+    // 실제 노드 행은 그대로 덮어쓰고(새 노드, 내용이 바뀐 노드, 가상 노드 교체), 가상 노드 행은 기존 노드를 덮어쓰지 않음
+    // (MySQL은 SET을 왼쪽부터 적용하므로 is_virtual을 마지막에 갱신)
+    private static final String UPSERT_NODE_SQL =
+            "INSERT INTO node (node_id, latitude, longitude, node_type_cd, sgg_cd, sgg_nm, emd_cd, emd_nm, is_virtual, content_hash, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW()) " +
+                    "ON DUPLICATE KEY UPDATE " +
+                    "latitude = IF(VALUES(is_virtual), latitude, VALUES(latitude)), " +
+                    "longitude = IF(VALUES(is_virtual), longitude, VALUES(longitude)), " +
+                    "node_type_cd = IF(VALUES(is_virtual), node_type_cd, VALUES(node_type_cd)), " +
+                    "sgg_cd = IF(VALUES(is_virtual), sgg_cd, VALUES(sgg_cd)), " +
+                    "sgg_nm = IF(VALUES(is_virtual), sgg_nm, VALUES(sgg_nm)), " +
+                    "emd_cd = IF(VALUES(is_virtual), emd_cd, VALUES(emd_cd)), " +
+                    "emd_nm = IF(VALUES(is_virtual), emd_nm, VALUES(emd_nm)), " +
+                    "content_hash = IF(VALUES(is_virtual), content_hash, VALUES(content_hash)), " +
+                    "is_virtual = is_virtual AND VALUES(is_virtual)";
+
+    private static final String UPSERT_LINK_SQL =
+            "INSERT INTO link (link_id, start_node_id, end_node_id, length, type_cd, geometry, sgg_cd, sgg_nm, emd_cd, emd_nm, " +
+                    "expn_car_rd, sbwy_ntw, brg, tnl, ovrp, crswk, park, bldg, content_hash, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW()) " +
+                    "ON DUPLICATE KEY UPDATE " +
+                    "start_node_id = VALUES(start_node_id), end_node_id = VALUES(end_node_id), length = VALUES(length), " +
+                    "type_cd = VALUES(type_cd), geometry = VALUES(geometry), " +
+                    "sgg_cd = VALUES(sgg_cd), sgg_nm = VALUES(sgg_nm), emd_cd = VALUES(emd_cd), emd_nm = VALUES(emd_nm), " +
+                    "expn_car_rd = VALUES(expn_car_rd), sbwy_ntw = VALUES(sbwy_ntw), brg = VALUES(brg), tnl = VALUES(tnl), " +
+                    "ovrp = VALUES(ovrp), crswk = VALUES(crswk), park = VALUES(park), bldg = VALUES(bldg), " +
+                    "content_hash = VALUES(content_hash)";
+
+    private static final String DELETE_LINKS_SQL = "DELETE FROM link WHERE link_id IN (%s)";
+
+    // 남아 있는 링크가 참조하지 않는 노드만 삭제 (다른 시군구 링크의 끝 노드는 유지)
+    // NOT EXISTS는 link.start_node_id / end_node_id 색인으로 노드마다 색인 조회 한 번 (Link 엔티티 @Table 참고)
+    private static final String DELETE_UNREFERENCED_NODES_SQL =
+            "DELETE FROM node WHERE node_id IN (%s)%s " +
+                    "AND NOT EXISTS (SELECT 1 FROM link WHERE link.start_node_id = node.node_id) " +
+                    "AND NOT EXISTS (SELECT 1 FROM link WHERE link.end_node_id = node.node_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 노드 일괄 저장 (없으면 추가, 실제 노드 행이면 최신 정보로 갱신, 가상 노드 행은 없을 때만 추가)
+     */
+    public void upsertNodes(Collection<Node> nodes) {
+        if (nodes.isEmpty()) return;
+        List<Node> sorted = new ArrayList<>(nodes);
+        sorted.sort(Comparator.comparing(Node::getNodeId));
+        jdbcTemplate.batchUpdate(UPSERT_NODE_SQL, sorted, BATCH_SIZE, (ps, node) -> {
+            ps.setString(1, node.getNodeId());
+            ps.setDouble(2, node.getLatitude());
+            ps.setDouble(3, node.getLongitude());
+            ps.setString(4, node.getNodeTypeCd());
+            ps.setString(5, node.getSggCd());
+            ps.setString(6, node.getSggNm());
+            ps.setString(7, node.getEmdCd());
+            ps.setString(8, node.getEmdNm());
+            ps.setBoolean(9, Boolean.TRUE.equals(node.getIsVirtual()));
+            setNullableLong(ps, 10, node.getContentHash());
+        });
+    }
+
+    /**
+     * 링크 일괄 저장 (없으면 추가, 있으면 최신 데이터로 갱신)
+     */
+    public void upsertLinks(Collection<Link> links) {
+        if (links.isEmpty()) return;
+        List<Link> sorted = new ArrayList<>(links);
+        sorted.sort(Comparator.comparing(Link::getLinkId));
+        jdbcTemplate.batchUpdate(UPSERT_LINK_SQL, sorted, BATCH_SIZE, (ps, link) -> {
+            ps.setString(1, link.getLinkId());
+            ps.setString(2, link.getStartNodeId());
+            ps.setString(3, link.getEndNodeId());
+            setNullableDouble(ps, 4, link.getLength());
+            ps.setString(5, link.getTypeCd());
+            ps.setString(6, link.getGeometry());
+            ps.setString(7, link.getSggCd());
+            ps.setString(8, link.getSggNm());
+            ps.setString(9, link.getEmdCd());
+            ps.setString(10, link.getEmdNm());
+            ps.setString(11, link.getExpnCarRd());
+            ps.setString(12, link.getSbwyNtw());
+            ps.setString(13, link.getBrg());
+            ps.setString(14, link.getTnl());
+            ps.setString(15, link.getOvrp());
+            ps.setString(16, link.getCrswk());
+            ps.setString(17, link.getPark());
+            ps.setString(18, link.getBldg());
+            setNullableLong(ps, 19, link.getContentHash());
+        });
+    }
+
+    /**
+     * 링크 삭제
+     * @return 삭제한 행 수
+     */
+    public int deleteLinks(List<String> linkIds) {
+        linkIds = sorted(linkIds);
+        int deleted = 0;
+        for (int from = 0; from < linkIds.size(); from += BATCH_SIZE) {
+            List<String> ids = linkIds.subList(from, Math.min(from + BATCH_SIZE, linkIds.size()));
+            deleted += jdbcTemplate.update(String.format(DELETE_LINKS_SQL, placeholders(ids.size())), ids.toArray());
+        }
+        return deleted;
+    }
+
+    /**
+     * 어떤 링크도 참조하지 않는 노드 삭제
+     * @param virtualOnly true면 가상 노드만 (삭제한 링크의 끝 노드 정리)
+     * @return 삭제한 행 수
+     */
+    public int deleteUnreferencedNodes(List<String> nodeIds, boolean virtualOnly) {
+        nodeIds = sorted(nodeIds);
+        int deleted = 0;
+        for (int from = 0; from < nodeIds.size(); from += BATCH_SIZE) {
+            List<String> ids = nodeIds.subList(from, Math.min(from + BATCH_SIZE, nodeIds.size()));
+            String sql = String.format(DELETE_UNREFERENCED_NODES_SQL, placeholders(ids.size()),
+                    virtualOnly ? " AND is_virtual" : "");
+            deleted += jdbcTemplate.update(sql, ids.toArray());
+        }
+        return deleted;
+    }
+
+    private static List<String> sorted(List<String> ids) {
+        List<String> sorted = new ArrayList<>(ids);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    private static void setNullableDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.DOUBLE);
+        } else {
+            ps.setDouble(index, value);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.trm.roadmate_backend.repository;
 
 import com.trm.roadmate_backend.entity.Node;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -12,6 +14,51 @@ public interface NodeRepository extends JpaRepository<Node, Long> {
     Optional<Node> findByNodeId(String nodeId);
     boolean existsByNodeId(String nodeId);
 
+    List<Node> findByNodeIdIn(Collection<String> nodeIds);
+
+    // --- 데이터 가져오기: 페이지 단위 저장 상태 조회 → [node_id, is_virtual, content_hash] ---
+    @Query("SELECT n.nodeId, n.isVirtual, n.contentHash FROM Node n WHERE n.nodeId IN :nodeIds")
+    List<Object[]> findImportStatesByNodeIdIn(Collection<String> nodeIds);
+
+    // --- 데이터 가져오기: 시군구의 실제 노드 (원본에서 사라진 노드 찾기) → [node_id, sgg_cd] ---
+    @Query("SELECT n.nodeId, n.sggCd FROM Node n WHERE n.sggNm = :sggNm AND n.isVirtual = false")
+    List<Object[]> findRealNodeKeysBySggNm(String sggNm);
+
+    // --- 그래프 로딩: 기본 키 순서 키셋 페이징 (OFFSET 없이 마지막으로 읽은 id 다음부터) ---
+    List<Node> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // --- 지역(시군구) 단위 그래프 로딩 (sgg_cd 색인 + 기본 키 키셋 페이징) ---
+    List<Node> findBySggCdInAndIdGreaterThanOrderByIdAsc(Collection<String> sggCds, Long id, Limit limit);
+
+    long countBySggCdIn(Collection<String> sggCds);
+
+    // 노드 → 지역 색인 (키셋 페이징) → [id, node_id, sgg_cd]
+    @Query("SELECT n.id, n.nodeId, n.sggCd FROM Node n WHERE n.id > :id AND n.sggCd IS NOT NULL ORDER BY n.id")
+    List<Object[]> findRegionKeysByIdGreaterThan(Long id, Limit limit);
+
+    // 시군구 × 격자 칸(약 1km)별 노드 수 → [sgg_cd, lat_cell, lon_cell, node_count]
+    @Query(value =
+            "SELECT sgg_cd, FLOOR(latitude / :cellDegrees) AS lat_cell, FLOOR(longitude / :cellDegrees) AS lon_cell, " +
+                    "COUNT(*) AS node_count " +
+                    "FROM node " +
+                    "WHERE sgg_cd IS NOT NULL " +
+                    "GROUP BY sgg_cd, lat_cell, lon_cell",
+            nativeQuery = true)
+    List<Object[]> countNodesByRegionCell(double cellDegrees);
+
+    // 지역 경계 노드: 다른 시군구 링크의 끝 노드 → [node_id, 노드 sgg_cd, 링크 sgg_cd]
+    // (시작/끝 노드를 각각 node_id 유니크 색인으로 조인하고 UNION으로 중복 제거, OR 조인은 색인을 타지 못함)
+    @Query(value =
+            "SELECT n.node_id, n.sgg_cd, l.sgg_cd AS link_sgg_cd " +
+                    "FROM link l JOIN node n ON n.node_id = l.start_node_id " +
+                    "WHERE l.sgg_cd IS NOT NULL AND n.sgg_cd IS NOT NULL AND n.sgg_cd <> l.sgg_cd " +
+                    "UNION " +
+                    "SELECT n.node_id, n.sgg_cd, l.sgg_cd AS link_sgg_cd " +
+                    "FROM link l JOIN node n ON n.node_id = l.end_node_id " +
+                    "WHERE l.sgg_cd IS NOT NULL AND n.sgg_cd IS NOT NULL AND n.sgg_cd <> l.sgg_cd",
+            nativeQuery = true)
+    List<Object[]> findRegionBoundaryNodes();
+
     // 특정 위치에서 가장 가까운 노드 찾기 (Haversine)
     @Query(value =
             "SELECT *, " +
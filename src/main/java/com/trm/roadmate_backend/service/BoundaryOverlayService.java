@@ -0,0 +1,252 @@
+package com.trm.roadmate_backend.service;
+
+import com.trm.roadmate_backend.graph.BoundaryOverlay;
+import com.trm.roadmate_backend.graph.RegionIndex;
+import com.trm.roadmate_backend.graph.RoutingGraph;
+import com.trm.roadmate_backend.graph.SearchSpace;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 지역 경계 노드 오버레이 생성/관리
+ * - 지역 그래프 모드(routing.graph.regions.enabled)에서만 동작
+ * - 이 인스턴스가 맡은 지역(routing.graph.overlay.regions)의 경계 노드 간 거리 표를 계산
+ * - table-dir를 지정하면 계산한 표를 파일로 내보내고, 다른 인스턴스가 내보낸 지역 표를 읽어 전체 오버레이를 구성
+ *   → 인스턴스마다 일부 지역 그래프만 들고 있어도 여러 지역에 걸친 경로의 거리를 작은 표만으로 구할 수 있음
+ * - 그래프 재로딩(지역 색인 교체)이 감지되면 그래프 부가 데이터 실행기(graphBuildExecutor)에서 다시 계산하며, 그동안은 오버레이를 사용하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoundaryOverlayService {
+
+    private static final int TABLE_FILE_MAGIC = 0x524D4F56; // "RMOV"
+    private static final String TABLE_FILE_SUFFIX = ".overlay";
+
+    private final GraphService graphService;
+    private final ExecutorService graphBuildExecutor;
+
+    @Value("${routing.graph.overlay.enabled:false}")
+    private boolean enabled;
+
+    // 이 인스턴스가 표를 계산할 지역 (쉼표 구분, 비어 있으면 전체 지역)
+    @Value("${routing.graph.overlay.regions:}")
+    private String ownRegions;
+
+    // 지역 표를 주고받을 공유 디렉터리 (비어 있으면 메모리에만 보관)
+    @Value("${routing.graph.overlay.table-dir:}")
+    private String tableDir;
+
+    private volatile BuiltOverlay current = BuiltOverlay.NONE;
+    private final AtomicBoolean building = new AtomicBoolean(false);
+
+    // --- BuiltOverlay: 오버레이와 그 계산에 쓴 지역 색인 (한 번에 교체되는 스냅샷) ---
+    private static class BuiltOverlay {
+        static final BuiltOverlay NONE = new BuiltOverlay(BoundaryOverlay.EMPTY, null);
+
+        final BoundaryOverlay overlay;
+        final RegionIndex builtFor;
+
+        BuiltOverlay(BoundaryOverlay overlay, RegionIndex builtFor) {
+            this.overlay = overlay;
+            this.builtFor = builtFor;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        if (isConfigured()) {
+            triggerBuild();
+        }
+    }
+
+    /**
+     * 현재 지역 색인 기준으로 만들어진 오버레이 (없거나 다시 계산 중이면 EMPTY)
+     */
+    public BoundaryOverlay getOverlay() {
+        if (!isConfigured()) {
+            return BoundaryOverlay.EMPTY;
+        }
+        BuiltOverlay built = current;
+        if (built.builtFor != graphService.getRegionIndex()) {
+            triggerBuild();
+            return BoundaryOverlay.EMPTY;
+        }
+        return built.overlay;
+    }
+
+    private boolean isConfigured() {
+        return enabled && graphService.isRegionMode();
+    }
+
+    // 한 번에 하나의 계산만 백그라운드 실행기에서 실행
+    private void triggerBuild() {
+        if (!building.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            graphBuildExecutor.execute(() -> {
+                try {
+                    build();
+                } catch (Exception e) {
+                    log.error("Boundary overlay build failed", e);
+                } finally {
+                    building.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            building.set(false); // 종료 중
+        }
+    }
+
+    private void build() {
+        long startTime = System.currentTimeMillis();
+        RegionIndex index = graphService.getRegionIndex();
+        BoundaryOverlay.Builder builder = new BoundaryOverlay.Builder();
+
+        // 1) 맡은 지역 표 계산 (+ 공유 디렉터리로 내보내기)
+        Set<String> computed = new TreeSet<>();
+        for (String region : ownRegions(index)) {
+            long regionStart = System.currentTimeMillis();
+            RoutingGraph graph = graphService.getRegionGraph(region);
+            String[] boundaryIds = index.boundaryNodeIds(region).stream()
+                    .filter(id -> graph.indexOf(id) >= 0)
+                    .sorted()
+                    .toArray(String[]::new);
+            float[] distances = computeTable(graph, boundaryIds);
+            builder.addRegion(region, boundaryIds, distances);
+            computed.add(region);
+            writeTable(region, boundaryIds, distances);
+            log.info("Overlay table [{}]: boundary nodes = {}, time = {} ms",
+                    region, boundaryIds.length, System.currentTimeMillis() - regionStart);
+        }
+
+        // 2) 다른 인스턴스가 계산한 지역 표 읽기
+        int imported = 0;
+        for (String region : index.regions()) {
+            if (!computed.contains(region) && readTable(region, builder)) {
+                imported++;
+            }
+        }
+
+        BoundaryOverlay result = builder.build();
+        this.current = new BuiltOverlay(result, index);
+
+        log.info("⭐ Boundary Overlay Built ⭐ regions = {} (computed {}, imported {}), overlay nodes = {}, size = {} KB, time = {} ms",
+                result.regionCount(), computed.size(), imported, result.nodeCount(),
+                result.memoryBytes() / 1024, System.currentTimeMillis() - startTime);
+    }
+
+    private List<String> ownRegions(RegionIndex index) {
+        if (ownRegions == null || ownRegions.isBlank()) {
+            return new ArrayList<>(new TreeSet<>(index.regions()));
+        }
+        List<String> regions = new ArrayList<>();
+        for (String region : ownRegions.split(",")) {
+            String trimmed = region.trim();
+            if (!trimmed.isEmpty() && index.regions().contains(trimmed)) {
+                regions.add(trimmed);
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * 경계 노드마다 지역 그래프 안에서 다익스트라를 한 번씩 실행해 k × k 거리 표를 만듭니다.
+     * (경계 노드는 그래프 생성 시 체인 축약에서 제외되므로 항상 탐색 그래프의 노드)
+     */
+    private float[] computeTable(RoutingGraph graph, String[] boundaryIds) {
+        int k = boundaryIds.length;
+        int[] nodes = new int[k];
+        boolean[] boundary = new boolean[graph.nodeCount()];
+        for (int i = 0; i < k; i++) {
+            nodes[i] = graph.indexOf(boundaryIds[i]);
+            boundary[nodes[i]] = true;
+        }
+
+        float[] distances = new float[k * k];
+        Arrays.fill(distances, Float.POSITIVE_INFINITY);
+        SearchSpace space = graph.acquireSearchSpace();
+        try {
+            for (int i = 0; i < k; i++) {
+                space.init(nodes[i]);
+                int remaining = k;
+                int node;
+                while (remaining > 0 && (node = space.settleNext(Double.POSITIVE_INFINITY)) >= 0) {
+                    if (boundary[node]) remaining--;
+                }
+                for (int j = 0; j < k; j++) {
+                    if (space.isSettled(nodes[j])) {
+                        distances[i * k + j] = (float) space.distance(nodes[j]);
+                    }
+                }
+            }
+        } finally {
+            graph.releaseSearchSpace(space);
+        }
+        return distances;
+    }
+
+    // ==================== 표 파일 (공유 디렉터리) ====================
+
+    private void writeTable(String region, String[] boundaryIds, float[] distances) {
+        if (tableDir == null || tableDir.isBlank()) return;
+        try {
+            Path dir = Path.of(tableDir);
+            Files.createDirectories(dir);
+            Path temp = Files.createTempFile(dir, region, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(TABLE_FILE_MAGIC);
+                out.writeInt(boundaryIds.length);
+                for (String id : boundaryIds) {
+                    out.writeUTF(id);
+                }
+                for (float distance : distances) {
+                    out.writeFloat(distance);
+                }
+            }
+            Files.move(temp, dir.resolve(region + TABLE_FILE_SUFFIX),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write overlay table for region {}: {}", region, e.getMessage());
+        }
+    }
+
+    private boolean readTable(String region, BoundaryOverlay.Builder builder) {
+        if (tableDir == null || tableDir.isBlank()) return false;
+        Path file = Path.of(tableDir, region + TABLE_FILE_SUFFIX);
+        if (!Files.isReadable(file)) return false;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != TABLE_FILE_MAGIC) {
+                log.warn("Invalid overlay table file: {}", file);
+                return false;
+            }
+            int k = in.readInt();
+            String[] boundaryIds = new String[k];
+            for (int i = 0; i < k; i++) {
+                boundaryIds[i] = in.readUTF();
+            }
+            float[] distances = new float[k * k];
+            for (int i = 0; i < distances.length; i++) {
+                distances[i] = in.readFloat();
+            }
+            builder.addRegion(region, boundaryIds, distances);
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to read overlay table for region {}: {}", region, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -2,55 +2,179 @@ package com.trm.roadmate_backend.service;
 
 import com.trm.roadmate_backend.entity.Node;
 import com.trm.roadmate_backend.entity.Link;
+import com.trm.roadmate_backend.graph.GraphStorage;
+import com.trm.roadmate_backend.graph.NetworkChangeSet;
+import com.trm.roadmate_backend.graph.RegionIndex;
+import com.trm.roadmate_backend.graph.RoutingGraph;
+import com.trm.roadmate_backend.graph.RoutingGraphBuilder;
 import com.trm.roadmate_backend.repository.LinkRepository;
 import com.trm.roadmate_backend.repository.NodeRepository;
+import com.trm.roadmate_backend.util.WktScanner;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GraphService {
 
-    // --- 인메모리 그래프 ---
-    private final Map<String, List<Edge>> adjacencyMap = new HashMap<>();
-    private final Map<String, Node> nodeMap = new HashMap<>();
+    // --- 경로 탐색용 그래프 스냅샷 (CSR 간선 + 좌표 배열 + 링크 형상 + ID 사전) ---
+    private volatile RoutingGraph routingGraph = RoutingGraph.EMPTY;
+
+    // --- 지역 그래프 (routing.graph.regions.enabled=true일 때만 사용) ---
+    // 좌표 → 지역 색인과 지역별 경계 노드를 하나의 스냅샷으로 교체 (둘을 따로 읽어 어긋나지 않도록)
+    private volatile RegionIndex regionIndex = RegionIndex.EMPTY;
+    private final Map<String, RegionGraph> regionGraphs = new ConcurrentHashMap<>();
 
     private final NodeRepository nodeRepository;
     private final LinkRepository linkRepository;
 
+    private static final int PAGE_SIZE = 5000;
+    private static final int NODE_ID_BATCH_SIZE = 1000; // 경계 노드 일괄 조회 단위 (IN 절 크기)
+
+    // --- 차수 2 체인 축약 여부 (탐색 그래프 축소, 경로 복원용 링크 순서는 유지) ---
+    @Value("${routing.graph.contract-chains:true}")
+    private boolean contractChains;
+
+    // --- 노드를 힐베르트 곡선 순서로 재배치 (탐색 시 캐시 지역성 향상) ---
+    @Value("${routing.graph.spatial-order:true}")
+    private boolean spatialOrder;
+
+    // --- CSR 간선/좌표 배열 저장 방식 (heap | off-heap) ---
+    @Value("${routing.graph.storage:heap}")
+    private String storage;
+
+    // --- 시군구 단위 지역 그래프 (요청 시 불러오고 메모리 예산을 넘으면 오래된 것부터 해제) ---
+    @Value("${routing.graph.regions.enabled:false}")
+    private boolean regionsEnabled;
+
+    @Value("${routing.graph.regions.memory-budget-mb:1024}")
+    private long regionMemoryBudgetMb;
+
+    // 불러온 지역 그래프 (단일 지역 또는 경계를 넘는 경로용 두 지역 병합)
+    private static final class RegionGraph {
+        private final String key;
+        private final List<String> regions;
+        private volatile RoutingGraph graph;
+        private volatile long lastUsed;
+
+        private RegionGraph(String key, List<String> regions) {
+            this.key = key;
+            this.regions = regions;
+        }
+    }
+
     // --- Public API ---
-    public Collection<Node> getAllNodes() {
-        return nodeMap.values();
+
+    public Node getNode(String nodeId) {
+        RoutingGraph graph = getRoutingGraph(nodeId, nodeId);
+        int node = graph.indexOf(nodeId);
+        return node < 0 ? null : toNode(graph, node);
     }
 
-    public List<Edge> getEdges(String nodeId) {
-        return adjacencyMap.getOrDefault(nodeId, Collections.emptyList());
+    // 그래프 노드 → Node (ID, 좌표, 가상 노드 여부만 채움)
+    private Node toNode(RoutingGraph graph, int node) {
+        return Node.builder()
+                .nodeId(graph.nodeId(node))
+                .latitude(graph.latitude(node))
+                .longitude(graph.longitude(node))
+                .isVirtual(graph.isVirtual(node))
+                .build();
     }
 
-    public Node getNode(String nodeId) {
-        return nodeMap.get(nodeId);
+    /**
+     * 현재 전체 경로 탐색용 그래프 스냅샷을 반환합니다. (지역 그래프 모드에서는 EMPTY)
+     * 재로딩 시 스냅샷이 통째로 교체되므로, 한 번의 탐색 동안에는 같은 스냅샷을 계속 사용해야 합니다.
+     */
+    public RoutingGraph getRoutingGraph() {
+        return routingGraph;
+    }
+
+    /**
+     * 좌표 주변을 탐색할 그래프 (스냅용)
+     * 지역 그래프 모드에서는 좌표가 속한 지역 그래프를 (필요하면 불러와서) 반환
+     */
+    public RoutingGraph getRoutingGraphAt(double latitude, double longitude) {
+        if (!regionsEnabled) {
+            return routingGraph;
+        }
+        String region = regionIndex.regionAt(latitude, longitude);
+        return region == null ? RoutingGraph.EMPTY : regionGraph(List.of(region));
     }
 
-    // Edge 클래스
-    public static class Edge {
-        public final String destinationId;
-        public final double weight;
-        public final String linkId;  // ⭐ 추가
+    /**
+     * 두 노드를 모두 포함하는 그래프 (경로 탐색용)
+     * 지역 그래프 모드에서는 두 노드가 같은 지역이면 그 지역 그래프, 다르면 두 지역을 합친 그래프를 반환
+     */
+    public RoutingGraph getRoutingGraph(String startNodeId, String endNodeId) {
+        return getRoutingGraph(Arrays.asList(startNodeId, endNodeId));
+    }
+
+    /**
+     * 주어진 노드를 모두 포함하는 그래프 (여러 참가자를 한 번에 탐색하는 모임 장소 등)
+     * 지역 그래프 모드에서는 노드들이 속한 지역을 모두 합친 그래프를 반환 (사이에 낀 다른 지역은 포함하지 않음)
+     */
+    public RoutingGraph getRoutingGraph(List<String> nodeIds) {
+        if (!regionsEnabled) {
+            return routingGraph;
+        }
+
+        // 1) 이미 불러온 그래프 중 노드를 모두 포함하는 것 (지역 수가 적은 그래프 우선)
+        RegionGraph found = null;
+        for (RegionGraph entry : regionGraphs.values()) {
+            RoutingGraph graph = entry.graph;
+            if (graph != null && nodeIds.stream().allMatch(nodeId -> graph.indexOf(nodeId) >= 0)
+                    && (found == null || entry.regions.size() < found.regions.size())) {
+                found = entry;
+            }
+        }
+        if (found != null) {
+            found.lastUsed = System.nanoTime();
+            return found.graph;
+        }
 
-        public Edge(String destinationId, double weight, String linkId) {
-            this.destinationId = destinationId;
-            this.weight = weight;
-            this.linkId = linkId;
+        // 2) 각 노드의 지역을 찾아 단일/병합 그래프를 불러옴 (지역 목록은 정렬 → 같은 조합은 같은 그래프)
+        Set<String> regions = new TreeSet<>();
+        for (String nodeId : nodeIds) {
+            String region = getRegionOf(nodeId);
+            if (region == null) {
+                return RoutingGraph.EMPTY;
+            }
+            regions.add(region);
         }
+        return regionGraph(new ArrayList<>(regions));
+    }
+
+    // --- 지역 그래프 API (지역 경계 오버레이용) ---
+
+    public boolean isRegionMode() {
+        return regionsEnabled;
+    }
+
+    /**
+     * 현재 좌표 → 지역 색인 + 지역별 경계 노드 (재로딩 시 새 인스턴스로 교체되므로 변경 여부 확인에도 사용)
+     * 여러 값을 함께 쓸 때는 한 번 받은 인스턴스에서 모두 읽어야 같은 시점의 데이터
+     */
+    public RegionIndex getRegionIndex() {
+        return regionIndex;
+    }
+
+    /** 단일 지역 그래프 (필요하면 불러옴) */
+    public RoutingGraph getRegionGraph(String region) {
+        return regionGraph(List.of(region));
     }
 
     // --- 초기화 & 재로딩 ---
@@ -66,63 +190,343 @@ public class GraphService {
         buildGraph();
     }
 
+    /**
+     * 데이터 가져오기 변경분 반영
+     * - 바뀐 행이 없으면 그대로 둠
+     * - 지역 그래프 모드: 색인만 다시 만들고, 바뀐 지역(또는 경계 노드가 달라진 지역)이 들어간 지역 그래프만 해제
+     * - 전체 그래프 모드: CSR 스냅샷은 만든 뒤 바꿀 수 없으므로 다시 만듦
+     */
+    @Transactional(readOnly = true)
+    public synchronized void applyChanges(NetworkChangeSet changes) {
+        if (changes.isEmpty()) {
+            log.info("Graph unchanged: import made no changes");
+            return;
+        }
+        log.info("Applying import changes to graph: {}", changes);
+        if (regionsEnabled) {
+            buildRegionIndex(changes.regions());
+        } else {
+            buildGraph();
+        }
+    }
+
     // --- 그래프 빌드 ---
     @Transactional(readOnly = true)
     protected void buildGraph() {
+        if (regionsEnabled) {
+            // 지역 그래프 모드: 색인만 만들고 그래프는 요청 시 불러옴 (빠른 시작)
+            buildRegionIndex(null);
+            return;
+        }
+
         long startTime = System.currentTimeMillis();
-        adjacencyMap.clear();
-        nodeMap.clear();
+        RoutingGraph graph = loadGraph("all", nodeRepository.count(),
+                afterId -> nodeRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(PAGE_SIZE)),
+                afterId -> linkRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(PAGE_SIZE)),
+                false, Collections.emptySet());
+
+        // 스냅샷 교체 (탐색 중인 요청은 이전 스냅샷을 그대로 사용)
+        this.routingGraph = graph;
+
+        log.info("Graph Loading Time: {} ms", (System.currentTimeMillis() - startTime));
+    }
 
-        log.info("Loading nodes from DB...");
+    /**
+     * 노드/링크를 페이지 단위로 읽어 그래프를 만듭니다.
+     * 페이지는 기본 키 순서 키셋 방식 (마지막으로 읽은 id를 넘겨 다음 PAGE_SIZE개를 받음, OFFSET 스캔 없음)
+     * @param resolveBorderNodes true면 다른 지역에 있는 링크 끝 노드를 DB에서 추가로 읽어 포함 (지역 그래프용)
+     * @param pinnedNodeIds 체인 축약에서 제외할 노드 (지역 경계 노드)
+     */
+    private RoutingGraph loadGraph(String label, long expectedNodeCount,
+                                   LongFunction<List<Node>> nodePages,
+                                   LongFunction<List<Link>> linkPages,
+                                   boolean resolveBorderNodes, Set<String> pinnedNodeIds) {
+        log.info("[{}] Loading nodes from DB...", label);
 
-        // 1) 모든 노드 로딩 (페이징)
-        int page = 0;
-        int size = 5000;
-        Page<Node> nodePage;
+        // 1) 노드 로딩 (페이징) → 엔티티는 보관하지 않고 ID 사전과 좌표 배열에만 기록
+        long afterId = 0L;
+        List<Node> nodePage;
         AtomicInteger totalNodes = new AtomicInteger(0);
+        int expectedNodes = (int) Math.min(expectedNodeCount, Integer.MAX_VALUE / 2);
+        RoutingGraphBuilder builder = new RoutingGraphBuilder(expectedNodes, expectedNodes * 2);
 
         do {
-            nodePage = nodeRepository.findAll(PageRequest.of(page++, size));
-            nodePage.forEach(node -> nodeMap.put(node.getNodeId(), node));
-            totalNodes.addAndGet(nodePage.getNumberOfElements());
-        } while (nodePage.hasNext());
+            nodePage = nodePages.apply(afterId);
+            for (Node node : nodePage) {
+                addNode(builder, node);
+                afterId = node.getId();
+            }
+            totalNodes.addAndGet(nodePage.size());
+        } while (nodePage.size() == PAGE_SIZE);
 
-        log.info("Total nodes loaded: {}", totalNodes.get());
+        log.info("[{}] Total nodes loaded: {}", label, totalNodes.get());
 
-        log.info("Loading links from DB...");
+        log.info("[{}] Loading links from DB...", label);
 
-        // 2) 모든 링크 로딩 (페이징)
-        page = 0;
-        size = 5000;
-        Page<Link> linkPage;
+        // 2) 링크 로딩 (페이징) + 링크 형상(WKT)은 이때 한 번만 파싱
+        afterId = 0L;
+        List<Link> linkPage;
         AtomicInteger totalEdges = new AtomicInteger(0);
+        AtomicInteger invalidGeometries = new AtomicInteger(0);
+        WKTReader wktReader = new WKTReader();
+        WktScanner.Coordinates shape = new WktScanner.Coordinates(64);
+        List<Link> borderLinks = new ArrayList<>();
 
         do {
-            linkPage = linkRepository.findAll(PageRequest.of(page++, size));
-            linkPage.forEach(link -> {
-                double length = link.getLength() == null ? 0.0 : link.getLength();
-
-                if (!nodeMap.containsKey(link.getStartNodeId())) {
-                    log.warn("Missing start node for edge {} -> {}", link.getStartNodeId(), link.getEndNodeId());
-                } else if (!nodeMap.containsKey(link.getEndNodeId())) {
-                    log.warn("Missing end node for edge {} -> {}", link.getStartNodeId(), link.getEndNodeId());
-                } else {
-                    addEdge(link.getStartNodeId(), link.getEndNodeId(), length, link.getLinkId());
-                    addEdge(link.getEndNodeId(), link.getStartNodeId(), length, link.getLinkId());
+            linkPage = linkPages.apply(afterId);
+            for (Link link : linkPage) {
+                afterId = link.getId();
+                if (resolveBorderNodes
+                        && (builder.indexOf(link.getStartNodeId()) < 0 || builder.indexOf(link.getEndNodeId()) < 0)) {
+                    borderLinks.add(link); // 끝 노드가 다른 지역 → 노드를 모아서 한 번에 조회
+                } else if (addLink(builder, wktReader, shape, link, invalidGeometries)) {
                     totalEdges.addAndGet(2);
                 }
-            });
-        } while (linkPage.hasNext());
+            }
+        } while (linkPage.size() == PAGE_SIZE);
+
+        // 3) 지역 경계를 넘는 링크의 바깥쪽 노드 추가
+        if (!borderLinks.isEmpty()) {
+            Set<String> missing = new LinkedHashSet<>();
+            for (Link link : borderLinks) {
+                if (builder.indexOf(link.getStartNodeId()) < 0) missing.add(link.getStartNodeId());
+                if (builder.indexOf(link.getEndNodeId()) < 0) missing.add(link.getEndNodeId());
+            }
+            List<String> ids = new ArrayList<>(missing);
+            for (int from = 0; from < ids.size(); from += NODE_ID_BATCH_SIZE) {
+                List<String> batch = ids.subList(from, Math.min(from + NODE_ID_BATCH_SIZE, ids.size()));
+                nodeRepository.findByNodeIdIn(batch).forEach(node -> addNode(builder, node));
+            }
+            for (Link link : borderLinks) {
+                if (addLink(builder, wktReader, shape, link, invalidGeometries)) {
+                    totalEdges.addAndGet(2);
+                }
+            }
+            log.info("[{}] Border links = {} (outside nodes: {})", label, borderLinks.size(), missing.size());
+        }
+
+        for (String nodeId : pinnedNodeIds) {
+            int node = builder.indexOf(nodeId);
+            if (node >= 0) builder.pinNode(node);
+        }
+
+        RoutingGraph graph = builder.build(contractChains, spatialOrder, GraphStorage.from(storage));
 
-        long endTime = System.currentTimeMillis();
-        log.info("⭐ Graph Loaded Success ⭐");
-        log.info("Total Nodes = {}", nodeMap.size());
+        log.info("⭐ Graph Loaded Success [{}] ⭐", label);
+        log.info("Total Nodes = {}", graph.nodeCount());
         log.info("Total Edges = {}", totalEdges.get());
-        log.info("Graph Loading Time: {} ms", (endTime - startTime));
+        log.info("Graph Storage = {} (off-heap {} KB, estimated total {} KB)",
+                graph.storage(), graph.offHeapBytes() / 1024, graph.memoryBytes() / 1024);
+        log.info("ID Dictionary = {} KB (nodes {}, links {})",
+                graph.idDictionaryBytes() / 1024, graph.nodeCount(), graph.linkCount());
+        log.info("Geometry Points = {} (links without valid WKT: {})",
+                graph.geometry().totalPoints(), invalidGeometries.get());
+        if (contractChains) {
+            int contracted = 0;
+            for (int node = 0; node < graph.nodeCount(); node++) {
+                if (graph.isContracted(node)) contracted++;
+            }
+            log.info("Chain Contraction: searchable nodes = {} / {}, searchable edges = {} / {}",
+                    graph.nodeCount() - contracted, graph.nodeCount(), graph.edgeCount(), graph.linkCount() * 2);
+        }
+        if (graph.components().largest() >= 0) {
+            log.info("Connected Components = {} (largest: {} nodes)",
+                    graph.components().count(), graph.components().size(graph.components().largest()));
+        }
+        return graph;
+    }
+
+    private void addNode(RoutingGraphBuilder builder, Node node) {
+        builder.addNode(node.getNodeId(), node.getLatitude(), node.getLongitude(),
+                Boolean.TRUE.equals(node.getIsVirtual()));
+    }
+
+    // 링크 추가 (끝 노드가 없으면 경고 후 false)
+    private boolean addLink(RoutingGraphBuilder builder, WKTReader wktReader, WktScanner.Coordinates shape,
+                            Link link, AtomicInteger invalidGeometries) {
+        double length = link.getLength() == null ? 0.0 : link.getLength();
+        int startIndex = builder.indexOf(link.getStartNodeId());
+        int endIndex = builder.indexOf(link.getEndNodeId());
+
+        if (startIndex < 0) {
+            log.warn("Missing start node for edge {} -> {}", link.getStartNodeId(), link.getEndNodeId());
+            return false;
+        }
+        if (endIndex < 0) {
+            log.warn("Missing end node for edge {} -> {}", link.getStartNodeId(), link.getEndNodeId());
+            return false;
+        }
+
+        if (!parseLineString(wktReader, link, shape)) {
+            invalidGeometries.incrementAndGet();
+            builder.addLink(link.getLinkId(), startIndex, endIndex, length, null, null, 0);
+        } else {
+            // 빌더가 좌표를 형상 저장소로 복사하므로 버퍼는 다음 링크에 재사용
+            builder.addLink(link.getLinkId(), startIndex, endIndex, length,
+                    shape.latitudes(), shape.longitudes(), shape.size());
+        }
+        return true;
+    }
+
+    // LINESTRING WKT → shape 버퍼 (형식 오류 또는 좌표 2개 미만이면 false)
+    // LINESTRING은 WktScanner로 바로 읽고, 그 밖의 형식(MULTILINESTRING 등)만 JTS로 파싱
+    private boolean parseLineString(WKTReader wktReader, Link link, WktScanner.Coordinates shape) {
+        String wkt = link.getGeometry();
+        if (wkt == null || wkt.isBlank()) {
+            return false;
+        }
+        if (WktScanner.readLineString(wkt, shape)) {
+            return shape.size() >= 2;
+        }
+        try {
+            Coordinate[] coordinates = wktReader.read(wkt).getCoordinates();
+            shape.clear();
+            for (Coordinate coordinate : coordinates) {
+                shape.add(coordinate.x, coordinate.y);
+            }
+            return coordinates.length >= 2;
+        } catch (ParseException e) {
+            log.debug("Invalid link geometry for {}: {}", link.getLinkId(), e.getMessage());
+            return false;
+        }
+    }
+
+    // ==================== 지역 그래프 ====================
+
+    /**
+     * 시군구 × 격자 칸별 노드 수 집계로 좌표 → 지역 색인 생성 (그래프는 불러오지 않음)
+     * 노드 → 지역도 함께 읽어 두어 탐색 요청에서 노드 지역을 메모리에서 바로 찾음
+     * @param changedRegions 데이터가 바뀐 지역 (null이면 전체) → 이 지역이 들어간 지역 그래프만 해제
+     */
+    private void buildRegionIndex(Set<String> changedRegions) {
+        long startTime = System.currentTimeMillis();
+        List<Object[]> cells = nodeRepository.countNodesByRegionCell(RegionIndex.CELL_DEGREES);
+        long expectedNodes = 0;
+        for (Object[] row : cells) {
+            expectedNodes += ((Number) row[3]).longValue();
+        }
+        RegionIndex.Builder builder = new RegionIndex.Builder((int) Math.min(expectedNodes, Integer.MAX_VALUE / 2));
+        for (Object[] row : cells) {
+            builder.add((String) row[0], ((Number) row[1]).intValue(), ((Number) row[2]).intValue(),
+                    ((Number) row[3]).longValue());
+        }
+        // 노드 → 지역 (기본 키 키셋 페이징)
+        long afterId = 0L;
+        List<Object[]> keys;
+        do {
+            keys = nodeRepository.findRegionKeysByIdGreaterThan(afterId, Limit.of(PAGE_SIZE));
+            for (Object[] row : keys) {
+                builder.addNode((String) row[1], (String) row[2]);
+                afterId = ((Number) row[0]).longValue();
+            }
+        } while (keys.size() == PAGE_SIZE);
+        // 경계 노드: 노드 지역과 링크 지역이 다른 링크 끝 노드 → 두 지역 그래프 모두에 포함됨
+        for (Object[] row : nodeRepository.findRegionBoundaryNodes()) {
+            builder.addBoundaryNode((String) row[0], (String) row[1], (String) row[2]);
+        }
+        RegionIndex index = builder.build();
+
+        // 색인 교체 후 바뀐 지역의 지역 그래프 해제 (다음 요청 때 새 데이터로 다시 불러옴)
+        Set<String> stale = null;
+        if (changedRegions != null) {
+            stale = new HashSet<>(changedRegions);
+            RegionIndex previous = this.regionIndex;
+            for (String region : union(previous.boundaryRegions(), index.boundaryRegions())) {
+                if (!previous.boundaryNodeIds(region).equals(index.boundaryNodeIds(region))) stale.add(region);
+            }
+        }
+        this.regionIndex = index;
+        if (stale == null) {
+            regionGraphs.clear();
+        } else {
+            Set<String> changed = stale;
+            regionGraphs.values().removeIf(entry -> entry.regions.stream().anyMatch(changed::contains));
+        }
+
+        log.info("⭐ Region Index Built ⭐ regions = {}, cells = {}, boundary nodes = {}, indexed nodes = {} ({} KB), "
+                        + "memory budget = {} MB, time = {} ms",
+                index.regions().size(), index.cellCount(), index.boundaryNodeCount(), index.indexedNodeCount(),
+                index.nodeIndexMemoryBytes() / 1024, regionMemoryBudgetMb, System.currentTimeMillis() - startTime);
+    }
+
+    // 지역 목록(정렬됨)에 해당하는 그래프를 반환 (없으면 이 스레드에서 불러옴, 같은 지역은 한 번만 불러옴)
+    private RoutingGraph regionGraph(List<String> regions) {
+        String key = String.join("+", regions);
+        RegionGraph entry = regionGraphs.computeIfAbsent(key, k -> new RegionGraph(k, regions));
+        entry.lastUsed = System.nanoTime();
+
+        RoutingGraph graph = entry.graph;
+        if (graph == null) {
+            synchronized (entry) {
+                graph = entry.graph;
+                if (graph == null) {
+                    long startTime = System.currentTimeMillis();
+                    long expectedNodes = nodeRepository.countBySggCdIn(regions);
+                    graph = loadGraph(key, expectedNodes,
+                            afterId -> nodeRepository.findBySggCdInAndIdGreaterThanOrderByIdAsc(
+                                    regions, afterId, Limit.of(PAGE_SIZE)),
+                            afterId -> linkRepository.findBySggCdInAndIdGreaterThanOrderByIdAsc(
+                                    regions, afterId, Limit.of(PAGE_SIZE)),
+                            true, boundaryNodeIds(regions));
+                    entry.graph = graph;
+                    log.info("Region graph [{}] loaded in {} ms", key, System.currentTimeMillis() - startTime);
+                    evictOverBudget(entry);
+                }
+            }
+        }
+        return graph;
+    }
+
+    // 불러온 지역 그래프 합계가 메모리 예산을 넘으면 가장 오래 사용하지 않은 것부터 해제
+    // (탐색 중인 요청은 이미 받은 스냅샷을 계속 사용하므로 안전, off-heap 저장이면 direct 메모리는 GC 때 해제 - GraphStorage 참고)
+    private synchronized void evictOverBudget(RegionGraph keep) {
+        long budget = regionMemoryBudgetMb * 1024 * 1024;
+        List<RegionGraph> loaded = new ArrayList<>();
+        long total = 0;
+        for (RegionGraph entry : regionGraphs.values()) {
+            RoutingGraph graph = entry.graph;
+            if (graph != null) {
+                loaded.add(entry);
+                total += graph.memoryBytes();
+            }
+        }
+        if (total <= budget) return;
+
+        loaded.sort(Comparator.comparingLong(entry -> entry.lastUsed));
+        for (RegionGraph entry : loaded) {
+            if (total <= budget) break;
+            if (entry == keep) continue;
+            if (regionGraphs.remove(entry.key, entry)) {
+                total -= entry.graph.memoryBytes();
+                log.info("Region graph [{}] evicted (loaded total {} MB / budget {} MB)",
+                        entry.key, total / (1024 * 1024), regionMemoryBudgetMb);
+            }
+        }
+    }
+
+    private static Set<String> union(Set<String> a, Set<String> b) {
+        Set<String> all = new HashSet<>(a);
+        all.addAll(b);
+        return all;
+    }
+
+    private Set<String> boundaryNodeIds(List<String> regions) {
+        RegionIndex index = regionIndex;
+        if (regions.size() == 1) {
+            return index.boundaryNodeIds(regions.get(0));
+        }
+        Set<String> ids = new HashSet<>();
+        regions.forEach(region -> ids.addAll(index.boundaryNodeIds(region)));
+        return ids;
     }
 
-    private void addEdge(String source, String destination, double weight, String linkId) {
-        adjacencyMap.computeIfAbsent(source, k -> new ArrayList<>())
-                .add(new Edge(destination, weight, linkId));
+    /**
+     * 노드가 속한 지역 (노드 자신의 sgg_cd, 지역 색인에 없으면 null)
+     * 색인을 만들 때 읽어 둔 노드 → 지역에서 찾으므로 DB 조회나 불러온 지역 그래프 순회가 없음
+     * (경계 노드도 여러 지역 그래프에 실리지만 색인에는 자기 지역 하나만 기록됨)
+     */
+    public String getRegionOf(String nodeId) {
+        if (nodeId == null) return null;
+        return regionIndex.regionOf(nodeId);
     }
 }
@@ -0,0 +1,106 @@
+package com.trm.roadmate_backend.service;
+
+import com.trm.roadmate_backend.graph.HubLabels;
+import com.trm.roadmate_backend.graph.RoutingGraph;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 허브 레이블 거리 오라클 생성/관리
+ * - 전체 그래프 모드에서만 동작 (지역 그래프 모드는 그래프가 요청마다 달라지므로 제외)
+ * - 그래프 스냅샷이 바뀌면 그래프 부가 데이터 실행기(graphBuildExecutor)에서 다시 계산하며, 그동안은 EMPTY (호출 측은 다익스트라로 계산)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HubLabelService {
+
+    private static final long LABEL_ENTRY_BYTES = Integer.BYTES + Float.BYTES;
+
+    private final GraphService graphService;
+    private final ExecutorService graphBuildExecutor;
+
+    @Value("${routing.graph.hub-labels.enabled:false}")
+    private boolean enabled;
+
+    @Value("${routing.graph.hub-labels.memory-budget-mb:512}")
+    private long memoryBudgetMb;
+
+    private volatile HubLabels labels = HubLabels.EMPTY;
+    private volatile RoutingGraph builtFor;
+    private final AtomicBoolean building = new AtomicBoolean(false);
+
+    @PostConstruct
+    public void init() {
+        if (isConfigured()) {
+            triggerBuild();
+        }
+    }
+
+    /**
+     * 현재 그래프 스냅샷 기준 레이블 (없거나 다시 계산 중이면 EMPTY)
+     */
+    public HubLabels getLabels() {
+        if (!isConfigured()) {
+            return HubLabels.EMPTY;
+        }
+        if (builtFor != graphService.getRoutingGraph()) {
+            triggerBuild();
+            return HubLabels.EMPTY;
+        }
+        return labels;
+    }
+
+    private boolean isConfigured() {
+        return enabled && !graphService.isRegionMode();
+    }
+
+    // 한 번에 하나의 계산만 백그라운드 실행기에서 실행
+    private void triggerBuild() {
+        if (!building.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            graphBuildExecutor.execute(() -> {
+                try {
+                    build();
+                } catch (Exception e) {
+                    log.error("Hub label build failed", e);
+                } finally {
+                    building.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            building.set(false); // 종료 중
+        }
+    }
+
+    private void build() {
+        long startTime = System.currentTimeMillis();
+        RoutingGraph graph = graphService.getRoutingGraph();
+        if (graph.nodeCount() == 0) {
+            return; // 그래프 로딩 전 (로딩 후 첫 조회에서 다시 시도)
+        }
+
+        long maxLabels = memoryBudgetMb * 1024 * 1024 / LABEL_ENTRY_BYTES;
+        HubLabels result = HubLabels.compute(graph, maxLabels);
+        if (result == null) {
+            // 예산 초과: 같은 그래프로 다시 시도하지 않도록 EMPTY로 기록
+            log.warn("Hub labels exceed memory budget ({} MB), distance queries fall back to Dijkstra", memoryBudgetMb);
+            result = HubLabels.EMPTY;
+        }
+        this.labels = result;
+        this.builtFor = graph;
+
+        log.info("⭐ Hub Labels Built ⭐ labels = {}, avg label size = {}, size = {} KB, time = {} ms",
+                result.labelCount(), String.format("%.1f", result.averageLabelSize()),
+                result.memoryBytes() / 1024, System.currentTimeMillis() - startTime);
+    }
+}
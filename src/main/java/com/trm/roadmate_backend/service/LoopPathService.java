@@ -1,7 +1,9 @@
 package com.trm.roadmate_backend.service;
 
 import com.trm.roadmate_backend.dto.*;
-import com.trm.roadmate_backend.entity.Node;
+import com.trm.roadmate_backend.graph.RouteCoordinates;
+import com.trm.roadmate_backend.graph.SearchLimits;
+import com.trm.roadmate_backend.service.PathfindingService.Route;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,7 +15,6 @@ import java.util.*;
 @Slf4j
 public class LoopPathService {
 
-    private final GraphService graphService;
     private final PathfindingService pathfindingService;
 
     private static final double R = 6371000; // 지구 반지름 (미터)
@@ -52,10 +53,16 @@ public class LoopPathService {
                     .build();
         }
 
-        // 최소 루프: P1→P2→P1 왕복
-        PathResult path1 = pathfindingService.findShortestPath(startNodeId, viaNodeId);
-        PathResult path2 = pathfindingService.findShortestPath(viaNodeId, startNodeId);
-        double minLoop = (path1.getTotalDistance() + path2.getTotalDistance()) / 1000.0;
+        // 최소 루프: P1→P2→P1 왕복 (거리만 필요하므로 경로 좌표는 만들지 않음, 도로는 양방향이라 편도 × 2)
+        double oneWay = pathfindingService.findDistance(startNodeId, viaNodeId, pathfindingService.newSearchLimits());
+        if (oneWay < 0) {
+            return LoopEstimateResponse.builder()
+                    .feasible(false)
+                    .straightDistance(straightDist)
+                    .message("출발지와 경유지를 잇는 보행 경로가 없습니다")
+                    .build();
+        }
+        double minLoop = oneWay * 2 / 1000.0;
 
         // 권장 범위 계산
         double recommendedMin = Math.max(minLoop * 1.1, straightDist * 2.5);
@@ -76,7 +83,12 @@ public class LoopPathService {
 
     // ==================== 2. Generate: 목표 거리에 맞춰 루프 경로 생성 ====================
 
-    public LoopPathResponse generateLoopPath(LoopPathRequest request) {
+    /**
+     * 루프 경로를 생성하고, 좌표를 요청한 형식(JSON / polyline / columnar)으로 담아 반환합니다.
+     * detail=FULL이면 링크 형상 좌표를 사용하고, simplifyTolerance(미터)가 0보다 크면 합친 경로를 단순화합니다.
+     */
+    public LoopPathResponse generateLoopPath(LoopPathRequest request, PathFormat format, int precision,
+                                             PathDetail detail, double simplifyTolerance) {
         double targetKm = request.getTargetDistanceKm();
         double tolerancePct = request.getTolerancePercent() / 100.0;
 
@@ -112,30 +124,34 @@ public class LoopPathService {
 
         log.info("[Generate] 4 Points: P1={}, A={}, P2={}, B={}", p1NodeId, nodeAId, p2NodeId, nodeBId);
 
-        // Step 4: 4개 구간 최단 경로로 연결
-        PathResult path1 = pathfindingService.findShortestPath(p1NodeId, nodeAId);
-        PathResult path2 = pathfindingService.findShortestPath(nodeAId, p2NodeId);
-        PathResult path3 = pathfindingService.findShortestPath(p2NodeId, nodeBId);
-        PathResult path4 = pathfindingService.findShortestPath(nodeBId, p1NodeId);
+        // Step 4: 4개 구간 최단 경로로 연결 (4개 구간이 하나의 탐색 한도를 공유)
+        SearchLimits limits = pathfindingService.newSearchLimits();
+        Route path1 = pathfindingService.findRoute(p1NodeId, nodeAId, detail, limits);
+        Route path2 = pathfindingService.findRoute(nodeAId, p2NodeId, detail, limits);
+        Route path3 = pathfindingService.findRoute(p2NodeId, nodeBId, detail, limits);
+        Route path4 = pathfindingService.findRoute(nodeBId, p1NodeId, detail, limits);
 
         // 경로 실패 체크
-        if (path1.getPath().isEmpty()) return buildFailResponse("출발지 → 우회지A 경로 탐색 실패");
-        if (path2.getPath().isEmpty()) return buildFailResponse("우회지A → 중간지점 경로 탐색 실패");
-        if (path3.getPath().isEmpty()) return buildFailResponse("중간지점 → 우회지B 경로 탐색 실패");
-        if (path4.getPath().isEmpty()) return buildFailResponse("우회지B → 출발지 경로 탐색 실패");
-
-        // Step 5: 전체 경로 합치기
-        List<PathNode> fullPath = new ArrayList<>();
-        fullPath.addAll(path1.getPath());
-        fullPath.addAll(path2.getPath().subList(1, path2.getPath().size()));
-        fullPath.addAll(path3.getPath().subList(1, path3.getPath().size()));
-        fullPath.addAll(path4.getPath().subList(1, path4.getPath().size()));
+        if (!path1.isFound()) return buildFailResponse("출발지 → 우회지A 경로 탐색 실패");
+        if (!path2.isFound()) return buildFailResponse("우회지A → 중간지점 경로 탐색 실패");
+        if (!path3.isFound()) return buildFailResponse("중간지점 → 우회지B 경로 탐색 실패");
+        if (!path4.isFound()) return buildFailResponse("우회지B → 출발지 경로 탐색 실패");
+
+        // Step 5: 전체 경로 합치기 (구간 시작점은 이전 구간의 끝점과 같으므로 생략)
+        RouteCoordinates fullPath = new RouteCoordinates(
+                path1.getCoordinates().size() + path2.getCoordinates().size()
+                        + path3.getCoordinates().size() + path4.getCoordinates().size());
+        fullPath.append(path1.getCoordinates(), false);
+        fullPath.append(path2.getCoordinates(), true);
+        fullPath.append(path3.getCoordinates(), true);
+        fullPath.append(path4.getCoordinates(), true);
+        fullPath = fullPath.simplify(simplifyTolerance);
 
         // Step 6: 거리 계산
-        double dist1 = path1.getTotalDistance() / 1000.0;
-        double dist2 = path2.getTotalDistance() / 1000.0;
-        double dist3 = path3.getTotalDistance() / 1000.0;
-        double dist4 = path4.getTotalDistance() / 1000.0;
+        double dist1 = path1.getDistance() / 1000.0;
+        double dist2 = path2.getDistance() / 1000.0;
+        double dist3 = path3.getDistance() / 1000.0;
+        double dist4 = path4.getDistance() / 1000.0;
         double totalDistKm = dist1 + dist2 + dist3 + dist4;
 
         double toleranceKm = Math.abs(totalDistKm - targetKm);
@@ -153,41 +169,52 @@ public class LoopPathService {
         LoopPathResponse.SegmentInfo seg1 = LoopPathResponse.SegmentInfo.builder()
                 .from("출발지").to("우회지 A")
                 .distance(Math.round(dist1 * 100.0) / 100.0)
-                .nodeCount(path1.getPath().size())
+                .nodeCount(path1.getCoordinates().size())
                 .build();
 
         LoopPathResponse.SegmentInfo seg2 = LoopPathResponse.SegmentInfo.builder()
                 .from("우회지 A").to("중간지점")
                 .distance(Math.round(dist2 * 100.0) / 100.0)
-                .nodeCount(path2.getPath().size())
+                .nodeCount(path2.getCoordinates().size())
                 .build();
 
         LoopPathResponse.SegmentInfo seg3 = LoopPathResponse.SegmentInfo.builder()
                 .from("중간지점").to("우회지 B")
                 .distance(Math.round(dist3 * 100.0) / 100.0)
-                .nodeCount(path3.getPath().size())
+                .nodeCount(path3.getCoordinates().size())
                 .build();
 
         LoopPathResponse.SegmentInfo seg4 = LoopPathResponse.SegmentInfo.builder()
                 .from("우회지 B").to("출발지")
                 .distance(Math.round(dist4 * 100.0) / 100.0)
-                .nodeCount(path4.getPath().size())
+                .nodeCount(path4.getCoordinates().size())
                 .build();
 
-        return LoopPathResponse.builder()
+        LoopPathResponse.LoopPathResponseBuilder builder = LoopPathResponse.builder()
                 .actualDistance(Math.round(totalDistKm * 100.0) / 100.0)
                 .targetDistance(targetKm)
                 .tolerance(Math.round(toleranceKm * 100.0) / 100.0)
                 .withinTolerance(withinTolerance)
-                .path(fullPath)
                 .segment1(seg1)
                 .segment2(seg2)
                 .segment3(seg3)
                 .segment4(seg4)
                 .message(withinTolerance ?
                         "목표 거리 달성 성공" :
-                        String.format("루프 생성 완료 (목표 대비 %.2fkm 차이)", toleranceKm))
-                .build();
+                        String.format("루프 생성 완료 (목표 대비 %.2fkm 차이)", toleranceKm));
+
+        // Step 8: 좌표 형식별로 경로 채우기 (압축 형식은 PathNode 객체를 만들지 않음)
+        switch (format) {
+            case POLYLINE -> builder.format("polyline")
+                    .precision(precision)
+                    .encodedPath(fullPath.toPolyline(precision));
+            case COLUMNAR -> builder.format("columnar")
+                    .precision(precision)
+                    .latitudes(fullPath.roundedLatitudes(precision))
+                    .longitudes(fullPath.roundedLongitudes(precision));
+            default -> builder.path(fullPath.toPathNodes());
+        }
+        return builder.build();
     }
 
     private LoopPathResponse buildFailResponse(String message) {
@@ -285,20 +312,9 @@ public class LoopPathService {
 
     // ==================== 유틸리티 메서드 ====================
 
+    // 가상 노드는 제외하고, 가장 큰 연결 요소의 노드를 우선하여 스냅
     private String findNearestNodeId(double lat, double lng) {
-        String nearestId = null;
-        double minDist = Double.MAX_VALUE;
-
-        for (Node node : graphService.getAllNodes()) {
-            if (node.getIsVirtual()) continue;
-
-            double dist = calculateHaversine(lat, lng, node.getLatitude(), node.getLongitude());
-            if (dist < minDist) {
-                minDist = dist;
-                nearestId = node.getNodeId();
-            }
-        }
-        return nearestId;
+        return pathfindingService.findNearestNodeId(lat, lng, false);
     }
 
     private double calculateHaversine(double lat1, double lon1, double lat2, double lon2) {
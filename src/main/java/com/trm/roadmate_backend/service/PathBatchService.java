@@ -0,0 +1,129 @@
+package com.trm.roadmate_backend.service;
+
+import com.trm.roadmate_backend.dto.PathRequest;
+import com.trm.roadmate_backend.dto.PathBatchResult;
+import com.trm.roadmate_backend.dto.PathBatchResult.Status;
+import com.trm.roadmate_backend.exception.RoutingAbortedException;
+import com.trm.roadmate_backend.exception.RoutingOverloadedException;
+import com.trm.roadmate_backend.graph.SearchLimits;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PathBatchService {
+
+    private final PathfindingService pathfindingService;
+    private final ExecutorService routingExecutor;
+
+    @Value("${routing.batch.max-size:500}")
+    private int maxBatchSize;
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * 여러 개의 독립적인 경로 요청을 routingExecutor에 분산 실행합니다.
+     *
+     * 로직:
+     * - 1단계: 요청에 등장하는 좌표를 중복 제거 후 병렬로 최근접 노드에 스냅
+     * - 2단계: 스냅 결과가 같은 (출발, 도착) 쌍은 한 번만 탐색하고 결과를 공유
+     * - 요청마다 결과 상태(OK / NOT_FOUND / ABORTED / ERROR)를 따로 돌려주며, 한 요청의 실패가 배치 전체를 실패시키지 않음
+     * - 각 탐색은 limits.fork()로 자기 마감 시간을 갖고, limits.cancel() 시 남은 탐색이 모두 중단됨
+     * - routingExecutor 큐가 가득 차면 이미 제출한 탐색을 취소하고 RoutingOverloadedException(503)을 던짐
+     *
+     * @return 요청 순서와 동일한 순서의 결과 Future 목록 (같은 쌍이면 같은 Future)
+     */
+    public List<CompletableFuture<PathBatchResult>> submitBatch(List<PathRequest> requests, SearchLimits limits) {
+        try {
+            return submit(requests, limits);
+        } catch (RejectedExecutionException e) {
+            limits.cancel();
+            log.warn("[Batch] Routing executor queue is full, rejecting batch of {} requests", requests.size());
+            throw new RoutingOverloadedException("경로 탐색 요청이 많아 잠시 후 다시 시도해주세요");
+        }
+    }
+
+    private List<CompletableFuture<PathBatchResult>> submit(List<PathRequest> requests, SearchLimits limits) {
+        long startTime = System.currentTimeMillis();
+
+        // 1) 좌표 스냅 (중복 좌표는 한 번만)
+        Map<String, CompletableFuture<String>> snaps = new HashMap<>();
+        for (PathRequest request : requests) {
+            snap(snaps, request.getStartLat(), request.getStartLon());
+            snap(snaps, request.getEndLat(), request.getEndLon());
+        }
+
+        // 2) 스냅된 노드 쌍 단위로 중복 제거 후 탐색 제출
+        Map<String, CompletableFuture<PathBatchResult>> pairs = new HashMap<>();
+        List<CompletableFuture<PathBatchResult>> results = new ArrayList<>(requests.size());
+
+        for (PathRequest request : requests) {
+            String startNodeId;
+            String endNodeId;
+            try {
+                startNodeId = snaps.get(coordKey(request.getStartLat(), request.getStartLon())).join();
+                endNodeId = snaps.get(coordKey(request.getEndLat(), request.getEndLon())).join();
+            } catch (CompletionException e) {
+                // 스냅 실패는 해당 요청만 실패로 처리
+                log.error("[Batch] Nearest node lookup failed for ({}, {}) -> ({}, {})",
+                        request.getStartLat(), request.getStartLon(), request.getEndLat(), request.getEndLon(), e.getCause());
+                results.add(CompletableFuture.completedFuture(toFailure(e.getCause())));
+                continue;
+            }
+
+            if (startNodeId == null || endNodeId == null) {
+                results.add(CompletableFuture.completedFuture(
+                        PathBatchResult.failed(Status.NOT_FOUND, "좌표 근처에 보행 네트워크 노드가 없습니다")));
+                continue;
+            }
+
+            results.add(pairs.computeIfAbsent(startNodeId + "|" + endNodeId, key ->
+                    CompletableFuture
+                            .supplyAsync(() -> PathBatchResult.of(pathfindingService.findShortestPath(
+                                    startNodeId, endNodeId, limits.fork())), routingExecutor)
+                            .exceptionally(ex -> {
+                                Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+                                if (cause instanceof RoutingAbortedException aborted) {
+                                    log.warn("[Batch] Pathfinding aborted from {} to {}: {}",
+                                            startNodeId, endNodeId, aborted.getReason());
+                                } else {
+                                    log.error("[Batch] Pathfinding failed from {} to {}", startNodeId, endNodeId, cause);
+                                }
+                                return toFailure(cause);
+                            })
+            ));
+        }
+
+        log.info("[Batch] Requests={}, UniquePoints={}, UniquePairs={}, SnapTime={}ms",
+                requests.size(), snaps.size(), pairs.size(), System.currentTimeMillis() - startTime);
+
+        return results;
+    }
+
+    private PathBatchResult toFailure(Throwable cause) {
+        if (cause instanceof RoutingAbortedException aborted) {
+            return PathBatchResult.failed(Status.ABORTED, aborted.getMessage());
+        }
+        return PathBatchResult.failed(Status.ERROR, "경로 탐색 중 오류가 발생했습니다");
+    }
+
+    private void snap(Map<String, CompletableFuture<String>> snaps, double lat, double lon) {
+        snaps.computeIfAbsent(coordKey(lat, lon), key ->
+                CompletableFuture.supplyAsync(() -> pathfindingService.findNearestNodeId(lat, lon), routingExecutor));
+    }
+
+    private String coordKey(double lat, double lon) {
+        return lat + "," + lon;
+    }
+}
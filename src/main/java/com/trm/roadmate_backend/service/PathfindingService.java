@@ -1,11 +1,30 @@
 package com.trm.roadmate_backend.service;
 
+import com.trm.roadmate_backend.dto.AlternativePathResult;
+import com.trm.roadmate_backend.dto.CompactPathResult;
+import com.trm.roadmate_backend.dto.MeetingObjective;
+import com.trm.roadmate_backend.dto.MeetingPointRequest;
+import com.trm.roadmate_backend.dto.MeetingPointResult;
+import com.trm.roadmate_backend.dto.PathAlternative;
+import com.trm.roadmate_backend.dto.PathDetail;
+import com.trm.roadmate_backend.dto.PathFormat;
 import com.trm.roadmate_backend.dto.PathNode;
 import com.trm.roadmate_backend.dto.PathResult;
-import com.trm.roadmate_backend.entity.Node;
-import com.trm.roadmate_backend.service.GraphService.Edge;
+import com.trm.roadmate_backend.exception.InvalidRequestException;
+import com.trm.roadmate_backend.exception.RoutingAbortedException;
+import com.trm.roadmate_backend.graph.BoundaryOverlay;
+import com.trm.roadmate_backend.graph.HubLabels;
+import com.trm.roadmate_backend.graph.LinkGeometryStore;
+import com.trm.roadmate_backend.graph.MultiSourceSearch;
+import com.trm.roadmate_backend.graph.RerouteTree;
+import com.trm.roadmate_backend.graph.RouteCoordinates;
+import com.trm.roadmate_backend.graph.RoutingGraph;
+import com.trm.roadmate_backend.graph.SearchLimits;
+import com.trm.roadmate_backend.graph.SearchSpace;
+import com.trm.roadmate_backend.graph.ShortestPathTree;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -16,23 +35,207 @@ import java.util.*;
 public class PathfindingService {
 
     private final GraphService graphService;
+    private final BoundaryOverlayService boundaryOverlayService;
+    private final HubLabelService hubLabelService;
 
-    // --- State 내부 클래스: 다익스트라 우선순위 큐에서 사용 ---
-    private static class State implements Comparable<State> {
-        public final String nodeId;
-        public final double distance;
+    // --- 탐색 한도 (요청 하나의 탐색 전체 합계 기준) ---
+    @Value("${routing.search.timeout-ms:3000}")
+    private long searchTimeoutMs;
 
-        public State(String nodeId, double distance) {
-            this.nodeId = nodeId;
+    @Value("${routing.search.max-settled:2000000}")
+    private int searchMaxSettled;
+
+    // --- Route: 최단 경로 탐색 결과 (거리 + 좌표 배열) ---
+    public static class Route {
+        public static final Route EMPTY = new Route(-1.0, RouteCoordinates.empty());
+
+        private final double distance;              // 총 거리 (미터, 반올림 전)
+        private final RouteCoordinates coordinates; // 순서대로 정렬된 좌표
+
+        public Route(double distance, RouteCoordinates coordinates) {
             this.distance = distance;
+            this.coordinates = coordinates;
+        }
+
+        public double getDistance() {
+            return distance;
+        }
+
+        public RouteCoordinates getCoordinates() {
+            return coordinates;
+        }
+
+        /** 경로를 찾았고 좌표가 존재하는지 여부 */
+        public boolean isFound() {
+            return distance >= 0 && !coordinates.isEmpty();
+        }
+
+        /** 좌표를 허용 오차(미터) 내에서 단순화한 Route (거리는 그대로 유지) */
+        public Route simplify(double toleranceMeters) {
+            return isFound() ? new Route(distance, coordinates.simplify(toleranceMeters)) : this;
+        }
+    }
+
+    // --- PathTrace: 탐색 트리에서 복원한 경로 (노드 인덱스 + 지나간 링크 형상 참조) ---
+    private static class PathTrace {
+        final int[] nodes;     // 지나간 노드 인덱스 (출발 → 도착)
+        final int[] linkRefs;  // nodes[i] → nodes[i + 1] 구간의 링크 형상 참조 (길이 = nodes.length - 1)
+
+        PathTrace(int[] nodes, int[] linkRefs) {
+            this.nodes = nodes;
+            this.linkRefs = linkRefs;
+        }
+
+        /** 도착 → 출발 방향으로 뒤집은 경로 (링크도 역방향으로) */
+        PathTrace reversed() {
+            int[] reversedNodes = new int[nodes.length];
+            int[] reversedLinkRefs = new int[linkRefs.length];
+            for (int i = 0; i < nodes.length; i++) {
+                reversedNodes[i] = nodes[nodes.length - 1 - i];
+            }
+            for (int i = 0; i < linkRefs.length; i++) {
+                reversedLinkRefs[i] = linkRefs[linkRefs.length - 1 - i] ^ 1;
+            }
+            return new PathTrace(reversedNodes, reversedLinkRefs);
+        }
+    }
+
+    // --- Endpoint: 탐색 출발/도착 노드 (축약된 체인 내부 노드면 체인 양 끝 노드를 통해 탐색) ---
+    private static class Endpoint {
+        final int node;
+        final int segment;      // 축약된 노드가 속한 세그먼트 (탐색 그래프의 노드면 -1)
+        final int index;        // 세그먼트 내 위치 (시작 노드로부터 지나온 링크 수)
+        final int start;        // 세그먼트 시작 노드 (축약되지 않았으면 node)
+        final int end;          // 세그먼트 끝 노드 (축약되지 않았으면 node)
+        final double toStart;   // 시작 노드까지 거리
+        final double toEnd;     // 끝 노드까지 거리
+
+        private Endpoint(int node, int segment, int index, int start, int end, double toStart, double toEnd) {
+            this.node = node;
+            this.segment = segment;
+            this.index = index;
+            this.start = start;
+            this.end = end;
+            this.toStart = toStart;
+            this.toEnd = toEnd;
+        }
+
+        static Endpoint of(RoutingGraph graph, int node) {
+            int segment = graph.chainSegment(node);
+            if (segment < 0) {
+                return new Endpoint(node, -1, 0, node, node, 0.0, 0.0);
+            }
+            double offset = graph.chainOffset(node);
+            return new Endpoint(node, segment, graph.chainIndex(node),
+                    graph.segmentStart(segment), graph.segmentEnd(segment),
+                    offset, graph.segmentWeight(segment) - offset);
+        }
+
+        boolean isContracted() {
+            return segment >= 0;
+        }
+
+        boolean isEnd(int candidate) {
+            return candidate == start || candidate == end;
+        }
+
+        /** 탐색 트리의 루트(출발점)가 root일 때, 체인의 시작 노드 쪽을 지났는지 여부 */
+        boolean viaStart(int root) {
+            return root == start && (start != end || toStart <= toEnd);
+        }
+    }
+
+    // --- TraceBuilder: 세그먼트/링크를 이어 붙여 PathTrace를 만드는 버퍼 ---
+    private static class TraceBuilder {
+        private int[] nodes = new int[32];
+        private int[] linkRefs = new int[32];
+        private int links;
+
+        TraceBuilder(int startNode) {
+            nodes[0] = startNode;
+        }
+
+        void addLink(RoutingGraph graph, int linkRef) {
+            if (links + 1 == nodes.length) {
+                nodes = Arrays.copyOf(nodes, nodes.length * 2);
+                linkRefs = Arrays.copyOf(linkRefs, linkRefs.length * 2);
+            }
+            linkRefs[links] = linkRef;
+            nodes[++links] = graph.linkRefTarget(linkRef);
+        }
+
+        /** 세그먼트의 [from, to) 번째 링크를 순서대로 (reversed면 역순, 역방향으로) 추가 */
+        void addSegmentRange(RoutingGraph graph, int segment, int from, int to, boolean reversed) {
+            if (reversed) {
+                for (int i = to - 1; i >= from; i--) {
+                    addLink(graph, graph.segmentLinkRef(segment, i) ^ 1);
+                }
+            } else {
+                for (int i = from; i < to; i++) {
+                    addLink(graph, graph.segmentLinkRef(segment, i));
+                }
+            }
+        }
+
+        void addSegment(RoutingGraph graph, int segmentRef) {
+            int segment = segmentRef >>> 1;
+            addSegmentRange(graph, segment, 0, graph.segmentLength(segment), (segmentRef & 1) != 0);
         }
 
-        @Override
-        public int compareTo(State other) {
-            return Double.compare(this.distance, other.distance);
+        PathTrace build() {
+            return new PathTrace(Arrays.copyOf(nodes, links + 1), Arrays.copyOf(linkRefs, links));
+        }
+    }
+
+    // --- 좌표 스냅 파라미터 ---
+    private static final double SNAP_LARGEST_COMPONENT_SLACK = 200.0; // 가장 큰 연결 요소 노드를 우선하는 추가 허용 거리 (미터)
+    private static final double REROUTE_SNAP_MAX_DISTANCE = 200.0;    // 재탐색 트리 스냅 최대 거리 (넘으면 트리 밖으로 간주)
+
+    // --- 모임 장소 탐색 파라미터 ---
+    public static final int MEETING_MAX_PARTICIPANTS = 10;   // 한 번에 동시 탐색하는 최대 참가자 수 (참가자마다 탐색 공간 하나)
+
+    // --- 대안 경로 탐색 파라미터 ---
+    public static final int ALT_MAX_K = 5;                   // 한 번에 반환하는 최대 경로 수
+    private static final double ALT_MAX_STRETCH = 1.3;       // 최단 거리 대비 허용 최대 길이 비율
+    private static final double ALT_MIN_PLATEAU_RATIO = 0.1; // plateau 최소 길이 (최단 거리 대비)
+    private static final double ALT_MAX_OVERLAP = 0.7;       // 이미 선택된 경로와의 최대 겹침 비율
+
+    // --- 대안 경로 탐색용 내부 클래스 ---
+    private static class Plateau {
+        final int startNode;         // plateau 시작 노드 (경유 노드로 사용)
+        final double length;         // plateau 길이 (미터)
+        final double totalDistance;  // plateau를 지나는 경로의 전체 길이 (미터)
+
+        Plateau(int startNode, double length, double totalDistance) {
+            this.startNode = startNode;
+            this.length = length;
+            this.totalDistance = totalDistance;
+        }
+    }
+
+    private static class CandidatePath {
+        final double totalDistance;
+        final PathTrace trace;
+        final Map<Integer, Double> linkLengths; // 링크 인덱스 -> 길이
+
+        CandidatePath(double totalDistance, PathTrace trace, Map<Integer, Double> linkLengths) {
+            this.totalDistance = totalDistance;
+            this.trace = trace;
+            this.linkLengths = linkLengths;
+        }
+
+        /** 이 경로 길이 중 other 경로와 공유하는 링크 길이의 비율 (0.0 ~ 1.0) */
+        double overlapWith(CandidatePath other) {
+            if (totalDistance <= 0) return 1.0;
+            double shared = 0.0;
+            for (Map.Entry<Integer, Double> entry : linkLengths.entrySet()) {
+                if (other.linkLengths.containsKey(entry.getKey())) {
+                    shared += entry.getValue();
+                }
+            }
+            return Math.min(1.0, shared / totalDistance);
         }
     }
-    // --------------------------------------------------------
 
     /**
      * 위도/경도를 입력받아 최단 경로를 탐색하고 좌표를 포함한 PathResult를 반환합니다.
@@ -40,7 +243,18 @@ public class PathfindingService {
     public PathResult findShortestPathByCoords(
             double startLat, double startLon, double endLat, double endLon)
     {
-        // ... 기존 findNearestNodeId 로직 (생략) ...
+        return findShortestPathByCoords(startLat, startLon, endLat, endLon, PathDetail.NODE, 0.0);
+    }
+
+    /**
+     * 위도/경도를 입력받아 최단 경로를 탐색합니다.
+     * @param detail 좌표 상세 수준 (NODE: 노드 좌표, FULL: 링크 형상 전체)
+     * @param simplifyTolerance Douglas-Peucker 단순화 허용 오차 (미터, 0이면 단순화하지 않음)
+     */
+    public PathResult findShortestPathByCoords(
+            double startLat, double startLon, double endLat, double endLon,
+            PathDetail detail, double simplifyTolerance)
+    {
         String startNodeId = findNearestNodeId(startLat, startLon);
         String endNodeId = findNearestNodeId(endLat, endLon);
 
@@ -48,8 +262,29 @@ public class PathfindingService {
             return new PathResult(0.0, Collections.emptyList());
         }
 
-        // Step 2: 다익스트라 로직 호출
-        return findShortestPath(startNodeId, endNodeId);
+        Route route = findRoute(startNodeId, endNodeId, detail).simplify(simplifyTolerance);
+        if (!route.isFound()) {
+            return new PathResult(0.0, Collections.emptyList());
+        }
+        return new PathResult(roundDistance(route.getDistance()), route.getCoordinates().toPathNodes());
+    }
+
+    /**
+     * 위도/경도를 입력받아 최단 경로를 탐색하고, 좌표를 압축 형식(polyline / columnar)으로 반환합니다.
+     * PathNode 객체를 만들지 않고 그래프 좌표 배열에서 바로 인코딩합니다.
+     */
+    public CompactPathResult findCompactPathByCoords(
+            double startLat, double startLon, double endLat, double endLon, PathFormat format, int precision,
+            PathDetail detail, double simplifyTolerance)
+    {
+        String startNodeId = findNearestNodeId(startLat, startLon);
+        String endNodeId = findNearestNodeId(endLat, endLon);
+
+        Route route = (startNodeId == null || endNodeId == null)
+                ? Route.EMPTY
+                : findRoute(startNodeId, endNodeId, detail).simplify(simplifyTolerance);
+
+        return toCompactPathResult(route, format, precision);
     }
 
     /**
@@ -57,117 +292,772 @@ public class PathfindingService {
      * (반환 타입이 PathResult로 변경됨)
      */
     public PathResult findShortestPath(String startNodeId, String endNodeId) {
-        if (graphService.getNode(startNodeId) == null || graphService.getNode(endNodeId) == null) {
+        return findShortestPath(startNodeId, endNodeId, newSearchLimits());
+    }
+
+    public PathResult findShortestPath(String startNodeId, String endNodeId, SearchLimits limits) {
+        Route route = findRoute(startNodeId, endNodeId, PathDetail.NODE, limits);
+        if (!route.isFound()) {
             return new PathResult(0.0, Collections.emptyList());
         }
+        return new PathResult(roundDistance(route.getDistance()), route.getCoordinates().toPathNodes());
+    }
 
-        Map<String, Double> distances = new HashMap<>();
-        Map<String, String> predecessors = new HashMap<>();
-        PriorityQueue<State> pq = new PriorityQueue<>();
+    /**
+     * 다익스트라 알고리즘으로 최단 경로를 탐색하고, 거리와 노드 좌표 배열(RouteCoordinates)을 반환합니다.
+     * 경로가 없으면 Route.EMPTY를 반환합니다.
+     */
+    public Route findRoute(String startNodeId, String endNodeId) {
+        return findRoute(startNodeId, endNodeId, PathDetail.NODE);
+    }
+
+    /**
+     * 다익스트라 알고리즘으로 최단 경로를 탐색합니다.
+     * 그래프 스냅샷의 CSR 간선 배열과 재사용 탐색 공간(SearchSpace)을 사용하므로 탐색 중 객체 할당이 거의 없습니다.
+     * @param detail FULL이면 지나간 링크의 형상 좌표를 방향에 맞춰 이어 붙임
+     */
+    public Route findRoute(String startNodeId, String endNodeId, PathDetail detail) {
+        return findRoute(startNodeId, endNodeId, detail, newSearchLimits());
+    }
+
+    /**
+     * 주어진 탐색 한도 안에서 최단 경로를 탐색합니다.
+     * 한도를 넘거나 취소되면 RoutingAbortedException을 던집니다. (여러 구간을 하나의 한도로 묶을 때 사용)
+     */
+    public Route findRoute(String startNodeId, String endNodeId, PathDetail detail, SearchLimits limits) {
+        // 지역이 다른 두 노드는 경계 노드 오버레이가 있으면 지역 그래프 탐색 + 오버레이 탐색으로 처리
+        Route overlayRoute = findOverlayRoute(startNodeId, endNodeId, detail, limits);
+        if (overlayRoute != null) {
+            return overlayRoute;
+        }
+        return findRoute(graphService.getRoutingGraph(startNodeId, endNodeId), startNodeId, endNodeId, detail, limits);
+    }
+
+    // 주어진 그래프 안에서의 최단 경로
+    private Route findRoute(RoutingGraph graph, String startNodeId, String endNodeId, PathDetail detail,
+                            SearchLimits limits) {
+        int source = graph.indexOf(startNodeId);
+        int target = graph.indexOf(endNodeId);
+        if (source < 0 || target < 0) {
+            return Route.EMPTY;
+        }
+        if (!graph.isConnected(source, target)) {
+            // 서로 다른 연결 요소 → 탐색 없이 바로 "경로 없음"
+            log.warn("Path not found from {} to {}: disconnected components ({} / {})",
+                    startNodeId, endNodeId,
+                    graph.components().componentOf(source), graph.components().componentOf(target));
+            return Route.EMPTY;
+        }
+
+        Endpoint from = Endpoint.of(graph, source);
+        Endpoint to = Endpoint.of(graph, target);
+
+        // 같은 체인 위의 두 점은 체인을 그대로 따라가는 경로도 후보
+        double direct = (from.isContracted() && from.segment == to.segment)
+                ? Math.abs(graph.chainOffset(source) - graph.chainOffset(target))
+                : Double.POSITIVE_INFINITY;
+        double best = direct;
+
+        SearchSpace space = graph.acquireSearchSpace();
+        try {
+            best = searchTarget(space, from, to, best, limits);
+
+            if (best == Double.POSITIVE_INFINITY) {
+                log.warn("Path not found from {} to {}", startNodeId, endNodeId);
+                return Route.EMPTY;
+            }
+
+            // 경로 복원 후 그래프 좌표 배열 / 링크 형상에서 좌표 수집
+            PathTrace trace = direct <= targetDistance(space, to)
+                    ? traceAlongChain(graph, from, to)
+                    : traceToTarget(graph, space, from, to);
+            return new Route(best, toCoordinates(graph, trace, detail));
+        } catch (RoutingAbortedException e) {
+            log.warn("Path search aborted from {} to {}: reason={}, settled={}",
+                    startNodeId, endNodeId, e.getReason(), space.settledCount());
+            throw e;
+        } finally {
+            graph.releaseSearchSpace(space);
+        }
+    }
 
-        distances.put(startNodeId, 0.0);
-        pq.add(new State(startNodeId, 0.0));
+    /**
+     * 두 노드 사이 최단 거리(미터)만 계산합니다. 경로 좌표는 복원하지 않습니다.
+     * 허브 레이블이 준비되어 있으면 레이블 교집합으로, 아니면 거리만 구하는 다익스트라로 계산합니다.
+     * @return 경로가 없으면 -1
+     */
+    public double findDistance(String startNodeId, String endNodeId, SearchLimits limits) {
+        HubLabels labels = hubLabelService.getLabels();
+        RoutingGraph graph = labels.isEmpty() ? graphService.getRoutingGraph(startNodeId, endNodeId) : labels.graph();
+        int source = graph.indexOf(startNodeId);
+        int target = graph.indexOf(endNodeId);
+        if (source < 0 || target < 0 || !graph.isConnected(source, target)) {
+            return -1.0;
+        }
 
-        while (!pq.isEmpty()) {
-            State currentState = pq.poll();
-            String currentNodeId = currentState.nodeId;
-            double currentDistance = currentState.distance;
+        double distance;
+        if (!labels.isEmpty()) {
+            distance = labels.distance(source, target);
+        } else {
+            Endpoint from = Endpoint.of(graph, source);
+            Endpoint to = Endpoint.of(graph, target);
+            double direct = (from.isContracted() && from.segment == to.segment)
+                    ? Math.abs(graph.chainOffset(source) - graph.chainOffset(target))
+                    : Double.POSITIVE_INFINITY;
+            SearchSpace space = graph.acquireSearchSpace();
+            try {
+                distance = searchTarget(space, from, to, direct, limits);
+            } finally {
+                graph.releaseSearchSpace(space);
+            }
+        }
+        return distance == Double.POSITIVE_INFINITY ? -1.0 : distance;
+    }
 
-            if (currentDistance > distances.getOrDefault(currentNodeId, Double.MAX_VALUE)) {
-                continue;
+    // 도착점까지 탐색하고 최단 거리를 반환 (best: 이미 알고 있는 후보 거리, 탐색 트리는 space에 남음)
+    private double searchTarget(SearchSpace space, Endpoint from, Endpoint to, double best, SearchLimits limits) {
+        startSearch(space, from);
+        int node;
+        while ((node = space.settleNext(best)) >= 0) {
+            if (to.isEnd(node)) {
+                best = Math.min(best, targetDistance(space, to));
+                if (!to.isContracted()) break;
             }
+            limits.check();
+        }
+        return best;
+    }
 
-            if (currentNodeId.equals(endNodeId)) {
+    // ==================== 지역 경계 오버레이 경로 ====================
 
-                // 1. 최종 거리 (currentDistance) 확보
-                double rawDistance = currentDistance;
+    /**
+     * 출발/도착 지역이 다를 때 오버레이로 경로를 찾습니다.
+     * 1) 출발 지역 그래프에서 출발점 → 경계 노드 거리, 도착 지역 그래프에서 경계 노드 → 도착점 거리 계산
+     * 2) 오버레이(지역별 경계 노드 거리 표)에서 최단 경계 노드 열 탐색
+     * 3) 구간마다 해당 지역 그래프에서 다시 탐색해 좌표를 이어 붙임
+     * @return 오버레이로 경로를 만들지 못하면 null → 호출 측이 두 지역을 합친 그래프로 탐색
+     *         (같은 지역, 오버레이 미생성, 표가 없는 지역, 오버레이/구간 탐색 실패)
+     */
+    private Route findOverlayRoute(String startNodeId, String endNodeId, PathDetail detail, SearchLimits limits) {
+        BoundaryOverlay overlay = boundaryOverlayService.getOverlay();
+        if (overlay.isEmpty()) {
+            return null;
+        }
+        String startRegion = graphService.getRegionOf(startNodeId);
+        String endRegion = graphService.getRegionOf(endNodeId);
+        if (startRegion == null || endRegion == null || startRegion.equals(endRegion)
+                || !overlay.covers(startRegion) || !overlay.covers(endRegion)) {
+            return null;
+        }
 
-                // 2. 소수점 둘째 자리에서 반올림 처리 (예: 150.7853 -> 150.79)
-                double roundedDistance = Math.round(rawDistance * 100.0) / 100.0; // 💡 소수점 둘째 자리까지 유지
+        double[] sourceCosts = boundaryCosts(graphService.getRegionGraph(startRegion), startNodeId,
+                overlay.boundaryNodeIds(startRegion), limits);
+        double[] targetCosts = boundaryCosts(graphService.getRegionGraph(endRegion), endNodeId,
+                overlay.boundaryNodeIds(endRegion), limits);
+        BoundaryOverlay.Path path = overlay.search(startRegion, sourceCosts, endRegion, targetCosts, limits);
+        if (path == null) {
+            log.warn("Overlay path not found from {} to {} ({} -> {}), falling back to merged region graph",
+                    startNodeId, endNodeId, startRegion, endRegion);
+            return null;
+        }
 
-                // 3. 경로 복원 및 좌표 변환
-                List<String> nodeIdPath = reconstructPath(startNodeId, endNodeId, predecessors);
-                List<PathNode> pathWithCoords = convertNodesToPath(nodeIdPath);
+        // 출발점 → 첫 경계 노드 → ... → 마지막 경계 노드 → 도착점
+        String[] waypoints = path.getNodeIds();
+        List<Route> legs = new ArrayList<>(waypoints.length + 1);
+        legs.add(findLeg(startRegion, startNodeId, waypoints[0], detail, limits));
+        for (int i = 0; i + 1 < waypoints.length; i++) {
+            legs.add(findLeg(path.getHopRegions()[i], waypoints[i], waypoints[i + 1], detail, limits));
+        }
+        legs.add(findLeg(endRegion, waypoints[waypoints.length - 1], endNodeId, detail, limits));
 
-                // 4. 반올림된 값으로 PathResult 반환
-                return new PathResult(roundedDistance, pathWithCoords);
+        double distance = 0.0;
+        RouteCoordinates coordinates = new RouteCoordinates(64);
+        for (Route leg : legs) {
+            if (!leg.isFound()) {
+                log.warn("Overlay leg not found from {} to {}, falling back to merged region graph",
+                        startNodeId, endNodeId);
+                return null;
             }
+            distance += leg.getDistance();
+            coordinates.append(leg.getCoordinates(), !coordinates.isEmpty());
+        }
+        log.debug("Overlay route {} -> {}: regions {} -> {}, boundary nodes = {}, distance = {} (overlay {})",
+                startNodeId, endNodeId, startRegion, endRegion, waypoints.length, distance, path.getDistance());
+        return new Route(distance, coordinates);
+    }
 
-            List<Edge> edges = graphService.getEdges(currentNodeId);
-            for (Edge edge : edges) {
-                String nextNodeId = edge.destinationId;
-                double weight = edge.weight;
-                double newDistance = currentDistance + weight;
+    // 한 지역 그래프 안의 구간 (출발 = 도착이면 노드 하나짜리 경로)
+    private Route findLeg(String region, String fromNodeId, String toNodeId, PathDetail detail, SearchLimits limits) {
+        RoutingGraph graph = graphService.getRegionGraph(region);
+        if (fromNodeId.equals(toNodeId)) {
+            int node = graph.indexOf(fromNodeId);
+            if (node < 0) return Route.EMPTY;
+            RouteCoordinates coordinates = new RouteCoordinates(1);
+            coordinates.add(graph.latitude(node), graph.longitude(node));
+            return new Route(0.0, coordinates);
+        }
+        return findRoute(graph, fromNodeId, toNodeId, detail, limits);
+    }
+
+    // 지역 그래프에서 노드 → 경계 노드 거리 (도달 불가면 무한대, 도로는 양방향이므로 도착 쪽에도 그대로 사용)
+    private double[] boundaryCosts(RoutingGraph graph, String nodeId, String[] boundaryIds, SearchLimits limits) {
+        double[] costs = new double[boundaryIds.length];
+        Arrays.fill(costs, Double.POSITIVE_INFINITY);
+        int node = graph.indexOf(nodeId);
+        if (node < 0) return costs;
 
-                if (newDistance < distances.getOrDefault(nextNodeId, Double.MAX_VALUE)) {
-                    distances.put(nextNodeId, newDistance);
-                    predecessors.put(nextNodeId, currentNodeId);
-                    pq.add(new State(nextNodeId, newDistance));
+        int[] boundaryNodes = new int[boundaryIds.length];
+        for (int i = 0; i < boundaryIds.length; i++) {
+            boundaryNodes[i] = graph.indexOf(boundaryIds[i]);
+        }
+        int[] sorted = Arrays.stream(boundaryNodes).filter(b -> b >= 0).distinct().sorted().toArray();
+        int remaining = sorted.length;
+
+        SearchSpace space = graph.acquireSearchSpace();
+        try {
+            startSearch(space, Endpoint.of(graph, node));
+            int settled;
+            while (remaining > 0 && (settled = space.settleNext(Double.POSITIVE_INFINITY)) >= 0) {
+                limits.check();
+                if (Arrays.binarySearch(sorted, settled) >= 0) remaining--;
+            }
+            for (int i = 0; i < boundaryNodes.length; i++) {
+                if (boundaryNodes[i] >= 0 && space.isSettled(boundaryNodes[i])) {
+                    costs[i] = space.distance(boundaryNodes[i]);
                 }
             }
+        } finally {
+            graph.releaseSearchSpace(space);
         }
+        return costs;
+    }
 
-        log.warn("Path not found from {} to {}", startNodeId, endNodeId);
-        return new PathResult(0.0, Collections.emptyList());
+    /**
+     * 설정된 기본 탐색 한도 (routing.search.*)로 새 한도를 만듭니다. 마감 시간은 호출 시점부터 계산됩니다.
+     */
+    public SearchLimits newSearchLimits() {
+        return SearchLimits.of(searchTimeoutMs, searchMaxSettled);
     }
 
     /**
-     * 노드 ID 목록을 GraphService를 통해 Node 객체로 변환하고 PathNode 목록을 생성합니다.
+     * Route를 PathNode 목록 형식(JSON)의 응답 DTO로 변환합니다. (경로가 없으면 거리 0, 빈 목록)
      */
-    private List<PathNode> convertNodesToPath(List<String> nodeIdPath) {
-        List<PathNode> pathNodes = new ArrayList<>();
-        for (String nodeId : nodeIdPath) {
-            Node node = graphService.getNode(nodeId);
-            if (node != null) {
-                PathNode pathNode = new PathNode(
-                        // 💡 nodeId 필드 제거
-                        node.getLatitude(),
-                        node.getLongitude()
-                );
-                pathNodes.add(pathNode);
-            } else {
-                log.error("Missing Node data for ID: {}", nodeId);
-                return Collections.emptyList();
+    public PathResult toPathResult(Route route) {
+        if (!route.isFound()) {
+            return new PathResult(0.0, Collections.emptyList());
+        }
+        return new PathResult(roundDistance(route.getDistance()), route.getCoordinates().toPathNodes());
+    }
+
+    /**
+     * Route를 요청된 압축 형식의 응답 DTO로 변환합니다.
+     */
+    public CompactPathResult toCompactPathResult(Route route, PathFormat format, int precision) {
+        RouteCoordinates coordinates = route.getCoordinates();
+        CompactPathResult.CompactPathResultBuilder builder = CompactPathResult.builder()
+                .totalDistance(route.isFound() ? roundDistance(route.getDistance()) : 0.0)
+                .format(format.name().toLowerCase())
+                .precision(precision)
+                .pointCount(coordinates.size());
+
+        if (format == PathFormat.POLYLINE) {
+            builder.encodedPath(coordinates.toPolyline(precision));
+        } else {
+            builder.latitudes(coordinates.roundedLatitudes(precision))
+                    .longitudes(coordinates.roundedLongitudes(precision));
+        }
+        return builder.build();
+    }
+
+    // 소수점 둘째 자리에서 반올림 처리 (예: 150.7853 -> 150.79)
+    private double roundDistance(double distance) {
+        return Math.round(distance * 100.0) / 100.0;
+    }
+
+    // ==================== 경로 재탐색 (목적지 기준 최단 경로 트리) ====================
+
+    /**
+     * 목적지에서 radius(미터)까지 한 번 탐색해 재탐색용 트리를 만듭니다.
+     * @return 목적지 노드가 그래프에 없으면 null
+     */
+    public RerouteTree buildRerouteTree(String destinationNodeId, double radius, SearchLimits limits) {
+        RoutingGraph graph = graphService.getRoutingGraph(destinationNodeId, destinationNodeId);
+        int destination = graph.indexOf(destinationNodeId);
+        if (destination < 0) {
+            return null;
+        }
+
+        SearchSpace space = graph.acquireSearchSpace();
+        try {
+            startSearch(space, Endpoint.of(graph, destination));
+            while (space.settleNext(radius) >= 0) {
+                limits.check();
             }
+            return RerouteTree.capture(space, destination, radius);
+        } finally {
+            graph.releaseSearchSpace(space);
         }
-        return pathNodes;
     }
 
-    private List<String> reconstructPath(String startNodeId, String endNodeId, Map<String, String> predecessors) {
-        LinkedList<String> path = new LinkedList<>();
-        String current = endNodeId;
+    /**
+     * 현재 위치 → 목적지 경로를 재탐색 트리의 선행 포인터만 따라가서 만듭니다. (그래프 탐색 없음)
+     * @return 현재 위치가 트리 밖이면 Route.EMPTY (호출 측에서 일반 탐색으로 처리)
+     */
+    public Route reroute(RerouteTree tree, double latitude, double longitude, PathDetail detail) {
+        RoutingGraph graph = tree.graph();
+        int current = tree.snap(latitude, longitude, REROUTE_SNAP_MAX_DISTANCE);
+        if (current < 0) {
+            return Route.EMPTY;
+        }
 
-        while (current != null && !current.equals(startNodeId)) {
-            path.addFirst(current);
-            current = predecessors.get(current);
+        Endpoint from = Endpoint.of(graph, current);
+        Endpoint to = Endpoint.of(graph, tree.destination());
+        double viaStart = from.toStart + tree.distance(from.start);
+        double viaEnd = from.toEnd + tree.distance(from.end);
+        double direct = (from.isContracted() && from.segment == to.segment)
+                ? Math.abs(graph.chainOffset(current) - graph.chainOffset(tree.destination()))
+                : Double.POSITIVE_INFINITY;
+        double best = Math.min(direct, Math.min(viaStart, viaEnd));
+        if (best == Double.POSITIVE_INFINITY) {
+            return Route.EMPTY;
         }
 
-        if (current != null && current.equals(startNodeId)) {
-            path.addFirst(startNodeId);
+        PathTrace trace;
+        if (direct <= Math.min(viaStart, viaEnd)) {
+            trace = traceAlongChain(graph, from, to);
         } else {
-            return Collections.emptyList();
+            // 트리는 목적지 → 노드 방향이므로 목적지에서 현재 위치까지 복원한 뒤 뒤집음
+            boolean startSide = viaStart <= viaEnd;
+            TraceBuilder builder = traceFromSource(graph, tree, to, startSide ? from.start : from.end);
+            appendStubToTarget(builder, graph, from, startSide);
+            trace = builder.build().reversed();
+        }
+        return new Route(best, toCoordinates(graph, trace, detail));
+    }
+
+    // ==================== 모임 장소 (다중 출발점 동시 탐색) ====================
+
+    /**
+     * 참가자 위치들에서 동시에 탐색해 모임 장소(교차로 노드)를 찾습니다.
+     * 참가자 수만큼 전체 탐색을 하지 않고, 모든 탐색의 반경이 최적값 이상이 되는 순간 멈춥니다.
+     * 참가자별 경로는 각 탐색 트리에서 바로 복원합니다. (추가 탐색 없음)
+     */
+    public MeetingPointResult findMeetingPoint(List<MeetingPointRequest.Location> participants,
+                                               MeetingObjective objective, PathDetail detail) {
+        if (participants == null || participants.size() < 2 || participants.size() > MEETING_MAX_PARTICIPANTS) {
+            throw new InvalidRequestException("참가자는 2 ~ " + MEETING_MAX_PARTICIPANTS + "명이어야 합니다.");
+        }
+
+        int k = participants.size();
+        String[] nodeIds = new String[k];
+        for (int i = 0; i < k; i++) {
+            nodeIds[i] = findNearestNodeId(participants.get(i).getLat(), participants.get(i).getLon());
+            if (nodeIds[i] == null) {
+                return MeetingPointResult.builder().found(false).objective(objective.name().toLowerCase()).build();
+            }
+        }
+
+        // 지역 그래프 모드에서는 모든 참가자의 지역을 합친 그래프
+        RoutingGraph graph = graphService.getRoutingGraph(Arrays.asList(nodeIds));
+        Endpoint[] from = new Endpoint[k];
+        for (int i = 0; i < k; i++) {
+            int node = graph.indexOf(nodeIds[i]);
+            if (node < 0 || !graph.isConnected(graph.indexOf(nodeIds[0]), node)) {
+                log.warn("Meeting point not found: participant {} ({}) is not reachable from participant 0", i, nodeIds[i]);
+                return MeetingPointResult.builder().found(false).objective(objective.name().toLowerCase()).build();
+            }
+            from[i] = Endpoint.of(graph, node);
+        }
+
+        SearchSpace[] spaces = new SearchSpace[k];
+        try {
+            for (int i = 0; i < k; i++) {
+                spaces[i] = graph.acquireSearchSpace();
+                startSearch(spaces[i], from[i]);
+            }
+            int meeting = MultiSourceSearch.findMeetingNode(spaces, objective, newSearchLimits());
+            if (meeting < 0) {
+                return MeetingPointResult.builder().found(false).objective(objective.name().toLowerCase()).build();
+            }
+
+            List<MeetingPointResult.ParticipantRoute> routes = new ArrayList<>(k);
+            double max = 0.0;
+            double total = 0.0;
+            for (int i = 0; i < k; i++) {
+                double distance = spaces[i].distance(meeting);
+                PathTrace trace = traceFromSource(graph, spaces[i], from[i], meeting).build();
+                routes.add(MeetingPointResult.ParticipantRoute.builder()
+                        .index(i)
+                        .distance(roundDistance(distance))
+                        .path(toCoordinates(graph, trace, detail).toPathNodes())
+                        .build());
+                max = Math.max(max, distance);
+                total += distance;
+            }
+
+            log.info("[MeetingPoint] participants = {}, objective = {}, node = {}, max = {}m, total = {}m, settled = {}",
+                    k, objective, graph.nodeId(meeting), roundDistance(max), roundDistance(total),
+                    Arrays.stream(spaces).mapToInt(SearchSpace::settledCount).sum());
+            return MeetingPointResult.builder()
+                    .found(true)
+                    .objective(objective.name().toLowerCase())
+                    .latitude(graph.latitude(meeting))
+                    .longitude(graph.longitude(meeting))
+                    .maxDistance(roundDistance(max))
+                    .totalDistance(roundDistance(total))
+                    .routes(routes)
+                    .build();
+        } finally {
+            for (SearchSpace space : spaces) {
+                if (space != null) graph.releaseSearchSpace(space);
+            }
+        }
+    }
+
+    // ==================== 대안 경로 (Plateau 방식) ====================
+
+    /**
+     * 최단 경로를 포함해 최대 k개의 서로 다른 대안 경로를 반환합니다.
+     *
+     * 로직:
+     * - 출발지 기준 정방향 트리와 도착지 기준 역방향 트리를 각각 한 번씩만 생성
+     * - 두 트리 모두 최단거리 × ALT_MAX_STRETCH 까지만 확장 (탐색량 제한)
+     * - 두 트리에 공통으로 속한 간선 구간(plateau)을 찾아, 긴 plateau 순으로 경로 후보 구성
+     * - 이미 선택된 경로와의 겹침 비율이 ALT_MAX_OVERLAP 이하인 후보만 채택
+     */
+    public AlternativePathResult findAlternativePathsByCoords(
+            double startLat, double startLon, double endLat, double endLon, int k)
+    {
+        String startNodeId = findNearestNodeId(startLat, startLon);
+        String endNodeId = findNearestNodeId(endLat, endLon);
+
+        if (startNodeId == null || endNodeId == null) {
+            return new AlternativePathResult(0.0, Collections.emptyList());
+        }
+        return findAlternativePaths(startNodeId, endNodeId, k);
+    }
+
+    public AlternativePathResult findAlternativePaths(String startNodeId, String endNodeId, int k) {
+        RoutingGraph graph = graphService.getRoutingGraph(startNodeId, endNodeId);
+        int source = graph.indexOf(startNodeId);
+        int target = graph.indexOf(endNodeId);
+        if (source < 0 || target < 0 || source == target || !graph.isConnected(source, target)) {
+            return new AlternativePathResult(0.0, Collections.emptyList());
+        }
+        int maxRoutes = Math.max(1, Math.min(k, ALT_MAX_K));
+        Endpoint from = Endpoint.of(graph, source);
+        Endpoint to = Endpoint.of(graph, target);
+
+        SearchLimits limits = newSearchLimits();
+        SearchSpace forward = graph.acquireSearchSpace();
+        SearchSpace backward = graph.acquireSearchSpace();
+        try {
+            // 1) 정방향 트리: 도착지가 확정되면 그 거리 × stretch 까지만 더 확장
+            growBoundedTree(forward, from, to, Double.POSITIVE_INFINITY, limits);
+            double searched = targetDistance(forward, to);
+
+            // 같은 체인 위의 두 점은 체인을 그대로 따라가는 경로도 후보
+            double direct = (from.isContracted() && from.segment == to.segment)
+                    ? Math.abs(graph.chainOffset(source) - graph.chainOffset(target))
+                    : Double.POSITIVE_INFINITY;
+            double shortest = Math.min(searched, direct);
+            if (shortest == Double.POSITIVE_INFINITY) {
+                log.warn("Path not found from {} to {}", startNodeId, endNodeId);
+                return new AlternativePathResult(0.0, Collections.emptyList());
+            }
+            double bound = shortest * ALT_MAX_STRETCH;
+
+            // 2) 역방향 트리 (양방향 간선 그래프이므로 도착지에서 동일하게 탐색)
+            growBoundedTree(backward, to, null, bound, limits);
+
+            // 3) Plateau 추출: 정방향 pred(v) = u 이고 역방향 pred(u) = v 인 간선들의 연속 구간
+            List<Plateau> plateaus = findPlateaus(forward, backward, bound);
+            plateaus.sort((a, b) -> Double.compare(b.length, a.length));
+
+            // 4) 최단 경로를 첫 번째로 채택 (도착지 쪽 체인 끝 노드 중 가까운 쪽을 경유)
+            List<CandidatePath> selected = new ArrayList<>();
+            int primaryVia = forward.distance(to.start) + to.toStart <= forward.distance(to.end) + to.toEnd
+                    ? to.start : to.end;
+            CandidatePath primary = direct <= searched
+                    ? toCandidate(graph, traceAlongChain(graph, from, to), direct)
+                    : buildViaPath(graph, from, to, primaryVia, forward, backward);
+            if (primary == null) {
+                return new AlternativePathResult(0.0, Collections.emptyList());
+            }
+            selected.add(primary);
+
+            // 5) 긴 plateau 순으로 대안 경로 후보 검사
+            for (Plateau plateau : plateaus) {
+                if (selected.size() >= maxRoutes) break;
+                if (plateau.length < shortest * ALT_MIN_PLATEAU_RATIO) break; // 이후는 모두 더 짧음
+                if (plateau.totalDistance <= shortest) continue; // 최단 경로 자체의 plateau
+
+                CandidatePath candidate = buildViaPath(graph, from, to, plateau.startNode, forward, backward);
+                if (candidate == null) continue; // 순환(같은 노드 재방문)이 생기는 경로는 제외
+
+                boolean diverse = true;
+                for (CandidatePath chosen : selected) {
+                    if (candidate.overlapWith(chosen) > ALT_MAX_OVERLAP) {
+                        diverse = false;
+                        break;
+                    }
+                }
+                if (diverse) selected.add(candidate);
+            }
+
+            List<PathAlternative> routes = new ArrayList<>();
+            for (CandidatePath path : selected) {
+                List<PathNode> pathWithCoords = toCoordinates(graph, path.trace, PathDetail.NODE).toPathNodes();
+                if (pathWithCoords.isEmpty()) continue;
+                routes.add(new PathAlternative(
+                        roundDistance(path.totalDistance),
+                        Math.round(path.overlapWith(primary) * 1000.0) / 1000.0,
+                        pathWithCoords
+                ));
+            }
+
+            log.info("Alternative paths from {} to {}: requested={}, found={}, plateaus={}, settled(F/B)={}/{}",
+                    startNodeId, endNodeId, maxRoutes, routes.size(), plateaus.size(),
+                    forward.settledCount(), backward.settledCount());
+
+            return new AlternativePathResult(roundDistance(shortest), routes);
+        } finally {
+            graph.releaseSearchSpace(forward);
+            graph.releaseSearchSpace(backward);
         }
-        return path;
+    }
+
+    /**
+     * 루트에서 시작하는 최단 경로 트리를 bound 거리까지만 확장합니다.
+     * target이 주어지고 bound가 미정(무한대)이면, target 도달 시 bound = 거리 × ALT_MAX_STRETCH 로 설정합니다.
+     */
+    private void growBoundedTree(SearchSpace space, Endpoint root, Endpoint target, double bound, SearchLimits limits) {
+        double limit = bound;
+        startSearch(space, root);
+
+        int node;
+        while ((node = space.settleNext(limit)) >= 0) {
+            if (target != null && limit == Double.POSITIVE_INFINITY && target.isEnd(node)) {
+                limit = targetDistance(space, target) * ALT_MAX_STRETCH;
+            }
+            limits.check();
+        }
+    }
+
+    private List<Plateau> findPlateaus(SearchSpace forward, SearchSpace backward, double bound) {
+        List<Plateau> plateaus = new ArrayList<>();
+
+        for (int i = 0; i < forward.settledCount(); i++) {
+            int node = forward.settledNode(i);
+            if (!backward.isSettled(node)) continue;
+
+            double total = forward.distance(node) + backward.distance(node);
+            if (total > bound) continue;
+
+            // plateau의 시작 노드만 처리 (정방향 pred에서 이어지는 plateau 간선이 없는 노드)
+            int prev = forward.predecessor(node);
+            if (prev >= 0 && backward.predecessor(prev) == node) continue;
+
+            // 역방향 트리를 따라가며 정방향 트리와 일치하는 동안 plateau 연장
+            int current = node;
+            double length = 0.0;
+            int next = backward.predecessor(current);
+            while (next >= 0 && forward.predecessor(next) == current && forward.isSettled(next)) {
+                length += forward.distance(next) - forward.distance(current);
+                current = next;
+                next = backward.predecessor(current);
+            }
+
+            if (length > 0) {
+                plateaus.add(new Plateau(node, length, total));
+            }
+        }
+        return plateaus;
+    }
+
+    /**
+     * 경유 노드(via)를 지나는 경로를 정방향 트리(출발→경유) + 역방향 트리(경유→도착)로 복원합니다.
+     * 같은 노드를 두 번 지나는 경로는 null을 반환합니다.
+     */
+    private CandidatePath buildViaPath(RoutingGraph graph, Endpoint from, Endpoint to, int via,
+                                       SearchSpace forward, SearchSpace backward) {
+        TraceBuilder builder = traceFromSource(graph, forward, from, via);
+        if (builder == null || backward.distance(via) == Double.POSITIVE_INFINITY) return null;
+
+        // 역방향 트리의 선행 간선은 (다음 노드 → 현재 노드) 방향이므로 세그먼트 방향 비트를 뒤집어 기록
+        int current = via;
+        while (backward.predecessor(current) >= 0) {
+            builder.addSegment(graph, graph.edgeSegmentRef(backward.predecessorEdge(current)) ^ 1);
+            current = backward.predecessor(current);
+        }
+        appendStubToTarget(builder, graph, to, to.viaStart(current));
+
+        PathTrace trace = builder.build();
+        Set<Integer> visited = new HashSet<>();
+        for (int node : trace.nodes) {
+            if (!visited.add(node)) return null;
+        }
+        return toCandidate(graph, trace, forward.distance(via) + backward.distance(via));
+    }
+
+    private CandidatePath toCandidate(RoutingGraph graph, PathTrace trace, double totalDistance) {
+        Map<Integer, Double> linkLengths = new HashMap<>();
+        for (int linkRef : trace.linkRefs) {
+            linkLengths.putIfAbsent(linkRef >>> 1, graph.linkLength(linkRef >>> 1));
+        }
+        return new CandidatePath(totalDistance, trace, linkLengths);
+    }
+
+    // ==================== 탐색 시작/종료 & 경로 복원 ====================
+
+    // 축약된 체인 내부 노드에서 출발하면 체인 양 끝 노드를 (체인 거리만큼 떨어진) 출발점으로 사용
+    private void startSearch(SearchSpace space, Endpoint from) {
+        space.reset();
+        space.addSource(from.start, from.toStart);
+        space.addSource(from.end, from.toEnd);
+    }
+
+    // 현재 탐색 상태에서 도착점까지의 거리 (체인 양 끝 중 가까운 쪽)
+    private double targetDistance(SearchSpace space, Endpoint to) {
+        return Math.min(space.distance(to.start) + to.toStart, space.distance(to.end) + to.toEnd);
+    }
+
+    /**
+     * 탐색 트리를 따라 출발점 → 도착점 경로를 복원합니다.
+     * (출발 체인 구간 + 세그먼트 확장 + 도착 체인 구간)
+     */
+    private PathTrace traceToTarget(RoutingGraph graph, SearchSpace space, Endpoint from, Endpoint to) {
+        boolean viaStart = space.distance(to.start) + to.toStart <= space.distance(to.end) + to.toEnd;
+        TraceBuilder builder = traceFromSource(graph, space, from, viaStart ? to.start : to.end);
+        appendStubToTarget(builder, graph, to, viaStart);
+        return builder.build();
+    }
+
+    /** 출발점 → node 경로 (탐색 트리의 선행 간선을 세그먼트 단위로 확장). 도달하지 못했으면 null */
+    private TraceBuilder traceFromSource(RoutingGraph graph, ShortestPathTree tree, Endpoint from, int node) {
+        if (tree.distance(node) == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+
+        int length = 0;
+        int root = node;
+        while (tree.predecessor(root) >= 0) {
+            root = tree.predecessor(root);
+            length++;
+        }
+
+        int[] segmentRefs = new int[length];
+        int current = node;
+        for (int i = length - 1; i >= 0; i--) {
+            segmentRefs[i] = graph.edgeSegmentRef(tree.predecessorEdge(current));
+            current = tree.predecessor(current);
+        }
+
+        TraceBuilder builder = new TraceBuilder(from.node);
+        if (from.isContracted()) {
+            // 출발 노드 → 체인 끝 노드
+            if (from.viaStart(root)) {
+                builder.addSegmentRange(graph, from.segment, 0, from.index, true);
+            } else {
+                builder.addSegmentRange(graph, from.segment, from.index, graph.segmentLength(from.segment), false);
+            }
+        }
+        for (int segmentRef : segmentRefs) {
+            builder.addSegment(graph, segmentRef);
+        }
+        return builder;
+    }
+
+    // 체인 끝 노드 → 도착 노드
+    private void appendStubToTarget(TraceBuilder builder, RoutingGraph graph, Endpoint to, boolean viaStart) {
+        if (!to.isContracted()) return;
+        if (viaStart) {
+            builder.addSegmentRange(graph, to.segment, 0, to.index, false);
+        } else {
+            builder.addSegmentRange(graph, to.segment, to.index, graph.segmentLength(to.segment), true);
+        }
+    }
+
+    // 같은 체인 위의 두 점을 체인을 따라 잇는 경로
+    private PathTrace traceAlongChain(RoutingGraph graph, Endpoint from, Endpoint to) {
+        TraceBuilder builder = new TraceBuilder(from.node);
+        if (from.index <= to.index) {
+            builder.addSegmentRange(graph, from.segment, from.index, to.index, false);
+        } else {
+            builder.addSegmentRange(graph, from.segment, to.index, from.index, true);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 복원된 경로의 좌표를 RouteCoordinates로 수집합니다.
+     * - NODE: 그래프 좌표 배열에서 노드 좌표만
+     * - FULL: 링크 형상 저장소에서 링크별 구간을 방향에 맞춰 일괄 복사 (링크 경계의 중복 좌표는 한 번만)
+     */
+    private RouteCoordinates toCoordinates(RoutingGraph graph, PathTrace trace, PathDetail detail) {
+        if (detail != PathDetail.FULL || trace.linkRefs.length == 0) {
+            RouteCoordinates coordinates = new RouteCoordinates(trace.nodes.length);
+            for (int node : trace.nodes) {
+                coordinates.add(graph.latitude(node), graph.longitude(node));
+            }
+            return coordinates;
+        }
+
+        LinkGeometryStore geometry = graph.geometry();
+        int capacity = 1;
+        for (int linkRef : trace.linkRefs) {
+            capacity += geometry.pointCount(linkRef >>> 1) - 1;
+        }
+
+        RouteCoordinates coordinates = new RouteCoordinates(capacity);
+        for (int i = 0; i < trace.linkRefs.length; i++) {
+            int linkRef = trace.linkRefs[i];
+            geometry.appendTo(coordinates, linkRef >>> 1, (linkRef & 1) != 0, i > 0);
+        }
+        return coordinates;
     }
 
     /**
      * 주어진 좌표에 가장 가까운 Node ID를 찾습니다. (하버사인 공식 사용)
      */
-    private String findNearestNodeId(double targetLat, double targetLon) {
-        String nearestId = null;
+    public String findNearestNodeId(double targetLat, double targetLon) {
+        return findNearestNodeId(targetLat, targetLon, true);
+    }
+
+    /**
+     * 주어진 좌표에 가장 가까운 Node ID를 찾습니다.
+     * 가장 큰 연결 요소의 노드가 전체 최근접 노드보다 SNAP_LARGEST_COMPONENT_SLACK 이내로만 멀면 그 노드를 우선합니다.
+     * (구 경계의 가상 노드처럼 고립된 작은 섬에 스냅되어 "경로 없음"이 되는 경우를 방지)
+     * @param includeVirtual false면 가상 노드는 후보에서 제외
+     */
+    public String findNearestNodeId(double targetLat, double targetLon, boolean includeVirtual) {
+        RoutingGraph graph = graphService.getRoutingGraphAt(targetLat, targetLon);
+        int largest = graph.components().largest();
+
+        int nearest = -1;
         double minDistance = Double.MAX_VALUE;
+        int nearestInLargest = -1;
+        double minDistanceInLargest = Double.MAX_VALUE;
 
         // 경고: 노드 개수가 많으면 성능 문제가 발생합니다.
-        for (Node node : graphService.getAllNodes()) {
-            double distance = calculateHaversineDistance(
-                    targetLat, targetLon, node.getLatitude(), node.getLongitude());
+        for (int node = 0; node < graph.nodeCount(); node++) {
+            if (!includeVirtual && graph.isVirtual(node)) continue;
 
+            double distance = calculateHaversineDistance(targetLat, targetLon, graph.latitude(node), graph.longitude(node));
             if (distance < minDistance) {
                 minDistance = distance;
-                nearestId = node.getNodeId();
+                nearest = node;
+            }
+            if (distance < minDistanceInLargest && graph.components().componentOf(node) == largest) {
+                minDistanceInLargest = distance;
+                nearestInLargest = node;
             }
         }
-        return nearestId;
+
+        if (nearestInLargest >= 0 && minDistanceInLargest - minDistance <= SNAP_LARGEST_COMPONENT_SLACK) {
+            return graph.nodeId(nearestInLargest);
+        }
+        return nearest >= 0 ? graph.nodeId(nearest) : null;
     }
 
     /**
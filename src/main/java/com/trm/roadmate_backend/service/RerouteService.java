@@ -0,0 +1,180 @@
+package com.trm.roadmate_backend.service;
+
+import com.trm.roadmate_backend.dto.PathDetail;
+import com.trm.roadmate_backend.entity.RouteStatus;
+import com.trm.roadmate_backend.entity.WalkRoute;
+import com.trm.roadmate_backend.exception.UnauthorizedUserException;
+import com.trm.roadmate_backend.graph.RerouteTree;
+import com.trm.roadmate_backend.repository.WalkRouteRepository;
+import com.trm.roadmate_backend.service.PathfindingService.Route;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진행 중인 산책의 경로 재탐색
+ * - 산책(routeId)마다 목적지 기준 최단 경로 트리를 처음 재탐색할 때 한 번만 만들고 TTL 캐시에 보관
+ *   (트리 수와 합계 메모리에 상한, 넘으면 만료된 것, 그다음 오래 쓰지 않은 것부터 해제)
+ * - 이후 재탐색은 현재 위치를 트리에 스냅한 뒤 선행 포인터만 따라가므로 그래프 탐색이 없음
+ * - 트리 반경을 벗어났거나 그래프가 다시 로딩되었으면 일반 탐색/트리 재생성으로 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RerouteService {
+
+    private final WalkRouteRepository walkRouteRepository;
+    private final PathfindingService pathfindingService;
+    private final GraphService graphService;
+
+    // 목적지에서 트리를 만들 탐색 반경 (미터)
+    @Value("${routing.reroute.radius-m:5000}")
+    private double radius;
+
+    // 마지막 재탐색 이후 트리를 보관하는 시간
+    @Value("${routing.reroute.ttl-minutes:120}")
+    private long ttlMinutes;
+
+    // 동시에 보관하는 최대 트리 수 (넘으면 만료된 것, 그다음 오래 쓰지 않은 것부터 해제)
+    @Value("${routing.reroute.max-entries:10000}")
+    private int maxEntries;
+
+    // 보관 중인 트리 합계 메모리 상한 (RerouteTree.memoryBytes 기준, 넘으면 같은 순서로 해제)
+    @Value("${routing.reroute.memory-budget-mb:256}")
+    private long memoryBudgetMb;
+
+    private static final class CachedTree {
+        private final Integer userId;
+        private final String destinationNodeId;
+        private final RerouteTree tree;
+        private volatile long expiresAt;
+
+        private CachedTree(Integer userId, String destinationNodeId, RerouteTree tree) {
+            this.userId = userId;
+            this.destinationNodeId = destinationNodeId;
+            this.tree = tree;
+        }
+    }
+
+    private final Map<Long, CachedTree> trees = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 위치에서 산책 목적지까지 경로를 다시 찾습니다.
+     * @throws UnauthorizedUserException 산책을 찾을 수 없거나 접근 권한이 없을 경우
+     * @throws IllegalStateException 진행 중이 아니거나 목적지가 없는 산책일 경우
+     */
+    public Route reroute(Long routeId, Integer userId, double latitude, double longitude, PathDetail detail) {
+        CachedTree cached = usableTree(routeId, userId);
+        cached.expiresAt = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(ttlMinutes);
+
+        Route route = pathfindingService.reroute(cached.tree, latitude, longitude, detail);
+        if (route.isFound()) {
+            return route;
+        }
+
+        // 트리 밖 (반경을 벗어났거나 트리 노드에서 멀리 떨어짐) → 일반 탐색
+        log.debug("[Reroute] route {} outside reroute tree, falling back to full search", routeId);
+        String currentNodeId = pathfindingService.findNearestNodeId(latitude, longitude);
+        if (currentNodeId == null) {
+            return Route.EMPTY;
+        }
+        return pathfindingService.findRoute(currentNodeId, cached.destinationNodeId, detail);
+    }
+
+    /** 산책이 끝나거나 삭제되면 트리를 바로 해제 */
+    public void evict(Long routeId) {
+        trees.remove(routeId);
+    }
+
+    /**
+     * 재사용할 수 있는 트리, 없으면 새로 만들어 등록합니다.
+     * 트리 생성(DB 조회 + 그래프 탐색)은 맵 갱신 함수 밖에서 실행 → 같은 해시 칸의 다른 산책 조회/갱신을 막지 않음
+     * (같은 산책의 첫 요청이 동시에 오면 트리를 둘 다 만들 수 있으며, 먼저 등록된 쪽을 사용)
+     */
+    private CachedTree usableTree(Long routeId, Integer userId) {
+        CachedTree existing = trees.get(routeId);
+        if (isUsable(existing, userId)) {
+            return existing;
+        }
+        CachedTree built = buildTree(routeId, userId);
+        while (true) {
+            boolean installed = existing == null
+                    ? trees.putIfAbsent(routeId, built) == null
+                    : trees.replace(routeId, existing, built);
+            if (installed) {
+                evictOverBudget(built);
+                return built;
+            }
+            existing = trees.get(routeId);
+            if (isUsable(existing, userId)) {
+                return existing;
+            }
+        }
+    }
+
+    // 같은 사용자, 만료 전, 현재 그래프 스냅샷 기준이면 재사용
+    private boolean isUsable(CachedTree cached, Integer userId) {
+        return cached != null
+                && cached.userId.equals(userId)
+                && cached.expiresAt > System.currentTimeMillis()
+                && cached.tree.graph() == graphService.getRoutingGraph(cached.destinationNodeId, cached.destinationNodeId);
+    }
+
+    private CachedTree buildTree(Long routeId, Integer userId) {
+        WalkRoute route = walkRouteRepository.findByRouteIdAndUserIdAndIsDeleted(routeId, userId, false)
+                .orElseThrow(() -> new UnauthorizedUserException("해당 경로를 찾을 수 없거나 접근 권한이 없습니다."));
+        if (route.getStatus() != RouteStatus.STARTED) {
+            throw new IllegalStateException("진행 중인 산책만 경로를 재탐색할 수 있습니다.");
+        }
+        if (route.getDestinationLat() == null || route.getDestinationLng() == null) {
+            throw new IllegalStateException("목적지가 지정되지 않은 산책은 경로를 재탐색할 수 없습니다.");
+        }
+
+        String destinationNodeId = pathfindingService.findNearestNodeId(route.getDestinationLat(), route.getDestinationLng());
+        RerouteTree tree = destinationNodeId == null
+                ? null
+                : pathfindingService.buildRerouteTree(destinationNodeId, radius, pathfindingService.newSearchLimits());
+        if (tree == null) {
+            throw new IllegalStateException("목적지 주변에 보행 경로가 없습니다.");
+        }
+
+        log.info("[Reroute] tree built for route {}: nodes = {}, size = {} KB",
+                routeId, tree.size(), tree.memoryBytes() / 1024);
+        return new CachedTree(userId, destinationNodeId, tree);
+    }
+
+    // 트리 수 또는 합계 메모리가 상한을 넘으면 만료된 것, 그다음 오래 쓰지 않은 것부터 해제 (방금 만든 keep은 유지)
+    private synchronized void evictOverBudget(CachedTree keep) {
+        long budget = memoryBudgetMb * 1024 * 1024;
+        long now = System.currentTimeMillis();
+        List<Map.Entry<Long, CachedTree>> entries = new ArrayList<>(trees.entrySet());
+        long total = 0;
+        for (Map.Entry<Long, CachedTree> entry : entries) {
+            total += entry.getValue().tree.memoryBytes();
+        }
+        int count = entries.size();
+        if (count <= maxEntries && total <= budget) return;
+
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().expiresAt));
+        for (Map.Entry<Long, CachedTree> entry : entries) {
+            CachedTree cached = entry.getValue();
+            boolean expired = cached.expiresAt <= now;
+            if (!expired && count <= maxEntries && total <= budget) break;
+            if (cached == keep) continue;
+            if (trees.remove(entry.getKey(), cached)) {
+                count--;
+                total -= cached.tree.memoryBytes();
+            }
+        }
+        log.info("[Reroute] trees evicted: cached = {} / {}, size = {} MB / budget {} MB",
+                count, maxEntries, total / (1024 * 1024), memoryBudgetMb);
+    }
+}
@@ -0,0 +1,89 @@
+package com.trm.roadmate_backend.service;
+
+import com.trm.roadmate_backend.exception.RoutingOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 경로 탐색 요청 승인 제어 (admission control)
+ * - 동시에 실행되는 탐색 요청 수를 CPU 코어 수 기준으로 제한
+ * - 자리가 없으면 최대 max-queue 개까지만 queue-timeout-ms 동안 대기, 그 이상은 즉시 거절 (503)
+ *   → 느린 요청이 몰려도 Tomcat 스레드가 모두 탐색에 묶이지 않고, 대기 시간의 상한이 보장됨
+ */
+@Service
+@Slf4j
+public class RoutingAdmissionService {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long queueTimeoutMs;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public RoutingAdmissionService(
+            @Value("${routing.admission.max-concurrent:0}") int maxConcurrent,
+            @Value("${routing.admission.max-queue:64}") int maxQueue,
+            @Value("${routing.admission.queue-timeout-ms:500}") long queueTimeoutMs) {
+        this.maxConcurrent = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors() * 2;
+        this.maxQueue = Math.max(0, maxQueue);
+        this.queueTimeoutMs = Math.max(0L, queueTimeoutMs);
+        this.permits = new Semaphore(this.maxConcurrent, true);
+    }
+
+    /**
+     * 탐색 실행 권한을 얻습니다. 실패하면 RoutingOverloadedException을 던집니다.
+     * 성공한 경우 작업이 끝나면 반드시 release()를 호출해야 합니다.
+     */
+    public void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+
+        // 대기열이 가득 찼으면 기다리지 않고 바로 거절
+        if (waiting.incrementAndGet() > maxQueue) {
+            waiting.decrementAndGet();
+            reject("대기열 초과");
+        }
+        try {
+            if (!permits.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                reject("대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject("대기 중 인터럽트");
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    private void reject(String cause) {
+        long total = rejected.incrementAndGet();
+        log.warn("[Admission] Routing request rejected ({}): inFlight={}, waiting={}, totalRejected={}",
+                cause, getInFlight(), waiting.get(), total);
+        throw new RoutingOverloadedException("경로 탐색 요청이 많아 잠시 후 다시 시도해주세요");
+    }
+}
@@ -21,6 +21,7 @@ import java.util.List;
 public class WalkRouteService {
 
     private final WalkRouteRepository walkRouteRepository;
+    private final RerouteService rerouteService;
     // private final UserRepository userRepository; // ❌ 불필요해짐
 
     // ❌ Email을 User ID로 변환하는 getUserIdFromEmail 메서드 제거
@@ -35,6 +36,8 @@ public class WalkRouteService {
                 .expectedDistance(request.getExpectedDistance())
                 .expectedDuration(request.getExpectedDuration())
                 .pathData(request.getPathData())
+                .destinationLat(request.getDestinationLat())
+                .destinationLng(request.getDestinationLng())
                 .status(RouteStatus.STARTED)
                 .startTime(LocalDateTime.now())
                 .build();
@@ -55,6 +58,7 @@ public class WalkRouteService {
         }
 
         route.complete(request.getDistance(), request.getDuration());
+        rerouteService.evict(routeId);
     }
 
     @Transactional
@@ -84,6 +88,7 @@ public class WalkRouteService {
 
         // 경로 삭제 처리 (소프트 딜리트)
         route.delete();
+        rerouteService.evict(routeId);
     }
 
     /**
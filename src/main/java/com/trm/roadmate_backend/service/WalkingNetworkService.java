@@ -1,27 +1,46 @@
 package com.trm.roadmate_backend.service;
 
-import com.google.gson.Gson;
 import com.trm.roadmate_backend.dto.ApiResponse;
+import com.trm.roadmate_backend.dto.ImportHttpStats;
 import com.trm.roadmate_backend.entity.ImportLog;
 import com.trm.roadmate_backend.entity.Link;
 import com.trm.roadmate_backend.entity.Node;
+import com.trm.roadmate_backend.exception.InvalidRequestException;
+import com.trm.roadmate_backend.graph.NetworkChangeSet;
+import com.trm.roadmate_backend.importer.ImportSource;
+import com.trm.roadmate_backend.importer.RowHashes;
+import com.trm.roadmate_backend.importer.WalkingNetworkApiClient;
 import com.trm.roadmate_backend.repository.ImportLogRepository;
 import com.trm.roadmate_backend.repository.LinkRepository;
+import com.trm.roadmate_backend.repository.NetworkBulkWriter;
 import com.trm.roadmate_backend.repository.NodeRepository;
+import com.trm.roadmate_backend.util.WktScanner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -31,186 +50,732 @@ public class WalkingNetworkService {
     private final NodeRepository nodeRepository;
     private final LinkRepository linkRepository;
     private final ImportLogRepository importLogRepository;
+    private final NetworkBulkWriter bulkWriter;
     private final GraphService graphService;
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final Gson gson = new Gson();
+    private final List<ImportSource> importSources; // API, FILE
+    private final WalkingNetworkApiClient apiClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService importExecutor;
+    private final ExecutorService cityImportExecutor; // 시 전체 가져오기의 시군구 작업 (city-parallelism개씩)
+
+    // 요청 한 번에 가져오는 행 수 (Open API 상한 1000)
+    @Value("${seoul.api.page-size:1000}")
+    private int pageSize;
+
+    // 재시작 시 중단된(QUEUED/RUNNING) 가져오기 작업을 이어서 실행할지
+    @Value("${seoul.api.import.resume-on-startup:true}")
+    private boolean resumeOnStartup;
+
+    // 작업을 점유하는 이 인스턴스의 이름 (같은 이름으로 다시 시작하면 자기가 점유했던 작업을 바로 재개)
+    @Value("${seoul.api.import.instance-id:${HOSTNAME:${random.uuid}}}")
+    private String instanceId;
+
+    // 다른 인스턴스가 점유한 작업도 진행 기록(updatedAt)이 이 시간 이상 멈췄으면 재시작 때 가져감
+    @Value("${seoul.api.import.claim-timeout-minutes:30}")
+    private long claimTimeoutMinutes;
+
+    // 시 전체 가져오기 대상 시군구
+    @Value("${seoul.api.import.districts}")
+    private List<String> cityDistricts;
+
+    private static final int BATCH_SIZE = 2000; // 일괄 저장 배치 크기
+    private static final int MAX_LOCK_ATTEMPTS = 3; // 교착 상태/락 대기 초과로 롤백된 페이지 트랜잭션의 최대 시도 횟수
+    private static final List<String> ACTIVE_STATUSES = List.of("QUEUED", "RUNNING");
+    private static final String CITY_JOB_NAME = "CITY"; // 시 전체 작업의 sggNm
+    private static final String DEFAULT_SOURCE = "API";
+
+    // ==================== 가져오기 작업 ====================
+
+    // 지역당 진행 중인 작업은 하나: DB가 보장 (여러 인스턴스에서 동시에 등록해도 안전)
+    // - 진행 중인 작업은 activeKey = sggNm (유니크 키) → 같은 지역 작업을 저장하면 유니크 키 위반으로 거절 (409)
+    // - 실패한 작업 재실행은 "FAILED인 경우만 QUEUED로" 조건부 UPDATE 한 문장 → 한 요청만 성공
+    // - 실행 중인 작업은 owner(인스턴스)가 점유, 재시작 시에는 claim UPDATE로 한 인스턴스만 재개
+
+    /**
+     * 지역 가져오기 작업을 등록하고 백그라운드에서 실행합니다.
+     * @param sourceName 입력 (API: 서울시 Open API, FILE: 덤프 파일)
+     * @throws IllegalArgumentException 지원하지 않는 입력이거나 지역 데이터를 읽을 수 없을 경우
+     * @throws IllegalStateException 같은 지역의 작업이 이미 대기/실행 중일 경우
+     */
+    public ImportLog submitImport(String districtName, String sourceName) {
+        ImportSource source = findSource(sourceName);
+        source.checkAvailable(districtName);
+        ImportLog job = saveActive(newJob(districtName, null, source.name()));
+        schedule(job.getId());
+        return job;
+    }
 
-    @Value("${seoul.api.key}")
-    private String apiKey;
+    /**
+     * 시 전체(설정된 모든 시군구) 가져오기 작업을 등록합니다.
+     * - 시군구별 하위 작업을 미리 만들어 두고, 상위 작업이 city-parallelism개씩 동시에 실행
+     * - 그래프는 모든 시군구가 끝난 뒤 한 번만 다시 만듦
+     * @param sourceName 입력 (API: 서울시 Open API, FILE: 덤프 파일)
+     * @throws IllegalArgumentException 지원하지 않는 입력이거나 읽을 수 없는 시군구가 있을 경우
+     * @throws IllegalStateException 대기/실행 중인 가져오기 작업이 있을 경우
+     */
+    public ImportLog submitCityImport(String sourceName) {
+        ImportSource source = findSource(sourceName);
+        cityDistricts.forEach(source::checkAvailable);
+        if (importLogRepository.existsByStatusIn(ACTIVE_STATUSES)) {
+            throw new IllegalStateException("진행 중인 가져오기 작업이 끝난 뒤 시 전체 가져오기를 실행할 수 있습니다.");
+        }
+        // 상위 작업과 시군구 작업을 한 트랜잭션으로 저장 (그 사이 다른 인스턴스가 등록한 시군구가 있으면 모두 롤백)
+        ImportLog cityJob = transactionTemplate.execute(status -> {
+            ImportLog saved = saveActive(newJob(CITY_JOB_NAME, null, source.name()));
+            for (String district : cityDistricts) {
+                saveActive(newJob(district, saved.getId(), source.name()));
+            }
+            return saved;
+        });
+        schedule(cityJob.getId());
+        return cityJob;
+    }
 
-    @Value("${seoul.api.base-url}")
-    private String baseUrl;
+    // 진행 중인 작업 저장 (같은 지역의 진행 중인 작업이 있으면 activeKey 유니크 키 위반)
+    private ImportLog saveActive(ImportLog job) {
+        try {
+            return importLogRepository.save(job);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 진행 중인 가져오기 작업이 있습니다: " + job.getSggNm());
+        }
+    }
 
-    private static final int PAGE_SIZE = 1000;
-    private static final int BATCH_SIZE = 2000; // saveAll 배치 크기
+    /** 시 전체 작업에 속한 시군구 작업 (시군구 작업이면 빈 목록) */
+    public List<ImportLog> getChildJobs(Long jobId) {
+        return importLogRepository.findByParentJobIdOrderByIdAsc(jobId);
+    }
 
-    @Transactional
-    public String importDistrictData(String districtName) {
-        ImportLog importLog = ImportLog.builder()
+    private ImportLog newJob(String districtName, Long parentJobId, String sourceName) {
+        return ImportLog.builder()
                 .sggNm(districtName)
-                .status("RUNNING")
+                .parentJobId(parentJobId)
+                .source(sourceName)
+                .status("QUEUED")
+                .owner(parentJobId == null ? instanceId : null) // 시군구 작업은 상위 작업의 점유로 실행
+                .totalNodes(0)
+                .totalLinks(0)
+                .virtualNodes(0)
+                .updatedNodes(0)
+                .updatedLinks(0)
+                .deletedNodes(0)
+                .deletedLinks(0)
+                .completedPages(0)
+                .processedRows(0)
                 .startedAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
                 .build();
-        importLogRepository.save(importLog);
+    }
+
+    /**
+     * 실패한 작업을 마지막으로 커밋된 페이지 다음부터 다시 실행합니다.
+     * @throws IllegalStateException 실패한 작업이 아니거나 같은 지역의 작업이 진행 중일 경우
+     */
+    public ImportLog resumeImport(Long jobId) {
+        ImportLog job = getImportJob(jobId);
+        if (!"FAILED".equals(job.getStatus())) {
+            throw new IllegalStateException("실패한 작업만 다시 실행할 수 있습니다. (현재 상태: " + job.getStatus() + ")");
+        }
+        Integer requeued;
+        try {
+            requeued = transactionTemplate.execute(status ->
+                    importLogRepository.requeueFailed(jobId, instanceId, LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 진행 중인 가져오기 작업이 있습니다: " + job.getSggNm());
+        }
+        if (requeued == null || requeued == 0) {
+            throw new IllegalStateException("이미 다시 실행된 작업입니다: " + jobId);
+        }
+        schedule(jobId);
+        return getImportJob(jobId);
+    }
+
+    // Open API 요청 누적 통계 (요청/재시도/실패 수, 받은 바이트, 지연 시간)
+    public ImportHttpStats getHttpStats() {
+        return apiClient.stats();
+    }
+
+    /**
+     * @throws IllegalArgumentException 작업이 없을 경우
+     */
+    public ImportLog getImportJob(Long jobId) {
+        return importLogRepository.findById(jobId)
+                .orElseThrow(() -> new InvalidRequestException("가져오기 작업을 찾을 수 없습니다: " + jobId));
+    }
+
+    /**
+     * @throws IllegalArgumentException 지원하지 않는 입력
+     */
+    private ImportSource findSource(String sourceName) {
+        String name = sourceName == null ? DEFAULT_SOURCE : sourceName.toUpperCase(Locale.ROOT);
+        return importSources.stream()
+                .filter(source -> source.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("지원하지 않는 가져오기 입력입니다: " + sourceName));
+    }
+
+    // 서버가 작업 도중 종료되었으면 커밋된 페이지 다음부터 이어서 실행
+    // - 여러 인스턴스가 함께 시작해도 claim UPDATE에 성공한 한 곳만 재개
+    // - 점유가 풀린 작업, 이 인스턴스가 점유했던 작업, 진행 기록이 claim-timeout 이상 멈춘 작업만 가져감
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedImports() {
+        if (!resumeOnStartup) return;
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(claimTimeoutMinutes);
+        for (ImportLog job : importLogRepository.findByStatusIn(ACTIVE_STATUSES)) {
+            if (job.getParentJobId() != null) continue; // 시 전체 작업이 이어서 실행
+            Integer claimed = transactionTemplate.execute(status -> importLogRepository.claim(
+                    job.getId(), instanceId, ACTIVE_STATUSES, LocalDateTime.now(), staleBefore));
+            if (claimed == null || claimed == 0) {
+                log.info("Import job {} ({}) is owned by {}, not resuming", job.getId(), job.getSggNm(), job.getOwner());
+                continue;
+            }
+            log.info("Resuming import job {} ({}) from page {}", job.getId(), job.getSggNm(), job.getCompletedPages());
+            schedule(job.getId());
+        }
+    }
 
+    // 서버 종료로 중단하는 작업의 점유 해제 (실패해도 claim-timeout이 지나면 다른 인스턴스가 가져감)
+    private void releaseClaim(Long jobId) {
+        boolean interrupted = Thread.interrupted(); // 인터럽트 상태에서는 커넥션을 얻지 못하므로 잠시 해제
         try {
-            int nodeCount = 0;
-            int linkCount = 0;
-            int virtualNodeCount = 0;
+            transactionTemplate.executeWithoutResult(status -> importLogRepository.releaseClaim(jobId, instanceId));
+        } catch (RuntimeException e) {
+            log.warn("Failed to release import job {} on shutdown", jobId, e);
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    private void schedule(Long jobId) {
+        importExecutor.execute(() -> {
+            if (CITY_JOB_NAME.equals(getImportJob(jobId).getSggNm())) {
+                runCityImport(jobId);
+            } else {
+                runImport(jobId, null, true);
+            }
+        });
+    }
+
+    // ==================== 시 전체 가져오기 ====================
+
+    // 시군구 작업을 cityImportExecutor에서 동시에 실행 (완료된 시군구는 건너뛰고, 나머지는 커밋된 페이지부터 재개)
+    // - 시군구 하나가 실패해도 나머지는 끝까지 실행하고, 모든 시군구가 끝난 뒤 그래프를 한 번 갱신
+    private void runCityImport(Long cityJobId) {
+        ImportLog cityJob = getImportJob(cityJobId);
+        cityJob.setStatus("RUNNING");
+        cityJob.setUpdatedAt(LocalDateTime.now());
+        importLogRepository.save(cityJob);
+
+        // 시군구 작업이 함께 쓰는 노드 ID → 가상 노드 여부 (커밋된 페이지만 반영, 다른 시군구 링크 끝 노드 조회 생략용)
+        Map<String, Boolean> sharedNodes = new ConcurrentHashMap<>();
+        List<ImportLog> children = getChildJobs(cityJobId);
+        int rowsBefore = sum(children, ImportLog::getProcessedRows);
+        long startNanos = System.nanoTime();
+
+        List<String> failed = new ArrayList<>();
+        NetworkChangeSet changes = new NetworkChangeSet();
+        List<Future<NetworkChangeSet>> results = new ArrayList<>();
+        for (ImportLog child : children) {
+            if ("SUCCESS".equals(child.getStatus())) {
+                results.add(CompletableFuture.completedFuture(new NetworkChangeSet()));
+                continue;
+            }
+            results.add(cityImportExecutor.submit(() -> {
+                NetworkChangeSet districtChanges = runImport(child.getId(), sharedNodes, false);
+                updateCityProgress(cityJob, rowsBefore, startNanos);
+                return districtChanges;
+            }));
+        }
+        for (int i = 0; i < children.size(); i++) {
+            ImportLog child = children.get(i);
+            try {
+                changes.merge(results.get(i).get());
+            } catch (InterruptedException e) {
+                // 서버 종료 → 시군구 작업도 중단하고 상태를 RUNNING으로 두어 다음 시작 때 재개
+                results.forEach(result -> result.cancel(true));
+                Thread.currentThread().interrupt();
+                log.warn("City import job {} interrupted, will resume on restart", cityJobId);
+                releaseClaim(cityJobId);
+                return;
+            } catch (ExecutionException e) {
+                // 이 시군구만 실패로 기록 (다른 시군구는 계속 실행)
+                log.error("District import {} failed in city import job {}", child.getSggNm(), cityJobId, e.getCause());
+                ImportLog districtJob = getImportJob(child.getId());
+                if (!"SUCCESS".equals(districtJob.getStatus()) && !"FAILED".equals(districtJob.getStatus())) {
+                    districtJob.setStatus("FAILED");
+                    districtJob.setErrorMessage(e.getCause().getMessage());
+                    districtJob.setCompletedAt(LocalDateTime.now());
+                    districtJob.setUpdatedAt(LocalDateTime.now());
+                    importLogRepository.save(districtJob);
+                }
+            }
+            if (!"SUCCESS".equals(getImportJob(child.getId()).getStatus())) {
+                failed.add(child.getSggNm());
+            }
+        }
+
+        updateCityProgress(cityJob, rowsBefore, startNanos);
+        cityJob.setStatus(failed.isEmpty() ? "SUCCESS" : "FAILED");
+        cityJob.setErrorMessage(failed.isEmpty() ? null : "실패한 시군구: " + String.join(", ", failed));
+        cityJob.setCompletedAt(LocalDateTime.now());
+        importLogRepository.save(cityJob);
+        log.info("⭐ City Import Finished ⭐ districts = {}, failed = {}, rows = {}, {} rows/s, time = {} s, changes = {}",
+                children.size(), failed.size(), cityJob.getProcessedRows(), cityJob.getRowsPerSecond(),
+                (System.nanoTime() - startNanos) / 1_000_000_000, changes);
+
+        // 그래프는 시군구마다가 아니라 마지막에 한 번만, 커밋된 변경분만큼 갱신
+        graphService.applyChanges(changes);
+    }
+
+    // 시군구 작업 합계로 시 전체 진행 상황 갱신
+    private synchronized void updateCityProgress(ImportLog cityJob, int rowsBefore, long startNanos) {
+        List<ImportLog> children = getChildJobs(cityJob.getId());
+        int processedRows = sum(children, ImportLog::getProcessedRows);
+        double seconds = Math.max((System.nanoTime() - startNanos) / 1e9, 1e-3);
+        cityJob.setCompletedPages(sum(children, ImportLog::getCompletedPages));
+        cityJob.setTotalPages(sum(children, ImportLog::getTotalPages));
+        cityJob.setProcessedRows(processedRows);
+        cityJob.setTotalRows(sum(children, ImportLog::getTotalRows));
+        cityJob.setRowsPerSecond(Math.round((processedRows - rowsBefore) / seconds * 10) / 10.0);
+        cityJob.setTotalNodes(sum(children, ImportLog::getTotalNodes));
+        cityJob.setTotalLinks(sum(children, ImportLog::getTotalLinks));
+        cityJob.setVirtualNodes(sum(children, ImportLog::getVirtualNodes));
+        cityJob.setUpdatedNodes(sum(children, ImportLog::getUpdatedNodes));
+        cityJob.setUpdatedLinks(sum(children, ImportLog::getUpdatedLinks));
+        cityJob.setDeletedNodes(sum(children, ImportLog::getDeletedNodes));
+        cityJob.setDeletedLinks(sum(children, ImportLog::getDeletedLinks));
+        cityJob.setUpdatedAt(LocalDateTime.now());
+        importLogRepository.save(cityJob);
+    }
+
+    private static int sum(List<ImportLog> jobs, Function<ImportLog, Integer> field) {
+        int total = 0;
+        for (ImportLog job : jobs) {
+            Integer value = field.apply(job);
+            if (value != null) total += value;
+        }
+        return total;
+    }
 
-            Map<String, Node> nodeBatch = new HashMap<>();
-            Map<String, Link> linkBatch = new HashMap<>();
+    // ==================== 시군구 가져오기 ====================
+
+    /**
+     * 페이지마다 (저장 + 진행 상황)을 한 트랜잭션으로 커밋 → 실패/재시작 시 커밋된 페이지 다음부터 재개
+     * - 행 내용 해시로 새 행/바뀐 행만 저장하고, 첫 페이지부터 끝까지 읽었으면 원본에서 사라진 행을 삭제
+     * @param sharedNodes 시 전체 가져오기에서 시군구 작업끼리 공유하는 노드 캐시 (단독 실행이면 null)
+     * @param applyToGraph 끝난 뒤 변경분을 그래프에 반영할지 (시 전체 가져오기는 마지막에 한 번만)
+     * @return 이번 실행에서 커밋된 변경분 (실패해도 그때까지 커밋된 만큼, 성공 여부는 작업 상태로 확인)
+     */
+    private NetworkChangeSet runImport(Long jobId, Map<String, Boolean> sharedNodes, boolean applyToGraph) {
+        ImportLog job = getImportJob(jobId);
+        String districtName = job.getSggNm();
+        ImportCounts counts = ImportCounts.from(job);
+
+        try {
+            ImportSource source = findSource(job.getSource());
+            int firstPage = job.getCompletedPages() == null ? 0 : job.getCompletedPages();
+            int rowsBefore = job.getProcessedRows() == null ? 0 : job.getProcessedRows();
+            if (firstPage == 0) counts.trackSeenRows(); // 처음부터 읽는 실행만 사라진 행을 찾을 수 있음
 
             // 1) Get total count
-            String url = String.format("%s/%s/json/TbTraficWlkNet/1/1/%s", baseUrl, apiKey, districtName);
-            String response = restTemplate.getForObject(url, String.class);
-            ApiResponse apiResponse = gson.fromJson(response, ApiResponse.class);
+            int totalCount = source.totalCount(districtName);
+            int pageCount = (totalCount + pageSize - 1) / pageSize;
+            log.info("Total records for {} ({}): {} (job {}, starting at page {}/{})",
+                    districtName, source.name(), totalCount, jobId, firstPage, pageCount);
+
+            job.setStatus("RUNNING");
+            job.setErrorMessage(null);
+            job.setCompletedPages(firstPage);
+            job.setProcessedRows(rowsBefore);
+            job.setTotalRows(totalCount);
+            job.setTotalPages(pageCount);
+            job.setUpdatedAt(LocalDateTime.now());
+            importLogRepository.save(job);
+
+            // 2) Paging: 입력 읽기(API 동시 요청 / 파일 순차 읽기)와 저장(페이지별 트랜잭션)을 겹쳐서 진행
+            long startNanos = System.nanoTime();
+            source.readPages(districtName, totalCount, pageSize, firstPage,
+                    (page, rows) -> {
+                        int processedRows = job.getProcessedRows() + rows.size();
+                        Map<String, Boolean> pageNodes = executeWithLockRetry(districtName, counts, pageCounts -> {
+                            Map<String, Boolean> knownNodes = importPage(rows, pageCounts, sharedNodes);
+
+                            double seconds = Math.max((System.nanoTime() - startNanos) / 1e9, 1e-3);
+                            job.setCompletedPages(firstPage + page + 1);
+                            job.setProcessedRows(processedRows);
+                            job.setRowsPerSecond(Math.round((processedRows - rowsBefore) / seconds * 10) / 10.0);
+                            counts.plus(pageCounts).copyTo(job);
+                            job.setUpdatedAt(LocalDateTime.now());
+                            importLogRepository.save(job);
+                            return knownNodes;
+                        });
+                        // 커밋된 뒤에만 다른 시군구 작업에 공개
+                        if (sharedNodes != null && pageNodes != null) sharedNodes.putAll(pageNodes);
+                        log.info("[{}] Processed {}/{} records ({} rows/s)", districtName,
+                                job.getProcessedRows(), totalCount, job.getRowsPerSecond());
+                    });
+
+            // 3) 원본에서 사라진 행 삭제 (원본 전체를 읽은 경우만, 일부만 읽었으면 남은 행을 지우지 않음)
+            if (counts.seenNodeIds != null && job.getProcessedRows() == totalCount) {
+                executeWithLockRetry(districtName, counts, pageCounts -> {
+                    deleteMissingRows(districtName, pageCounts);
+                    counts.plus(pageCounts).copyTo(job);
+                    importLogRepository.save(job);
+                    return null;
+                });
+            } else if (counts.seenNodeIds == null) {
+                log.info("Import job {} resumed at page {}: skipping removal of rows missing from the source", jobId, firstPage);
+            }
 
-            if (apiResponse.getTbTraficWlkNet() == null) {
-                throw new RuntimeException("Invalid API response");
+            job.setStatus("SUCCESS");
+            job.setCompletedAt(LocalDateTime.now());
+            job.setUpdatedAt(LocalDateTime.now());
+            importLogRepository.save(job);
+            log.info("Import job {} finished: Nodes={}, Links={}, VirtualNodes={}, changes = {}",
+                    jobId, counts.nodes, counts.links, counts.virtualNodes, counts.changes);
+
+        } catch (Exception e) {
+            if (e instanceof InterruptedException || Thread.currentThread().isInterrupted()) {
+                // 서버 종료 → 상태를 RUNNING으로 두고 다음 시작 때 재개 (그래프는 시작할 때 DB에서 다시 만듦)
+                log.warn("Import job {} interrupted at page {}, will resume on restart", jobId, job.getCompletedPages());
+                Thread.currentThread().interrupt();
+                if (job.getParentJobId() == null) releaseClaim(jobId);
+                return counts.changes;
+            }
+            log.error("Import failed for {}", districtName, e);
+            job.setStatus("FAILED");
+            job.setErrorMessage(e.getMessage());
+            job.setCompletedAt(LocalDateTime.now());
+            job.setUpdatedAt(LocalDateTime.now());
+            importLogRepository.save(job);
+        }
+
+        // 커밋된 변경분만큼 그래프 갱신 (실패해도 커밋된 페이지는 DB에 남아 있음)
+        if (applyToGraph) {
+            graphService.applyChanges(counts.changes);
+        }
+        return counts.changes;
+    }
+
+    /**
+     * 트랜잭션 하나를 실행하고, 커밋된 뒤에만 그 집계를 작업 집계에 더합니다.
+     * - 병렬 시군구 작업은 경계 노드/가상 노드를 함께 갱신하므로 교착 상태나 락 대기 시간 초과로 롤백될 수 있음
+     *   (DeadlockLoserDataAccessException, CannotAcquireLockException) → 잠시 기다린 뒤 같은 작업을 처음부터 다시 실행
+     * @param work 이번 시도의 집계(pageCounts)에 기록하며 실행할 작업
+     */
+    private <T> T executeWithLockRetry(String districtName, ImportCounts counts, Function<ImportCounts, T> work)
+            throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            ImportCounts pageCounts = counts.newPage();
+            try {
+                T result = transactionTemplate.execute(status -> work.apply(pageCounts));
+                counts.add(pageCounts);
+                return result;
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= MAX_LOCK_ATTEMPTS) throw e;
+                long delay = ThreadLocalRandom.current().nextLong(50, 200) * attempt;
+                log.warn("[{}] Transaction rolled back by a lock conflict, retrying in {} ms (attempt {}/{}): {}",
+                        districtName, delay, attempt + 1, MAX_LOCK_ATTEMPTS, e.getMessage());
+                Thread.sleep(delay);
             }
+        }
+    }
 
-            int totalCount = apiResponse.getTbTraficWlkNet().getListTotalCount();
-            log.info("Total records for {}: {}", districtName, totalCount);
-
-            // 2) Paging
-            for (int start = 1; start <= totalCount; start += PAGE_SIZE) {
-                int end = Math.min(start + PAGE_SIZE - 1, totalCount);
-                url = String.format("%s/%s/json/TbTraficWlkNet/%d/%d/%s", baseUrl, apiKey, start, end, districtName);
-
-                response = restTemplate.getForObject(url, String.class);
-                apiResponse = gson.fromJson(response, ApiResponse.class);
-
-                if (apiResponse.getTbTraficWlkNet().getRow() == null) continue;
-
-                // --- NODE 먼저 처리 ---
-                for (ApiResponse.Row row : apiResponse.getTbTraficWlkNet().getRow()) {
-                    if ("NODE".equals(row.getNodeType())) {
-                        if (!nodeRepository.existsByNodeId(row.getNodeId()) && !nodeBatch.containsKey(row.getNodeId())) {
-                            Node node = buildNodeFromRow(row);
-                            nodeBatch.put(node.getNodeId(), node);
-                            nodeCount++;
-                        } else {
-                            nodeRepository.findByNodeId(row.getNodeId())
-                                    .ifPresent(existing -> {
-                                        if (existing.getIsVirtual()) {
-                                            Node updated = buildNodeFromRow(row);
-                                            updated.setId(existing.getId());
-                                            nodeRepository.save(updated);
-                                        }
-                                    });
-                        }
-
-                        if (nodeBatch.size() >= BATCH_SIZE) {
-                            saveNodeBatch(nodeBatch); // DB에 반영
-                        }
-                    }
+    /**
+     * 한 페이지 저장 (NODE 먼저 저장한 뒤 LINK)
+     * - 저장된 행과 내용 해시를 비교해 새 행은 추가, 바뀐 행은 갱신, 같은 행은 건너뜀
+     * @return 페이지에서 확인/저장한 노드 → 가상 노드 여부
+     */
+    private Map<String, Boolean> importPage(List<ApiResponse.Row> rows, ImportCounts counts, Map<String, Boolean> sharedNodes) {
+        Map<String, Node> nodeBatch = new HashMap<>();
+        Map<String, Link> linkBatch = new HashMap<>();
+
+        // --- 페이지 단위 저장 상태 조회 (행마다 조회하지 않고 IN 쿼리 한 번씩) ---
+        Map<String, Long> nodeHashes = new HashMap<>(); // DB에서 읽은 노드 → 내용 해시
+        Map<String, Boolean> knownNodes = findNodeStates(rows, sharedNodes, nodeHashes); // nodeId → 가상 노드 여부
+        Map<String, Long> linkHashes = findLinkHashes(rows); // 저장된 링크 → 내용 해시 (해시 도입 전 행은 null)
+
+        // --- NODE 먼저 처리 ---
+        for (ApiResponse.Row row : rows) {
+            if ("NODE".equals(row.getNodeType())) {
+                String nodeId = row.getNodeId();
+                if (counts.seenNodeIds != null) counts.seenNodeIds.add(nodeId);
+
+                Boolean isVirtual = knownNodes.get(nodeId);
+                long hash = RowHashes.node(row);
+                if (isVirtual == null) {
+                    nodeBatch.put(nodeId, buildNodeFromRow(row, hash));
+                    counts.nodes++;
+                    counts.changes.nodesInserted(1, row.getSggCd());
+                } else if (isVirtual || (nodeHashes.containsKey(nodeId) && !Objects.equals(nodeHashes.get(nodeId), hash))) {
+                    // 앞서 링크 좌표로 만든 가상 노드 교체 또는 내용이 바뀐 노드 (같은 upsert 배치에서 처리)
+                    nodeBatch.put(nodeId, buildNodeFromRow(row, hash));
+                    counts.updatedNodes++;
+                    counts.changes.nodesUpdated(1, row.getSggCd());
                 }
+                // 같은 페이지에서 같은 노드가 다시 나와도 한 번만 처리
+                knownNodes.put(nodeId, false);
+                nodeHashes.remove(nodeId);
 
-                // --- LINK 처리 전에 NODE 배치 먼저 DB 저장 ---
-                if (!nodeBatch.isEmpty()) saveNodeBatch(nodeBatch);
-
-                // --- LINK 처리 ---
-                for (ApiResponse.Row row : apiResponse.getTbTraficWlkNet().getRow()) {
-                    if ("LINK".equals(row.getNodeType())) {
-                        if (!linkRepository.existsByLinkId(row.getLnkgId()) && !linkBatch.containsKey(row.getLnkgId())) {
-
-                            // 시작/끝 노드 존재 여부 확인 + 필요시 가상 노드 생성
-                            if (!nodeRepository.existsByNodeId(row.getBgngLnkgId())) {
-                                double[] coords = parseLineStart(row.getLnkgWkt());
-                                Node virtualNode = Node.builder()
-                                        .nodeId(row.getBgngLnkgId())
-                                        .latitude(coords[1])
-                                        .longitude(coords[0])
-                                        .isVirtual(true)
-                                        .build();
-                                nodeRepository.save(virtualNode);
-                                nodeCount++;
-                                virtualNodeCount++;
-                            }
-
-                            if (!nodeRepository.existsByNodeId(row.getEndLnkgId())) {
-                                double[] coords = parseLineEnd(row.getLnkgWkt());
-                                Node virtualNode = Node.builder()
-                                        .nodeId(row.getEndLnkgId())
-                                        .latitude(coords[1])
-                                        .longitude(coords[0])
-                                        .isVirtual(true)
-                                        .build();
-                                nodeRepository.save(virtualNode);
-                                nodeCount++;
-                                virtualNodeCount++;
-                            }
-
-                            // LINK 배치 추가
-                            Link link = buildLinkFromRow(row);
-                            linkBatch.put(link.getLinkId(), link);
-                            linkCount++;
-
-                            if (linkBatch.size() >= BATCH_SIZE) {
-                                saveLinkBatch(linkBatch);
-                            }
-                        }
-                    }
+                if (nodeBatch.size() >= BATCH_SIZE) {
+                    saveNodeBatch(nodeBatch); // DB에 반영
                 }
+            }
+        }
+
+        // --- LINK 처리 전에 NODE 배치 먼저 DB 저장 ---
+        if (!nodeBatch.isEmpty()) saveNodeBatch(nodeBatch);
+
+        // --- LINK 처리 ---
+        for (ApiResponse.Row row : rows) {
+            if ("LINK".equals(row.getNodeType())) {
+                String linkId = row.getLnkgId();
+                if (counts.seenLinkIds != null) counts.seenLinkIds.add(linkId);
+                if (linkBatch.containsKey(linkId)) continue;
+
+                long hash = RowHashes.link(row);
+                boolean exists = linkHashes.containsKey(linkId);
+                if (exists && Objects.equals(linkHashes.get(linkId), hash)) continue; // 변경 없음
 
-                log.info("Processed {}/{} records", end, totalCount);
+                // 시작/끝 노드 존재 여부 확인 + 필요시 가상 노드 생성 (바뀐 링크의 끝 노드가 달라진 경우 포함)
+                if (!knownNodes.containsKey(row.getBgngLnkgId())) {
+                    double[] coords = WktScanner.firstVertex(row.getLnkgWkt());
+                    addVirtualNode(row.getBgngLnkgId(), coords, nodeBatch, knownNodes, counts);
+                }
+
+                if (!knownNodes.containsKey(row.getEndLnkgId())) {
+                    double[] coords = WktScanner.lastVertex(row.getLnkgWkt());
+                    addVirtualNode(row.getEndLnkgId(), coords, nodeBatch, knownNodes, counts);
+                }
+
+                // LINK 배치 추가
+                linkBatch.put(linkId, buildLinkFromRow(row, hash));
+                if (exists) {
+                    counts.updatedLinks++;
+                    counts.changes.linksUpdated(1, row.getSggCd());
+                } else {
+                    counts.links++;
+                    counts.changes.linksInserted(1, row.getSggCd());
+                }
+
+                if (linkBatch.size() >= BATCH_SIZE) {
+                    saveNodeBatch(nodeBatch);
+                    saveLinkBatch(linkBatch);
+                }
             }
+        }
+
+        // 페이지 안에서 모두 저장 (페이지 트랜잭션과 함께 커밋, 다음 페이지의 존재 여부 조회에 반영)
+        if (!nodeBatch.isEmpty()) saveNodeBatch(nodeBatch);
+        if (!linkBatch.isEmpty()) saveLinkBatch(linkBatch);
+        return knownNodes;
+    }
+
+    // 가상 노드는 시군구 없이 저장 (실제 NODE 행이 들어오면 교체) → 변경 지역은 함께 저장하는 링크 쪽에 기록
+    private void addVirtualNode(String nodeId, double[] coords, Map<String, Node> nodeBatch,
+                                Map<String, Boolean> knownNodes, ImportCounts counts) {
+        Node virtualNode = Node.builder()
+                .nodeId(nodeId)
+                .latitude(coords[1])
+                .longitude(coords[0])
+                .isVirtual(true)
+                .build();
+        nodeBatch.put(nodeId, virtualNode);
+        knownNodes.put(nodeId, true);
+        counts.nodes++;
+        counts.virtualNodes++;
+        counts.changes.nodesInserted(1, null);
+    }
+
+    /**
+     * 시군구에 저장된 행 중 이번 실행에서 원본에 없었던 행 삭제
+     * - 링크 먼저 삭제하고, 노드는 남은 링크가 참조하지 않을 때만 삭제 (다른 시군구 링크의 끝 노드는 유지)
+     * - 삭제한 링크의 끝에 있던 가상 노드도 더 이상 참조되지 않으면 삭제
+     */
+    private void deleteMissingRows(String districtName, ImportCounts counts) {
+        List<String> missingLinks = new ArrayList<>();
+        Set<String> linkRegions = new HashSet<>();
+        Set<String> linkEndpoints = new HashSet<>();
+        for (Object[] row : linkRepository.findImportKeysBySggNm(districtName)) {
+            if (counts.seenLinkIds.contains((String) row[0])) continue;
+            missingLinks.add((String) row[0]);
+            if (row[1] != null) linkRegions.add((String) row[1]);
+            linkEndpoints.add((String) row[2]);
+            linkEndpoints.add((String) row[3]);
+        }
+
+        List<String> missingNodes = new ArrayList<>();
+        Set<String> nodeRegions = new HashSet<>();
+        for (Object[] row : nodeRepository.findRealNodeKeysBySggNm(districtName)) {
+            if (counts.seenNodeIds.contains((String) row[0])) continue;
+            missingNodes.add((String) row[0]);
+            if (row[1] != null) nodeRegions.add((String) row[1]);
+        }
+        linkEndpoints.removeAll(counts.seenNodeIds);
+        linkEndpoints.remove(null);
+
+        int deletedLinks = bulkWriter.deleteLinks(missingLinks);
+        int deletedNodes = bulkWriter.deleteUnreferencedNodes(missingNodes, false)
+                + bulkWriter.deleteUnreferencedNodes(new ArrayList<>(linkEndpoints), true);
+
+        counts.deletedLinks += deletedLinks;
+        counts.deletedNodes += deletedNodes;
+        counts.changes.linksDeleted(deletedLinks, linkRegions);
+        counts.changes.nodesDeleted(deletedNodes, nodeRegions);
+        if (deletedLinks + deletedNodes > 0) {
+            log.info("[{}] Removed rows missing from the source: links = {}, nodes = {}", districtName, deletedLinks, deletedNodes);
+        }
+    }
 
-            // --- 마지막 배치 저장 ---
-            if (!nodeBatch.isEmpty()) saveNodeBatch(nodeBatch);
-            if (!linkBatch.isEmpty()) saveLinkBatch(linkBatch);
+    // 작업 집계 (ImportLog에 페이지마다 기록) + 이번 실행의 변경분
+    private static final class ImportCounts {
+        private int nodes;
+        private int links;
+        private int virtualNodes;
+        private int updatedNodes;
+        private int updatedLinks;
+        private int deletedNodes;
+        private int deletedLinks;
+
+        // 이번 실행에서 커밋한 변경분 (그래프 갱신용)
+        private final NetworkChangeSet changes = new NetworkChangeSet();
+
+        // 원본에 있었던 ID (첫 페이지부터 읽는 실행만 기록, 사라진 행 삭제용)
+        private Set<String> seenNodeIds;
+        private Set<String> seenLinkIds;
+
+        // 재개 시 커밋된 값부터 이어서 집계
+        private static ImportCounts from(ImportLog job) {
+            ImportCounts counts = new ImportCounts();
+            counts.nodes = valueOf(job.getTotalNodes());
+            counts.links = valueOf(job.getTotalLinks());
+            counts.virtualNodes = valueOf(job.getVirtualNodes());
+            counts.updatedNodes = valueOf(job.getUpdatedNodes());
+            counts.updatedLinks = valueOf(job.getUpdatedLinks());
+            counts.deletedNodes = valueOf(job.getDeletedNodes());
+            counts.deletedLinks = valueOf(job.getDeletedLinks());
+            return counts;
+        }
+
+        private static int valueOf(Integer value) {
+            return value == null ? 0 : value;
+        }
 
-            importLog.setTotalNodes(nodeCount);
-            importLog.setTotalLinks(linkCount);
-            importLog.setVirtualNodes(virtualNodeCount);
-            importLog.setStatus("SUCCESS");
-            importLog.setCompletedAt(LocalDateTime.now());
-            importLogRepository.save(importLog);
+        // 트랜잭션 하나의 집계 (원본 ID 기록은 공유, 커밋된 뒤 add로 작업 집계에 더함)
+        private ImportCounts newPage() {
+            ImportCounts page = new ImportCounts();
+            page.seenNodeIds = seenNodeIds;
+            page.seenLinkIds = seenLinkIds;
+            return page;
+        }
 
-            // 그래프 재로딩
-            graphService.reloadGraph();
+        private void add(ImportCounts page) {
+            nodes += page.nodes;
+            links += page.links;
+            virtualNodes += page.virtualNodes;
+            updatedNodes += page.updatedNodes;
+            updatedLinks += page.updatedLinks;
+            deletedNodes += page.deletedNodes;
+            deletedLinks += page.deletedLinks;
+            changes.merge(page.changes);
+        }
 
-            return String.format("Success: Nodes=%d, Links=%d, VirtualNodes=%d", nodeCount, linkCount, virtualNodeCount);
+        // 커밋 전에 작업 기록(ImportLog)에 남길 합계
+        private ImportCounts plus(ImportCounts page) {
+            ImportCounts total = new ImportCounts();
+            total.add(this);
+            total.add(page);
+            return total;
+        }
 
-        } catch (Exception e) {
-            log.error("Import failed for {}", districtName, e);
-            importLog.setStatus("FAILED");
-            importLog.setErrorMessage(e.getMessage());
-            importLog.setCompletedAt(LocalDateTime.now());
-            importLogRepository.save(importLog);
-            throw new RuntimeException("Import failed: " + e.getMessage(), e);
+        private void trackSeenRows() {
+            seenNodeIds = new HashSet<>();
+            seenLinkIds = new HashSet<>();
+        }
+
+        private void copyTo(ImportLog job) {
+            job.setTotalNodes(nodes);
+            job.setTotalLinks(links);
+            job.setVirtualNodes(virtualNodes);
+            job.setUpdatedNodes(updatedNodes);
+            job.setUpdatedLinks(updatedLinks);
+            job.setDeletedNodes(deletedNodes);
+            job.setDeletedLinks(deletedLinks);
         }
     }
 
     // --- 배치 저장 헬퍼 ---
+    // 배치에는 새 행, 내용이 바뀐 행, 교체할 가상 노드만 들어오며, 고유 키 기준 upsert라 중복 행도 안전
     private void saveNodeBatch(Map<String, Node> nodeBatch) {
-        List<Node> nodesToSave = new ArrayList<>();
-        for (Node n : nodeBatch.values()) {
-            if (!nodeRepository.existsByNodeId(n.getNodeId())) {
-                nodesToSave.add(n);
-            }
-        }
-        if (!nodesToSave.isEmpty()) nodeRepository.saveAll(nodesToSave);
+        bulkWriter.upsertNodes(nodeBatch.values());
         nodeBatch.clear();
     }
 
     private void saveLinkBatch(Map<String, Link> linkBatch) {
-        List<Link> linksToSave = new ArrayList<>();
-        for (Link l : linkBatch.values()) {
-            if (!linkRepository.existsByLinkId(l.getLinkId())) {
-                linksToSave.add(l);
+        bulkWriter.upsertLinks(linkBatch.values());
+        linkBatch.clear();
+    }
+
+    // --- 페이지 단위 저장 상태 조회 ---
+
+    /**
+     * 페이지의 NODE 행 + LINK 양 끝 노드 중 이미 저장된 노드 → 가상 노드 여부
+     * - NODE 행은 항상 DB에서 조회 (저장된 내용 해시와 비교해야 바뀐 경계 노드도 갱신됨)
+     * - NODE 행이 없는 링크 끝 노드는 존재 여부만 필요하므로 공유 캐시에 있으면 DB 조회 생략
+     *   (이번 시 전체 가져오기에서 다른 시군구가 저장한 노드)
+     * @param hashes DB에서 읽은 노드의 내용 해시를 채움
+     */
+    private Map<String, Boolean> findNodeStates(List<ApiResponse.Row> rows, Map<String, Boolean> sharedNodes,
+                                                Map<String, Long> hashes) {
+        Set<String> nodeIds = new HashSet<>();
+        Set<String> endpointIds = new HashSet<>();
+        for (ApiResponse.Row row : rows) {
+            if ("NODE".equals(row.getNodeType())) {
+                nodeIds.add(row.getNodeId());
+            } else if ("LINK".equals(row.getNodeType())) {
+                endpointIds.add(row.getBgngLnkgId());
+                endpointIds.add(row.getEndLnkgId());
             }
         }
-        if (!linksToSave.isEmpty()) linkRepository.saveAll(linksToSave);
-        linkBatch.clear();
+        endpointIds.removeAll(nodeIds);
+
+        Map<String, Boolean> flags = new HashMap<>();
+        if (sharedNodes != null) {
+            endpointIds.removeIf(nodeId -> {
+                Boolean isVirtual = sharedNodes.get(nodeId);
+                if (isVirtual != null) flags.put(nodeId, isVirtual);
+                return isVirtual != null;
+            });
+        }
+        nodeIds.addAll(endpointIds);
+        nodeIds.remove(null);
+        if (nodeIds.isEmpty()) return flags;
+        for (Object[] row : nodeRepository.findImportStatesByNodeIdIn(nodeIds)) {
+            flags.put((String) row[0], (Boolean) row[1]);
+            hashes.put((String) row[0], (Long) row[2]);
+        }
+        return flags;
+    }
+
+    private Map<String, Long> findLinkHashes(List<ApiResponse.Row> rows) {
+        Set<String> linkIds = new HashSet<>();
+        for (ApiResponse.Row row : rows) {
+            if ("LINK".equals(row.getNodeType()) && row.getLnkgId() != null) {
+                linkIds.add(row.getLnkgId());
+            }
+        }
+        Map<String, Long> hashes = new HashMap<>();
+        if (linkIds.isEmpty()) return hashes;
+        for (Object[] row : linkRepository.findContentHashesByLinkIdIn(linkIds)) {
+            hashes.put((String) row[0], (Long) row[1]);
+        }
+        return hashes;
     }
 
     // --- 헬퍼 메서드들 ---
 
-    private Node buildNodeFromRow(ApiResponse.Row row) {
-        double[] coords = parsePoint(row.getNodeWkt());
+    private Node buildNodeFromRow(ApiResponse.Row row, long contentHash) {
+        double[] coords = WktScanner.point(row.getNodeWkt());
         return Node.builder()
                 .nodeId(row.getNodeId())
                 .latitude(coords[1])
@@ -221,10 +786,11 @@ public class WalkingNetworkService {
                 .emdCd(row.getEmdCd())
                 .emdNm(row.getEmdNm())
                 .isVirtual(false)
+                .contentHash(contentHash)
                 .build();
     }
 
-    private Link buildLinkFromRow(ApiResponse.Row row) {
+    private Link buildLinkFromRow(ApiResponse.Row row, long contentHash) {
         Double len = row.getLnkgLen();
         double length = len == null ? 0.0 : len;
 
@@ -247,59 +813,7 @@ public class WalkingNetworkService {
                 .crswk(row.getCrswk())
                 .park(row.getPark())
                 .bldg(row.getBldg())
+                .contentHash(contentHash)
                 .build();
     }
-
-    private void createVirtualNodeIfNotExists(String nodeId, double[] coords) {
-        if (nodeRepository.existsByNodeId(nodeId)) return;
-
-        Node virtualNode = Node.builder()
-                .nodeId(nodeId)
-                .latitude(coords[1])
-                .longitude(coords[0])
-                .isVirtual(true)
-                .build();
-        nodeRepository.save(virtualNode);
-    }
-
-    // POINT(lon lat) 파서 - 음수, 소수점, 공백 허용
-    private double[] parsePoint(String wkt) {
-        Pattern pattern = Pattern.compile("POINT\\s*\\(([-+]?[0-9]*\\.?[0-9]+)\\s+([-+]?[0-9]*\\.?[0-9]+)\\)");
-        Matcher matcher = pattern.matcher(wkt);
-        if (matcher.find()) {
-            return new double[]{
-                    Double.parseDouble(matcher.group(1)),
-                    Double.parseDouble(matcher.group(2))
-            };
-        }
-        throw new RuntimeException("Invalid POINT format: " + wkt);
-    }
-
-    // LINESTRING 처음 좌표 파서
-    private double[] parseLineStart(String wkt) {
-        Pattern pattern = Pattern.compile("LINESTRING\\s*\\((.*)\\)");
-        Matcher matcher = pattern.matcher(wkt);
-        if (!matcher.find()) throw new RuntimeException("Invalid LINESTRING format: " + wkt);
-
-        String[] coords = matcher.group(1).trim().split(",");
-        String[] first = coords[0].trim().split("\\s+");
-        return new double[]{
-                Double.parseDouble(first[0]),
-                Double.parseDouble(first[1])
-        };
-    }
-
-    // LINESTRING 마지막 좌표 파서
-    private double[] parseLineEnd(String wkt) {
-        Pattern pattern = Pattern.compile("LINESTRING\\s*\\((.*)\\)");
-        Matcher matcher = pattern.matcher(wkt);
-        if (!matcher.find()) throw new RuntimeException("Invalid LINESTRING format: " + wkt);
-
-        String[] coords = matcher.group(1).trim().split(",");
-        String[] last = coords[coords.length - 1].trim().split("\\s+");
-        return new double[]{
-                Double.parseDouble(last[0]),
-                Double.parseDouble(last[1])
-        };
-    }
 }
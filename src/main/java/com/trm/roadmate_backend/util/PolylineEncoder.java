@@ -0,0 +1,43 @@
+package com.trm.roadmate_backend.util;
+
+/**
+ * Google Encoded Polyline 인코더
+ * - 좌표를 precision 자리(5 또는 6)의 정수로 변환한 뒤, 이전 좌표와의 차이를 5비트 단위로 인코딩
+ * - 위도/경도 배열을 직접 읽으므로 좌표 객체를 만들지 않음
+ */
+public class PolylineEncoder {
+
+    /**
+     * 위도/경도 배열의 앞 size개 좌표를 Encoded Polyline 문자열로 변환
+     * @param latitudes 위도 배열
+     * @param longitudes 경도 배열
+     * @param size 사용할 좌표 개수
+     * @param precision 소수점 자리수 (5: Google 기본, 6: OSRM/Valhalla 방식)
+     * @return Encoded Polyline 문자열
+     */
+    public static String encode(double[] latitudes, double[] longitudes, int size, int precision) {
+        double factor = Math.pow(10, precision);
+        StringBuilder sb = new StringBuilder(size * 8);
+
+        long prevLat = 0;
+        long prevLon = 0;
+        for (int i = 0; i < size; i++) {
+            long lat = Math.round(latitudes[i] * factor);
+            long lon = Math.round(longitudes[i] * factor);
+            encodeValue(lat - prevLat, sb);
+            encodeValue(lon - prevLon, sb);
+            prevLat = lat;
+            prevLon = lon;
+        }
+        return sb.toString();
+    }
+
+    private static void encodeValue(long value, StringBuilder sb) {
+        long v = value < 0 ? ~(value << 1) : (value << 1);
+        while (v >= 0x20) {
+            sb.append((char) ((0x20 | (v & 0x1f)) + 63));
+            v >>= 5;
+        }
+        sb.append((char) (v + 63));
+    }
+}
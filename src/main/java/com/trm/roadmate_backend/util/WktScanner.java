@@ -0,0 +1,298 @@
+package com.trm.roadmate_backend.util;
+
+import java.util.Arrays;
+
+/**
+ * POINT / LINESTRING WKT 좌표 스캐너
+ * - 정규식, split, 부분 문자열 없이 문자열에서 숫자를 바로 읽음
+ * - LINESTRING의 첫/마지막 좌표는 해당 좌표만 읽음 (마지막 좌표는 끝에서부터 거꾸로 찾아 중간을 건너뜀)
+ * - 좌표는 WKT 순서 그대로 (x = 경도, y = 위도), 3번째 이후 차원(Z/M)은 무시
+ */
+public class WktScanner {
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private final CharSequence text;
+    private int pos;
+
+    private WktScanner(CharSequence text, int pos) {
+        this.text = text;
+        this.pos = pos;
+    }
+
+    /**
+     * POINT(x y) → [경도, 위도]
+     * @throws IllegalArgumentException 형식 오류
+     */
+    public static double[] point(CharSequence wkt) {
+        WktScanner scanner = open(wkt, "POINT");
+        double[] coordinate = scanner.readCoordinate();
+        if (coordinate == null || !scanner.closes()) {
+            throw new IllegalArgumentException("Invalid POINT format: " + wkt);
+        }
+        return coordinate;
+    }
+
+    /**
+     * LINESTRING의 첫 좌표 → [경도, 위도]
+     * @throws IllegalArgumentException 형식 오류
+     */
+    public static double[] firstVertex(CharSequence wkt) {
+        double[] coordinate = open(wkt, "LINESTRING").readCoordinate();
+        if (coordinate == null) {
+            throw new IllegalArgumentException("Invalid LINESTRING format: " + wkt);
+        }
+        return coordinate;
+    }
+
+    /**
+     * LINESTRING의 마지막 좌표 → [경도, 위도]
+     * @throws IllegalArgumentException 형식 오류
+     */
+    public static double[] lastVertex(CharSequence wkt) {
+        WktScanner scanner = open(wkt, "LINESTRING");
+        int close = scanner.pos < 0 ? -1 : lastNonWhitespace(wkt);
+        if (scanner.pos < 0 || close < scanner.pos || wkt.charAt(close) != ')') {
+            throw new IllegalArgumentException("Invalid LINESTRING format: " + wkt);
+        }
+        // 닫는 괄호에서 거꾸로 마지막 구분자(',' 또는 여는 괄호)까지
+        int from = close - 1;
+        while (from >= scanner.pos && wkt.charAt(from) != ',') {
+            from--;
+        }
+        WktScanner last = new WktScanner(wkt, Math.max(from + 1, scanner.pos));
+        double[] coordinate = last.readCoordinate();
+        if (coordinate == null || !last.closes()) {
+            throw new IllegalArgumentException("Invalid LINESTRING format: " + wkt);
+        }
+        return coordinate;
+    }
+
+    /**
+     * LINESTRING 좌표 전체를 out에 채웁니다. (out은 재사용 가능, 이전 내용은 지움)
+     * @return 형식 오류면 false (POINT, MULTILINESTRING 등 다른 형식 포함)
+     */
+    public static boolean readLineString(CharSequence wkt, Coordinates out) {
+        out.clear();
+        WktScanner scanner = open(wkt, "LINESTRING");
+        if (scanner.pos < 0) return false;
+        while (true) {
+            if (!scanner.readInto(out)) return false;
+            scanner.skipWhitespace();
+            if (scanner.pos >= wkt.length()) return false;
+            char c = wkt.charAt(scanner.pos++);
+            if (c == ')') return scanner.atEnd();
+            if (c != ',') return false;
+        }
+    }
+
+    /** 재사용 가능한 좌표 버퍼 (위도/경도 배열 + 개수) */
+    public static class Coordinates {
+        private double[] latitudes;
+        private double[] longitudes;
+        private int size;
+
+        public Coordinates(int initialCapacity) {
+            this.latitudes = new double[Math.max(initialCapacity, 2)];
+            this.longitudes = new double[Math.max(initialCapacity, 2)];
+        }
+
+        public double[] latitudes() {
+            return latitudes;
+        }
+
+        public double[] longitudes() {
+            return longitudes;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public void clear() {
+            size = 0;
+        }
+
+        /** WKT 좌표 순서 그대로 (x = 경도, y = 위도) */
+        public void add(double longitude, double latitude) {
+            if (size == latitudes.length) {
+                latitudes = Arrays.copyOf(latitudes, size * 2);
+                longitudes = Arrays.copyOf(longitudes, size * 2);
+            }
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            size++;
+        }
+    }
+
+    // ==================== 스캐너 ====================
+
+    // "TYPE (" 까지 읽은 스캐너 (형식이 다르면 pos = -1)
+    private static WktScanner open(CharSequence wkt, String type) {
+        if (wkt == null) {
+            return new WktScanner("", -1);
+        }
+        WktScanner scanner = new WktScanner(wkt, 0);
+        scanner.skipWhitespace();
+        int length = type.length();
+        if (scanner.pos + length > wkt.length()) {
+            scanner.pos = -1;
+            return scanner;
+        }
+        for (int i = 0; i < length; i++) {
+            if (Character.toUpperCase(wkt.charAt(scanner.pos + i)) != type.charAt(i)) {
+                scanner.pos = -1;
+                return scanner;
+            }
+        }
+        scanner.pos += length;
+        scanner.skipWhitespace();
+        if (scanner.pos >= wkt.length() || wkt.charAt(scanner.pos) != '(') {
+            scanner.pos = -1;
+            return scanner;
+        }
+        scanner.pos++;
+        return scanner;
+    }
+
+    // "x y [z [m]]" → [x, y] (형식 오류면 null)
+    private double[] readCoordinate() {
+        if (pos < 0) return null;
+        double x = readNumber();
+        if (Double.isNaN(x)) return null;
+        double y = readNumber();
+        if (Double.isNaN(y)) return null;
+        skipExtraOrdinates();
+        return new double[]{x, y};
+    }
+
+    private boolean readInto(Coordinates out) {
+        double x = readNumber();
+        if (Double.isNaN(x)) return false;
+        double y = readNumber();
+        if (Double.isNaN(y)) return false;
+        skipExtraOrdinates();
+        out.add(x, y);
+        return true;
+    }
+
+    private void skipExtraOrdinates() {
+        while (true) {
+            skipWhitespace();
+            if (pos >= text.length()) return;
+            char c = text.charAt(pos);
+            if (c == ',' || c == ')') return;
+            if (Double.isNaN(readNumber())) return;
+        }
+    }
+
+    // 닫는 괄호 뒤에 공백만 남았는지
+    private boolean closes() {
+        skipWhitespace();
+        if (pos >= text.length() || text.charAt(pos) != ')') return false;
+        pos++;
+        return atEnd();
+    }
+
+    private boolean atEnd() {
+        skipWhitespace();
+        return pos == text.length();
+    }
+
+    private void skipWhitespace() {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    /**
+     * [+-]digits[.digits][(e|E)[+-]digits] → double (형식 오류면 NaN)
+     * - 유효 숫자가 2^53 미만이고 10의 거듭제곱이 22 이하면 나눗셈 한 번으로 정확히 반올림된 값
+     * - 그보다 긴 숫자는 Double.parseDouble로 처리
+     */
+    private double readNumber() {
+        skipWhitespace();
+        int start = pos;
+        int length = text.length();
+        boolean negative = false;
+        if (pos < length && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+            negative = text.charAt(pos) == '-';
+            pos++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean exact = true;
+        while (pos < length && isDigit(text.charAt(pos))) {
+            if (mantissa < MAX_EXACT_MANTISSA / 10) {
+                mantissa = mantissa * 10 + (text.charAt(pos) - '0');
+            } else {
+                exact = false;
+            }
+            digits++;
+            pos++;
+        }
+        if (pos < length && text.charAt(pos) == '.') {
+            pos++;
+            while (pos < length && isDigit(text.charAt(pos))) {
+                if (mantissa < MAX_EXACT_MANTISSA / 10) {
+                    mantissa = mantissa * 10 + (text.charAt(pos) - '0');
+                    scale++;
+                } else {
+                    exact = false;
+                }
+                digits++;
+                pos++;
+            }
+        }
+        if (digits == 0) {
+            pos = start;
+            return Double.NaN;
+        }
+        int exponent = 0;
+        if (pos < length && (text.charAt(pos) == 'e' || text.charAt(pos) == 'E')) {
+            int exponentStart = pos++;
+            boolean negativeExponent = false;
+            if (pos < length && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+                negativeExponent = text.charAt(pos) == '-';
+                pos++;
+            }
+            int exponentDigits = 0;
+            while (pos < length && isDigit(text.charAt(pos))) {
+                exponent = Math.min(exponent * 10 + (text.charAt(pos) - '0'), 1000);
+                exponentDigits++;
+                pos++;
+            }
+            if (exponentDigits == 0) {
+                pos = exponentStart; // 'e' 뒤에 숫자가 없으면 숫자가 아닌 부분으로 봄
+                exponent = 0;
+            } else if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+
+        int power = exponent - scale;
+        if (!exact || power < -22 || power > 22) {
+            return Double.parseDouble(text.subSequence(start, pos).toString());
+        }
+        double value = power < 0 ? mantissa / POWERS_OF_TEN[-power] : mantissa * POWERS_OF_TEN[power];
+        return negative ? -value : value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int lastNonWhitespace(CharSequence text) {
+        int i = text.length() - 1;
+        while (i >= 0 && Character.isWhitespace(text.charAt(i))) {
+            i--;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,175 @@
+package com.trm.roadmate_backend.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.trm.roadmate_backend.graph.RandomNetwork.nodeId;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectedComponentsTest {
+
+	private static final int PARALLELISM = 8;
+
+	@Test
+	void parallelUnionFindMatchesBreadthFirstSearch() throws Exception {
+		Random random = new Random(31);
+		for (int round = 0; round < 20; round++) {
+			// 링크 수를 노드 수 근처로 두어 큰 요소 + 작은 요소 + 고립 노드가 섞이도록
+			int nodeCount = 5_000 + random.nextInt(20_000);
+			int linkCount = nodeCount / 2 + random.nextInt(nodeCount);
+			int[] linkStart = new int[linkCount];
+			int[] linkEnd = new int[linkCount];
+			for (int l = 0; l < linkCount; l++) {
+				linkStart[l] = random.nextInt(nodeCount);
+				linkEnd[l] = random.nextInt(nodeCount);
+			}
+
+			ConnectedComponents components = computeInParallel(nodeCount, linkStart, linkEnd, linkCount);
+			assertMatchesReference(nodeCount, linkStart, linkEnd, linkCount, components, "round=" + round);
+		}
+	}
+
+	@Test
+	void longShuffledChainIsOneComponent() throws Exception {
+		// 링크 순서를 섞은 긴 경로: 여러 스레드가 같은 루트를 동시에 합치는 경우가 많음
+		int nodeCount = 200_000;
+		int[] order = new int[nodeCount - 1];
+		for (int i = 0; i < order.length; i++) order[i] = i;
+		Random random = new Random(7);
+		for (int i = order.length - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int swap = order[i];
+			order[i] = order[j];
+			order[j] = swap;
+		}
+		int[] linkStart = new int[order.length];
+		int[] linkEnd = new int[order.length];
+		for (int l = 0; l < order.length; l++) {
+			// 방향도 섞음 (큰 인덱스 → 작은 인덱스 링크 포함)
+			linkStart[l] = l % 2 == 0 ? order[l] : order[l] + 1;
+			linkEnd[l] = l % 2 == 0 ? order[l] + 1 : order[l];
+		}
+
+		for (int round = 0; round < 5; round++) {
+			ConnectedComponents components = computeInParallel(nodeCount, linkStart, linkEnd, order.length);
+			assertEquals(1, components.count(), "round=" + round);
+			assertEquals(nodeCount, components.size(0), "round=" + round);
+			assertEquals(0, components.largest(), "round=" + round);
+			assertTrue(components.isConnected(0, nodeCount - 1), "round=" + round);
+		}
+	}
+
+	@Test
+	void nodesWithoutLinksAreSingletonComponents() {
+		int[] none = new int[4];
+		ConnectedComponents components = ConnectedComponents.compute(5, none, none, 0);
+		assertEquals(5, components.count());
+		for (int node = 0; node < 5; node++) {
+			assertEquals(node, components.componentOf(node));
+			assertEquals(1, components.size(node));
+		}
+		assertEquals(0, components.largest()); // 크기가 같으면 번호가 작은 요소
+
+		// 자기 자신으로 가는 링크, 링크 배열 뒤쪽(linkCount 밖)의 값은 무시
+		int[] start = {2, 0, 1, 3};
+		int[] end = {2, 4, 3, 4};
+		components = ConnectedComponents.compute(5, start, end, 2);
+		assertEquals(4, components.count());
+		assertTrue(components.isConnected(0, 4));
+		assertFalse(components.isConnected(1, 3));
+		assertEquals(components.componentOf(0), components.largest());
+		assertTrue(components.isInLargest(4));
+	}
+
+	@Test
+	void emptyGraphHasNoComponents() {
+		assertEquals(0, ConnectedComponents.empty().count());
+		assertEquals(-1, ConnectedComponents.empty().largest());
+
+		ConnectedComponents components = ConnectedComponents.compute(0, new int[0], new int[0], 0);
+		assertEquals(0, components.count());
+		assertEquals(-1, components.largest());
+	}
+
+	@Test
+	void routingGraphComponentsMatchReachability() {
+		for (long seed = 1; seed <= 10; seed++) {
+			RandomNetwork network = RandomNetwork.generate(seed, 40, 4, 1);
+			RoutingGraph graph = network.build(seed % 2 == 0, true);
+			for (int source = 0; source < network.nodeCount(); source += 3) {
+				double[] distances = network.distances(source);
+				int from = graph.indexOf(nodeId(source));
+				for (int target = 0; target < network.nodeCount(); target++) {
+					assertEquals(distances[target] < Double.POSITIVE_INFINITY,
+							graph.isConnected(from, graph.indexOf(nodeId(target))),
+							"seed=" + seed + ", " + nodeId(source) + " -> " + nodeId(target));
+				}
+			}
+		}
+	}
+
+	// 코어 수가 적은 환경에서도 union이 여러 스레드에서 겹쳐 실행되도록 전용 풀에서 계산
+	private static ConnectedComponents computeInParallel(int nodeCount, int[] linkStart, int[] linkEnd, int linkCount)
+			throws Exception {
+		ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+		try {
+			return pool.submit(() -> ConnectedComponents.compute(nodeCount, linkStart, linkEnd, linkCount)).get();
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	// 순차 BFS로 구한 요소와 같은지 (요소 번호는 가장 작은 노드 인덱스 순, 크기와 가장 큰 요소까지)
+	private static void assertMatchesReference(int nodeCount, int[] linkStart, int[] linkEnd, int linkCount,
+											   ConnectedComponents components, String message) {
+		List<List<Integer>> adjacency = new ArrayList<>(nodeCount);
+		for (int i = 0; i < nodeCount; i++) adjacency.add(new ArrayList<>());
+		for (int l = 0; l < linkCount; l++) {
+			adjacency.get(linkStart[l]).add(linkEnd[l]);
+			adjacency.get(linkEnd[l]).add(linkStart[l]);
+		}
+
+		int[] expected = new int[nodeCount];
+		Arrays.fill(expected, -1);
+		int[] sizes = new int[nodeCount];
+		int count = 0;
+		ArrayDeque<Integer> queue = new ArrayDeque<>();
+		for (int root = 0; root < nodeCount; root++) {
+			if (expected[root] >= 0) continue;
+			int component = count++;
+			int size = 0;
+			expected[root] = component;
+			queue.add(root);
+			while (!queue.isEmpty()) {
+				int node = queue.poll();
+				size++;
+				for (int next : adjacency.get(node)) {
+					if (expected[next] < 0) {
+						expected[next] = component;
+						queue.add(next);
+					}
+				}
+			}
+			sizes[component] = size;
+		}
+
+		assertEquals(count, components.count(), message);
+		for (int node = 0; node < nodeCount; node++) {
+			assertEquals(expected[node], components.componentOf(node), message + ", node " + node);
+		}
+		int largest = 0;
+		for (int c = 0; c < count; c++) {
+			assertEquals(sizes[c], components.size(c), message + ", component " + c);
+			if (sizes[c] > sizes[largest]) largest = c;
+		}
+		assertEquals(largest, components.largest(), message);
+	}
+}
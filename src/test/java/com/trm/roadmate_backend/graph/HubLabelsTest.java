@@ -0,0 +1,63 @@
+package com.trm.roadmate_backend.graph;
+
+import org.junit.jupiter.api.Test;
+
+import static com.trm.roadmate_backend.graph.RandomNetwork.nodeId;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HubLabelsTest {
+
+	private static final double DELTA = 0.05; // 레이블 거리는 float로 저장되므로 미터 단위 허용 오차
+
+	@Test
+	void labelDistancesMatchDijkstraForAllPairs() {
+		for (long seed = 1; seed <= 15; seed++) {
+			RandomNetwork network = RandomNetwork.generate(seed, 30, 4, 1);
+			boolean contract = seed % 3 != 0;
+			RoutingGraph graph = network.build(contract, seed % 2 == 0);
+			HubLabels labels = HubLabels.compute(graph, 0);
+			assertFalse(labels.isEmpty());
+
+			for (int source = 0; source < network.nodeCount(); source++) {
+				double[] expected = network.distances(source);
+				int s = graph.indexOf(nodeId(source));
+				for (int target = 0; target < network.nodeCount(); target++) {
+					int t = graph.indexOf(nodeId(target));
+					assertEquals(expected[target], labels.distance(s, t), DELTA,
+							"seed=" + seed + ", contract=" + contract + ", " + nodeId(source) + " -> " + nodeId(target));
+				}
+			}
+		}
+	}
+
+	@Test
+	void labelsAreSymmetric() {
+		RandomNetwork network = RandomNetwork.generate(7, 40, 3, 1);
+		RoutingGraph graph = network.build(true, true);
+		HubLabels labels = HubLabels.compute(graph, 0);
+		for (int s = 0; s < graph.nodeCount(); s += 3) {
+			for (int t = 0; t < graph.nodeCount(); t += 5) {
+				assertEquals(labels.distance(s, t), labels.distance(t, s), DELTA);
+			}
+		}
+	}
+
+	@Test
+	void computeStopsWhenLabelBudgetIsExceeded() {
+		RoutingGraph graph = RandomNetwork.generate(3, 30, 2, 1).build(true, false);
+		assertNull(HubLabels.compute(graph, 5));
+
+		HubLabels labels = HubLabels.compute(graph, 0);
+		assertTrue(labels.labelCount() > 5);
+		assertNotNull(HubLabels.compute(graph, labels.labelCount()));
+	}
+
+	@Test
+	void emptyGraphHasEmptyLabels() {
+		assertTrue(HubLabels.compute(RoutingGraph.EMPTY, 0).isEmpty());
+	}
+}
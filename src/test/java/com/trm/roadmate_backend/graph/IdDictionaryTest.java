@@ -0,0 +1,157 @@
+package com.trm.roadmate_backend.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdDictionaryTest {
+
+	@Test
+	void keysWithSameHashCodeAreResolvedByProbing() {
+		// "Aa"와 "BB"는 hashCode가 같으므로 이 둘을 이어 붙인 문자열은 모두 같은 해시 슬롯에서 시작
+		List<String> colliding = collidingKeys(9);
+		assertEquals(512, colliding.size());
+		int hash = colliding.get(0).hashCode();
+		for (String key : colliding) {
+			assertEquals(hash, key.hashCode(), key);
+		}
+
+		// 절반만 추가 → 나머지 절반은 같은 해시지만 없는 키
+		IdDictionary.Builder builder = new IdDictionary.Builder(0);
+		for (int i = 0; i < colliding.size(); i += 2) {
+			assertEquals(i / 2, builder.add(colliding.get(i)));
+		}
+		for (IdDictionary dictionary : List.of(builder.build(), builder.permute(identity(builder.size())).build())) {
+			assertEquals(256, dictionary.size());
+			for (int i = 0; i < colliding.size(); i++) {
+				String key = colliding.get(i);
+				assertEquals(i % 2 == 0 ? i / 2 : -1, dictionary.indexOf(key), key);
+			}
+		}
+	}
+
+	@Test
+	void builderGrowsPastInitialCapacity() {
+		IdDictionary.Builder builder = new IdDictionary.Builder(0);
+		int count = 50_000;
+		for (int i = 0; i < count; i++) {
+			String key = keyOf(i);
+			assertEquals(i, builder.add(key), key);
+			// 확장 도중에도 앞서 넣은 ID 조회가 유지되어야 함
+			if (i % 997 == 0) {
+				for (int j = 0; j <= i; j += 101) {
+					assertEquals(j, builder.indexOf(keyOf(j)), "after " + i + ": " + keyOf(j));
+				}
+			}
+		}
+		assertEquals(count, builder.size());
+
+		IdDictionary dictionary = builder.build();
+		assertEquals(count, dictionary.size());
+		for (int i = 0; i < count; i++) {
+			assertEquals(i, dictionary.indexOf(keyOf(i)), keyOf(i));
+			assertEquals(keyOf(i), dictionary.get(i));
+		}
+		assertEquals(-1, dictionary.indexOf("N" + count));
+		// build()는 테이블을 최종 크기에 맞춰 줄임 (적재율 25% ~ 50%)
+		long tableBytes = dictionary.memoryBytes() - totalBytes(count) - (long) (count + 1) * Integer.BYTES;
+		assertTrue(tableBytes <= (long) count * 4 * Integer.BYTES, "table " + tableBytes + " bytes");
+	}
+
+	@Test
+	void missingKeysReturnMinusOne() {
+		IdDictionary.Builder builder = new IdDictionary.Builder(4);
+		builder.add("123");
+		builder.add("서울-강남");
+		builder.add("A");
+		IdDictionary dictionary = builder.build();
+
+		assertEquals(0, dictionary.indexOf("123"));
+		assertEquals(1, dictionary.indexOf("서울-강남"));
+		assertEquals(2, dictionary.indexOf("A"));
+
+		assertEquals(-1, dictionary.indexOf(null));
+		assertEquals(-1, dictionary.indexOf(""));
+		assertEquals(-1, dictionary.indexOf("12"));     // 접두사
+		assertEquals(-1, dictionary.indexOf("1234"));   // 더 긴 키
+		assertEquals(-1, dictionary.indexOf("서울"));
+		assertEquals(-1, dictionary.indexOf("서울-강북"));
+		assertEquals(-1, dictionary.indexOf("a"));
+		assertEquals(-1, builder.indexOf("missing"));
+
+		assertEquals(0, IdDictionary.EMPTY.size());
+		assertEquals(-1, IdDictionary.EMPTY.indexOf("123"));
+		assertEquals(-1, IdDictionary.EMPTY.indexOf(null));
+	}
+
+	@Test
+	void appendKeepsDuplicatesButLookupFindsFirst() {
+		IdDictionary.Builder builder = new IdDictionary.Builder(2);
+		assertEquals(0, builder.append("L1"));
+		assertEquals(1, builder.append("L2"));
+		assertEquals(2, builder.append("L1"));
+		assertEquals(0, builder.add("L1"));
+
+		IdDictionary dictionary = builder.build();
+		assertEquals(3, dictionary.size());
+		assertEquals("L1", dictionary.get(2));
+		assertEquals(0, dictionary.indexOf("L1"));
+		assertEquals(1, dictionary.indexOf("L2"));
+	}
+
+	@Test
+	void permuteRenumbersIds() {
+		IdDictionary.Builder builder = new IdDictionary.Builder(0);
+		for (int i = 0; i < 100; i++) {
+			builder.add("N" + i);
+		}
+		int[] order = new int[100];
+		for (int i = 0; i < 100; i++) {
+			order[i] = (i * 37) % 100; // order[newId] = oldId
+		}
+
+		IdDictionary dictionary = builder.permute(order).build();
+		for (int newId = 0; newId < 100; newId++) {
+			assertEquals("N" + order[newId], dictionary.get(newId));
+			assertEquals(newId, dictionary.indexOf("N" + order[newId]));
+		}
+	}
+
+	// ==================== 준비 ====================
+
+	// "Aa"/"BB"를 length번 이어 붙인 2^length개 문자열 (hashCode가 모두 같음)
+	private static List<String> collidingKeys(int length) {
+		List<String> keys = new ArrayList<>();
+		keys.add("");
+		for (int i = 0; i < length; i++) {
+			List<String> next = new ArrayList<>(keys.size() * 2);
+			for (String key : keys) {
+				next.add(key + "Aa");
+				next.add(key + "BB");
+			}
+			keys = next;
+		}
+		return keys;
+	}
+
+	private static int[] identity(int size) {
+		int[] order = new int[size];
+		for (int i = 0; i < size; i++) order[i] = i;
+		return order;
+	}
+
+	// 초기 바이트 용량(ID당 12바이트)을 넘는 긴 ID도 섞음
+	private static String keyOf(int i) {
+		return i % 1000 == 0 ? "node-with-a-rather-long-identifier-" + i : "N" + i;
+	}
+
+	private static long totalBytes(int count) {
+		long bytes = 0;
+		for (int i = 0; i < count; i++) bytes += keyOf(i).length();
+		return bytes;
+	}
+}
@@ -0,0 +1,158 @@
+package com.trm.roadmate_backend.graph;
+
+import com.trm.roadmate_backend.dto.PathNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LinkGeometryStoreTest {
+
+	// 링크 0: 굽은 형상 (3점), 링크 1: 직선, 링크 2: WKT가 끝 → 시작 방향으로 들어온 형상 (4점)
+	private static final double[] BENT_LATS = {37.5000, 37.5005, 37.5010};
+	private static final double[] BENT_LONS = {126.9500, 126.9507, 126.9500};
+	private static final double[] REVERSED_LATS = {37.5030, 37.5024, 37.5016, 37.5010};
+	private static final double[] REVERSED_LONS = {126.9500, 126.9493, 126.9508, 126.9500};
+
+	@Test
+	void sliceIsCopiedInTravelDirection() {
+		LinkGeometryStore store = store();
+		assertEquals(3, store.linkCount());
+		assertEquals(3, store.pointCount(0));
+		assertEquals(2, store.pointCount(1));
+		assertEquals(4, store.pointCount(2));
+		assertEquals(9, store.totalPoints());
+
+		// 정방향: 저장 순서 그대로
+		RouteCoordinates forward = new RouteCoordinates(0);
+		store.appendTo(forward, 0, false, false);
+		assertPoints(forward, BENT_LATS, BENT_LONS);
+
+		// 역방향: 끝 노드 → 시작 노드
+		RouteCoordinates backward = new RouteCoordinates(0);
+		store.appendTo(backward, 0, true, false);
+		assertPoints(backward, reverse(BENT_LATS), reverse(BENT_LONS));
+	}
+
+	@Test
+	void reversedWktIsStoredFromStartToEnd() {
+		LinkGeometryStore store = store();
+
+		// add(reverse = true)로 넣은 형상은 시작 → 끝 순서로 저장되므로 정방향 복사가 WKT의 역순
+		RouteCoordinates forward = new RouteCoordinates(0);
+		store.appendTo(forward, 2, false, false);
+		assertPoints(forward, reverse(REVERSED_LATS), reverse(REVERSED_LONS));
+
+		RouteCoordinates backward = new RouteCoordinates(0);
+		store.appendTo(backward, 2, true, false);
+		assertPoints(backward, REVERSED_LATS, REVERSED_LONS);
+	}
+
+	@Test
+	void jointPointIsCopiedOnce() {
+		LinkGeometryStore store = store();
+
+		// 링크 0 정방향 (37.5000 → 37.5010) 다음 링크 2 정방향 (37.5010 → 37.5030): 이음점 37.5010은 한 번만
+		RouteCoordinates route = new RouteCoordinates(1);
+		store.appendTo(route, 0, false, false);
+		store.appendTo(route, 2, false, true);
+		assertPoints(route,
+				new double[]{37.5000, 37.5005, 37.5010, 37.5016, 37.5024, 37.5030},
+				new double[]{126.9500, 126.9507, 126.9500, 126.9508, 126.9493, 126.9500});
+
+		// 같은 경로를 반대로: 링크 2 역방향 다음 링크 0 역방향
+		RouteCoordinates back = new RouteCoordinates(1);
+		store.appendTo(back, 2, true, false);
+		store.appendTo(back, 0, true, true);
+		assertPoints(back,
+				new double[]{37.5030, 37.5024, 37.5016, 37.5010, 37.5005, 37.5000},
+				new double[]{126.9500, 126.9493, 126.9508, 126.9500, 126.9507, 126.9500});
+
+		// 두 점짜리 직선 링크를 역방향 + 첫 점 생략으로 붙이면 시작 노드 한 점만 추가
+		RouteCoordinates straight = new RouteCoordinates(1);
+		straight.add(37.5000, 126.9520);
+		store.appendTo(straight, 1, true, true);
+		assertPoints(straight, new double[]{37.5000, 37.5000}, new double[]{126.9520, 126.9510});
+	}
+
+	@Test
+	void builderGrowsPastExpectedLinks() {
+		LinkGeometryStore.Builder builder = new LinkGeometryStore.Builder(1);
+		int links = 1000;
+		for (int i = 0; i < links; i++) {
+			int count = 2 + i % 7;
+			double[] lats = new double[count];
+			double[] lons = new double[count];
+			for (int p = 0; p < count; p++) {
+				lats[p] = i + p * 0.001;
+				lons[p] = -i - p * 0.001;
+			}
+			assertEquals(i, builder.add(lats, lons, count, i % 2 == 1));
+		}
+		LinkGeometryStore store = builder.build();
+		assertEquals(links, store.linkCount());
+
+		int total = 0;
+		for (int i = 0; i < links; i++) {
+			int count = 2 + i % 7;
+			assertEquals(count, store.pointCount(i));
+			total += count;
+			// 홀수 링크는 뒤집어 저장했으므로 정방향 첫 점이 원래 마지막 점
+			RouteCoordinates slice = new RouteCoordinates(0);
+			store.appendTo(slice, i, false, false);
+			List<PathNode> points = slice.toPathNodes();
+			double firstOffset = i % 2 == 1 ? (count - 1) * 0.001 : 0.0;
+			assertEquals(i + firstOffset, points.get(0).getLatitude(), 1e-12, "link " + i);
+			assertEquals(-i - firstOffset, points.get(0).getLongitude(), 1e-12, "link " + i);
+		}
+		assertEquals(total, store.totalPoints());
+	}
+
+	@Test
+	void routingGraphBuilderFlipsGeometryThatRunsEndToStart() {
+		RoutingGraphBuilder builder = new RoutingGraphBuilder(3, 2);
+		int a = builder.addNode("A", 37.5010, 126.9500, false);
+		int b = builder.addNode("B", 37.5030, 126.9500, false);
+		int c = builder.addNode("C", 37.5000, 126.9500, false);
+		// A → B 링크의 WKT가 B → A 순서, C → A 링크의 WKT는 C → A 순서
+		builder.addLink("L1", a, b, 300.0, REVERSED_LATS, REVERSED_LONS, REVERSED_LATS.length);
+		builder.addLink("L2", c, a, 140.0, BENT_LATS, BENT_LONS, BENT_LATS.length);
+		RoutingGraph graph = builder.build(false, false);
+
+		RouteCoordinates first = new RouteCoordinates(0);
+		graph.geometry().appendTo(first, graph.linkIndexOf("L1"), false, false);
+		assertPoints(first, reverse(REVERSED_LATS), reverse(REVERSED_LONS));
+
+		RouteCoordinates second = new RouteCoordinates(0);
+		graph.geometry().appendTo(second, graph.linkIndexOf("L2"), false, false);
+		assertPoints(second, BENT_LATS, BENT_LONS);
+	}
+
+	// ==================== 준비 ====================
+
+	private static LinkGeometryStore store() {
+		LinkGeometryStore.Builder builder = new LinkGeometryStore.Builder(1);
+		builder.add(BENT_LATS, BENT_LONS, BENT_LATS.length, false);
+		builder.addStraight(37.5000, 126.9510, 37.5000, 126.9520);
+		builder.add(REVERSED_LATS, REVERSED_LONS, REVERSED_LATS.length, true);
+		return builder.build();
+	}
+
+	static double[] reverse(double[] values) {
+		double[] reversed = new double[values.length];
+		for (int i = 0; i < values.length; i++) {
+			reversed[i] = values[values.length - 1 - i];
+		}
+		return reversed;
+	}
+
+	static void assertPoints(RouteCoordinates coordinates, double[] latitudes, double[] longitudes) {
+		List<PathNode> points = coordinates.toPathNodes();
+		assertEquals(latitudes.length, points.size(), "point count");
+		for (int i = 0; i < latitudes.length; i++) {
+			assertEquals(latitudes[i], points.get(i).getLatitude(), 1e-12, "latitude " + i);
+			assertEquals(longitudes[i], points.get(i).getLongitude(), 1e-12, "longitude " + i);
+		}
+	}
+}
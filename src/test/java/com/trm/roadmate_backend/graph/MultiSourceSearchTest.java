@@ -0,0 +1,123 @@
+package com.trm.roadmate_backend.graph;
+
+import com.trm.roadmate_backend.dto.MeetingObjective;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.trm.roadmate_backend.graph.RandomNetwork.nodeId;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultiSourceSearchTest {
+
+	private static final double DELTA = 0.05; // 간선 가중치는 float로 저장되므로 미터 단위 허용 오차
+
+	@Test
+	void meetingNodeMatchesBruteForce() {
+		for (long seed = 1; seed <= 40; seed++) {
+			RandomNetwork network = RandomNetwork.generate(seed, 30, 3, 1);
+			boolean contract = seed % 2 == 0;
+			RoutingGraph graph = network.build(contract, true);
+			Random random = network.random();
+
+			for (int round = 0; round < 5; round++) {
+				int k = 2 + random.nextInt(4);
+				int[] participants = new int[k];
+				double[][] reference = new double[k][];
+				for (int i = 0; i < k; i++) {
+					participants[i] = random.nextInt(network.nodeCount());
+					reference[i] = network.distances(participants[i]);
+				}
+				for (MeetingObjective objective : MeetingObjective.values()) {
+					String message = "seed=" + seed + ", contract=" + contract + ", objective=" + objective
+							+ ", participants=" + Arrays.toString(participants);
+					check(graph, participants, reference, objective, message);
+				}
+			}
+		}
+	}
+
+	@Test
+	void participantsInDifferentComponentsHaveNoMeetingNode() {
+		RandomNetwork network = RandomNetwork.generate(5, 30, 2, 1);
+		RoutingGraph graph = network.build(false, false);
+		double[] fromFirst = network.distances(0);
+		int unreachable = -1;
+		for (int node = 0; node < network.nodeCount(); node++) {
+			if (fromFirst[node] == Double.POSITIVE_INFINITY) {
+				unreachable = node;
+				break;
+			}
+		}
+		assertTrue(unreachable >= 0, "network should contain a disconnected island");
+
+		int[] participants = {0, unreachable};
+		double[][] reference = {fromFirst, network.distances(unreachable)};
+		check(graph, participants, reference, MeetingObjective.MAX, "disconnected");
+		check(graph, participants, reference, MeetingObjective.SUM, "disconnected");
+	}
+
+	// 동시 탐색 결과를 탐색 그래프의 모든 노드를 훑는 전수 조사와 비교
+	private static void check(RoutingGraph graph, int[] participants, double[][] reference,
+							  MeetingObjective objective, String message) {
+		int k = participants.length;
+		double best = Double.POSITIVE_INFINITY;
+		for (int node = 0; node < graph.nodeCount(); node++) {
+			if (!graph.isContracted(node)) {
+				best = Math.min(best, value(graph, reference, objective, node));
+			}
+		}
+
+		SearchSpace[] spaces = new SearchSpace[k];
+		try {
+			for (int i = 0; i < k; i++) {
+				spaces[i] = graph.acquireSearchSpace();
+				start(graph, spaces[i], graph.indexOf(nodeId(participants[i])));
+			}
+			int meeting = MultiSourceSearch.findMeetingNode(spaces, objective, SearchLimits.of(0, 0));
+			if (best == Double.POSITIVE_INFINITY) {
+				assertEquals(-1, meeting, message);
+				return;
+			}
+			assertTrue(meeting >= 0, message);
+			assertFalse(graph.isContracted(meeting), message);
+			assertEquals(best, value(graph, reference, objective, meeting), DELTA, message);
+			int original = Integer.parseInt(graph.nodeId(meeting).substring(1));
+			for (int i = 0; i < k; i++) {
+				assertTrue(spaces[i].isSettled(meeting), message);
+				assertEquals(reference[i][original], spaces[i].distance(meeting), DELTA, message);
+			}
+		} finally {
+			for (SearchSpace space : spaces) {
+				if (space != null) graph.releaseSearchSpace(space);
+			}
+		}
+	}
+
+	// 축약된 체인 내부 노드에서 출발하면 체인 양 끝 노드를 체인 거리만큼 떨어진 출발점으로 넣음 (PathfindingService와 같음)
+	private static void start(RoutingGraph graph, SearchSpace space, int node) {
+		space.reset();
+		int segment = graph.chainSegment(node);
+		if (segment < 0) {
+			space.addSource(node, 0.0);
+			return;
+		}
+		double offset = graph.chainOffset(node);
+		space.addSource(graph.segmentStart(segment), offset);
+		space.addSource(graph.segmentEnd(segment), graph.segmentWeight(segment) - offset);
+	}
+
+	private static double value(RoutingGraph graph, double[][] reference, MeetingObjective objective, int node) {
+		int original = Integer.parseInt(graph.nodeId(node).substring(1));
+		double max = 0.0;
+		double sum = 0.0;
+		for (double[] distances : reference) {
+			max = Math.max(max, distances[original]);
+			sum += distances[original];
+		}
+		return objective == MeetingObjective.SUM ? sum : max;
+	}
+}
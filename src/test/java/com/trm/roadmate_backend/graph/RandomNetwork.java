@@ -0,0 +1,340 @@
+package com.trm.roadmate_backend.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * 테스트용 무작위 보행 네트워크
+ * - 교차로를 트리 + 여분 링크로 잇고, 교차로 사이마다 0 ~ maxChain개의 중간 노드를 넣어 차수 2 체인을 만듦
+ * - 같은 교차로 쌍을 잇는 평행 체인, 막다른 체인, 교차로 없는 고리, 떨어진 섬, 가상 노드를 일부 포함
+ * - 노드마다 경도 기준 지역(R0 ~ R{regionCount - 1})을 배정하고, 링크는 시작 노드의 지역에 속함 (지역 그래프/오버레이 테스트용)
+ * - 기준 거리(distances)는 RoutingGraph를 거치지 않고 링크 목록만으로 계산한 다익스트라
+ */
+public class RandomNetwork {
+
+	private static final double BASE_LAT = 37.50;
+	private static final double BASE_LON = 126.95;
+	private static final double SPAN = 0.05;
+
+	private final Random random;
+	private final int regionCount;
+
+	private final List<double[]> coordinates = new ArrayList<>(); // {lat, lon}
+	private final List<Boolean> virtual = new ArrayList<>();
+	private final List<int[]> links = new ArrayList<>();           // {start, end}
+	private final List<Double> lengths = new ArrayList<>();
+
+	private RandomNetwork(long seed, int regionCount) {
+		this.random = new Random(seed);
+		this.regionCount = regionCount;
+	}
+
+	/**
+	 * @param junctions 교차로 수 (체인 중간 노드 제외)
+	 * @param maxChain 교차로 사이 링크마다 넣는 최대 중간 노드 수
+	 */
+	public static RandomNetwork generate(long seed, int junctions, int maxChain, int regionCount) {
+		RandomNetwork network = new RandomNetwork(seed, regionCount);
+		network.populate(junctions, maxChain);
+		return network;
+	}
+
+	private void populate(int junctions, int maxChain) {
+		Random r = random;
+		int island = Math.min(3, junctions / 4);
+		int main = junctions - island;
+		for (int i = 0; i < junctions; i++) {
+			addNode(BASE_LAT + r.nextDouble() * SPAN, BASE_LON + r.nextDouble() * SPAN, false);
+		}
+		// 본섬: 트리로 연결한 뒤 여분 링크/평행 체인 추가
+		for (int i = 1; i < main; i++) {
+			connect(r.nextInt(i), i, r.nextInt(maxChain + 1));
+		}
+		for (int i = 0; i < main / 2; i++) {
+			int a = r.nextInt(main);
+			int b = r.nextInt(main);
+			if (a != b) connect(a, b, r.nextInt(maxChain + 1));
+		}
+		for (int i = 0; i < main / 10 + 1; i++) {
+			int a = r.nextInt(main);
+			int b = r.nextInt(main);
+			if (a != b) {
+				connect(a, b, 1 + r.nextInt(maxChain + 1));
+				connect(a, b, 1 + r.nextInt(maxChain + 1));
+			}
+		}
+		// 막다른 체인
+		for (int i = 0; i < main / 5 + 1; i++) {
+			int from = r.nextInt(main);
+			int length = 1 + r.nextInt(maxChain + 1);
+			for (int j = 0; j < length; j++) {
+				double[] c = coordinates.get(from);
+				int next = addNode(c[0] + (r.nextDouble() - 0.5) * 0.002, c[1] + (r.nextDouble() - 0.5) * 0.002, false);
+				addLink(from, next);
+				from = next;
+			}
+		}
+		// 떨어진 섬 (교차로끼리 삼각형)
+		for (int i = main; i + 1 < junctions; i++) {
+			connect(i, i + 1, r.nextInt(maxChain + 1));
+		}
+		if (island >= 3) {
+			connect(junctions - 1, main, r.nextInt(maxChain + 1));
+		}
+		// 교차로 없는 고리 (모든 노드가 차수 2)
+		int ringSize = 3 + r.nextInt(4);
+		int first = -1;
+		int previous = -1;
+		for (int i = 0; i < ringSize; i++) {
+			int node = addNode(BASE_LAT + r.nextDouble() * SPAN, BASE_LON + r.nextDouble() * SPAN, false);
+			if (previous >= 0) addLink(previous, node);
+			else first = node;
+			previous = node;
+		}
+		addLink(previous, first);
+	}
+
+	// a, b 교차로를 중간 노드 chain개로 이은 체인 (일부 중간 노드는 가상 노드)
+	private void connect(int a, int b, int chain) {
+		double[] from = coordinates.get(a);
+		double[] to = coordinates.get(b);
+		int previous = a;
+		for (int i = 1; i <= chain; i++) {
+			double t = (double) i / (chain + 1);
+			double lat = from[0] + (to[0] - from[0]) * t + (random.nextDouble() - 0.5) * 0.0005;
+			double lon = from[1] + (to[1] - from[1]) * t + (random.nextDouble() - 0.5) * 0.0005;
+			int node = addNode(lat, lon, random.nextInt(20) == 0);
+			addLink(previous, node);
+			previous = node;
+		}
+		addLink(previous, b);
+	}
+
+	private int addNode(double lat, double lon, boolean isVirtual) {
+		coordinates.add(new double[]{lat, lon});
+		virtual.add(isVirtual);
+		return coordinates.size() - 1;
+	}
+
+	// 직선 거리 × (1 ~ 1.3) 길이의 링크 (형상 없음)
+	private void addLink(int start, int end) {
+		double[] a = coordinates.get(start);
+		double[] b = coordinates.get(end);
+		double dLat = (a[0] - b[0]) * 111_000;
+		double dLon = (a[1] - b[1]) * 88_000;
+		double length = Math.max(1.0, Math.sqrt(dLat * dLat + dLon * dLon)) * (1.0 + random.nextDouble() * 0.3);
+		links.add(new int[]{start, end});
+		lengths.add(Math.round(length * 100) / 100.0);
+	}
+
+	// ==================== 조회 ====================
+
+	public int nodeCount() {
+		return coordinates.size();
+	}
+
+	public int linkCount() {
+		return links.size();
+	}
+
+	public Random random() {
+		return random;
+	}
+
+	public static String nodeId(int node) {
+		return "N" + node;
+	}
+
+	public static String linkId(int link) {
+		return "L" + link;
+	}
+
+	public double latitude(int node) {
+		return coordinates.get(node)[0];
+	}
+
+	public double longitude(int node) {
+		return coordinates.get(node)[1];
+	}
+
+	public int linkStart(int link) {
+		return links.get(link)[0];
+	}
+
+	public int linkEnd(int link) {
+		return links.get(link)[1];
+	}
+
+	public double linkLength(int link) {
+		return lengths.get(link);
+	}
+
+	/** 경도를 regionCount개 구간으로 나눈 노드의 지역 */
+	public String regionOf(int node) {
+		int band = (int) ((longitude(node) - BASE_LON) / SPAN * regionCount);
+		return "R" + Math.max(0, Math.min(regionCount - 1, band));
+	}
+
+	/** 링크의 지역 (시작 노드 지역, 실제 데이터의 링크 sgg_cd에 해당) */
+	public String linkRegion(int link) {
+		return regionOf(linkStart(link));
+	}
+
+	public List<String> regions() {
+		List<String> regions = new ArrayList<>();
+		for (int i = 0; i < regionCount; i++) {
+			regions.add("R" + i);
+		}
+		return regions;
+	}
+
+	/** 두 노드를 직접 잇는 링크 중 가장 짧은 길이 (없으면 무한대) */
+	public double shortestLinkBetween(int a, int b) {
+		double best = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < links.size(); i++) {
+			int[] link = links.get(i);
+			if ((link[0] == a && link[1] == b) || (link[0] == b && link[1] == a)) {
+				best = Math.min(best, lengths.get(i));
+			}
+		}
+		return best;
+	}
+
+	// ==================== 그래프 생성 ====================
+
+	/** 전체 네트워크의 RoutingGraph */
+	public RoutingGraph build(boolean contractChains, boolean spatialOrder) {
+		return build(null, contractChains, spatialOrder);
+	}
+
+	/** 전체 네트워크의 RoutingGraph (CSR 간선/좌표 저장 방식 지정) */
+	public RoutingGraph build(boolean contractChains, boolean spatialOrder, GraphStorage storage) {
+		return build(null, contractChains, spatialOrder, storage);
+	}
+
+	/**
+	 * 한 지역의 RoutingGraph (GraphService 지역 그래프와 같은 구성)
+	 * - 지역 노드 + 지역 링크 + 지역 링크가 닿는 다른 지역 노드, 경계 노드는 축약하지 않도록 고정
+	 * @param region null이면 전체
+	 */
+	public RoutingGraph build(String region, boolean contractChains, boolean spatialOrder) {
+		return build(region, contractChains, spatialOrder, GraphStorage.HEAP);
+	}
+
+	private RoutingGraph build(String region, boolean contractChains, boolean spatialOrder, GraphStorage storage) {
+		RoutingGraphBuilder builder = new RoutingGraphBuilder(nodeCount(), linkCount());
+		int[] index = new int[nodeCount()];
+		Arrays.fill(index, -1);
+		for (int node = 0; node < nodeCount(); node++) {
+			if (region == null || region.equals(regionOf(node))) {
+				index[node] = builder.addNode(nodeId(node), latitude(node), longitude(node), virtual.get(node));
+			}
+		}
+		for (int i = 0; i < links.size(); i++) {
+			if (region != null && !region.equals(linkRegion(i))) continue;
+			for (int node : links.get(i)) {
+				if (index[node] < 0) {
+					index[node] = builder.addNode(nodeId(node), latitude(node), longitude(node), virtual.get(node));
+				}
+			}
+			builder.addLink(linkId(i), index[linkStart(i)], index[linkEnd(i)], lengths.get(i), null, null, 0);
+		}
+		if (region != null) {
+			for (int node : boundaryNodes(region)) {
+				builder.pinNode(index[node]);
+			}
+		}
+		return builder.build(contractChains, spatialOrder, storage);
+	}
+
+	/** 지역 경계 노드 (지역 노드 중 다른 지역 링크와 닿는 노드 + 지역 링크가 닿는 다른 지역 노드) */
+	public List<Integer> boundaryNodes(String region) {
+		boolean[] boundary = new boolean[nodeCount()];
+		for (int i = 0; i < links.size(); i++) {
+			String linkRegion = linkRegion(i);
+			for (int node : links.get(i)) {
+				String nodeRegion = regionOf(node);
+				if (!nodeRegion.equals(linkRegion) && (nodeRegion.equals(region) || linkRegion.equals(region))) {
+					boundary[node] = true;
+				}
+			}
+		}
+		List<Integer> nodes = new ArrayList<>();
+		for (int node = 0; node < boundary.length; node++) {
+			if (boundary[node]) nodes.add(node);
+		}
+		return nodes;
+	}
+
+	/** 노드 좌표와 경계 노드로 만든 지역 색인 (GraphService.buildRegionIndex와 같은 구성) */
+	public RegionIndex regionIndex() {
+		RegionIndex.Builder builder = new RegionIndex.Builder(nodeCount());
+		for (int node = 0; node < nodeCount(); node++) {
+			builder.add(regionOf(node), RegionIndex.cellOf(latitude(node)), RegionIndex.cellOf(longitude(node)), 1);
+			builder.addNode(nodeId(node), regionOf(node));
+		}
+		for (int i = 0; i < links.size(); i++) {
+			for (int node : links.get(i)) {
+				if (!regionOf(node).equals(linkRegion(i))) {
+					builder.addBoundaryNode(nodeId(node), regionOf(node), linkRegion(i));
+				}
+			}
+		}
+		return builder.build();
+	}
+
+	// ==================== 기준 다익스트라 ====================
+
+	/** source에서 모든 노드까지의 최단 거리 (도달 불가면 무한대) */
+	public double[] distances(int source) {
+		List<List<Integer>> adjacency = new ArrayList<>();
+		for (int i = 0; i < nodeCount(); i++) {
+			adjacency.add(new ArrayList<>());
+		}
+		for (int i = 0; i < links.size(); i++) {
+			adjacency.get(links.get(i)[0]).add(i);
+			adjacency.get(links.get(i)[1]).add(i);
+		}
+
+		double[] distance = new double[nodeCount()];
+		Arrays.fill(distance, Double.POSITIVE_INFINITY);
+		distance[source] = 0.0;
+		PriorityQueue<double[]> queue = new PriorityQueue<>((x, y) -> Double.compare(x[0], y[0]));
+		queue.add(new double[]{0.0, source});
+		while (!queue.isEmpty()) {
+			double[] entry = queue.poll();
+			int node = (int) entry[1];
+			if (entry[0] > distance[node]) continue;
+			for (int link : adjacency.get(node)) {
+				int[] ends = links.get(link);
+				int next = ends[0] == node ? ends[1] : ends[0];
+				double candidate = distance[node] + lengths.get(link);
+				if (candidate < distance[next]) {
+					distance[next] = candidate;
+					queue.add(new double[]{candidate, next});
+				}
+			}
+		}
+		return distance;
+	}
+
+	/** 경로 좌표(노드 좌표 열)를 네트워크 노드 번호 열로 되돌림 (좌표가 노드와 일치하지 않으면 -1) */
+	public int[] nodesAt(double[] latitudes, double[] longitudes, int precision) {
+		double factor = Math.pow(10, precision);
+		int[] nodes = new int[latitudes.length];
+		for (int i = 0; i < latitudes.length; i++) {
+			nodes[i] = -1;
+			for (int node = 0; node < nodeCount(); node++) {
+				if (Math.round(latitude(node) * factor) / factor == latitudes[i]
+						&& Math.round(longitude(node) * factor) / factor == longitudes[i]) {
+					nodes[i] = node;
+					break;
+				}
+			}
+		}
+		return nodes;
+	}
+}
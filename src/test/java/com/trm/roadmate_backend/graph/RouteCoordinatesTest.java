@@ -0,0 +1,131 @@
+package com.trm.roadmate_backend.graph;
+
+import com.trm.roadmate_backend.dto.PathNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static com.trm.roadmate_backend.graph.LinkGeometryStoreTest.assertPoints;
+import static com.trm.roadmate_backend.graph.LinkGeometryStoreTest.reverse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteCoordinatesTest {
+
+	private static final double METERS_PER_DEGREE = 111_320.0;
+
+	@Test
+	void simplifiedReversedSliceMatchesReversedForwardSlice() {
+		Random random = new Random(29);
+		for (int round = 0; round < 20; round++) {
+			// 남북으로 약 1km, 경도 방향으로 ±15m 흔들리는 형상
+			int count = 10 + random.nextInt(60);
+			double[] lats = new double[count];
+			double[] lons = new double[count];
+			for (int i = 0; i < count; i++) {
+				lats[i] = 37.5 + 0.009 * i / (count - 1);
+				lons[i] = 126.95 + (random.nextDouble() - 0.5) * 0.0003;
+			}
+			LinkGeometryStore.Builder builder = new LinkGeometryStore.Builder(1);
+			builder.add(lats, lons, count, false);
+			LinkGeometryStore store = builder.build();
+
+			RouteCoordinates forward = new RouteCoordinates(0);
+			store.appendTo(forward, 0, false, false);
+			RouteCoordinates backward = new RouteCoordinates(0);
+			store.appendTo(backward, 0, true, false);
+
+			for (double tolerance : new double[]{1.0, 5.0, 20.0}) {
+				String message = "round=" + round + ", tolerance=" + tolerance;
+				RouteCoordinates simplifiedForward = forward.simplify(tolerance);
+				RouteCoordinates simplifiedBackward = backward.simplify(tolerance);
+
+				assertWithinTolerance(forward, simplifiedForward, tolerance, message + ", forward");
+				assertWithinTolerance(backward, simplifiedBackward, tolerance, message + ", backward");
+
+				// 역방향 구간을 단순화한 결과는 정방향 결과를 뒤집은 것과 같음 (양 끝점도 방향에 맞게 유지)
+				List<PathNode> points = simplifiedForward.toPathNodes();
+				double[] expectedLats = new double[points.size()];
+				double[] expectedLons = new double[points.size()];
+				for (int i = 0; i < points.size(); i++) {
+					expectedLats[i] = points.get(i).getLatitude();
+					expectedLons[i] = points.get(i).getLongitude();
+				}
+				assertPoints(simplifiedBackward, reverse(expectedLats), reverse(expectedLons));
+			}
+		}
+	}
+
+	@Test
+	void simplifyDropsCollinearPointsAcrossLinkJoint() {
+		// 한 직선 위의 두 링크를 이어 붙인 경로 (두 번째 링크는 역방향으로 저장)
+		LinkGeometryStore.Builder builder = new LinkGeometryStore.Builder(2);
+		builder.add(new double[]{37.500, 37.501, 37.502}, new double[]{126.95, 126.95, 126.95}, 3, false);
+		builder.add(new double[]{37.505, 37.504, 37.503, 37.502}, new double[]{126.95, 126.95, 126.95, 126.95}, 4, false);
+		LinkGeometryStore store = builder.build();
+
+		RouteCoordinates route = new RouteCoordinates(0);
+		store.appendTo(route, 0, false, false);
+		store.appendTo(route, 1, true, true);
+		assertEquals(6, route.size());
+
+		RouteCoordinates simplified = route.simplify(1.0);
+		assertPoints(simplified, new double[]{37.500, 37.505}, new double[]{126.95, 126.95});
+	}
+
+	@Test
+	void nonPositiveToleranceOrShortRouteIsReturnedUnchanged() {
+		RouteCoordinates route = new RouteCoordinates(0);
+		route.add(37.500, 126.950);
+		route.add(37.501, 126.951);
+		assertSame(route, route.simplify(10.0));
+
+		route.add(37.502, 126.950);
+		assertSame(route, route.simplify(0.0));
+		assertSame(route, route.simplify(-1.0));
+	}
+
+	// 단순화 결과가 원래 좌표의 부분 수열이고 (양 끝 유지), 버려진 좌표는 모두 허용 오차 안에 있는지
+	private static void assertWithinTolerance(RouteCoordinates original, RouteCoordinates simplified, double tolerance,
+											  String message) {
+		List<PathNode> all = original.toPathNodes();
+		List<PathNode> kept = simplified.toPathNodes();
+		assertTrue(kept.size() >= 2 && kept.size() <= all.size(), message + ": " + kept.size() + " points");
+		double lonScale = Math.cos(Math.toRadians(all.get(0).getLatitude()));
+
+		int next = 0;
+		int[] keptIndex = new int[kept.size()];
+		for (int k = 0; k < kept.size(); k++) {
+			while (next < all.size() && !samePoint(all.get(next), kept.get(k))) next++;
+			assertTrue(next < all.size(), message + ": simplified point " + k + " is not an original point in order");
+			keptIndex[k] = next++;
+		}
+		assertEquals(0, keptIndex[0], message + ": first point dropped");
+		assertEquals(all.size() - 1, keptIndex[kept.size() - 1], message + ": last point dropped");
+
+		for (int k = 0; k + 1 < kept.size(); k++) {
+			for (int i = keptIndex[k] + 1; i < keptIndex[k + 1]; i++) {
+				double distance = segmentDistance(all.get(i), kept.get(k), kept.get(k + 1), lonScale);
+				assertTrue(distance <= tolerance * 1.01, message + ": point " + i + " is " + distance + "m away");
+			}
+		}
+	}
+
+	private static boolean samePoint(PathNode a, PathNode b) {
+		return Math.abs(a.getLatitude() - b.getLatitude()) < 1e-12 && Math.abs(a.getLongitude() - b.getLongitude()) < 1e-12;
+	}
+
+	// 점과 선분 사이 거리 (미터, 경도는 cos(위도)로 보정한 평면 근사)
+	private static double segmentDistance(PathNode p, PathNode a, PathNode b, double lonScale) {
+		double ax = a.getLongitude() * lonScale * METERS_PER_DEGREE;
+		double ay = a.getLatitude() * METERS_PER_DEGREE;
+		double dx = b.getLongitude() * lonScale * METERS_PER_DEGREE - ax;
+		double dy = b.getLatitude() * METERS_PER_DEGREE - ay;
+		double px = p.getLongitude() * lonScale * METERS_PER_DEGREE - ax;
+		double py = p.getLatitude() * METERS_PER_DEGREE - ay;
+		double t = Math.max(0.0, Math.min(1.0, (px * dx + py * dy) / (dx * dx + dy * dy)));
+		return Math.hypot(px - t * dx, py - t * dy);
+	}
+}
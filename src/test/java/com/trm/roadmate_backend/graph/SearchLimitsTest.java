@@ -0,0 +1,108 @@
+package com.trm.roadmate_backend.graph;
+
+import com.trm.roadmate_backend.exception.RoutingAbortedException;
+import com.trm.roadmate_backend.exception.RoutingAbortedException.Reason;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchLimitsTest {
+
+	private static final int CHECK_INTERVAL = 256; // SearchLimits.CHECK_INTERVAL_MASK + 1
+
+	@Test
+	void settledBudgetIsSharedByEverySearchUsingTheLimits() {
+		SearchLimits limits = SearchLimits.of(0, 1000);
+
+		// 구간 두 개가 같은 한도를 나눠 씀 (600 + 400 = 1000까지는 허용)
+		checkTimes(limits, 600);
+		checkTimes(limits, 400);
+		assertEquals(1000, limits.settledCount());
+
+		RoutingAbortedException aborted = assertThrows(RoutingAbortedException.class, limits::check);
+		assertEquals(Reason.BUDGET, aborted.getReason());
+	}
+
+	@Test
+	void forkStartsItsOwnBudgetButSharesCancellation() {
+		SearchLimits parent = SearchLimits.of(0, 300);
+		checkTimes(parent, 300);
+
+		SearchLimits first = parent.fork();
+		SearchLimits second = parent.fork();
+		assertEquals(0, first.settledCount());
+		checkTimes(first, 300);
+		assertEquals(0, second.settledCount());
+
+		// 한 한도를 취소하면 같은 배치의 다른 한도도 모두 취소됨
+		second.cancel();
+		assertTrue(parent.isCancelled());
+		assertTrue(first.isCancelled());
+
+		SearchLimits third = parent.fork();
+		RoutingAbortedException aborted = assertThrows(RoutingAbortedException.class,
+				() -> checkTimes(third, CHECK_INTERVAL));
+		assertEquals(Reason.CANCELLED, aborted.getReason());
+	}
+
+	@Test
+	void cancelStopsSearchAtTheNextCheckInterval() {
+		SearchLimits limits = SearchLimits.of(0, 0);
+		checkTimes(limits, 10);
+		limits.cancel();
+
+		// 취소 여부는 CHECK_INTERVAL 마다 확인
+		checkTimes(limits, CHECK_INTERVAL - 11);
+		RoutingAbortedException aborted = assertThrows(RoutingAbortedException.class, limits::check);
+		assertEquals(Reason.CANCELLED, aborted.getReason());
+		assertEquals(CHECK_INTERVAL, limits.settledCount());
+	}
+
+	@Test
+	void deadlineAbortsAfterTimeout() throws InterruptedException {
+		SearchLimits limits = SearchLimits.of(1, 0);
+		Thread.sleep(5);
+
+		RoutingAbortedException aborted = assertThrows(RoutingAbortedException.class,
+				() -> checkTimes(limits, CHECK_INTERVAL));
+		assertEquals(Reason.DEADLINE, aborted.getReason());
+
+		// fork()는 지금부터 마감 시간을 새로 시작
+		checkTimes(limits.fork(), CHECK_INTERVAL - 1);
+	}
+
+	@Test
+	void unlimitedIsNeverCancelled() {
+		SearchLimits.UNLIMITED.cancel();
+		assertFalse(SearchLimits.UNLIMITED.isCancelled());
+		assertFalse(SearchLimits.UNLIMITED.fork().isCancelled());
+	}
+
+	@Test
+	void searchSpacePoolKeepsAtMostMaxPooledSpaces() {
+		RoutingGraph graph = RandomNetwork.generate(1, 10, 1, 1).build(false, false);
+		List<SearchSpace> spaces = new ArrayList<>();
+		for (int i = 0; i < RoutingGraph.MAX_POOLED_SEARCH_SPACES + 5; i++) {
+			spaces.add(graph.acquireSearchSpace());
+		}
+		spaces.forEach(graph::releaseSearchSpace);
+		assertEquals(RoutingGraph.MAX_POOLED_SEARCH_SPACES, graph.pooledSearchSpaceCount());
+
+		SearchSpace reused = graph.acquireSearchSpace();
+		assertEquals(RoutingGraph.MAX_POOLED_SEARCH_SPACES - 1, graph.pooledSearchSpaceCount());
+		graph.releaseSearchSpace(reused);
+		assertEquals(RoutingGraph.MAX_POOLED_SEARCH_SPACES, graph.pooledSearchSpaceCount());
+	}
+
+	private static void checkTimes(SearchLimits limits, int times) {
+		for (int i = 0; i < times; i++) {
+			limits.check();
+		}
+	}
+}
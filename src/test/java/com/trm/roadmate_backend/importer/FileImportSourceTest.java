@@ -0,0 +1,110 @@
+package com.trm.roadmate_backend.importer;
+
+import com.trm.roadmate_backend.dto.ApiResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileImportSourceTest {
+
+	private static final String LINK_WKT = "LINESTRING(126.9771 37.5661, 126.9775 37.5664)";
+
+	@TempDir
+	Path dir;
+
+	private FileImportSource source() {
+		return new FileImportSource(dir.toString(), 2);
+	}
+
+	private static String ndjsonRow(int i) {
+		return "{\"NODE_TYPE\":\"LINK\",\"LNKG_ID\":\"" + i + "\",\"LNKG_WKT\":\"" + LINK_WKT + "\",\"LNKG_LEN\":" + i + ".5}";
+	}
+
+	// 페이지 순서대로 받은 행의 LNKG_ID
+	private List<String> readIds(FileImportSource source, String district, int pageSize, int firstPage) throws Exception {
+		List<String> ids = new ArrayList<>();
+		List<Integer> pages = new ArrayList<>();
+		source.readPages(district, source.totalCount(district), pageSize, firstPage, (page, rows) -> {
+			pages.add(page);
+			rows.stream().map(ApiResponse.Row::getLnkgId).forEach(ids::add);
+		});
+		for (int page = 0; page < pages.size(); page++) {
+			assertEquals(page, pages.get(page));
+		}
+		return ids;
+	}
+
+	@Test
+	void readsNdjsonInPagesAndResumesFromCommittedPage() throws Exception {
+		StringBuilder lines = new StringBuilder();
+		for (int i = 1; i <= 7; i++) {
+			lines.append(ndjsonRow(i)).append(i % 3 == 0 ? "\r\n\n" : "\n");
+		}
+		Files.writeString(dir.resolve("test-gu.ndjson"), lines);
+
+		FileImportSource source = source();
+		assertEquals(7, source.totalCount("test-gu"));
+		assertEquals(List.of("1", "2", "3", "4", "5", "6", "7"), readIds(source, "test-gu", 3, 0));
+		assertEquals(List.of("4", "5", "6", "7"), readIds(source, "test-gu", 3, 1));
+		assertEquals(List.of(), readIds(source, "test-gu", 3, 3));
+	}
+
+	@Test
+	void readsQuotedCsvColumnsByHeaderName() throws Exception {
+		String csv = "\uFEFFLNKG_ID,NODE_TYPE,LNKG_WKT,LNKG_LEN,UNKNOWN\r\n"
+				+ "1,LINK,\"" + LINK_WKT + "\",12.5,x\r\n"
+				+ "2,LINK,\"LINESTRING(1 2, 3 4)\",,\"say \"\"hi\"\"\"\r\n";
+		Files.writeString(dir.resolve("test-gu.csv"), csv, StandardCharsets.UTF_8);
+
+		FileImportSource source = source();
+		assertEquals(2, source.totalCount("test-gu"));
+
+		List<ApiResponse.Row> rows = new ArrayList<>();
+		source.readPages("test-gu", 2, 10, 0, (page, pageRows) -> rows.addAll(pageRows));
+		assertEquals(2, rows.size());
+		assertEquals("LINK", rows.get(0).getNodeType());
+		assertEquals(LINK_WKT, rows.get(0).getLnkgWkt());
+		assertEquals(12.5, rows.get(0).getLnkgLen());
+		assertEquals("LINESTRING(1 2, 3 4)", rows.get(1).getLnkgWkt());
+		assertNull(rows.get(1).getLnkgLen());
+	}
+
+	@Test
+	void readsApiResponseJson() throws Exception {
+		Files.writeString(dir.resolve("test-gu.json"), "{\"TbTraficWlkNet\":{\"list_total_count\":3,"
+				+ "\"RESULT\":{\"CODE\":\"INFO-000\"},\"row\":[" + ndjsonRow(1) + "," + ndjsonRow(2) + "," + ndjsonRow(3) + "]}}");
+
+		FileImportSource source = source();
+		assertEquals(3, source.totalCount("test-gu"));
+		assertEquals(List.of("1", "2", "3"), readIds(source, "test-gu", 2, 0));
+	}
+
+	@Test
+	void failsForMissingFileAndStopsOnHandlerError() throws Exception {
+		FileImportSource source = source();
+		assertThrows(IllegalArgumentException.class, () -> source.checkAvailable("none-gu"));
+
+		StringBuilder lines = new StringBuilder();
+		for (int i = 1; i <= 100; i++) {
+			lines.append(ndjsonRow(i)).append('\n');
+		}
+		Files.writeString(dir.resolve("test-gu.ndjson"), lines);
+		List<Integer> pages = new ArrayList<>();
+		IllegalStateException error = assertThrows(IllegalStateException.class,
+				() -> source.readPages("test-gu", 100, 5, 0, (page, rows) -> {
+					pages.add(page);
+					if (page == 2) throw new IllegalStateException("write failed");
+				}));
+		assertEquals("write failed", error.getMessage());
+		assertEquals(List.of(0, 1, 2), pages);
+	}
+}
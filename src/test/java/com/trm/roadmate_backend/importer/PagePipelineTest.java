@@ -0,0 +1,121 @@
+package com.trm.roadmate_backend.importer;
+
+import com.sun.net.httpserver.HttpServer;
+import com.trm.roadmate_backend.dto.ApiResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PagePipelineTest {
+
+	private static final int TOTAL = 950;
+	private static final int PAGE_SIZE = 100;
+
+	private HttpServer server;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+	private volatile int failingStart = -1; // 이 행부터 시작하는 페이지는 500 응답
+
+	// TbTraficWlkNet 흉내: /{key}/json/TbTraficWlkNet/{start}/{end}/{district}, 행마다 NODE_ID = 행 번호
+	@BeforeEach
+	void startStubServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", exchange -> {
+			int current = inFlight.incrementAndGet();
+			maxInFlight.accumulateAndGet(current, Math::max);
+			try {
+				String[] parts = exchange.getRequestURI().getPath().split("/");
+				int start = Integer.parseInt(parts[4]);
+				int end = Integer.parseInt(parts[5]);
+				if (start == failingStart) {
+					exchange.sendResponseHeaders(500, -1);
+					return;
+				}
+				Thread.sleep(30);
+
+				StringBuilder rows = new StringBuilder();
+				for (int i = start; i <= Math.min(end, TOTAL); i++) {
+					if (rows.length() > 0) rows.append(',');
+					rows.append("{\"NODE_TYPE\":\"NODE\",\"NODE_ID\":\"").append(i).append("\"}");
+				}
+				byte[] body = ("{\"TbTraficWlkNet\":{\"list_total_count\":" + TOTAL + ",\"row\":[" + rows + "]}}")
+						.getBytes(StandardCharsets.UTF_8);
+				exchange.sendResponseHeaders(200, body.length);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(body);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				inFlight.decrementAndGet();
+				exchange.close();
+			}
+		});
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+	}
+
+	@AfterEach
+	void stopStubServer() {
+		server.stop(0);
+	}
+
+	private WalkingNetworkApiClient client() {
+		return new WalkingNetworkApiClient(HttpClient.newHttpClient(), "http://127.0.0.1:" + server.getAddress().getPort(),
+				"test-key", Duration.ofSeconds(5), 2, Duration.ofMillis(1), Duration.ofMillis(5));
+	}
+
+	@Test
+	void fetchesPagesConcurrentlyAndHandlesThemInOrder() throws Exception {
+		WalkingNetworkApiClient client = client();
+		int total = client.fetchTotalCount("test-gu");
+		int pageCount = (total + PAGE_SIZE - 1) / PAGE_SIZE;
+
+		List<Integer> handledPages = new ArrayList<>();
+		List<String> nodeIds = new ArrayList<>();
+		PagePipeline.run(pageCount, 3, 4,
+				page -> client.fetchRows("test-gu", page * PAGE_SIZE + 1, Math.min((page + 1) * PAGE_SIZE, total)),
+				(page, rows) -> {
+					handledPages.add(page);
+					rows.stream().map(ApiResponse.Row::getNodeId).forEach(nodeIds::add);
+				});
+
+		assertEquals(10, handledPages.size());
+		for (int page = 0; page < handledPages.size(); page++) {
+			assertEquals(page, handledPages.get(page));
+		}
+		assertEquals(TOTAL, nodeIds.size());
+		for (int i = 0; i < TOTAL; i++) {
+			assertEquals(String.valueOf(i + 1), nodeIds.get(i));
+		}
+		assertTrue(maxInFlight.get() > 1, "pages should be fetched concurrently");
+		assertTrue(maxInFlight.get() <= 3, "concurrent fetches must stay within the limit");
+	}
+
+	@Test
+	void failedPageStopsThePipeline() {
+		WalkingNetworkApiClient client = client();
+		List<Integer> handledPages = new ArrayList<>();
+		failingStart = 501;
+
+		assertThrows(Exception.class, () -> PagePipeline.run(10, 2, 2,
+				page -> client.fetchRows("test-gu", page * PAGE_SIZE + 1, (page + 1) * PAGE_SIZE),
+				(page, rows) -> handledPages.add(page)));
+		assertEquals(List.of(0, 1, 2, 3, 4), handledPages);
+	}
+}
@@ -0,0 +1,64 @@
+package com.trm.roadmate_backend.importer;
+
+import com.trm.roadmate_backend.dto.ApiResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class RowHashesTest {
+
+	private static ApiResponse.Row link() {
+		ApiResponse.Row row = new ApiResponse.Row();
+		row.setNodeType("LINK");
+		row.setLnkgId("L1");
+		row.setBgngLnkgId("N1");
+		row.setEndLnkgId("N2");
+		row.setLnkgLen(12.5);
+		row.setLnkgWkt("LINESTRING(126.9771 37.5661, 126.9775 37.5664)");
+		row.setSggCd("11680");
+		row.setSggNm("강남구");
+		row.setCrswk("1");
+		return row;
+	}
+
+	@Test
+	void sameContentHashesEqual() {
+		assertEquals(RowHashes.link(link()), RowHashes.link(link()));
+
+		ApiResponse.Row node = new ApiResponse.Row();
+		node.setNodeWkt("POINT(126.9771 37.5661)");
+		node.setNodeId("N1");
+		long before = RowHashes.node(node);
+		node.setNodeId("N9"); // ID는 키라서 해시에 넣지 않음
+		assertEquals(before, RowHashes.node(node));
+	}
+
+	@Test
+	void anyStoredFieldChangesTheHash() {
+		long original = RowHashes.link(link());
+
+		ApiResponse.Row geometry = link();
+		geometry.setLnkgWkt("LINESTRING(126.9771 37.5661, 126.9776 37.5664)");
+		ApiResponse.Row length = link();
+		length.setLnkgLen(12.6);
+		ApiResponse.Row endNode = link();
+		endNode.setEndLnkgId("N3");
+		ApiResponse.Row attribute = link();
+		attribute.setCrswk(null);
+		ApiResponse.Row empty = link();
+		empty.setCrswk("");
+
+		assertNotEquals(original, RowHashes.link(geometry));
+		assertNotEquals(original, RowHashes.link(length));
+		assertNotEquals(original, RowHashes.link(endNode));
+		assertNotEquals(original, RowHashes.link(attribute));
+		assertNotEquals(RowHashes.link(attribute), RowHashes.link(empty)); // null과 빈 문자열 구분
+
+		// 필드 경계가 다르면 값을 이어 붙인 결과가 같아도 다름
+		ApiResponse.Row a = link();
+		a.setSggCd("1168");
+		a.setSggNm("0강남구");
+		assertNotEquals(original, RowHashes.link(a));
+	}
+}
@@ -0,0 +1,171 @@
+package com.trm.roadmate_backend.importer;
+
+import com.sun.net.httpserver.HttpServer;
+import com.trm.roadmate_backend.dto.ApiResponse;
+import com.trm.roadmate_backend.dto.ImportHttpStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WalkingNetworkApiClientTest {
+
+	private static final String BODY = "{\"TbTraficWlkNet\":{\"list_total_count\":2,\"row\":["
+			+ "{\"NODE_TYPE\":\"NODE\",\"NODE_ID\":\"1\"},{\"NODE_TYPE\":\"NODE\",\"NODE_ID\":\"2\"}]}}";
+
+	private HttpServer server;
+	private final AtomicInteger requests = new AtomicInteger();
+	private volatile int failuresBeforeSuccess; // 처음 몇 번은 503 응답
+	private volatile int status = 200;          // 실패 이후 응답 코드
+	private volatile int stalledResponses;      // 처음 몇 번은 본문 앞부분만 보내고 멈춤
+	private volatile int stallAfterBytes;       // 멈추기 전에 보내는 본문 바이트 수 (압축하지 않은 본문 기준)
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void startStubServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool()); // 멈춘 응답이 다음 요청을 막지 않도록
+		server.createContext("/", exchange -> {
+			try (exchange) {
+				int request = requests.incrementAndGet();
+				if (request <= failuresBeforeSuccess) {
+					exchange.sendResponseHeaders(503, -1);
+					return;
+				}
+				if (status != 200) {
+					exchange.sendResponseHeaders(status, -1);
+					return;
+				}
+				byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+				if (request <= stalledResponses) {
+					exchange.sendResponseHeaders(200, body.length);
+					OutputStream out = exchange.getResponseBody();
+					out.write(body, 0, stallAfterBytes);
+					out.flush();
+					try {
+						release.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return;
+				}
+				String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+				if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+					ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+					try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+						gzip.write(body);
+					}
+					body = compressed.toByteArray();
+					exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+				}
+				exchange.sendResponseHeaders(200, body.length);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(body);
+				}
+			}
+		});
+		server.start();
+	}
+
+	@AfterEach
+	void stopStubServer() {
+		release.countDown();
+		server.stop(0);
+	}
+
+	private WalkingNetworkApiClient client(int maxAttempts) {
+		return client(maxAttempts, Duration.ofSeconds(5), Duration.ofMillis(1));
+	}
+
+	private WalkingNetworkApiClient client(int maxAttempts, Duration readTimeout, Duration retryDelay) {
+		return new WalkingNetworkApiClient(HttpClient.newHttpClient(), "http://127.0.0.1:" + server.getAddress().getPort(),
+				"test-key", readTimeout, maxAttempts, retryDelay, retryDelay.multipliedBy(5));
+	}
+
+	@Test
+	void retriesTransientFailuresAndDecodesGzip() {
+		failuresBeforeSuccess = 2;
+		WalkingNetworkApiClient client = client(3);
+
+		List<ApiResponse.Row> rows = client.fetchRows("test-gu", 1, 2);
+		assertEquals(2, rows.size());
+		assertEquals("2", rows.get(1).getNodeId());
+
+		ImportHttpStats stats = client.stats();
+		assertEquals(3, stats.getRequests());
+		assertEquals(2, stats.getRetries());
+		assertEquals(0, stats.getFailures());
+		assertTrue(stats.getBytesReceived() > 0);
+		assertTrue(stats.getBytesReceived() < BODY.length(), "body should arrive gzip-compressed");
+	}
+
+	@Test
+	void givesUpAfterMaxAttemptsAndDoesNotRetryClientErrors() {
+		failuresBeforeSuccess = 10;
+		WalkingNetworkApiClient client = client(3);
+		IllegalStateException error = assertThrows(IllegalStateException.class, () -> client.fetchTotalCount("test-gu"));
+		assertTrue(error.getMessage().contains("HTTP 503"), error.getMessage());
+		assertFalse(error.getMessage().contains("test-key"), "API key must not leak into messages");
+		assertEquals(3, requests.get());
+
+		failuresBeforeSuccess = 0;
+		requests.set(0);
+		status = 404;
+		List<String> ids = new ArrayList<>();
+		assertThrows(IllegalStateException.class, () -> client.fetch("test-gu", 1, 2, row -> ids.add(row.getNodeId())));
+		assertEquals(1, requests.get());
+		assertEquals(List.of(), ids);
+		assertEquals(2, client.stats().getFailures());
+	}
+
+	@Test
+	void stalledBodyTimesOutAndIsRetried() {
+		stalledResponses = 1;
+		stallAfterBytes = BODY.indexOf("\"row\"");
+		WalkingNetworkApiClient client = client(2, Duration.ofMillis(300), Duration.ofMillis(1));
+
+		long startNanos = System.nanoTime();
+		List<ApiResponse.Row> rows = client.fetchRows("test-gu", 1, 2);
+		assertTrue(System.nanoTime() - startNanos < TimeUnit.SECONDS.toNanos(5), "read should stop at the read timeout");
+		assertEquals(2, rows.size());
+		assertEquals(2, requests.get());
+		assertEquals(1, client.stats().getRetries());
+	}
+
+	@Test
+	void fetchFailsWithoutBackoffOnceRowsWereDelivered() {
+		stalledResponses = 1;
+		stallAfterBytes = BODY.indexOf("},{") + 1; // 첫 번째 행까지 보내고 멈춤
+		WalkingNetworkApiClient client = client(3, Duration.ofMillis(300), Duration.ofSeconds(30));
+
+		List<String> ids = new ArrayList<>();
+		long startNanos = System.nanoTime();
+		IllegalStateException error = assertThrows(IllegalStateException.class,
+				() -> client.fetch("test-gu", 1, 2, row -> ids.add(row.getNodeId())));
+		assertTrue(System.nanoTime() - startNanos < TimeUnit.SECONDS.toNanos(5), "must not sleep a retry backoff");
+		assertTrue(error.getMessage().contains("read timeout"), error.getMessage());
+		assertEquals(List.of("1"), ids);
+		assertEquals(1, requests.get());
+		assertEquals(0, client.stats().getRetries());
+		assertEquals(1, client.stats().getFailures());
+	}
+}
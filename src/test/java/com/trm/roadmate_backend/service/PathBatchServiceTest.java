@@ -0,0 +1,195 @@
+package com.trm.roadmate_backend.service;
+
+import com.trm.roadmate_backend.dto.PathBatchResult;
+import com.trm.roadmate_backend.dto.PathBatchResult.Status;
+import com.trm.roadmate_backend.dto.PathNode;
+import com.trm.roadmate_backend.dto.PathRequest;
+import com.trm.roadmate_backend.dto.PathResult;
+import com.trm.roadmate_backend.exception.RoutingAbortedException;
+import com.trm.roadmate_backend.exception.RoutingAbortedException.Reason;
+import com.trm.roadmate_backend.exception.RoutingOverloadedException;
+import com.trm.roadmate_backend.graph.SearchLimits;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PathBatchServiceTest {
+
+	// 가짜 좌표 규칙: 위도의 정수부가 노드 번호 (0이면 근처 노드 없음, 99이면 스냅 중 오류)
+	private static final int NO_NODE = 0;
+	private static final int SNAP_ERROR = 99;
+	// 도착 노드 번호에 따른 탐색 결과
+	private static final int UNREACHABLE = 7;
+	private static final int ABORTED = 8;
+	private static final int FAILED = 9;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@AfterEach
+	void shutdownExecutor() {
+		executor.shutdownNow();
+	}
+
+	// 스냅/탐색 호출 횟수를 세는 PathfindingService (그래프 없이 PathBatchService만 검증)
+	private static class CountingPathfinding extends PathfindingService {
+		final Map<String, Integer> snapCalls = new ConcurrentHashMap<>();
+		final Map<String, Integer> searchCalls = new ConcurrentHashMap<>();
+
+		CountingPathfinding() {
+			super(null, null, null);
+		}
+
+		@Override
+		public String findNearestNodeId(double targetLat, double targetLon) {
+			snapCalls.merge(targetLat + "," + targetLon, 1, Integer::sum);
+			int node = (int) targetLat;
+			if (node == SNAP_ERROR) {
+				throw new IllegalStateException("index unavailable");
+			}
+			return node == NO_NODE ? null : "n" + node;
+		}
+
+		@Override
+		public PathResult findShortestPath(String startNodeId, String endNodeId, SearchLimits limits) {
+			searchCalls.merge(startNodeId + "|" + endNodeId, 1, Integer::sum);
+			int start = Integer.parseInt(startNodeId.substring(1));
+			int end = Integer.parseInt(endNodeId.substring(1));
+			switch (end) {
+				case UNREACHABLE:
+					return new PathResult(0.0, Collections.emptyList());
+				case ABORTED:
+					throw new RoutingAbortedException(Reason.DEADLINE, "경로 탐색 시간이 초과되었습니다");
+				case FAILED:
+					throw new IllegalStateException("broken graph");
+				default:
+					// 거리로 어떤 쌍의 결과인지 구분
+					return new PathResult(start * 100.0 + end, List.of(new PathNode(start, 0), new PathNode(end, 0)));
+			}
+		}
+	}
+
+	private static PathRequest request(double startLat, double endLat) {
+		return new PathRequest(startLat, 127.0, endLat, 127.0);
+	}
+
+	private static List<PathBatchResult> run(PathBatchService service, List<PathRequest> requests) {
+		List<PathBatchResult> results = new ArrayList<>();
+		for (CompletableFuture<PathBatchResult> future : service.submitBatch(requests, SearchLimits.of(0, 0))) {
+			results.add(future.join());
+		}
+		return results;
+	}
+
+	@Test
+	void identicalCoordinatesAreSnappedOnce() {
+		CountingPathfinding pathfinding = new CountingPathfinding();
+		PathBatchService service = new PathBatchService(pathfinding, executor);
+
+		run(service, List.of(request(1, 2), request(2, 1), request(1, 3), request(1, 2)));
+
+		assertEquals(3, pathfinding.snapCalls.size());
+		pathfinding.snapCalls.forEach((coord, calls) -> assertEquals(1, calls, coord));
+	}
+
+	@Test
+	void identicalNodePairsAreSearchedOnce() {
+		CountingPathfinding pathfinding = new CountingPathfinding();
+		PathBatchService service = new PathBatchService(pathfinding, executor);
+
+		// 서로 다른 좌표지만 같은 노드로 스냅되는 요청 (1.1, 1.9 → n1)
+		run(service, List.of(request(1.1, 2), request(1.9, 2.5), request(1, 2), request(2, 1)));
+
+		assertEquals(Map.of("n1|n2", 1, "n2|n1", 1), pathfinding.searchCalls);
+	}
+
+	@Test
+	void resultsFollowRequestOrderWithRepeats() {
+		PathBatchService service = new PathBatchService(new CountingPathfinding(), executor);
+		List<PathRequest> requests = List.of(
+				request(3, 4), request(1, 2), request(3, 4), request(4, 3), request(1, 2), request(3, 4));
+
+		List<PathBatchResult> results = run(service, requests);
+
+		assertEquals(requests.size(), results.size());
+		for (int i = 0; i < requests.size(); i++) {
+			PathRequest request = requests.get(i);
+			PathBatchResult result = results.get(i);
+			assertEquals(Status.OK, result.getStatus(), "index=" + i);
+			assertEquals((int) request.getStartLat() * 100.0 + (int) request.getEndLat(), result.getTotalDistance(), "index=" + i);
+			assertEquals(2, result.getPath().size(), "index=" + i);
+		}
+	}
+
+	@Test
+	void failuresAreReportedPerItem() {
+		PathBatchService service = new PathBatchService(new CountingPathfinding(), executor);
+		List<PathBatchResult> results = run(service, List.of(
+				request(1, 2),
+				request(NO_NODE, 2),
+				request(1, UNREACHABLE),
+				request(1, ABORTED),
+				request(1, FAILED),
+				request(SNAP_ERROR, 2),
+				request(2, 1)));
+
+		assertEquals(Status.OK, results.get(0).getStatus());
+		assertEquals(Status.NOT_FOUND, results.get(1).getStatus());
+		assertEquals(Status.NOT_FOUND, results.get(2).getStatus());
+		assertEquals(Status.ABORTED, results.get(3).getStatus());
+		assertEquals(Status.ERROR, results.get(4).getStatus());
+		assertEquals(Status.ERROR, results.get(5).getStatus());
+		assertEquals(Status.OK, results.get(6).getStatus());
+
+		for (int i = 1; i <= 5; i++) {
+			assertEquals(0.0, results.get(i).getTotalDistance(), "index=" + i);
+			assertTrue(results.get(i).getPath().isEmpty(), "index=" + i);
+			assertNotNull(results.get(i).getError(), "index=" + i);
+		}
+		assertNull(results.get(0).getError());
+	}
+
+	@Test
+	void fullExecutorQueueRejectsBatchAndCancelsSubmittedSearches() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		ThreadPoolExecutor saturated = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+		try {
+			saturated.execute(() -> {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			PathBatchService service = new PathBatchService(new CountingPathfinding(), saturated);
+			SearchLimits limits = SearchLimits.of(0, 0);
+
+			// 스냅 하나는 큐에 들어가고 두 번째에서 큐가 가득 참
+			assertThrows(RoutingOverloadedException.class,
+					() -> service.submitBatch(List.of(request(1, 2)), limits));
+			assertTrue(limits.isCancelled());
+		} finally {
+			release.countDown();
+			saturated.shutdown();
+			saturated.awaitTermination(5, TimeUnit.SECONDS);
+		}
+	}
+}
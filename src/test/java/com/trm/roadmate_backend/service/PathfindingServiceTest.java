@@ -0,0 +1,480 @@
+package com.trm.roadmate_backend.service;
+
+import com.trm.roadmate_backend.dto.AlternativePathResult;
+import com.trm.roadmate_backend.dto.PathAlternative;
+import com.trm.roadmate_backend.dto.PathDetail;
+import com.trm.roadmate_backend.dto.PathNode;
+import com.trm.roadmate_backend.graph.GraphStorage;
+import com.trm.roadmate_backend.graph.RandomNetwork;
+import com.trm.roadmate_backend.graph.RegionIndex;
+import com.trm.roadmate_backend.graph.RouteCoordinates;
+import com.trm.roadmate_backend.graph.RoutingGraph;
+import com.trm.roadmate_backend.graph.RoutingGraphBuilder;
+import com.trm.roadmate_backend.graph.SearchLimits;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.trm.roadmate_backend.graph.RandomNetwork.nodeId;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PathfindingServiceTest {
+
+	private static final double DELTA = 0.05; // 간선 가중치는 float로 저장되므로 미터 단위 허용 오차
+	private static final int PRECISION = 9;
+
+	private final ExecutorService buildExecutor = Executors.newSingleThreadExecutor();
+
+	@AfterEach
+	void shutdownExecutor() {
+		buildExecutor.shutdownNow();
+	}
+
+	// 고정된 그래프 하나만 돌려주는 GraphService (DB 없이 PathfindingService만 검증)
+	private static GraphService fixedGraph(RoutingGraph graph) {
+		return new GraphService(null, null) {
+			@Override
+			public RoutingGraph getRoutingGraphAt(double latitude, double longitude) {
+				return graph;
+			}
+
+			@Override
+			public RoutingGraph getRoutingGraph(String startNodeId, String endNodeId) {
+				return graph;
+			}
+		};
+	}
+
+	private PathfindingService service(GraphService graphService) {
+		return service(graphService, new BoundaryOverlayService(graphService, buildExecutor));
+	}
+
+	private PathfindingService service(GraphService graphService, BoundaryOverlayService overlayService) {
+		return new PathfindingService(graphService, overlayService, new HubLabelService(graphService, buildExecutor));
+	}
+
+	@Test
+	void contractedGraphMatchesUncontractedDijkstra() {
+		for (long seed = 1; seed <= 30; seed++) {
+			RandomNetwork network = RandomNetwork.generate(seed, 40, 4, 1);
+			PathfindingService contracted = service(fixedGraph(network.build(true, seed % 2 == 0)));
+			PathfindingService plain = service(fixedGraph(network.build(false, false)));
+			Random random = network.random();
+
+			for (int query = 0; query < 40; query++) {
+				int source = random.nextInt(network.nodeCount());
+				int target = query == 0 ? source : random.nextInt(network.nodeCount());
+				double expected = network.distances(source)[target];
+				String message = "seed=" + seed + ", " + nodeId(source) + " -> " + nodeId(target);
+
+				PathfindingService.Route route = contracted.findRoute(
+						nodeId(source), nodeId(target), PathDetail.NODE, SearchLimits.of(0, 0));
+				PathfindingService.Route baseline = plain.findRoute(
+						nodeId(source), nodeId(target), PathDetail.NODE, SearchLimits.of(0, 0));
+				if (expected == Double.POSITIVE_INFINITY) {
+					assertFalse(route.isFound(), message);
+					assertFalse(baseline.isFound(), message);
+					continue;
+				}
+				assertEquals(expected, baseline.getDistance(), DELTA, message);
+				assertEquals(expected, route.getDistance(), DELTA, message);
+				assertWalkable(network, route, source, target, message);
+			}
+		}
+	}
+
+	@Test
+	void distanceOnlySearchMatchesRouteOnContractedGraph() {
+		for (long seed = 100; seed <= 110; seed++) {
+			RandomNetwork network = RandomNetwork.generate(seed, 30, 5, 1);
+			PathfindingService service = service(fixedGraph(network.build(true, true)));
+			Random random = network.random();
+
+			for (int query = 0; query < 30; query++) {
+				int source = random.nextInt(network.nodeCount());
+				int target = random.nextInt(network.nodeCount());
+				double expected = network.distances(source)[target];
+				double distance = service.findDistance(nodeId(source), nodeId(target), SearchLimits.of(0, 0));
+				assertEquals(expected == Double.POSITIVE_INFINITY ? -1.0 : expected, distance, DELTA,
+						"seed=" + seed + ", " + nodeId(source) + " -> " + nodeId(target));
+			}
+		}
+	}
+
+	@Test
+	void offHeapGraphRoutesLikeHeapGraph() {
+		for (long seed = 40; seed <= 49; seed++) {
+			RandomNetwork network = RandomNetwork.generate(seed, 40, 4, 1);
+			boolean contract = seed % 2 == 0;
+			RoutingGraph heapGraph = network.build(contract, true);
+			RoutingGraph offHeapGraph = network.build(contract, true, GraphStorage.OFF_HEAP);
+			assertEquals(GraphStorage.HEAP, heapGraph.storage());
+			assertEquals(GraphStorage.OFF_HEAP, offHeapGraph.storage());
+			assertEquals(0L, heapGraph.offHeapBytes());
+			assertTrue(offHeapGraph.offHeapBytes() > 0, "seed=" + seed);
+
+			PathfindingService heap = service(fixedGraph(heapGraph));
+			PathfindingService offHeap = service(fixedGraph(offHeapGraph));
+			Random random = network.random();
+			for (int query = 0; query < 40; query++) {
+				int source = random.nextInt(network.nodeCount());
+				int target = random.nextInt(network.nodeCount());
+				String message = "seed=" + seed + ", " + nodeId(source) + " -> " + nodeId(target);
+
+				PathfindingService.Route expected = heap.findRoute(
+						nodeId(source), nodeId(target), PathDetail.FULL, SearchLimits.of(0, 0));
+				PathfindingService.Route route = offHeap.findRoute(
+						nodeId(source), nodeId(target), PathDetail.FULL, SearchLimits.of(0, 0));
+				assertEquals(expected.isFound(), route.isFound(), message);
+				if (!expected.isFound()) continue;
+				// 같은 값을 저장 위치만 바꿔 읽으므로 거리와 좌표가 그대로 같아야 함
+				assertEquals(expected.getDistance(), route.getDistance(), message);
+				assertArrayEquals(expected.getCoordinates().roundedLatitudes(PRECISION),
+						route.getCoordinates().roundedLatitudes(PRECISION), 0.0);
+				assertArrayEquals(expected.getCoordinates().roundedLongitudes(PRECISION),
+						route.getCoordinates().roundedLongitudes(PRECISION), 0.0);
+				assertEquals(heap.findDistance(nodeId(source), nodeId(target), SearchLimits.of(0, 0)),
+						offHeap.findDistance(nodeId(source), nodeId(target), SearchLimits.of(0, 0)), message);
+				assertEquals(heap.findNearestNodeId(network.latitude(target), network.longitude(target)),
+						offHeap.findNearestNodeId(network.latitude(target), network.longitude(target)), message);
+			}
+		}
+	}
+
+	@Test
+	void fullDetailFollowsLinkGeometryInTravelDirection() {
+		// A - B 링크의 WKT는 B → A 순서, B - C 링크는 C → B 방향으로 저장 (경로는 두 링크를 서로 다른 방향으로 지남)
+		double[] expectedLats = {37.5000, 37.5005, 37.5010, 37.5016, 37.5024, 37.5030};
+		double[] expectedLons = {126.9500, 126.9507, 126.9500, 126.9508, 126.9493, 126.9500};
+		for (boolean contract : new boolean[]{false, true}) {
+			RoutingGraphBuilder builder = new RoutingGraphBuilder(3, 2);
+			int a = builder.addNode("A", 37.5000, 126.9500, false);
+			int b = builder.addNode("B", 37.5010, 126.9500, false);
+			int c = builder.addNode("C", 37.5030, 126.9500, false);
+			builder.addLink("L1", a, b, 140.0,
+					new double[]{37.5010, 37.5005, 37.5000}, new double[]{126.9500, 126.9507, 126.9500}, 3);
+			builder.addLink("L2", c, b, 300.0,
+					new double[]{37.5030, 37.5024, 37.5016, 37.5010}, new double[]{126.9500, 126.9493, 126.9508, 126.9500}, 4);
+			PathfindingService service = service(fixedGraph(builder.build(contract, false)));
+
+			PathfindingService.Route there = service.findRoute("A", "C", PathDetail.FULL, SearchLimits.of(0, 0));
+			assertEquals(440.0, there.getDistance(), DELTA, "contract=" + contract);
+			assertArrayEquals(expectedLats, there.getCoordinates().roundedLatitudes(PRECISION), 1e-9);
+			assertArrayEquals(expectedLons, there.getCoordinates().roundedLongitudes(PRECISION), 1e-9);
+
+			PathfindingService.Route back = service.findRoute("C", "A", PathDetail.FULL, SearchLimits.of(0, 0));
+			assertArrayEquals(reversed(expectedLats), back.getCoordinates().roundedLatitudes(PRECISION), 1e-9);
+			assertArrayEquals(reversed(expectedLons), back.getCoordinates().roundedLongitudes(PRECISION), 1e-9);
+
+			// 큰 허용 오차로 단순화해도 양 끝은 이동 방향에 맞게 유지
+			PathfindingService.Route simplified = back.simplify(100.0);
+			assertArrayEquals(new double[]{37.5030, 37.5000}, simplified.getCoordinates().roundedLatitudes(PRECISION), 1e-9);
+		}
+	}
+
+	@Test
+	void hubLabelDistanceMatchesDijkstra() throws Exception {
+		RandomNetwork network = RandomNetwork.generate(21, 50, 4, 1);
+		RoutingGraph graph = network.build(true, true);
+		GraphService graphService = new GraphService(null, null) {
+			@Override
+			public RoutingGraph getRoutingGraph() {
+				return graph;
+			}
+
+			@Override
+			public RoutingGraph getRoutingGraph(String startNodeId, String endNodeId) {
+				return graph;
+			}
+		};
+		HubLabelService hubLabelService = new HubLabelService(graphService, buildExecutor);
+		ReflectionTestUtils.setField(hubLabelService, "enabled", true);
+		ReflectionTestUtils.setField(hubLabelService, "memoryBudgetMb", 64L);
+		hubLabelService.getLabels();
+		buildExecutor.submit(() -> { }).get(); // 백그라운드 계산 완료 대기
+		assertFalse(hubLabelService.getLabels().isEmpty());
+
+		PathfindingService service = new PathfindingService(graphService,
+				new BoundaryOverlayService(graphService, buildExecutor), hubLabelService);
+		Random random = network.random();
+		for (int query = 0; query < 200; query++) {
+			int source = random.nextInt(network.nodeCount());
+			int target = random.nextInt(network.nodeCount());
+			double expected = network.distances(source)[target];
+			assertEquals(expected == Double.POSITIVE_INFINITY ? -1.0 : expected,
+					service.findDistance(nodeId(source), nodeId(target), SearchLimits.of(0, 0)), DELTA,
+					nodeId(source) + " -> " + nodeId(target));
+		}
+	}
+
+	@Test
+	void overlayRouteMatchesDijkstraOnWholeNetwork() throws Exception {
+		for (long seed = 1; seed <= 12; seed++) {
+			RandomNetwork network = RandomNetwork.generate(seed, 60, 3, 3);
+			RegionIndex index = network.regionIndex();
+			for (int node = 0; node < network.nodeCount(); node++) {
+				assertEquals(network.regionOf(node), index.regionOf(nodeId(node)), "seed=" + seed + ", " + nodeId(node));
+			}
+			assertNull(index.regionOf("unknown"));
+			Map<String, RoutingGraph> regionGraphs = new HashMap<>();
+			for (String region : network.regions()) {
+				regionGraphs.put(region, network.build(region, true, true));
+			}
+			RoutingGraph whole = network.build(true, true);
+			AtomicInteger fallbacks = new AtomicInteger();
+
+			// 지역 그래프 모드: 지역이 다른 두 노드는 오버레이, 실패하면 두 지역을 합친 그래프 (여기서는 전체 그래프)
+			GraphService graphService = new GraphService(null, null) {
+				@Override
+				public boolean isRegionMode() {
+					return true;
+				}
+
+				@Override
+				public RegionIndex getRegionIndex() {
+					return index;
+				}
+
+				@Override
+				public RoutingGraph getRegionGraph(String region) {
+					return regionGraphs.getOrDefault(region, RoutingGraph.EMPTY);
+				}
+
+				@Override
+				public String getRegionOf(String nodeId) {
+					return index.regionOf(nodeId);
+				}
+
+				@Override
+				public RoutingGraph getRoutingGraph(String startNodeId, String endNodeId) {
+					fallbacks.incrementAndGet();
+					return whole;
+				}
+			};
+			BoundaryOverlayService overlayService = new BoundaryOverlayService(graphService, buildExecutor);
+			ReflectionTestUtils.setField(overlayService, "enabled", true);
+			overlayService.getOverlay();
+			buildExecutor.submit(() -> { }).get(); // 백그라운드 계산 완료 대기
+			assertEquals(network.regions().size(), overlayService.getOverlay().regionCount());
+			PathfindingService service = service(graphService, overlayService);
+
+			Random random = network.random();
+			int checked = 0;
+			while (checked < 40) {
+				int source = random.nextInt(network.nodeCount());
+				int target = random.nextInt(network.nodeCount());
+				if (network.regionOf(source).equals(network.regionOf(target))) continue;
+				checked++;
+				double expected = network.distances(source)[target];
+				String message = "seed=" + seed + ", " + nodeId(source) + " -> " + nodeId(target);
+
+				int fallbacksBefore = fallbacks.get();
+				PathfindingService.Route route = service.findRoute(
+						nodeId(source), nodeId(target), PathDetail.NODE, SearchLimits.of(0, 0));
+				if (expected == Double.POSITIVE_INFINITY) {
+					// 오버레이에서 경로를 못 찾으면 EMPTY가 아니라 합친 그래프로 다시 탐색
+					assertEquals(fallbacksBefore + 1, fallbacks.get(), message);
+					assertFalse(route.isFound(), message);
+					continue;
+				}
+				assertEquals(fallbacksBefore, fallbacks.get(), message + ": overlay not used");
+				assertEquals(expected, route.getDistance(), DELTA, message);
+				assertWalkable(network, route, source, target, message);
+			}
+		}
+	}
+
+	// ==================== 대안 경로 ====================
+
+	private static final double ALT_MAX_STRETCH = 1.3; // PathfindingService.ALT_MAX_STRETCH
+	private static final double ALT_MAX_OVERLAP = 0.7; // PathfindingService.ALT_MAX_OVERLAP
+
+	@Test
+	void firstAlternativeIsDijkstraShortestPath() {
+		for (long seed = 1; seed <= 20; seed++) {
+			RandomNetwork network = RandomNetwork.generate(seed, 40, 4, 1);
+			PathfindingService service = service(fixedGraph(network.build(seed % 2 == 0, true)));
+			Random random = network.random();
+
+			for (int query = 0; query < 20; query++) {
+				int source = random.nextInt(network.nodeCount());
+				int target = random.nextInt(network.nodeCount());
+				double expected = network.distances(source)[target];
+				String message = "seed=" + seed + ", " + nodeId(source) + " -> " + nodeId(target);
+
+				AlternativePathResult result = service.findAlternativePaths(nodeId(source), nodeId(target), 3);
+				if (source == target || expected == Double.POSITIVE_INFINITY) {
+					assertTrue(result.getRoutes().isEmpty(), message);
+					continue;
+				}
+				assertFalse(result.getRoutes().isEmpty(), message);
+				PathAlternative first = result.getRoutes().get(0);
+				assertEquals(expected, result.getShortestDistance(), DELTA, message);
+				assertEquals(expected, first.getTotalDistance(), DELTA, message);
+				assertEquals(1.0, first.getOverlapRatio(), 0.001, message);
+				int[] nodes = assertAlternativeWalkable(network, first, source, target, message);
+				assertEquals(expected, pathLength(network, nodes), DELTA, message);
+			}
+		}
+	}
+
+	@Test
+	void alternativesRespectStretchAndOverlapLimits() {
+		int alternatives = 0;
+		for (long seed = 1; seed <= 20; seed++) {
+			RandomNetwork network = RandomNetwork.generate(seed, 60, 3, 1);
+			PathfindingService service = service(fixedGraph(network.build(true, true)));
+			Random random = network.random();
+
+			for (int query = 0; query < 20; query++) {
+				int source = random.nextInt(network.nodeCount());
+				int target = random.nextInt(network.nodeCount());
+				String message = "seed=" + seed + ", " + nodeId(source) + " -> " + nodeId(target);
+
+				AlternativePathResult result = service.findAlternativePaths(
+						nodeId(source), nodeId(target), PathfindingService.ALT_MAX_K);
+				List<PathAlternative> routes = result.getRoutes();
+				assertTrue(routes.size() <= PathfindingService.ALT_MAX_K, message);
+				if (routes.isEmpty()) continue;
+				alternatives += routes.size() - 1;
+
+				int[][] paths = new int[routes.size()][];
+				for (int i = 0; i < routes.size(); i++) {
+					PathAlternative route = routes.get(i);
+					paths[i] = assertAlternativeWalkable(network, route, source, target, message + ", route " + i);
+					assertTrue(route.getTotalDistance() <= result.getShortestDistance() * ALT_MAX_STRETCH + DELTA,
+							message + ", route " + i + ": stretch " + route.getTotalDistance());
+					assertTrue(route.getOverlapRatio() <= (i == 0 ? 1.0 : ALT_MAX_OVERLAP),
+							message + ", route " + i + ": overlap " + route.getOverlapRatio());
+					assertEquals(overlap(network, paths[i], paths[0]), route.getOverlapRatio(), 0.001,
+							message + ", route " + i);
+				}
+				// 나중에 채택된 경로는 앞서 채택된 모든 경로와 겹침 비율이 한도 이하
+				for (int i = 1; i < paths.length; i++) {
+					for (int j = 0; j < i; j++) {
+						assertTrue(overlap(network, paths[i], paths[j]) <= ALT_MAX_OVERLAP + 0.001,
+								message + ", route " + i + " vs " + j);
+					}
+				}
+			}
+		}
+		assertTrue(alternatives > 0, "no alternative route found in any query");
+	}
+
+	@Test
+	void graphWithoutAlternativeReturnsOnlyMainRoute() {
+		// 교차로 0 - 1 - 2 - 3 일직선에 막다른 가지(1 - 4, 2 - 5)만 붙은 트리: 경로는 하나뿐
+		double[][] coordinates = {
+				{37.500, 126.950}, {37.501, 126.950}, {37.502, 126.950},
+				{37.503, 126.950}, {37.501, 126.951}, {37.502, 126.949}};
+		int[][] links = {{0, 1}, {1, 2}, {2, 3}, {1, 4}, {2, 5}};
+		for (boolean contract : new boolean[]{false, true}) {
+			RoutingGraphBuilder builder = new RoutingGraphBuilder(coordinates.length, links.length);
+			for (int node = 0; node < coordinates.length; node++) {
+				builder.addNode(nodeId(node), coordinates[node][0], coordinates[node][1], false);
+			}
+			for (int i = 0; i < links.length; i++) {
+				builder.addLink(RandomNetwork.linkId(i), links[i][0], links[i][1], 100.0, null, null, 0);
+			}
+			PathfindingService service = service(fixedGraph(builder.build(contract, false)));
+
+			AlternativePathResult result = service.findAlternativePaths(nodeId(0), nodeId(3), PathfindingService.ALT_MAX_K);
+			assertEquals(300.0, result.getShortestDistance(), DELTA, "contract=" + contract);
+			assertEquals(1, result.getRoutes().size(), "contract=" + contract);
+			assertEquals(300.0, result.getRoutes().get(0).getTotalDistance(), DELTA, "contract=" + contract);
+			assertEquals(4, result.getRoutes().get(0).getPath().size(), "contract=" + contract);
+		}
+	}
+
+	// 대안 경로 좌표가 출발점에서 도착점까지 같은 노드를 다시 지나지 않고 실제 링크로 이어지는지 (노드 번호 열 반환)
+	private static int[] assertAlternativeWalkable(RandomNetwork network, PathAlternative route, int source, int target,
+												   String message) {
+		List<PathNode> path = route.getPath();
+		double factor = Math.pow(10, PRECISION);
+		double[] latitudes = new double[path.size()];
+		double[] longitudes = new double[path.size()];
+		for (int i = 0; i < path.size(); i++) {
+			latitudes[i] = Math.round(path.get(i).getLatitude() * factor) / factor;
+			longitudes[i] = Math.round(path.get(i).getLongitude() * factor) / factor;
+		}
+		int[] nodes = network.nodesAt(latitudes, longitudes, PRECISION);
+		assertEquals(source, nodes[0], message);
+		assertEquals(target, nodes[nodes.length - 1], message);
+		Set<Integer> visited = new HashSet<>();
+		for (int node : nodes) {
+			assertTrue(visited.add(node), message + ": node " + node + " visited twice");
+		}
+		assertEquals(route.getTotalDistance(), pathLength(network, nodes), DELTA, message);
+		return nodes;
+	}
+
+	private static double pathLength(RandomNetwork network, int[] nodes) {
+		double length = 0.0;
+		for (int i = 0; i + 1 < nodes.length; i++) {
+			double link = network.shortestLinkBetween(nodes[i], nodes[i + 1]);
+			assertTrue(link < Double.POSITIVE_INFINITY, "no link between path nodes " + i + ", " + (i + 1));
+			length += link;
+		}
+		return length;
+	}
+
+	// path 길이 중 other와 공유하는 링크 길이의 비율
+	private static double overlap(RandomNetwork network, int[] path, int[] other) {
+		Set<Long> otherLinks = new HashSet<>();
+		for (int i = 0; i + 1 < other.length; i++) {
+			otherLinks.add(linkKey(other[i], other[i + 1]));
+		}
+		double shared = 0.0;
+		for (int i = 0; i + 1 < path.length; i++) {
+			if (otherLinks.contains(linkKey(path[i], path[i + 1]))) {
+				shared += network.shortestLinkBetween(path[i], path[i + 1]);
+			}
+		}
+		double length = pathLength(network, path);
+		return length <= 0 ? 1.0 : Math.min(1.0, shared / length);
+	}
+
+	private static long linkKey(int a, int b) {
+		return ((long) Math.min(a, b) << 32) | Math.max(a, b);
+	}
+
+	private static double[] reversed(double[] values) {
+		double[] reversed = new double[values.length];
+		for (int i = 0; i < values.length; i++) {
+			reversed[i] = values[values.length - 1 - i];
+		}
+		return reversed;
+	}
+
+	// 경로 좌표가 출발점에서 도착점까지 실제 링크로 이어지고, 링크 길이 합이 경로 거리와 같은지
+	static void assertWalkable(RandomNetwork network, PathfindingService.Route route, int source, int target,
+							   String message) {
+		RouteCoordinates coordinates = route.getCoordinates();
+		int[] nodes = network.nodesAt(coordinates.roundedLatitudes(PRECISION),
+				coordinates.roundedLongitudes(PRECISION), PRECISION);
+		assertEquals(source, nodes[0], message);
+		assertEquals(target, nodes[nodes.length - 1], message);
+
+		double length = 0.0;
+		for (int i = 0; i + 1 < nodes.length; i++) {
+			double link = network.shortestLinkBetween(nodes[i], nodes[i + 1]);
+			assertTrue(link < Double.POSITIVE_INFINITY, message + ": no link between path nodes " + i + ", " + (i + 1));
+			length += link;
+		}
+		assertEquals(route.getDistance(), length, DELTA, message);
+	}
+}
@@ -0,0 +1,315 @@
+package com.trm.roadmate_backend.service;
+
+import com.trm.roadmate_backend.dto.PathDetail;
+import com.trm.roadmate_backend.entity.RouteStatus;
+import com.trm.roadmate_backend.entity.WalkRoute;
+import com.trm.roadmate_backend.graph.RandomNetwork;
+import com.trm.roadmate_backend.graph.RerouteTree;
+import com.trm.roadmate_backend.graph.RoutingGraph;
+import com.trm.roadmate_backend.graph.SearchLimits;
+import com.trm.roadmate_backend.repository.WalkRouteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.trm.roadmate_backend.graph.RandomNetwork.nodeId;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RerouteServiceTest {
+
+	private static final double DELTA = 0.05; // 간선 가중치는 float로 저장되므로 미터 단위 허용 오차
+	private static final double SNAP_MAX_DISTANCE = 200.0; // PathfindingService.REROUTE_SNAP_MAX_DISTANCE
+	private static final int USER_ID = 7;
+
+	private final ExecutorService buildExecutor = Executors.newSingleThreadExecutor();
+	private final AtomicReference<RoutingGraph> graph = new AtomicReference<>();
+	private final Map<Long, WalkRoute> walkRoutes = new HashMap<>();
+
+	private final AtomicInteger treeBuilds = new AtomicInteger();
+	private final AtomicInteger fullSearches = new AtomicInteger();
+
+	// 현재 그래프 스냅샷(graph)만 돌려주는 GraphService (스냅샷을 바꾸면 재로딩과 같음)
+	private final GraphService graphService = new GraphService(null, null) {
+		@Override
+		public RoutingGraph getRoutingGraph() {
+			return graph.get();
+		}
+
+		@Override
+		public RoutingGraph getRoutingGraphAt(double latitude, double longitude) {
+			return graph.get();
+		}
+
+		@Override
+		public RoutingGraph getRoutingGraph(String startNodeId, String endNodeId) {
+			return graph.get();
+		}
+	};
+
+	@AfterEach
+	void shutdownExecutor() {
+		buildExecutor.shutdownNow();
+	}
+
+	@Test
+	void treeRerouteMatchesFreshSearch() {
+		for (long seed = 1; seed <= 10; seed++) {
+			RandomNetwork network = RandomNetwork.generate(seed, 40, 4, 1);
+			graph.set(network.build(seed % 2 == 0, true));
+			PathfindingService pathfinding = pathfinding();
+			RerouteService service = service(pathfinding, 1_000_000.0, 10000, 256);
+			int destination = destinationInLargestComponent(network, network.random());
+			addWalkRoute(1L, network, destination);
+			double[] expected = network.distances(destination);
+
+			treeBuilds.set(0);
+			fullSearches.set(0);
+			for (int node = 0; node < network.nodeCount(); node++) {
+				if (expected[node] == Double.POSITIVE_INFINITY) continue;
+				String message = "seed=" + seed + ", " + nodeId(node) + " -> " + nodeId(destination);
+
+				PathfindingService.Route route = service.reroute(
+						1L, USER_ID, network.latitude(node), network.longitude(node), PathDetail.NODE);
+				assertTrue(route.isFound(), message);
+				assertEquals(expected[node], route.getDistance(), DELTA, message);
+				PathfindingServiceTest.assertWalkable(network, route, node, destination, message);
+			}
+			// 트리는 한 번만 만들고, 모든 위치가 트리 안이므로 일반 탐색 없음
+			assertEquals(1, treeBuilds.get(), "seed=" + seed);
+			assertEquals(0, fullSearches.get(), "seed=" + seed);
+
+			Random random = network.random();
+			for (int query = 0; query < 20; query++) {
+				int node = random.nextInt(network.nodeCount());
+				if (expected[node] == Double.POSITIVE_INFINITY) continue;
+				PathfindingService.Route fresh = pathfinding.findRoute(nodeId(node), nodeId(destination), PathDetail.NODE);
+				PathfindingService.Route rerouted = service.reroute(
+						1L, USER_ID, network.latitude(node), network.longitude(node), PathDetail.NODE);
+				assertEquals(fresh.getDistance(), rerouted.getDistance(), DELTA,
+						"seed=" + seed + ", " + nodeId(node) + " -> " + nodeId(destination));
+			}
+		}
+	}
+
+	@Test
+	void startOutsideTreeFallsBackToFullSearch() {
+		double radius = 300.0;
+		int outside = 0;
+		for (long seed = 1; seed <= 10; seed++) {
+			RandomNetwork network = RandomNetwork.generate(seed, 40, 4, 1);
+			graph.set(network.build(true, true));
+			PathfindingService pathfinding = pathfinding();
+			RerouteService service = service(pathfinding, radius, 10000, 256);
+			int destination = destinationInLargestComponent(network, network.random());
+			addWalkRoute(1L, network, destination);
+			double[] expected = network.distances(destination);
+			RerouteTree tree = pathfinding.buildRerouteTree(nodeId(destination), radius, SearchLimits.of(0, 0));
+
+			for (int node = 0; node < network.nodeCount(); node++) {
+				if (expected[node] == Double.POSITIVE_INFINITY) continue;
+				// 트리 스냅 후보에서 멀리 떨어진 노드만 (트리 밖)
+				if (tree.snap(network.latitude(node), network.longitude(node), SNAP_MAX_DISTANCE) >= 0) continue;
+				outside++;
+				String message = "seed=" + seed + ", " + nodeId(node) + " -> " + nodeId(destination);
+
+				int fullSearchesBefore = fullSearches.get();
+				PathfindingService.Route route = service.reroute(
+						1L, USER_ID, network.latitude(node), network.longitude(node), PathDetail.NODE);
+				assertEquals(fullSearchesBefore + 1, fullSearches.get(), message + ": full search not used");
+				assertTrue(route.isFound(), message);
+				assertEquals(expected[node], route.getDistance(), DELTA, message);
+				PathfindingServiceTest.assertWalkable(network, route, node, destination, message);
+			}
+		}
+		assertTrue(outside > 0, "no start outside the reroute tree");
+	}
+
+	@Test
+	void evictionKeepsTreeCountWithinMaxEntries() {
+		RandomNetwork network = RandomNetwork.generate(5, 40, 4, 1);
+		graph.set(network.build(true, true));
+		RerouteService service = service(pathfinding(), 1_000_000.0, 3, 256);
+		Random random = network.random();
+
+		for (long routeId = 1; routeId <= 8; routeId++) {
+			int destination = destinationInLargestComponent(network, random);
+			addWalkRoute(routeId, network, destination);
+			assertTrue(service.reroute(routeId, USER_ID, network.latitude(destination), network.longitude(destination),
+					PathDetail.NODE).isFound(), "route " + routeId);
+			assertTrue(cachedTrees(service).size() <= 3, "route " + routeId + ": " + cachedTrees(service).size());
+			// 방금 만든 트리는 해제되지 않음
+			assertTrue(cachedTrees(service).containsKey(routeId), "route " + routeId);
+		}
+		assertEquals(8, treeBuilds.get());
+
+		// 남아 있는 트리는 다시 만들지 않음
+		int destination = walkRouteDestination(network, 8L);
+		service.reroute(8L, USER_ID, network.latitude(destination), network.longitude(destination), PathDetail.NODE);
+		assertEquals(8, treeBuilds.get());
+	}
+
+	@Test
+	void evictionKeepsTreeMemoryWithinBudget() {
+		// 축약하지 않은 큰 네트워크: 트리 하나가 수백 KB
+		RandomNetwork network = RandomNetwork.generate(9, 3000, 4, 1);
+		graph.set(network.build(false, true));
+		PathfindingService pathfinding = pathfinding();
+		RerouteService service = service(pathfinding, 1_000_000.0, 10000, 1);
+		long budget = 1024 * 1024;
+		Random random = network.random();
+
+		// 같은 연결 요소 전체를 덮는 트리는 목적지와 관계없이 크기가 같음
+		int first = destinationInLargestComponent(network, random);
+		long treeBytes = pathfinding.buildRerouteTree(nodeId(first), 1_000_000.0, SearchLimits.of(0, 0)).memoryBytes();
+		long fits = budget / treeBytes;
+		assertTrue(fits >= 1 && fits < 6, "tree size " + treeBytes);
+
+		for (long routeId = 1; routeId <= 6; routeId++) {
+			int destination = routeId == 1 ? first : destinationInLargestComponent(network, random);
+			addWalkRoute(routeId, network, destination);
+			service.reroute(routeId, USER_ID, network.latitude(destination), network.longitude(destination),
+					PathDetail.NODE);
+			int cached = cachedTrees(service).size();
+			assertTrue(cached <= fits, "route " + routeId + ": " + cached + " trees of " + treeBytes + " bytes");
+			assertTrue(cached * treeBytes <= budget, "route " + routeId);
+			assertTrue(cachedTrees(service).containsKey(routeId), "route " + routeId);
+		}
+	}
+
+	@Test
+	void treeIsRebuiltAfterGraphReload() {
+		RandomNetwork network = RandomNetwork.generate(3, 40, 4, 1);
+		graph.set(network.build(true, true));
+		RerouteService service = service(pathfinding(), 1_000_000.0, 10000, 256);
+		Random random = network.random();
+		int destination = destinationInLargestComponent(network, random);
+		addWalkRoute(1L, network, destination);
+		double[] expected = network.distances(destination);
+
+		int start = reachableNode(network, expected, random);
+		service.reroute(1L, USER_ID, network.latitude(start), network.longitude(start), PathDetail.NODE);
+		service.reroute(1L, USER_ID, network.latitude(start), network.longitude(start), PathDetail.NODE);
+		assertEquals(1, treeBuilds.get());
+
+		// 그래프 스냅샷 교체 (재로딩) → 이전 트리는 새 그래프 기준이 아니므로 다시 생성
+		graph.set(network.build(true, false));
+		start = reachableNode(network, expected, random);
+		PathfindingService.Route route = service.reroute(
+				1L, USER_ID, network.latitude(start), network.longitude(start), PathDetail.NODE);
+		assertEquals(2, treeBuilds.get());
+		assertEquals(0, fullSearches.get());
+		assertEquals(expected[start], route.getDistance(), DELTA);
+		PathfindingServiceTest.assertWalkable(network, route, start, destination, "after reload");
+
+		service.reroute(1L, USER_ID, network.latitude(start), network.longitude(start), PathDetail.NODE);
+		assertEquals(2, treeBuilds.get());
+	}
+
+	// ==================== 준비 ====================
+
+	// 트리 생성/일반 탐색 횟수를 세는 PathfindingService
+	private PathfindingService pathfinding() {
+		return new PathfindingService(graphService, new BoundaryOverlayService(graphService, buildExecutor),
+				new HubLabelService(graphService, buildExecutor)) {
+			@Override
+			public RerouteTree buildRerouteTree(String destinationNodeId, double radius, SearchLimits limits) {
+				treeBuilds.incrementAndGet();
+				return super.buildRerouteTree(destinationNodeId, radius, limits);
+			}
+
+			@Override
+			public Route findRoute(String startNodeId, String endNodeId, PathDetail detail) {
+				fullSearches.incrementAndGet();
+				return super.findRoute(startNodeId, endNodeId, detail);
+			}
+		};
+	}
+
+	private RerouteService service(PathfindingService pathfinding, double radius, int maxEntries, long memoryBudgetMb) {
+		RerouteService service = new RerouteService(walkRouteRepository(), pathfinding, graphService);
+		ReflectionTestUtils.setField(service, "radius", radius);
+		ReflectionTestUtils.setField(service, "ttlMinutes", 120L);
+		ReflectionTestUtils.setField(service, "maxEntries", maxEntries);
+		ReflectionTestUtils.setField(service, "memoryBudgetMb", memoryBudgetMb);
+		return service;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<Long, ?> cachedTrees(RerouteService service) {
+		return (Map<Long, ?>) ReflectionTestUtils.getField(service, "trees");
+	}
+
+	private void addWalkRoute(Long routeId, RandomNetwork network, int destination) {
+		walkRoutes.put(routeId, WalkRoute.builder()
+				.routeId(routeId)
+				.userId(USER_ID)
+				.startTime(LocalDateTime.now())
+				.status(RouteStatus.STARTED)
+				.isDeleted(false)
+				.pathData("[]")
+				.destinationLat(network.latitude(destination))
+				.destinationLng(network.longitude(destination))
+				.build());
+	}
+
+	private int walkRouteDestination(RandomNetwork network, Long routeId) {
+		WalkRoute route = walkRoutes.get(routeId);
+		for (int node = 0; node < network.nodeCount(); node++) {
+			if (network.latitude(node) == route.getDestinationLat() && network.longitude(node) == route.getDestinationLng()) {
+				return node;
+			}
+		}
+		throw new IllegalStateException("destination of route " + routeId);
+	}
+
+	// 가장 큰 연결 요소의 가상이 아닌 노드 (좌표 스냅이 그 노드로 되도록)
+	private int destinationInLargestComponent(RandomNetwork network, Random random) {
+		RoutingGraph current = graph.get();
+		int largest = current.components().largest();
+		while (true) {
+			int node = random.nextInt(network.nodeCount());
+			int index = current.indexOf(nodeId(node));
+			if (index >= 0 && !current.isVirtual(index) && current.components().componentOf(index) == largest) {
+				return node;
+			}
+		}
+	}
+
+	private static int reachableNode(RandomNetwork network, double[] expected, Random random) {
+		List<Integer> reachable = new ArrayList<>();
+		for (int node = 0; node < network.nodeCount(); node++) {
+			if (expected[node] > 0 && expected[node] < Double.POSITIVE_INFINITY) reachable.add(node);
+		}
+		assertFalse(reachable.isEmpty());
+		return reachable.get(random.nextInt(reachable.size()));
+	}
+
+	private WalkRouteRepository walkRouteRepository() {
+		return (WalkRouteRepository) Proxy.newProxyInstance(WalkRouteRepository.class.getClassLoader(),
+				new Class<?>[]{WalkRouteRepository.class}, (proxy, method, args) ->
+						switch (method.getName()) {
+							case "toString" -> "WalkRouteRepository";
+							case "hashCode" -> System.identityHashCode(proxy);
+							case "equals" -> proxy == args[0];
+							case "findByRouteIdAndUserIdAndIsDeleted" -> Optional.ofNullable(walkRoutes.get((Long) args[0]))
+									.filter(route -> route.getUserId().equals(args[1])
+											&& route.getIsDeleted().equals(args[2]));
+							default -> throw new UnsupportedOperationException(method.getName());
+						});
+	}
+}
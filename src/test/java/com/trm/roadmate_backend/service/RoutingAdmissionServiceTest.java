@@ -0,0 +1,86 @@
+package com.trm.roadmate_backend.service;
+
+import com.trm.roadmate_backend.exception.RoutingOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoutingAdmissionServiceTest {
+
+	private final ExecutorService waiters = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void shutdownWaiters() {
+		waiters.shutdownNow();
+	}
+
+	@Test
+	void rejectsImmediatelyWhenPermitsAreTakenAndQueueIsDisabled() {
+		RoutingAdmissionService admission = new RoutingAdmissionService(2, 0, 1000);
+		admission.acquire();
+		admission.acquire();
+		assertEquals(2, admission.getInFlight());
+
+		long startNanos = System.nanoTime();
+		assertThrows(RoutingOverloadedException.class, admission::acquire);
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) < 500, "should not wait");
+		assertEquals(1, admission.getRejectedCount());
+		assertEquals(0, admission.getWaiting());
+
+		admission.release();
+		admission.acquire();
+		assertEquals(2, admission.getInFlight());
+	}
+
+	@Test
+	void rejectsAfterQueueTimeout() {
+		RoutingAdmissionService admission = new RoutingAdmissionService(1, 4, 50);
+		admission.acquire();
+
+		long startNanos = System.nanoTime();
+		assertThrows(RoutingOverloadedException.class, admission::acquire);
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) >= 40, "should wait for the timeout");
+		assertEquals(1, admission.getRejectedCount());
+		assertEquals(0, admission.getWaiting());
+		assertEquals(1, admission.getInFlight());
+	}
+
+	@Test
+	void rejectsWithoutWaitingWhenQueueIsFull() throws Exception {
+		RoutingAdmissionService admission = new RoutingAdmissionService(1, 1, 10_000);
+		admission.acquire();
+
+		// 대기열 한 자리를 차지하는 요청
+		CountDownLatch admitted = new CountDownLatch(1);
+		Future<?> waiter = waiters.submit(() -> {
+			admission.acquire();
+			admitted.countDown();
+		});
+		long deadline = System.currentTimeMillis() + 5000;
+		while (admission.getWaiting() == 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(1);
+		}
+		assertEquals(1, admission.getWaiting());
+
+		long startNanos = System.nanoTime();
+		assertThrows(RoutingOverloadedException.class, admission::acquire);
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) < 1000, "should not wait");
+		assertEquals(1, admission.getRejectedCount());
+
+		// 권한을 반납하면 대기 중인 요청이 들어옴
+		admission.release();
+		assertTrue(admitted.await(5, TimeUnit.SECONDS));
+		waiter.get(5, TimeUnit.SECONDS);
+		assertEquals(0, admission.getWaiting());
+		assertEquals(1, admission.getInFlight());
+	}
+}
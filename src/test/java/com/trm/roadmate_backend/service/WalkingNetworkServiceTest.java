@@ -0,0 +1,647 @@
+package com.trm.roadmate_backend.service;
+
+import com.trm.roadmate_backend.dto.ApiResponse;
+import com.trm.roadmate_backend.entity.ImportLog;
+import com.trm.roadmate_backend.entity.Link;
+import com.trm.roadmate_backend.entity.Node;
+import com.trm.roadmate_backend.graph.NetworkChangeSet;
+import com.trm.roadmate_backend.importer.ImportSource;
+import com.trm.roadmate_backend.importer.PagePipeline;
+import com.trm.roadmate_backend.repository.ImportLogRepository;
+import com.trm.roadmate_backend.repository.LinkRepository;
+import com.trm.roadmate_backend.repository.NetworkBulkWriter;
+import com.trm.roadmate_backend.repository.NodeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WalkingNetworkServiceTest {
+
+	private static final String GANGNAM = "강남구";
+	private static final String GANGNAM_CD = "11680";
+	private static final String SEOCHO = "서초구";
+	private static final String SEOCHO_CD = "11650";
+
+	private final NetworkStore store = new NetworkStore();
+	private final TestSource source = new TestSource();
+	private final List<NetworkChangeSet> applied = new ArrayList<>();
+	private final ExecutorService importExecutor = Executors.newSingleThreadExecutor();
+	private final List<ExecutorService> cityImportExecutors = new ArrayList<>();
+	private WalkingNetworkService service;
+
+	@BeforeEach
+	void setUp() {
+		service = service(2, "instance-1");
+	}
+
+	@AfterEach
+	void shutdownExecutors() {
+		importExecutor.shutdownNow();
+		cityImportExecutors.forEach(ExecutorService::shutdownNow);
+	}
+
+	// 시 전체 가져오기에서 cityParallelism개 시군구를 동시에 실행하는 서비스 (instanceId: 작업을 점유하는 인스턴스 이름)
+	private WalkingNetworkService service(int cityParallelism, String instanceId) {
+		ExecutorService cityImportExecutor = Executors.newFixedThreadPool(cityParallelism);
+		cityImportExecutors.add(cityImportExecutor);
+		// 그래프 갱신은 넘겨받은 변경분만 기록
+		GraphService graphService = new GraphService(null, null) {
+			@Override
+			public synchronized void applyChanges(NetworkChangeSet changes) {
+				applied.add(changes);
+			}
+		};
+		WalkingNetworkService service = new WalkingNetworkService(store.nodeRepository(), store.linkRepository(),
+				store.importLogRepository(), store.bulkWriter(), graphService, List.of(source), null,
+				new TransactionTemplate(store.transactionManager()), importExecutor, cityImportExecutor);
+		ReflectionTestUtils.setField(service, "pageSize", 2);
+		ReflectionTestUtils.setField(service, "cityDistricts", List.of(GANGNAM, SEOCHO));
+		ReflectionTestUtils.setField(service, "resumeOnStartup", true);
+		ReflectionTestUtils.setField(service, "instanceId", instanceId);
+		ReflectionTestUtils.setField(service, "claimTimeoutMinutes", 30L);
+		return service;
+	}
+
+	// 강남구: N1 - N2 - N3 (N3은 서초구 링크 L3의 시작 노드)
+	private static List<ApiResponse.Row> gangnamRows() {
+		return new ArrayList<>(List.of(
+				node("N1", GANGNAM_CD, GANGNAM, 127.0000, 37.5000),
+				node("N2", GANGNAM_CD, GANGNAM, 127.0010, 37.5000),
+				node("N3", GANGNAM_CD, GANGNAM, 127.0020, 37.5000),
+				link("L1", "N1", "N2", GANGNAM_CD, GANGNAM, "LINESTRING(127.0000 37.5000, 127.0010 37.5000)"),
+				link("L2", "N2", "N3", GANGNAM_CD, GANGNAM, "LINESTRING(127.0010 37.5000, 127.0020 37.5000)")));
+	}
+
+	// 서초구: N3 → N4 (경계를 넘는 링크, N3은 강남구 노드)
+	private static List<ApiResponse.Row> seochoRows() {
+		return new ArrayList<>(List.of(
+				node("N4", SEOCHO_CD, SEOCHO, 127.0020, 37.4990),
+				link("L3", "N3", "N4", SEOCHO_CD, SEOCHO, "LINESTRING(127.0020 37.5000, 127.0020 37.4990)")));
+	}
+
+	@Test
+	void reimportInsertsNewRowsUpdatesChangedRowsAndSkipsUnchangedRows() throws Exception {
+		source.put(GANGNAM, gangnamRows());
+		ImportLog first = runImport(GANGNAM);
+		assertEquals("SUCCESS", first.getStatus());
+		assertEquals(3, first.getTotalNodes());
+		assertEquals(2, first.getTotalLinks());
+		assertEquals(0, first.getVirtualNodes());
+		assertEquals(Set.of(GANGNAM_CD), lastChanges().regions());
+		assertEquals(3, store.nodes.size());
+		assertEquals(2, store.links.size());
+
+		// 같은 내용 → 저장 없이 끝나고 그래프도 그대로
+		ImportLog unchanged = runImport(GANGNAM);
+		assertEquals(0, unchanged.getTotalNodes());
+		assertEquals(0, unchanged.getUpdatedNodes());
+		assertEquals(0, unchanged.getUpdatedLinks());
+		assertTrue(lastChanges().isEmpty());
+
+		// N2 좌표와 L1 길이가 바뀜 → 바뀐 행만 갱신
+		List<ApiResponse.Row> rows = gangnamRows();
+		rows.set(1, node("N2", GANGNAM_CD, GANGNAM, 127.0011, 37.5001));
+		rows.get(3).setLnkgLen(99.0);
+		source.put(GANGNAM, rows);
+		ImportLog changed = runImport(GANGNAM);
+		assertEquals(0, changed.getTotalNodes());
+		assertEquals(1, changed.getUpdatedNodes());
+		assertEquals(1, changed.getUpdatedLinks());
+		assertEquals(1, lastChanges().updatedNodes());
+		assertEquals(1, lastChanges().updatedLinks());
+		assertEquals(37.5001, store.nodes.get("N2").getLatitude(), 1e-9);
+		assertEquals(99.0, store.links.get("L1").getLength(), 1e-9);
+	}
+
+	@Test
+	void removesRowsMissingFromTheDistrictButKeepsNodesStillReferencedElsewhere() throws Exception {
+		source.put(GANGNAM, gangnamRows());
+		source.put(SEOCHO, seochoRows());
+		runImport(GANGNAM);
+		runImport(SEOCHO);
+
+		// 강남구에서 N3, L2가 사라짐 → L2는 삭제, N3은 서초구 L3이 참조하므로 유지
+		List<ApiResponse.Row> rows = gangnamRows();
+		source.put(GANGNAM, new ArrayList<>(List.of(rows.get(0), rows.get(1), rows.get(3))));
+		ImportLog gangnam = runImport(GANGNAM);
+		assertEquals(1, gangnam.getDeletedLinks());
+		assertEquals(0, gangnam.getDeletedNodes());
+		assertFalse(store.links.containsKey("L2"));
+		assertTrue(store.nodes.containsKey("N3"));
+		assertEquals(Set.of(GANGNAM_CD), lastChanges().regions());
+
+		// 서초구 행은 시군구 이름(sgg_nm)이 달라 강남구 가져오기에서 건드리지 않음
+		assertTrue(store.links.containsKey("L3"));
+		assertTrue(store.nodes.containsKey("N4"));
+
+		// 서초구에서 L3, N4가 사라짐 → 둘 다 삭제, N3은 강남구 노드라서 서초구 가져오기에서는 유지
+		source.put(SEOCHO, new ArrayList<>());
+		ImportLog seocho = runImport(SEOCHO);
+		assertEquals(1, seocho.getDeletedLinks());
+		assertEquals(1, seocho.getDeletedNodes());
+		assertFalse(store.links.containsKey("L3"));
+		assertFalse(store.nodes.containsKey("N4"));
+		assertTrue(store.nodes.containsKey("N3"));
+		assertEquals(Set.of(SEOCHO_CD), lastChanges().regions());
+
+		// 이제 N3을 참조하는 링크가 없으므로 강남구를 다시 가져오면 삭제
+		ImportLog again = runImport(GANGNAM);
+		assertEquals(1, again.getDeletedNodes());
+		assertFalse(store.nodes.containsKey("N3"));
+	}
+
+	@Test
+	void virtualNodeIsStoredWithoutRegionReplacedByRealRowAndRemovedWithItsLastLink() throws Exception {
+		// 서초구를 먼저 가져오면 N3은 링크 좌표로 만든 가상 노드
+		source.put(SEOCHO, seochoRows());
+		ImportLog seocho = runImport(SEOCHO);
+		assertEquals(1, seocho.getVirtualNodes());
+		Node virtualNode = store.nodes.get("N3");
+		assertTrue(virtualNode.getIsVirtual());
+		assertNull(virtualNode.getSggCd());
+		assertEquals(37.5000, virtualNode.getLatitude(), 1e-9);
+		assertEquals(Set.of(SEOCHO_CD), lastChanges().regions());
+
+		// 서초구 링크만 사라짐 → 링크 끝의 가상 노드도 삭제, 실제 노드 N4는 원본에 남아 있으므로 유지
+		source.put(SEOCHO, new ArrayList<>(seochoRows().subList(0, 1)));
+		ImportLog removed = runImport(SEOCHO);
+		assertEquals(1, removed.getDeletedLinks());
+		assertEquals(1, removed.getDeletedNodes());
+		assertFalse(store.nodes.containsKey("N3"));
+		assertTrue(store.nodes.containsKey("N4"));
+
+		// 가상 노드를 다시 만들고 강남구의 실제 NODE 행으로 교체
+		source.put(SEOCHO, seochoRows());
+		runImport(SEOCHO);
+		assertTrue(store.nodes.get("N3").getIsVirtual());
+		source.put(GANGNAM, gangnamRows());
+		ImportLog gangnam = runImport(GANGNAM);
+		assertEquals(1, gangnam.getUpdatedNodes());
+		Node realNode = store.nodes.get("N3");
+		assertFalse(realNode.getIsVirtual());
+		assertEquals(GANGNAM_CD, realNode.getSggCd());
+	}
+
+	@Test
+	void cityImportUpdatesChangedBorderNodeAlreadyCachedByAnotherDistrict() throws Exception {
+		// 서초구를 먼저 한 곳씩 실행 → 서초구 링크 L3이 N3을 공유 캐시에 올린 뒤 강남구가 N3 NODE 행을 처리
+		service = service(1, "instance-1");
+		ReflectionTestUtils.setField(service, "cityDistricts", List.of(SEOCHO, GANGNAM));
+		source.put(GANGNAM, gangnamRows());
+		source.put(SEOCHO, seochoRows());
+		ImportLog first = runCityImport();
+		assertEquals("SUCCESS", first.getStatus());
+		assertFalse(store.nodes.get("N3").getIsVirtual());
+		assertEquals(4, store.nodes.size());
+		assertEquals(3, store.links.size());
+
+		List<ApiResponse.Row> rows = gangnamRows();
+		rows.set(2, node("N3", GANGNAM_CD, GANGNAM, 127.0021, 37.5002));
+		source.put(GANGNAM, rows);
+		ImportLog second = runCityImport();
+		assertEquals("SUCCESS", second.getStatus());
+		assertEquals(1, second.getUpdatedNodes());
+		assertEquals(0, second.getUpdatedLinks());
+		assertEquals(37.5002, store.nodes.get("N3").getLatitude(), 1e-9);
+		assertEquals(1, lastChanges().updatedNodes());
+		assertEquals(Set.of(GANGNAM_CD), lastChanges().regions());
+	}
+
+	@Test
+	void cityImportFinishesOtherDistrictsWhenOneFailsAndAppliesTheirChanges() throws Exception {
+		source.put(GANGNAM, gangnamRows());
+		source.failing.add(SEOCHO);
+		ImportLog city = runCityImport();
+
+		assertEquals("FAILED", city.getStatus());
+		assertTrue(city.getErrorMessage().contains(SEOCHO), city.getErrorMessage());
+		List<ImportLog> districts = service.getChildJobs(city.getId());
+		assertEquals("SUCCESS", districts.get(0).getStatus());
+		assertEquals("FAILED", districts.get(1).getStatus());
+		assertEquals(3, store.nodes.size());
+
+		// 그래프 갱신은 모든 시군구가 끝난 뒤 한 번, 성공한 시군구의 변경분으로
+		assertEquals(1, applied.size());
+		assertEquals(3, lastChanges().insertedNodes());
+		assertEquals(Set.of(GANGNAM_CD), lastChanges().regions());
+	}
+
+	@Test
+	void pageRolledBackByLockConflictIsRetriedWithoutCountingTwice() throws Exception {
+		source.put(GANGNAM, gangnamRows());
+		store.lockConflicts = 1; // 첫 번째 링크 저장에서 교착 상태로 롤백
+		ImportLog job = runImport(GANGNAM);
+
+		assertEquals("SUCCESS", job.getStatus());
+		assertEquals(0, store.lockConflicts);
+		assertEquals(5, job.getProcessedRows());
+		assertEquals(3, job.getTotalNodes());
+		assertEquals(2, job.getTotalLinks());
+		assertEquals(3, lastChanges().insertedNodes());
+		assertEquals(2, lastChanges().insertedLinks());
+		assertEquals(2, store.links.size());
+	}
+
+	@Test
+	void interruptedImportResumesFromCheckpointOnOneInstanceOnly() throws Exception {
+		source.put(GANGNAM, gangnamRows());
+		source.interruptAtPage = 1; // 첫 페이지를 커밋한 뒤 서버 종료
+		ImportLog interrupted = runImport(GANGNAM);
+
+		assertEquals("RUNNING", interrupted.getStatus());
+		assertEquals(1, interrupted.getCompletedPages());
+		assertEquals(2, interrupted.getProcessedRows());
+		assertNull(interrupted.getOwner()); // 종료하면서 점유 해제
+		assertTrue(applied.isEmpty());
+
+		// 두 인스턴스가 함께 시작해도 한 곳만 재개
+		WalkingNetworkService other = service(2, "instance-2");
+		service.resumeInterruptedImports();
+		other.resumeInterruptedImports();
+		awaitImports();
+
+		ImportLog job = service.getImportJob(interrupted.getId());
+		assertEquals("SUCCESS", job.getStatus());
+		assertEquals(List.of(GANGNAM + "@0", GANGNAM + "@1"), source.reads);
+		assertEquals(3, job.getCompletedPages());
+		assertEquals(5, job.getProcessedRows());
+		assertEquals(3, store.nodes.size());
+		assertEquals(2, store.links.size());
+		assertNull(job.getOwner());
+		assertNull(job.getActiveKey());
+		assertEquals(1, applied.size());
+	}
+
+	@Test
+	void jobOwnedByAnotherLiveInstanceIsNotResumed() throws Exception {
+		source.put(GANGNAM, gangnamRows());
+		ImportLog running = store.importLogRepository().save(activeJob(GANGNAM, "instance-2"));
+
+		service.resumeInterruptedImports();
+		awaitImports();
+
+		assertTrue(source.reads.isEmpty());
+		assertEquals("instance-2", service.getImportJob(running.getId()).getOwner());
+	}
+
+	@Test
+	void duplicateSubmitIsRejectedByTheActiveJobKey() throws Exception {
+		source.put(GANGNAM, gangnamRows());
+		source.put(SEOCHO, seochoRows());
+		// 다른 인스턴스가 강남구를 가져오는 중
+		store.importLogRepository().save(activeJob(GANGNAM, "instance-2"));
+
+		assertThrows(IllegalStateException.class, () -> service.submitImport(GANGNAM, "TEST"));
+		assertThrows(IllegalStateException.class, () -> service.submitCityImport("TEST"));
+		assertEquals(1, store.jobs.size());
+
+		// 다른 지역은 그대로 받음
+		ImportLog seocho = runImport(SEOCHO);
+		assertEquals("SUCCESS", seocho.getStatus());
+		assertTrue(source.reads.stream().noneMatch(read -> read.startsWith(GANGNAM)));
+	}
+
+	// --- 실행 헬퍼 ---
+
+	private ImportLog runImport(String district) throws Exception {
+		ImportLog job = service.submitImport(district, "TEST");
+		awaitImports();
+		return service.getImportJob(job.getId());
+	}
+
+	private ImportLog runCityImport() throws Exception {
+		ImportLog job = service.submitCityImport("TEST");
+		awaitImports();
+		return service.getImportJob(job.getId());
+	}
+
+	// 가져오기 실행기는 스레드 하나 → 뒤에 넣은 빈 작업이 끝나면 앞선 가져오기도 끝남
+	private void awaitImports() throws Exception {
+		importExecutor.submit(() -> { }).get();
+	}
+
+	private static ImportLog activeJob(String district, String owner) {
+		return ImportLog.builder()
+				.sggNm(district)
+				.source("TEST")
+				.status("RUNNING")
+				.owner(owner)
+				.completedPages(0)
+				.processedRows(0)
+				.startedAt(LocalDateTime.now())
+				.updatedAt(LocalDateTime.now())
+				.build();
+	}
+
+	private NetworkChangeSet lastChanges() {
+		return applied.get(applied.size() - 1);
+	}
+
+	private static ApiResponse.Row node(String nodeId, String sggCd, String sggNm, double longitude, double latitude) {
+		ApiResponse.Row row = new ApiResponse.Row();
+		row.setNodeType("NODE");
+		row.setNodeId(nodeId);
+		row.setNodeWkt("POINT(" + longitude + " " + latitude + ")");
+		row.setNodeTypeCd("0");
+		row.setSggCd(sggCd);
+		row.setSggNm(sggNm);
+		return row;
+	}
+
+	private static ApiResponse.Row link(String linkId, String start, String end, String sggCd, String sggNm, String wkt) {
+		ApiResponse.Row row = new ApiResponse.Row();
+		row.setNodeType("LINK");
+		row.setLnkgId(linkId);
+		row.setBgngLnkgId(start);
+		row.setEndLnkgId(end);
+		row.setLnkgWkt(wkt);
+		row.setLnkgLen(88.5);
+		row.setLnkgTypeCd("1000");
+		row.setSggCd(sggCd);
+		row.setSggNm(sggNm);
+		return row;
+	}
+
+	// --- 테스트용 입력/저장소 ---
+
+	// 시군구별 행 목록을 pageSize씩 끊어 넘기는 입력
+	private static final class TestSource implements ImportSource {
+		private final Map<String, List<ApiResponse.Row>> rows = new ConcurrentHashMap<>();
+		private final Set<String> failing = ConcurrentHashMap.newKeySet(); // 읽기에 실패하는 시군구
+		private final List<String> reads = new CopyOnWriteArrayList<>(); // 읽기 시작 기록 ("시군구@첫 페이지")
+		private volatile int interruptAtPage = -1; // 이 페이지를 읽기 전에 서버 종료 (한 번만)
+
+		void put(String district, List<ApiResponse.Row> districtRows) {
+			rows.put(district, districtRows);
+		}
+
+		@Override
+		public String name() {
+			return "TEST";
+		}
+
+		@Override
+		public int totalCount(String districtName) {
+			if (failing.contains(districtName)) throw new IllegalStateException("source unavailable: " + districtName);
+			return rows.getOrDefault(districtName, List.of()).size();
+		}
+
+		@Override
+		public void readPages(String districtName, int totalCount, int pageSize, int firstPage,
+							  PagePipeline.PageHandler<List<ApiResponse.Row>> handler) throws Exception {
+			reads.add(districtName + "@" + firstPage);
+			List<ApiResponse.Row> districtRows = rows.getOrDefault(districtName, List.of());
+			for (int page = 0; (firstPage + page) * pageSize < totalCount; page++) {
+				if (firstPage + page == interruptAtPage) {
+					interruptAtPage = -1;
+					throw new InterruptedException("server shutdown");
+				}
+				int from = (firstPage + page) * pageSize;
+				handler.handle(page, new ArrayList<>(districtRows.subList(from, Math.min(from + pageSize, totalCount))));
+			}
+		}
+	}
+
+	/**
+	 * 가져오기가 쓰는 쿼리와 일괄 저장을 메모리에서 흉내 낸 노드/링크/작업 저장소
+	 * - upsert는 NetworkBulkWriter의 SQL과 같이 가상 노드 행이 기존 노드를 덮어쓰지 않음
+	 * - 노드 삭제는 남은 링크가 참조하지 않을 때만
+	 * - 트랜잭션은 시작할 때 노드/링크를 복사해 두고 롤백하면 되돌림 (작업 기록은 되돌리지 않음, 시군구 하나씩 실행할 때만 정확)
+	 * - 작업 저장은 @PrePersist/@PreUpdate(syncActiveKey)를 거치고, activeKey 유니크 키와 조건부 UPDATE(claim 등)를 흉내 냄
+	 */
+	private static final class NetworkStore {
+		private final Map<String, Node> nodes = new ConcurrentHashMap<>();
+		private final Map<String, Link> links = new ConcurrentHashMap<>();
+		private final Map<Long, ImportLog> jobs = new LinkedHashMap<>();
+		private volatile int lockConflicts; // 남은 횟수만큼 링크 저장이 락 충돌로 실패
+
+		PlatformTransactionManager transactionManager() {
+			return new PlatformTransactionManager() {
+				@Override
+				public TransactionStatus getTransaction(TransactionDefinition definition) {
+					return new Snapshot(new HashMap<>(nodes), new HashMap<>(links));
+				}
+
+				@Override
+				public void commit(TransactionStatus status) {
+				}
+
+				@Override
+				public void rollback(TransactionStatus status) {
+					Snapshot snapshot = (Snapshot) status;
+					nodes.clear();
+					nodes.putAll(snapshot.nodes);
+					links.clear();
+					links.putAll(snapshot.links);
+				}
+			};
+		}
+
+		private static final class Snapshot extends SimpleTransactionStatus {
+			private final Map<String, Node> nodes;
+			private final Map<String, Link> links;
+
+			private Snapshot(Map<String, Node> nodes, Map<String, Link> links) {
+				this.nodes = nodes;
+				this.links = links;
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		NodeRepository nodeRepository() {
+			return repository(NodeRepository.class, (method, args) -> {
+				List<Object[]> result = new ArrayList<>();
+				switch (method) {
+					case "findImportStatesByNodeIdIn":
+						for (String nodeId : (Collection<String>) args[0]) {
+							Node node = nodes.get(nodeId);
+							if (node != null) result.add(new Object[]{node.getNodeId(), node.getIsVirtual(), node.getContentHash()});
+						}
+						return result;
+					case "findRealNodeKeysBySggNm":
+						for (Node node : nodes.values()) {
+							if (Objects.equals(node.getSggNm(), args[0]) && !node.getIsVirtual()) {
+								result.add(new Object[]{node.getNodeId(), node.getSggCd()});
+							}
+						}
+						return result;
+					default:
+						throw new UnsupportedOperationException(method);
+				}
+			});
+		}
+
+		@SuppressWarnings("unchecked")
+		LinkRepository linkRepository() {
+			return repository(LinkRepository.class, (method, args) -> {
+				List<Object[]> result = new ArrayList<>();
+				switch (method) {
+					case "findContentHashesByLinkIdIn":
+						for (String linkId : (Collection<String>) args[0]) {
+							Link link = links.get(linkId);
+							if (link != null) result.add(new Object[]{link.getLinkId(), link.getContentHash()});
+						}
+						return result;
+					case "findImportKeysBySggNm":
+						for (Link link : links.values()) {
+							if (Objects.equals(link.getSggNm(), args[0])) {
+								result.add(new Object[]{link.getLinkId(), link.getSggCd(), link.getStartNodeId(), link.getEndNodeId()});
+							}
+						}
+						return result;
+					default:
+						throw new UnsupportedOperationException(method);
+				}
+			});
+		}
+
+		ImportLogRepository importLogRepository() {
+			return repository(ImportLogRepository.class, (method, args) -> {
+				synchronized (jobs) {
+					switch (method) {
+						case "save":
+							ImportLog job = (ImportLog) args[0];
+							job.syncActiveKey();
+							checkActiveKey(job.getId(), job.getActiveKey());
+							if (job.getId() == null) job.setId((long) jobs.size() + 1);
+							jobs.put(job.getId(), job);
+							return job;
+						case "claim": {
+							ImportLog claimed = jobs.get((Long) args[0]);
+							if (claimed == null || !((Collection<?>) args[2]).contains(claimed.getStatus())) return 0;
+							if (claimed.getOwner() != null && !claimed.getOwner().equals(args[1])
+									&& !claimed.getUpdatedAt().isBefore((LocalDateTime) args[4])) return 0;
+							claimed.setOwner((String) args[1]);
+							claimed.setUpdatedAt((LocalDateTime) args[3]);
+							return 1;
+						}
+						case "releaseClaim": {
+							ImportLog released = jobs.get((Long) args[0]);
+							if (released == null || !Objects.equals(released.getOwner(), args[1])) return 0;
+							released.setOwner(null);
+							return 1;
+						}
+						case "requeueFailed": {
+							ImportLog failed = jobs.get((Long) args[0]);
+							if (failed == null || !"FAILED".equals(failed.getStatus())) return 0;
+							checkActiveKey(failed.getId(), failed.getSggNm());
+							failed.setStatus("QUEUED");
+							failed.setActiveKey(failed.getSggNm());
+							failed.setOwner((String) args[1]);
+							failed.setErrorMessage(null);
+							failed.setCompletedAt(null);
+							failed.setUpdatedAt((LocalDateTime) args[2]);
+							return 1;
+						}
+						case "findById":
+							return Optional.ofNullable(jobs.get((Long) args[0]));
+						case "findByParentJobIdOrderByIdAsc":
+							return jobs.values().stream().filter(j -> Objects.equals(j.getParentJobId(), args[0])).toList();
+						case "findByStatusIn":
+							return jobs.values().stream().filter(j -> ((Collection<?>) args[0]).contains(j.getStatus())).toList();
+						case "existsByStatusIn":
+							return jobs.values().stream().anyMatch(j -> ((Collection<?>) args[0]).contains(j.getStatus()));
+						default:
+							throw new UnsupportedOperationException(method);
+					}
+				}
+			});
+		}
+
+		// import_log.active_key 유니크 키
+		private void checkActiveKey(Long jobId, String activeKey) {
+			if (activeKey == null) return;
+			for (ImportLog other : jobs.values()) {
+				if (!other.getId().equals(jobId) && activeKey.equals(other.getActiveKey())) {
+					throw new DataIntegrityViolationException("Duplicate entry '" + activeKey + "' for key 'active_key'");
+				}
+			}
+		}
+
+		NetworkBulkWriter bulkWriter() {
+			return new NetworkBulkWriter(null) {
+				@Override
+				public void upsertNodes(Collection<Node> batch) {
+					for (Node node : batch) {
+						Node stored = nodes.get(node.getNodeId());
+						if (stored == null || !node.getIsVirtual()) nodes.put(node.getNodeId(), node);
+					}
+				}
+
+				@Override
+				public void upsertLinks(Collection<Link> batch) {
+					if (lockConflicts > 0) {
+						lockConflicts--;
+						throw new CannotAcquireLockException("Deadlock found when trying to get lock");
+					}
+					batch.forEach(link -> links.put(link.getLinkId(), link));
+				}
+
+				@Override
+				public int deleteLinks(List<String> linkIds) {
+					int deleted = 0;
+					for (String linkId : linkIds) {
+						if (links.remove(linkId) != null) deleted++;
+					}
+					return deleted;
+				}
+
+				@Override
+				public int deleteUnreferencedNodes(List<String> nodeIds, boolean virtualOnly) {
+					int deleted = 0;
+					for (String nodeId : nodeIds) {
+						Node node = nodes.get(nodeId);
+						if (node == null || (virtualOnly && !node.getIsVirtual())) continue;
+						boolean referenced = links.values().stream()
+								.anyMatch(link -> nodeId.equals(link.getStartNodeId()) || nodeId.equals(link.getEndNodeId()));
+						if (!referenced && nodes.remove(nodeId) != null) deleted++;
+					}
+					return deleted;
+				}
+			};
+		}
+
+		// 가져오기에서 쓰는 쿼리 메서드만 구현한 저장소 (다른 메서드를 부르면 UnsupportedOperationException)
+		@SuppressWarnings("unchecked")
+		private static <T> T repository(Class<T> type, BiFunction<String, Object[], Object> queries) {
+			return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+					switch (method.getName()) {
+						case "toString" -> type.getSimpleName();
+						case "hashCode" -> System.identityHashCode(proxy);
+						case "equals" -> proxy == args[0];
+						default -> queries.apply(method.getName(), args);
+					});
+		}
+	}
+}
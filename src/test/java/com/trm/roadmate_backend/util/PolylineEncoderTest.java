@@ -0,0 +1,63 @@
+package com.trm.roadmate_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PolylineEncoderTest {
+
+	@Test
+	void encodesGoogleReferenceExample() {
+		double[] lats = {38.5, 40.7, 43.252};
+		double[] lons = {-120.2, -120.95, -126.453};
+
+		assertEquals("_p~iF~ps|U_ulLnnqC_mqNvxq`@", PolylineEncoder.encode(lats, lons, 3, 5));
+	}
+
+	@Test
+	void roundTripsWithPrecisionSix() {
+		double[] lats = {37.566535, 37.566601, 37.567012};
+		double[] lons = {126.977969, 126.978120, 126.979001};
+
+		String encoded = PolylineEncoder.encode(lats, lons, lats.length, 6);
+		double[][] decoded = decode(encoded, 6);
+
+		assertArrayEquals(lats, decoded[0], 1e-7);
+		assertArrayEquals(lons, decoded[1], 1e-7);
+	}
+
+	// Encoded Polyline → [위도 배열, 경도 배열] (검증용)
+	private static double[][] decode(String encoded, int precision) {
+		double factor = Math.pow(10, precision);
+		double[] lats = new double[encoded.length() / 2 + 1];
+		double[] lons = new double[encoded.length() / 2 + 1];
+
+		int[] index = {0};
+		int count = 0;
+		long lat = 0;
+		long lon = 0;
+		while (index[0] < encoded.length()) {
+			lat += decodeValue(encoded, index);
+			lon += decodeValue(encoded, index);
+			lats[count] = lat / factor;
+			lons[count] = lon / factor;
+			count++;
+		}
+		return new double[][]{Arrays.copyOf(lats, count), Arrays.copyOf(lons, count)};
+	}
+
+	private static long decodeValue(String encoded, int[] index) {
+		long result = 0;
+		int shift = 0;
+		int b;
+		do {
+			b = encoded.charAt(index[0]++) - 63;
+			result |= (long) (b & 0x1f) << shift;
+			shift += 5;
+		} while (b >= 0x20);
+		return (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
+	}
+}
@@ -0,0 +1,63 @@
+package com.trm.roadmate_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WktScannerTest {
+
+	@Test
+	void readsPointAndLineStringEndpoints() {
+		assertArrayEquals(new double[]{126.977969, 37.566535}, WktScanner.point("POINT(126.977969 37.566535)"));
+		assertArrayEquals(new double[]{-1.5, 2e-3}, WktScanner.point("  point ( -1.5   2E-3 )  "));
+
+		String line = "LINESTRING(126.9771 37.5661, 126.9775 37.5664,126.978 37.5668 )";
+		assertArrayEquals(new double[]{126.9771, 37.5661}, WktScanner.firstVertex(line));
+		assertArrayEquals(new double[]{126.978, 37.5668}, WktScanner.lastVertex(line));
+		assertArrayEquals(new double[]{1, 2}, WktScanner.lastVertex("LINESTRING (1 2 3)"));
+	}
+
+	@Test
+	void fillsCoordinateBuffer() {
+		WktScanner.Coordinates shape = new WktScanner.Coordinates(1);
+		assertTrue(WktScanner.readLineString("LINESTRING (126.1 37.1, 126.2 37.2, 126.3 37.3)", shape));
+		assertEquals(3, shape.size());
+		assertEquals(37.3, shape.latitudes()[2]);
+		assertEquals(126.3, shape.longitudes()[2]);
+
+		assertFalse(WktScanner.readLineString("MULTILINESTRING ((1 2, 3 4))", shape));
+		assertFalse(WktScanner.readLineString("LINESTRING (1 2, 3)", shape));
+		assertFalse(WktScanner.readLineString("LINESTRING (1 2, 3 4", shape));
+	}
+
+	@Test
+	void rejectsMalformedInput() {
+		assertThrows(IllegalArgumentException.class, () -> WktScanner.point("POINT(1)"));
+		assertThrows(IllegalArgumentException.class, () -> WktScanner.point("LINESTRING(1 2, 3 4)"));
+		assertThrows(IllegalArgumentException.class, () -> WktScanner.firstVertex("LINESTRING()"));
+		assertThrows(IllegalArgumentException.class, () -> WktScanner.lastVertex("LINESTRING(1 2, 3 x)"));
+		assertThrows(IllegalArgumentException.class, () -> WktScanner.lastVertex(null));
+	}
+
+	@Test
+	void parsesNumbersExactlyLikeDoubleParseDouble() {
+		Random random = new Random(7);
+		for (int i = 0; i < 10_000; i++) {
+			double lon = 126 + random.nextDouble();
+			double lat = -37 - random.nextDouble();
+			String x = i % 3 == 0 ? Double.toString(lon) : String.format(Locale.ROOT, "%." + (i % 16) + "f", lon);
+			String y = i % 5 == 0 ? String.format(Locale.ROOT, "%.9fe2", lat / 100) : Double.toString(lat);
+
+			double[] parsed = WktScanner.point("POINT(" + x + " " + y + ")");
+			assertEquals(Double.parseDouble(x), parsed[0], x);
+			assertEquals(Double.parseDouble(y), parsed[1], y);
+		}
+	}
+}